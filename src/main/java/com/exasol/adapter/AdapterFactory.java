@@ -1,7 +1,10 @@
 package com.exasol.adapter;
 
+import java.time.Duration;
 import java.util.Set;
 
+import com.exasol.adapter.request.AdapterRequestType;
+
 /**
  * Factory that creates a Virtual Schema Adapter
  */
@@ -33,4 +36,39 @@ public interface AdapterFactory {
      * @return Virtual Schema Adapter name
      */
     public String getAdapterName();
-}
\ No newline at end of file
+
+    /**
+     * Get the time for which the response to a request of the given type may be served from the response cache of the
+     * {@link RequestDispatcher}
+     * <p>
+     * Caching is opt-in. Only enable it for request types where the adapter answers identical requests with identical
+     * responses, independently of the context the request was issued in.
+     *
+     * @param requestType type of the request
+     * @return time to live of cached responses, {@link Duration#ZERO} to disable caching (default)
+     */
+    public default Duration getResponseCacheTimeToLive(final AdapterRequestType requestType) {
+        return Duration.ZERO;
+    }
+
+    /**
+     * Get the lifecycle of the adapter instances
+     * <p>
+     * Adapters that need expensive setup, for example compiled dialect tables or metadata caches, can ask the
+     * {@link AdapterRegistry} to reuse their instances across requests.
+     *
+     * @return scope of the adapter instances, {@link AdapterScope#PER_CALL} by default
+     */
+    public default AdapterScope getAdapterScope() {
+        return AdapterScope.PER_CALL;
+    }
+
+    /**
+     * Get the maximum number of idle adapter instances kept for reuse if the scope is {@link AdapterScope#POOLED}
+     *
+     * @return maximum number of pooled instances, the number of available processors by default
+     */
+    public default int getAdapterPoolSize() {
+        return Runtime.getRuntime().availableProcessors();
+    }
+}
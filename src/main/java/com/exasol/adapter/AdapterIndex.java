@@ -0,0 +1,139 @@
+package com.exasol.adapter;
+
+import java.io.*;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.logging.Logger;
+
+/**
+ * Mapping from adapter names to the classes of the factories that create the adapters.
+ * <p>
+ * The {@link AdapterIndexProcessor} writes the mapping into the resource {@value #RESOURCE} at compile time. The
+ * index is read from all JARs on the classpath. If two JARs map the same adapter name to different factories, the
+ * first one wins.
+ */
+final class AdapterIndex {
+    static final String RESOURCE = "META-INF/virtual-schema/adapter-index.properties";
+    static final AdapterIndex EMPTY = new AdapterIndex(null, Collections.emptyMap());
+    private static final Logger LOGGER = Logger.getLogger(AdapterIndex.class.getName());
+    private final ClassLoader classLoader;
+    private final Map<String, String> factoryClassNames;
+
+    private AdapterIndex(final ClassLoader classLoader, final Map<String, String> factoryClassNames) {
+        this.classLoader = classLoader;
+        this.factoryClassNames = factoryClassNames;
+    }
+
+    /**
+     * Read the adapter index from all resources a class loader finds
+     * <p>
+     * If the index cannot be read, the empty index is returned, so that the registry falls back to the service
+     * loader.
+     *
+     * @param classLoader class loader used to find the index and later to load the factories
+     * @return adapter index
+     */
+    static AdapterIndex load(final ClassLoader classLoader) {
+        final Map<String, String> factoryClassNames = new LinkedHashMap<>();
+        try {
+            final Enumeration<URL> resources = classLoader.getResources(RESOURCE);
+            while (resources.hasMoreElements()) {
+                readIndex(resources.nextElement(), factoryClassNames);
+            }
+        } catch (final IOException exception) {
+            LOGGER.warning(() -> "Unable to read Virtual Schema Adapter index. Falling back to service loader: "
+                    + exception.getMessage());
+            return EMPTY;
+        }
+        return factoryClassNames.isEmpty() ? EMPTY
+                : new AdapterIndex(classLoader, Collections.unmodifiableMap(factoryClassNames));
+    }
+
+    private static void readIndex(final URL resource, final Map<String, String> factoryClassNames)
+            throws IOException {
+        final Properties properties = new Properties();
+        try (final Reader reader = new InputStreamReader(resource.openStream(), StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        for (final String adapterName : properties.stringPropertyNames()) {
+            final String factoryClassName = properties.getProperty(adapterName).trim();
+            final String previous = factoryClassNames.putIfAbsent(adapterName, factoryClassName);
+            if ((previous != null) && !previous.equals(factoryClassName)) {
+                LOGGER.warning(() -> "Ignoring factory \"" + factoryClassName + "\" for Virtual Schema Adapter \""
+                        + adapterName + "\" in " + resource + " since \"" + previous + "\" is already indexed.");
+            }
+        }
+    }
+
+    /**
+     * @return <code>true</code> if the index does not contain any adapter
+     */
+    boolean isEmpty() {
+        return this.factoryClassNames.isEmpty();
+    }
+
+    /**
+     * @return names of all indexed adapters
+     */
+    Set<String> getAdapterNames() {
+        return this.factoryClassNames.keySet();
+    }
+
+    /**
+     * @param adapterName name of the adapter
+     * @return <code>true</code> if the index contains the adapter
+     */
+    boolean containsAdapterName(final String adapterName) {
+        return this.factoryClassNames.containsKey(adapterName);
+    }
+
+    /**
+     * @param factoryClassName fully qualified binary name of a factory class
+     * @return <code>true</code> if the index contains an adapter created by that factory
+     */
+    boolean containsFactoryClass(final String factoryClassName) {
+        return this.factoryClassNames.containsValue(factoryClassName);
+    }
+
+    /**
+     * Get the names of all adapters created by the same factory as the given adapter
+     *
+     * @param adapterName name of an indexed adapter
+     * @return names of the adapters including the given one
+     */
+    List<String> getAdapterNamesOfSameFactory(final String adapterName) {
+        final String factoryClassName = this.factoryClassNames.get(adapterName);
+        final List<String> adapterNames = new ArrayList<>();
+        for (final Map.Entry<String, String> entry : this.factoryClassNames.entrySet()) {
+            if (entry.getValue().equals(factoryClassName)) {
+                adapterNames.add(entry.getKey());
+            }
+        }
+        return adapterNames;
+    }
+
+    /**
+     * Load the factory class of an adapter and create a new instance of it
+     *
+     * @param adapterName name of an indexed adapter
+     * @return new factory instance
+     * @throws IllegalArgumentException if the adapter is not indexed
+     * @throws IllegalStateException    if the factory cannot be instantiated
+     */
+    AdapterFactory createFactory(final String adapterName) {
+        final String factoryClassName = this.factoryClassNames.get(adapterName);
+        if (factoryClassName == null) {
+            throw new IllegalArgumentException("Virtual Schema Adapter \"" + adapterName + "\" is not indexed.");
+        }
+        try {
+            return Class.forName(factoryClassName, true, this.classLoader) //
+                    .asSubclass(AdapterFactory.class) //
+                    .getDeclaredConstructor() //
+                    .newInstance();
+        } catch (final ReflectiveOperationException | ClassCastException | LinkageError exception) {
+            throw new IllegalStateException("Unable to create factory \"" + factoryClassName
+                    + "\" listed in the index for Virtual Schema Adapter \"" + adapterName + "\".", exception);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.exasol.adapter;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+import javax.annotation.processing.*;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Annotation processor that writes the adapter index for all factories annotated with {@link IndexedAdapterFactory}.
+ * <p>
+ * The processor is registered as service, so <code>javac</code> runs it for every project that has this module on
+ * its compile classpath. It writes the index once all annotated classes have been processed. Since the index covers
+ * the classes of one compilation only, incremental builds that recompile a subset of the factories must be avoided.
+ */
+@SupportedAnnotationTypes("com.exasol.adapter.IndexedAdapterFactory")
+public final class AdapterIndexProcessor extends AbstractProcessor {
+    private final Map<String, String> factoryClassNames = new TreeMap<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnvironment) {
+        if (roundEnvironment.processingOver()) {
+            if (!this.factoryClassNames.isEmpty()) {
+                writeIndex();
+            }
+        } else {
+            for (final Element element : roundEnvironment.getElementsAnnotatedWith(IndexedAdapterFactory.class)) {
+                indexFactory(element);
+            }
+        }
+        return false;
+    }
+
+    private void indexFactory(final Element element) {
+        if (isValidFactory(element)) {
+            final String factoryClassName = this.processingEnv.getElementUtils()
+                    .getBinaryName((TypeElement) element).toString();
+            final String[] adapterNames = element.getAnnotation(IndexedAdapterFactory.class).value();
+            if (adapterNames.length == 0) {
+                error(element, "Indexed adapter factory must name at least one adapter.");
+            }
+            for (final String adapterName : adapterNames) {
+                final String previous = this.factoryClassNames.putIfAbsent(adapterName, factoryClassName);
+                if ((previous != null) && !previous.equals(factoryClassName)) {
+                    error(element, "Adapter name \"" + adapterName + "\" is already used by factory \"" + previous
+                            + "\".");
+                }
+            }
+        }
+    }
+
+    private boolean isValidFactory(final Element element) {
+        if ((element.getKind() != ElementKind.CLASS) || !element.getModifiers().contains(Modifier.PUBLIC)
+                || element.getModifiers().contains(Modifier.ABSTRACT)) {
+            error(element, "Indexed adapter factory must be a public, non-abstract class.");
+            return false;
+        }
+        if ((element.getEnclosingElement().getKind() != ElementKind.PACKAGE)
+                && !element.getModifiers().contains(Modifier.STATIC)) {
+            error(element, "Indexed adapter factory must not be an inner class.");
+            return false;
+        }
+        final TypeElement factoryInterface = this.processingEnv.getElementUtils()
+                .getTypeElement(AdapterFactory.class.getName());
+        if (!this.processingEnv.getTypeUtils().isAssignable(element.asType(), factoryInterface.asType())) {
+            error(element, "Indexed adapter factory must implement " + AdapterFactory.class.getName() + ".");
+            return false;
+        }
+        if (!hasPublicNoArgumentConstructor(element)) {
+            error(element, "Indexed adapter factory must have a public constructor without arguments.");
+            return false;
+        }
+        return true;
+    }
+
+    private static boolean hasPublicNoArgumentConstructor(final Element element) {
+        for (final ExecutableElement constructor : ElementFilter.constructorsIn(element.getEnclosedElements())) {
+            if (constructor.getParameters().isEmpty() && constructor.getModifiers().contains(Modifier.PUBLIC)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void error(final Element element, final String message) {
+        this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    private void writeIndex() {
+        try {
+            final FileObject index = this.processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "",
+                    AdapterIndex.RESOURCE);
+            try (final Writer writer = new OutputStreamWriter(index.openOutputStream(), StandardCharsets.UTF_8)) {
+                for (final Map.Entry<String, String> entry : this.factoryClassNames.entrySet()) {
+                    writer.write(formatEntry(entry.getKey(), entry.getValue()));
+                }
+            }
+        } catch (final IOException exception) {
+            this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Unable to write Virtual Schema Adapter index: " + exception.getMessage());
+        }
+    }
+
+    // Properties.store() takes care of escaping but also writes a time stamp. Skipping the comments keeps the index
+    // reproducible.
+    private static String formatEntry(final String adapterName, final String factoryClassName) throws IOException {
+        final Properties entry = new Properties();
+        entry.setProperty(adapterName, factoryClassName);
+        final StringWriter writer = new StringWriter();
+        entry.store(writer, null);
+        final StringBuilder builder = new StringBuilder();
+        for (final String line : writer.toString().split("\\R")) {
+            if (!line.startsWith("#") && !line.isEmpty()) {
+                builder.append(line).append('\n');
+            }
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,144 @@
+package com.exasol.adapter;
+
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Adapter instances created by one {@link AdapterFactory} according to the factory's {@link AdapterScope}.
+ * <p>
+ * The pool never blocks: if all pooled instances are in use, an additional instance is created. Instances returned to
+ * a full pool are closed.
+ */
+final class AdapterInstances {
+    private static final Logger LOGGER = Logger.getLogger(AdapterInstances.class.getName());
+    private final AdapterFactory factory;
+    private final AdapterScope scope;
+    private final int poolSize;
+    private final Deque<VirtualSchemaAdapter> idleAdapters = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger idleCount = new AtomicInteger();
+    private volatile VirtualSchemaAdapter singleton = null;
+    private volatile boolean evicted = false;
+
+    AdapterInstances(final AdapterFactory factory) {
+        this.factory = factory;
+        this.scope = factory.getAdapterScope();
+        this.poolSize = factory.getAdapterPoolSize();
+        if (this.poolSize < 1) {
+            throw new IllegalArgumentException("Adapter pool size must be at least 1 but factory for \""
+                    + factory.getAdapterName() + "\" requested " + this.poolSize + ".");
+        }
+    }
+
+    /**
+     * @return factory that creates the instances
+     */
+    AdapterFactory getFactory() {
+        return this.factory;
+    }
+
+    /**
+     * Get an adapter instance for a single request
+     *
+     * @return lease that must be closed after the request
+     */
+    AdapterLease lease() {
+        switch (this.scope) {
+        case SINGLETON:
+            return new AdapterLease(getSingleton(), this);
+        case POOLED:
+            return new AdapterLease(takeFromPool(), this);
+        default:
+            return new AdapterLease(this.factory.createAdapter(), this);
+        }
+    }
+
+    /**
+     * Get an adapter instance without leasing it
+     *
+     * @return shared instance for {@link AdapterScope#SINGLETON}, new instance otherwise
+     */
+    VirtualSchemaAdapter getAdapter() {
+        return (this.scope == AdapterScope.SINGLETON) ? getSingleton() : this.factory.createAdapter();
+    }
+
+    private VirtualSchemaAdapter getSingleton() {
+        VirtualSchemaAdapter adapter = this.singleton;
+        if (adapter == null) {
+            synchronized (this) {
+                adapter = this.singleton;
+                if (adapter == null) {
+                    adapter = this.factory.createAdapter();
+                    this.singleton = adapter;
+                }
+            }
+        }
+        return adapter;
+    }
+
+    private VirtualSchemaAdapter takeFromPool() {
+        final VirtualSchemaAdapter adapter = this.idleAdapters.pollFirst();
+        if (adapter == null) {
+            return this.factory.createAdapter();
+        } else {
+            this.idleCount.decrementAndGet();
+            return adapter;
+        }
+    }
+
+    void release(final VirtualSchemaAdapter adapter) {
+        if (this.scope != AdapterScope.POOLED) {
+            return;
+        }
+        if (!this.evicted && (this.idleCount.incrementAndGet() <= this.poolSize)) {
+            this.idleAdapters.offerFirst(adapter);
+            if (this.evicted) {
+                closeIdleAdapters();
+            }
+        } else {
+            if (!this.evicted) {
+                this.idleCount.decrementAndGet();
+            }
+            closeAdapter(adapter);
+        }
+    }
+
+    /**
+     * Close all reused instances and stop reusing instances
+     * <p>
+     * Pooled instances that are currently leased are closed when they are released.
+     */
+    void evict() {
+        this.evicted = true;
+        final VirtualSchemaAdapter adapter;
+        synchronized (this) {
+            adapter = this.singleton;
+            this.singleton = null;
+        }
+        if (adapter != null) {
+            closeAdapter(adapter);
+        }
+        closeIdleAdapters();
+    }
+
+    private void closeIdleAdapters() {
+        VirtualSchemaAdapter adapter = this.idleAdapters.pollFirst();
+        while (adapter != null) {
+            closeAdapter(adapter);
+            adapter = this.idleAdapters.pollFirst();
+        }
+    }
+
+    private void closeAdapter(final VirtualSchemaAdapter adapter) {
+        if (adapter instanceof AutoCloseable) {
+            try {
+                ((AutoCloseable) adapter).close();
+            } catch (final Exception exception) {
+                LOGGER.log(Level.WARNING, exception,
+                        () -> "Failed to close Virtual Schema Adapter \"" + this.factory.getAdapterName() + "\".");
+            }
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.exasol.adapter;
+
+/**
+ * Virtual Schema Adapter instance handed out by the {@link AdapterRegistry} for the duration of a request.
+ * <p>
+ * Closing the lease returns pooled instances to their pool. It does not close the adapter itself.
+ *
+ * @see AdapterRegistry#leaseAdapterForName(String)
+ */
+public final class AdapterLease implements AutoCloseable {
+    private final VirtualSchemaAdapter adapter;
+    private final AdapterInstances owner;
+    private boolean released = false;
+
+    AdapterLease(final VirtualSchemaAdapter adapter, final AdapterInstances owner) {
+        this.adapter = adapter;
+        this.owner = owner;
+    }
+
+    /**
+     * Get the leased adapter
+     *
+     * @return adapter instance
+     */
+    public VirtualSchemaAdapter getAdapter() {
+        return this.adapter;
+    }
+
+    /**
+     * Give the adapter back to the registry
+     * <p>
+     * Calling this method more than once has no further effect.
+     */
+    @Override
+    public synchronized void close() {
+        if (!this.released) {
+            this.released = true;
+            this.owner.release(this.adapter);
+        }
+    }
+}
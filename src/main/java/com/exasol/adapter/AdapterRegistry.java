@@ -1,40 +1,126 @@
 package com.exasol.adapter;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
 
 /**
  * {@link VirtualSchemaAdapter}s need to be registered in the {@link AdapterRegistry} in order to receive requests from
  * the dispatcher.
+ * <p>
+ * Depending on the {@link AdapterScope} declared by the factory, the registry creates a new adapter for each request
+ * or reuses adapter instances. Reused instances stay alive until they are evicted with {@link #evictAdapters(String)}
+ * or the registry is cleared. Evicted adapters that implement {@link AutoCloseable} are closed.
+ * <p>
+ * Lookups do not lock. The registered factories are kept in an immutable snapshot that is replaced as a whole when a
+ * factory is registered or the registry is cleared, so readers always see a consistent state.
+ * <p>
+ * If the classpath contains an adapter index (see {@link IndexedAdapterFactory}), the registry only instantiates the
+ * factory of an adapter when it is requested for the first time. Adapters that are not indexed are loaded with the
+ * {@link ServiceLoader} on the first request for a name the index does not know. Without index all factories are
+ * loaded with the {@link ServiceLoader} up front.
  */
 public final class AdapterRegistry {
     private static final Logger LOGGER = Logger.getLogger(AdapterRegistry.class.getName());
-    private static AdapterRegistry instance;
-    private final Map<String, AdapterFactory> registeredFactories = new HashMap<>();
+    private final Object writeLock = new Object();
+    private volatile Map<String, AdapterFactory> registeredFactories = Collections.emptyMap();
+    private final Map<String, AdapterInstances> adapterInstances = new ConcurrentHashMap<>();
+    private final ClassLoader classLoader;
+    private volatile AdapterIndex index = AdapterIndex.EMPTY;
+    private boolean serviceLoaderPending = false;
+
+    private AdapterRegistry(final ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
 
     /**
      * Get the singleton instance of the {@link AdapterRegistry}
      *
      * @return singleton instance
      */
-    public static final synchronized AdapterRegistry getInstance() {
-        if (instance == null) {
+    public static final AdapterRegistry getInstance() {
+        return InstanceHolder.INSTANCE;
+    }
+
+    // The JVM initializes the holder class on first access only and guarantees that this happens exactly once.
+    private static final class InstanceHolder {
+        private static final AdapterRegistry INSTANCE = createInstance();
+
+        private static AdapterRegistry createInstance() {
             LOGGER.finer(() -> "Instanciating Virtual Schema Adapter registry and loading adapter factories.");
-            instance = new AdapterRegistry();
-            instance.loadAdapterFactories();
+            final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+            return load((contextClassLoader == null) ? AdapterRegistry.class.getClassLoader() : contextClassLoader);
         }
-        return instance;
+    }
+
+    /**
+     * Create a registry that loads the adapter factories with the given class loader
+     *
+     * @param classLoader class loader used to find the adapter index and the factories
+     * @return new registry
+     */
+    static AdapterRegistry load(final ClassLoader classLoader) {
+        final AdapterRegistry registry = new AdapterRegistry(classLoader);
+        registry.loadAdapterFactories();
+        return registry;
     }
 
     private void loadAdapterFactories() {
-        final ServiceLoader<AdapterFactory> serviceLoader = ServiceLoader.load(AdapterFactory.class);
-        final Iterator<AdapterFactory> factories = serviceLoader.iterator();
-        while (factories.hasNext()) {
-            final AdapterFactory factory = factories.next();
-            final Set<String> supportedAdapterNames = factory.getSupportedAdapterNames();
-            LOGGER.fine(() -> "Registering factory for Virtual Schema Adapter \"" + factories.getClass().getName()
-                    + "\" which supports: " + String.join(", ", supportedAdapterNames));
-            for (final String adapterName : supportedAdapterNames) {
+        final AdapterIndex loadedIndex = AdapterIndex.load(this.classLoader);
+        synchronized (this.writeLock) {
+            if (loadedIndex.isEmpty()) {
+                loadServiceProviders();
+            } else {
+                LOGGER.fine(() -> "Found index of Virtual Schema Adapters: "
+                        + String.join(", ", loadedIndex.getAdapterNames()));
+                this.index = loadedIndex;
+                this.serviceLoaderPending = true;
+            }
+        }
+    }
+
+    // Factories listed in the index are skipped without instantiating them.
+    private void loadServiceProviders() {
+        final AdapterIndex currentIndex = this.index;
+        ServiceLoader.load(AdapterFactory.class, this.classLoader).stream() //
+                .filter(provider -> !currentIndex.containsFactoryClass(provider.type().getName())) //
+                .map(ServiceLoader.Provider::get) //
+                .forEach(this::registerLoadedFactory);
+    }
+
+    private void registerLoadedFactory(final AdapterFactory factory) {
+        final Set<String> supportedAdapterNames = factory.getSupportedAdapterNames();
+        LOGGER.fine(() -> "Registering factory for Virtual Schema Adapter \"" + factory.getClass().getName()
+                + "\" which supports: " + String.join(", ", supportedAdapterNames));
+        for (final String adapterName : supportedAdapterNames) {
+            if (!this.registeredFactories.containsKey(adapterName)) {
+                registerAdapterFactory(adapterName, factory);
+            }
+        }
+    }
+
+    // Must be called while holding the write lock.
+    private boolean resolveAdapterFactory(final String name) {
+        if (this.registeredFactories.containsKey(name)) {
+            return true;
+        } else if (this.index.containsAdapterName(name)) {
+            registerIndexedFactory(name);
+            return true;
+        } else if (this.serviceLoaderPending) {
+            this.serviceLoaderPending = false;
+            loadServiceProviders();
+            return this.registeredFactories.containsKey(name);
+        } else {
+            return false;
+        }
+    }
+
+    private void registerIndexedFactory(final String name) {
+        final AdapterFactory factory = this.index.createFactory(name);
+        LOGGER.fine(() -> "Registering indexed factory for Virtual Schema Adapter \"" + factory.getClass().getName()
+                + "\".");
+        for (final String adapterName : this.index.getAdapterNamesOfSameFactory(name)) {
+            if (!this.registeredFactories.containsKey(adapterName)) {
                 registerAdapterFactory(adapterName, factory);
             }
         }
@@ -47,34 +133,123 @@ public final class AdapterRegistry {
      * @param adapterName name of the adapter
      */
     public void registerAdapterFactory(final String adapterName, final AdapterFactory factory) {
-        this.registeredFactories.put(adapterName, factory);
+        synchronized (this.writeLock) {
+            final Map<String, AdapterFactory> factories = new LinkedHashMap<>(this.registeredFactories);
+            factories.put(adapterName, factory);
+            this.registeredFactories = Collections.unmodifiableMap(factories);
+        }
+        evictAdapters(adapterName);
     }
 
     /**
      * Get a list of all currently registered Virtual Schema Adapters
+     * <p>
+     * This instantiates the factories of all indexed adapters that were not requested yet.
      *
      * @return list of adapter factories
      */
     public List<AdapterFactory> getRegisteredAdapterFactories() {
+        synchronized (this.writeLock) {
+            for (final String name : this.index.getAdapterNames()) {
+                resolveAdapterFactory(name);
+            }
+            if (this.serviceLoaderPending) {
+                this.serviceLoaderPending = false;
+                loadServiceProviders();
+            }
+        }
         return new ArrayList<>(this.registeredFactories.values());
     }
 
     /**
      * Get the Virtual Schema Adapter registered under the given name
+     * <p>
+     * Adapters with scope {@link AdapterScope#SINGLETON} return the shared instance. For all other scopes a new
+     * instance is created. Use {@link #leaseAdapterForName(String)} to take instances from the pool.
      *
      * @param name name of the adapter
      * @return adapter instance
      */
     public VirtualSchemaAdapter getAdapterForName(final String name) {
-        if (hasAdapterWithName(name)) {
-            final AdapterFactory factory = this.registeredFactories.get(name);
-            LOGGER.config(() -> "Loading Virtual Schema Adapter: " + factory.getAdapterName() + " "
-                    + factory.getAdapterVersion());
-            return factory.createAdapter();
-        } else {
-            throw new IllegalArgumentException(
-                    "Unknown Virtual Schema Adapter \"" + name + "\" requested. " + describe());
+        return getAdapterInstances(name).getAdapter();
+    }
+
+    /**
+     * Lease the Virtual Schema Adapter registered under the given name for a single request
+     * <p>
+     * Depending on the {@link AdapterScope} of the adapter, the lease contains a new, the shared or a pooled instance.
+     * Close the lease after the request to return pooled instances.
+     *
+     * @param name name of the adapter
+     * @return lease of an adapter instance
+     */
+    public AdapterLease leaseAdapterForName(final String name) {
+        return getAdapterInstances(name).lease();
+    }
+
+    private AdapterInstances getAdapterInstances(final String name) {
+        final AdapterFactory factory = getAdapterFactoryForName(name);
+        final AdapterInstances instances = this.adapterInstances.get(name);
+        if ((instances != null) && (instances.getFactory() == factory)) {
+            return instances;
+        }
+        return this.adapterInstances.compute(name,
+                (key, existing) -> ((existing == null) || (existing.getFactory() != factory))
+                        ? createAdapterInstances(factory, existing)
+                        : existing);
+    }
+
+    private AdapterInstances createAdapterInstances(final AdapterFactory factory, final AdapterInstances previous) {
+        if (previous != null) {
+            previous.evict();
+        }
+        LOGGER.config(() -> "Loading Virtual Schema Adapter: " + factory.getAdapterName() + " "
+                + factory.getAdapterVersion() + " (scope " + factory.getAdapterScope() + ")");
+        return new AdapterInstances(factory);
+    }
+
+    /**
+     * Close and forget the reused instances of the Virtual Schema Adapter registered under the given name
+     * <p>
+     * The next request creates new instances. Pooled instances that are leased at the time of the call are closed when
+     * they are returned.
+     *
+     * @param name name of the adapter
+     */
+    public void evictAdapters(final String name) {
+        final AdapterInstances instances = this.adapterInstances.remove(name);
+        if (instances != null) {
+            instances.evict();
+        }
+    }
+
+    /**
+     * Close and forget the reused instances of all Virtual Schema Adapters
+     */
+    public void evictAllAdapters() {
+        for (final String name : new ArrayList<>(this.adapterInstances.keySet())) {
+            evictAdapters(name);
+        }
+    }
+
+    /**
+     * Get the factory of the Virtual Schema Adapter registered under the given name
+     *
+     * @param name name of the adapter
+     * @return adapter factory
+     */
+    public AdapterFactory getAdapterFactoryForName(final String name) {
+        final Map<String, AdapterFactory> factories = this.registeredFactories;
+        final AdapterFactory factory = factories.get(name);
+        if ((factory != null) || factories.containsKey(name)) {
+            return factory;
+        }
+        synchronized (this.writeLock) {
+            if (resolveAdapterFactory(name)) {
+                return this.registeredFactories.get(name);
+            }
         }
+        throw new IllegalArgumentException("Unknown Virtual Schema Adapter \"" + name + "\" requested. " + describe());
     }
 
     /**
@@ -84,14 +259,26 @@ public final class AdapterRegistry {
      * @return <code>true</code> if an adapter is registered under that name
      */
     public boolean hasAdapterWithName(final String name) {
-        return this.registeredFactories.containsKey(name);
+        if (this.registeredFactories.containsKey(name) || this.index.containsAdapterName(name)) {
+            return true;
+        }
+        synchronized (this.writeLock) {
+            return resolveAdapterFactory(name);
+        }
     }
 
     /**
      * Remove all registered adapters from the registry
+     * <p>
+     * Adapters from the adapter index and the service loader are forgotten as well.
      */
     public void clear() {
-        this.registeredFactories.clear();
+        synchronized (this.writeLock) {
+            this.registeredFactories = Collections.emptyMap();
+            this.index = AdapterIndex.EMPTY;
+            this.serviceLoaderPending = false;
+        }
+        evictAllAdapters();
     }
 
     /**
@@ -100,12 +287,14 @@ public final class AdapterRegistry {
      * @return description
      */
     public String describe() {
-        if (this.registeredFactories.isEmpty()) {
+        final Set<String> names = new LinkedHashSet<>(this.registeredFactories.keySet());
+        names.addAll(this.index.getAdapterNames());
+        if (names.isEmpty()) {
             return "No Virtual Schema Adapter factories are currently reqistered.";
         } else {
             final StringBuilder builder = new StringBuilder("Currently registered Virtual Schema Adapter factories: ");
             boolean first = true;
-            for (final String name : this.registeredFactories.keySet()) {
+            for (final String name : names) {
                 if (first) {
                     first = false;
                 } else {
@@ -0,0 +1,24 @@
+package com.exasol.adapter;
+
+/**
+ * Lifecycle of the Virtual Schema Adapter instances the {@link AdapterRegistry} hands out.
+ *
+ * @see AdapterFactory#getAdapterScope()
+ */
+public enum AdapterScope {
+    /**
+     * A new adapter instance is created for each request (default).
+     */
+    PER_CALL,
+
+    /**
+     * A single adapter instance is created on first use and shared by all requests. The adapter must be thread-safe.
+     */
+    SINGLETON,
+
+    /**
+     * Adapter instances are kept in a pool and reused. Each instance serves only one request at a time, so the
+     * adapter does not need to be thread-safe.
+     */
+    POOLED
+}
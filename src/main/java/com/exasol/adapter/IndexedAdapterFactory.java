@@ -0,0 +1,24 @@
+package com.exasol.adapter;
+
+import java.lang.annotation.*;
+
+/**
+ * Lists the names of the adapters an {@link AdapterFactory} creates in the adapter index.
+ * <p>
+ * The {@link AdapterIndexProcessor} writes the names of all annotated factories into an index in the JAR at compile
+ * time. With that index the {@link AdapterRegistry} only loads and instantiates the factory of the adapter a request
+ * asks for instead of all factories on the classpath. The names must match the ones the factory returns from
+ * {@link AdapterFactory#getSupportedAdapterNames()}.
+ * <p>
+ * Annotated factories must be public, non-abstract top-level or static nested classes with a public no-argument
+ * constructor.
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface IndexedAdapterFactory {
+    /**
+     * @return names of the adapters the factory creates
+     */
+    String[] value();
+}
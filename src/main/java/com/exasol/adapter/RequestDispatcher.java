@@ -1,30 +1,49 @@
 package com.exasol.adapter;
 
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ServiceLoader;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.exasol.ExaMetadata;
+import com.exasol.adapter.jfr.AdapterInvokedEvent;
+import com.exasol.adapter.jfr.ResponseSerializedEvent;
+import com.exasol.adapter.metrics.MetricsRecorder;
+import com.exasol.adapter.metrics.RequestPhase;
 import com.exasol.adapter.request.*;
-import com.exasol.adapter.request.parser.RequestParser;
+import com.exasol.adapter.request.parser.*;
 import com.exasol.adapter.response.*;
 import com.exasol.adapter.response.converter.ResponseJsonConverter;
 import com.exasol.logging.RemoteLogManager;
 import com.exasol.logging.VersionCollector;
+import com.exasol.utils.Utf8;
 
 /**
  * This class is the main entry point for calls to a Virtual Schema. From here the adapter calls are dispatched to the
  * responsible adapter.
+ * <p>
+ * If a {@link MetricsRecorder} is set or registered as service, the dispatcher reports the duration of each
+ * {@link RequestPhase} of the calls to it. Independently of that, the adapter invocation and the serialization of the
+ * response are reported as events to the Java Flight Recorder.
  */
 public final class RequestDispatcher {
     private static final RequestDispatcher INSTANCE = new RequestDispatcher();
     private static final Logger LOGGER = Logger.getLogger(RequestDispatcher.class.getName());
+    private final ResponseCache responseCache = new ResponseCache(ResponseCache.DEFAULT_CAPACITY);
+    private volatile MetricsRecorder metricsRecorder = null;
+    private volatile boolean isMetricsRecorderSet = false;
 
     /**
      * Get the singleton instance of the {@link RequestDispatcher}
      *
      * @return singleton instance
      */
-    public static synchronized RequestDispatcher getInstance() {
+    public static RequestDispatcher getInstance() {
         return INSTANCE;
     }
 
@@ -38,18 +57,109 @@ public final class RequestDispatcher {
      * @throws AdapterException in case the request type is not recognized
      */
     public static String adapterCall(final ExaMetadata metadata, final String rawRequest) throws AdapterException {
-        return getInstance().executeAdapterCall(metadata, rawRequest);
+        return getInstance().executeAdapterCall(metadata, new RequestSource(parser -> parser.parse(rawRequest),
+                () -> rawRequest, () -> RequestPreScanner.scan(rawRequest),
+                () -> RequestFingerprint.ofRawRequest(rawRequest)));
+    }
+
+    /**
+     * Entry point for Virtual Schema Adapter requests available as character sequence.
+     * <p>
+     * The sequence is parsed directly without converting it into a {@link String} first.
+     *
+     * @param metadata   metadata for the context in which the adapter exists (e.g. the schema into which it is
+     *                   installed)
+     * @param rawRequest request issued in the call to the Virtual Schema Adapter
+     * @return response resulting from the adapter call
+     * @throws AdapterException in case the request type is not recognized
+     */
+    public static String adapterCall(final ExaMetadata metadata, final CharSequence rawRequest)
+            throws AdapterException {
+        return getInstance().executeAdapterCall(metadata, new RequestSource(parser -> parser.parse(rawRequest),
+                rawRequest::toString, () -> RequestPreScanner.scan(rawRequest),
+                () -> RequestFingerprint.ofRawRequest(rawRequest)));
+    }
+
+    /**
+     * Entry point for Virtual Schema Adapter requests read from a character stream.
+     * <p>
+     * The stream is consumed but not closed. Since the request is not kept in memory, it cannot be logged.
+     *
+     * @param metadata   metadata for the context in which the adapter exists (e.g. the schema into which it is
+     *                   installed)
+     * @param rawRequest reader providing the request issued in the call to the Virtual Schema Adapter
+     * @return response resulting from the adapter call
+     * @throws AdapterException in case the request type is not recognized
+     */
+    public static String adapterCall(final ExaMetadata metadata, final Reader rawRequest) throws AdapterException {
+        return getInstance().executeAdapterCall(metadata,
+                new RequestSource(parser -> parser.parse(rawRequest), () -> "<read from stream>", null, null));
+    }
+
+    /**
+     * Entry point for Virtual Schema Adapter requests available as UTF-8 encoded bytes.
+     * <p>
+     * The bytes are parsed in place, so hosts that already hold the request in binary form save the decoding into a
+     * {@link String}.
+     *
+     * @param metadata   metadata for the context in which the adapter exists (e.g. the schema into which it is
+     *                   installed)
+     * @param rawRequest UTF-8 encoded request issued in the call to the Virtual Schema Adapter
+     * @return response resulting from the adapter call
+     * @throws AdapterException in case the request type is not recognized
+     */
+    public static String adapterCall(final ExaMetadata metadata, final byte[] rawRequest) throws AdapterException {
+        return getInstance().executeAdapterCall(metadata, new RequestSource(parser -> parser.parse(rawRequest),
+                () -> new String(rawRequest, StandardCharsets.UTF_8), () -> RequestPreScanner.scan(rawRequest),
+                () -> RequestFingerprint.ofRawRequest(ByteBuffer.wrap(rawRequest))));
+    }
+
+    /**
+     * Entry point for Virtual Schema Adapter requests available as UTF-8 encoded bytes in a buffer.
+     * <p>
+     * The bytes between position and limit are parsed in place. The position of the buffer is not changed.
+     *
+     * @param metadata   metadata for the context in which the adapter exists (e.g. the schema into which it is
+     *                   installed)
+     * @param rawRequest buffer containing the UTF-8 encoded request issued in the call to the Virtual Schema Adapter
+     * @return response resulting from the adapter call
+     * @throws AdapterException in case the request type is not recognized
+     */
+    public static String adapterCall(final ExaMetadata metadata, final ByteBuffer rawRequest)
+            throws AdapterException {
+        return getInstance().executeAdapterCall(metadata, new RequestSource(parser -> parser.parse(rawRequest),
+                () -> StandardCharsets.UTF_8.decode(rawRequest.duplicate()).toString(),
+                () -> RequestPreScanner.scan(rawRequest), () -> RequestFingerprint.ofRawRequest(rawRequest)));
     }
 
     @SuppressWarnings("squid:S2139")
-    private String executeAdapterCall(final ExaMetadata metadata, final String rawRequest) throws AdapterException {
+    private String executeAdapterCall(final ExaMetadata metadata, final RequestSource source)
+            throws AdapterException {
         try {
-            final AdapterRequest request = new RequestParser().parse(rawRequest);
-            configureAdapterLoggingAccordingToRequestSettings(request);
-            logVersionInformation();
-            logRawRequest(rawRequest);
-            final VirtualSchemaAdapter adapter = findResponsibleAdapter(request);
-            return processRequest(request, adapter, metadata);
+            final String cachedResponse = findCachedResponseBeforeParsing(source);
+            if (cachedResponse != null) {
+                logRawRequest(source.rawRequest);
+                return cachedResponse;
+            }
+            final RequestPhaseTimer timer = RequestPhaseTimer.start(getMetricsRecorder());
+            try {
+                final AdapterRequest request = source.parse.apply(new RequestParser());
+                timer.tag(request);
+                timer.endPhase(RequestPhase.PARSE);
+                configureAdapterLoggingAccordingToRequestSettings(request);
+                logVersionInformation();
+                logRawRequest(source.rawRequest);
+                timer.endPhase(RequestPhase.LOGGING_SETUP);
+                final Duration timeToLive = findResponsibleAdapterFactory(request)
+                        .getResponseCacheTimeToLive(request.getType());
+                if (timeToLive.isNegative() || timeToLive.isZero()) {
+                    return processRequestWithLeasedAdapter(request, metadata, timer);
+                } else {
+                    return processRequestWithCache(request, source, metadata, timeToLive, timer);
+                }
+            } finally {
+                timer.finish();
+            }
         } catch (final Exception exception) {
             LOGGER.severe(exception::getMessage);
             LOGGER.log(Level.FINE, "Stack trace:", exception);
@@ -57,37 +167,172 @@ public final class RequestDispatcher {
         }
     }
 
-    private VirtualSchemaAdapter findResponsibleAdapter(final AdapterRequest request) {
-        final String name = request.getAdapterName();
-        return AdapterRegistry.getInstance().getAdapterForName(name);
+    // The pre-scan only reads the request type and the adapter name. It routes the request to the responsible adapter
+    // factory, which decides whether responses are cached. A request with the same text as an earlier one is then
+    // answered without parsing it. Requests the pre-scan cannot handle take the regular path, which reports the error.
+    private String findCachedResponseBeforeParsing(final RequestSource source) {
+        if (!source.canPreScan() || (this.responseCache.size() == 0)) {
+            return null;
+        }
+        try {
+            final RequestRoutingInfo routingInfo = source.preScan.get();
+            final AdapterRegistry registry = AdapterRegistry.getInstance();
+            if (!registry.hasAdapterWithName(routingInfo.getAdapterName())) {
+                return null;
+            }
+            final Duration timeToLive = registry.getAdapterFactoryForName(routingInfo.getAdapterName())
+                    .getResponseCacheTimeToLive(routingInfo.getType());
+            if (timeToLive.isNegative() || timeToLive.isZero()) {
+                return null;
+            }
+            final String cachedResponse = this.responseCache.getByRawKey(source.getRawFingerprint());
+            if (cachedResponse != null) {
+                LOGGER.fine(() -> "Serving " + routingInfo.getType() + " response from cache without parsing.");
+            }
+            return cachedResponse;
+        } catch (final RequestParserException exception) {
+            return null;
+        }
+    }
+
+    private String processRequestWithCache(final AdapterRequest request, final RequestSource source,
+            final ExaMetadata metadata, final Duration timeToLive, final RequestPhaseTimer timer)
+            throws AdapterException {
+        final String key = RequestFingerprint.of(request);
+        if (key == null) {
+            return processRequestWithLeasedAdapter(request, metadata, timer);
+        }
+        if (source.canPreScan()) {
+            this.responseCache.putRawKey(source.getRawFingerprint(), key);
+        }
+        final String cachedResponse = this.responseCache.get(key);
+        if (cachedResponse == null) {
+            final String response = processRequestWithLeasedAdapter(request, metadata, timer);
+            this.responseCache.put(key, response, timeToLive);
+            return response;
+        } else {
+            LOGGER.fine(() -> "Serving " + request.getType() + " response from cache.");
+            return cachedResponse;
+        }
+    }
+
+    /**
+     * Get the cache for the responses of adapters that opted in to response caching
+     *
+     * @return response cache
+     * @see AdapterFactory#getResponseCacheTimeToLive(AdapterRequestType)
+     */
+    public ResponseCache getResponseCache() {
+        return this.responseCache;
+    }
+
+    /**
+     * Set the recorder that receives the duration of the phases of the adapter calls
+     * <p>
+     * This replaces a recorder registered as service. If it is set before the first adapter call, the dispatcher does
+     * not search for a recorder registered as service at all.
+     *
+     * @param metricsRecorder recorder or <code>null</code> to stop measuring
+     */
+    public void setMetricsRecorder(final MetricsRecorder metricsRecorder) {
+        this.metricsRecorder = metricsRecorder;
+        this.isMetricsRecorderSet = true;
+    }
+
+    /**
+     * Get the recorder that receives the duration of the phases of the adapter calls
+     * <p>
+     * Unless a recorder was set, the first call looks up a recorder registered as service.
+     *
+     * @return recorder or <code>null</code> if the phases are not measured
+     */
+    public MetricsRecorder getMetricsRecorder() {
+        return this.isMetricsRecorderSet ? this.metricsRecorder : ServiceMetricsRecorderHolder.RECORDER;
+    }
+
+    private AdapterFactory findResponsibleAdapterFactory(final AdapterRequest request) {
+        return AdapterRegistry.getInstance().getAdapterFactoryForName(request.getAdapterName());
+    }
+
+    private String processRequestWithLeasedAdapter(final AdapterRequest request, final ExaMetadata metadata,
+            final RequestPhaseTimer timer) throws AdapterException {
+        try (final AdapterLease lease = AdapterRegistry.getInstance().leaseAdapterForName(request.getAdapterName())) {
+            timer.startPhase();
+            final String response = processRequest(request, lease.getAdapter(), metadata, timer);
+            timer.endPhase(RequestPhase.SERIALIZATION);
+            return response;
+        }
     }
 
     private String processRequest(final AdapterRequest request, final VirtualSchemaAdapter adapter,
+            final ExaMetadata metadata, final RequestPhaseTimer timer) throws AdapterException {
+        final AdapterInvokedEvent invokedEvent = new AdapterInvokedEvent();
+        invokedEvent.begin();
+        final Object response = invokeAdapter(request, adapter, metadata);
+        invokedEvent.end();
+        if (invokedEvent.shouldCommit()) {
+            invokedEvent.setRequest(request);
+            invokedEvent.commit();
+        }
+        timer.endPhase(RequestPhase.ADAPTER);
+        final ResponseSerializedEvent serializedEvent = new ResponseSerializedEvent();
+        serializedEvent.begin();
+        final String serializedResponse = serializeResponse(request.getType(), response);
+        serializedEvent.end();
+        if (serializedEvent.shouldCommit()) {
+            serializedEvent.setRequest(request);
+            serializedEvent.setResponseSize(Utf8.encodedLength(serializedResponse));
+            serializedEvent.commit();
+        }
+        return serializedResponse;
+    }
+
+    private Object invokeAdapter(final AdapterRequest request, final VirtualSchemaAdapter adapter,
             final ExaMetadata metadata) throws AdapterException {
         final AdapterRequestType type = request.getType();
         switch (type) {
         case CREATE_VIRTUAL_SCHEMA:
-            return dispatchCreateVirtualSchemaRequestToAdapter(request, adapter, metadata);
+            return adapter.createVirtualSchema(metadata, (CreateVirtualSchemaRequest) request);
         case DROP_VIRTUAL_SCHEMA:
-            return dispatchDropVirtualSchemaRequestToAdapter(request, adapter, metadata);
+            return adapter.dropVirtualSchema(metadata, (DropVirtualSchemaRequest) request);
         case REFRESH:
-            return dispatchRefreshRequestToAdapter(request, adapter, metadata);
+            return adapter.refresh(metadata, (RefreshRequest) request);
         case SET_PROPERTIES:
-            return dispatchSetPropertiesRequestToAdapter(request, adapter, metadata);
+            return adapter.setProperties(metadata, (SetPropertiesRequest) request);
         case GET_CAPABILITIES:
-            return dispatchGetCapabilitiesRequestToAdapter(request, adapter, metadata);
+            return adapter.getCapabilities(metadata, (GetCapabilitiesRequest) request);
         case PUSHDOWN:
-            return dispatchPushDownRequestToAdapter(request, adapter, metadata);
+            return adapter.pushdown(metadata, (PushDownRequest) request);
         default:
             throw new AdapterException("The request dispatcher encountered a request type \"" + type.toString()
                     + "\" which it does not recognize. Please create an issue ticket quoting this error message.");
         }
     }
 
+    private String serializeResponse(final AdapterRequestType type, final Object response) {
+        final ResponseJsonConverter converter = ResponseJsonConverter.getInstance();
+        switch (type) {
+        case CREATE_VIRTUAL_SCHEMA:
+            return converter.convertCreateVirtualSchemaResponse((CreateVirtualSchemaResponse) response);
+        case DROP_VIRTUAL_SCHEMA:
+            return converter.convertDropVirtualSchemaResponse((DropVirtualSchemaResponse) response);
+        case REFRESH:
+            return converter.convertRefreshResponse((RefreshResponse) response);
+        case SET_PROPERTIES:
+            return converter.convertSetPropertiesResponse((SetPropertiesResponse) response);
+        case GET_CAPABILITIES:
+            return converter.convertGetCapabilitiesResponse((GetCapabilitiesResponse) response);
+        case PUSHDOWN:
+            return converter.convertPushDownResponse((PushDownResponse) response);
+        default:
+            throw new IllegalStateException("Unable to serialize response to request of type " + type + ".");
+        }
+    }
+
     private void configureAdapterLoggingAccordingToRequestSettings(final AdapterRequest request) {
         final LoggingConfiguration configuration = LoggingConfiguration
                 .parseFromProperties(request.getSchemaMetadataInfo().getProperties());
-        final RemoteLogManager remoteLogManager = new RemoteLogManager();
+        final RemoteLogManager remoteLogManager = RemoteLogManager.getInstance();
         if (configuration.isRemoteLoggingConfigured()) {
             remoteLogManager.setupRemoteLogger(configuration.getRemoteLoggingHost(),
                     configuration.getRemoteLoggingPort(), configuration.getLogLevel());
@@ -101,45 +346,56 @@ public final class RequestDispatcher {
         LOGGER.info("Loaded versions: virtual-schema-common-java " + versionCollector.getVersionNumber());
     }
 
-    private void logRawRequest(final String rawRequest) {
-        LOGGER.finer(() -> "Raw JSON request:\n" + rawRequest);
+    private void logRawRequest(final Supplier<String> rawRequest) {
+        LOGGER.finer(() -> "Raw JSON request:\n" + rawRequest.get());
     }
 
-    private String dispatchCreateVirtualSchemaRequestToAdapter(final AdapterRequest request,
-            final VirtualSchemaAdapter adapter, final ExaMetadata metadata) throws AdapterException {
-        final CreateVirtualSchemaResponse response = adapter.createVirtualSchema(metadata,
-                (CreateVirtualSchemaRequest) request);
-        return ResponseJsonConverter.getInstance().convertCreateVirtualSchemaResponse(response);
-    }
-
-    private String dispatchDropVirtualSchemaRequestToAdapter(final AdapterRequest request,
-            final VirtualSchemaAdapter adapter, final ExaMetadata metadata) throws AdapterException {
-        final DropVirtualSchemaResponse response = adapter.dropVirtualSchema(metadata,
-                (DropVirtualSchemaRequest) request);
-        return ResponseJsonConverter.getInstance().convertDropVirtualSchemaResponse(response);
+    /**
+     * Holder of the recorder registered as service, so that the class path is only scanned when the recorder is needed
+     */
+    private static final class ServiceMetricsRecorderHolder {
+        private static final MetricsRecorder RECORDER = ServiceLoader.load(MetricsRecorder.class).findFirst()
+                .orElse(null);
     }
 
-    private String dispatchRefreshRequestToAdapter(final AdapterRequest request, final VirtualSchemaAdapter adapter,
-            final ExaMetadata metadata) throws AdapterException {
-        final RefreshResponse response = adapter.refresh(metadata, (RefreshRequest) request);
-        return ResponseJsonConverter.getInstance().convertRefreshResponse(response);
-    }
+    /**
+     * Raw request together with the ways to parse, log, pre-scan and fingerprint it
+     */
+    private static final class RequestSource {
+        private final Function<RequestParser, AdapterRequest> parse;
+        private final Supplier<String> rawRequest;
+        private final Supplier<RequestRoutingInfo> preScan;
+        private final Supplier<String> rawFingerprintCalculation;
+        private String rawFingerprint = null;
 
-    private String dispatchSetPropertiesRequestToAdapter(final AdapterRequest request,
-            final VirtualSchemaAdapter adapter, final ExaMetadata metadata) throws AdapterException {
-        final SetPropertiesResponse response = adapter.setProperties(metadata, (SetPropertiesRequest) request);
-        return ResponseJsonConverter.getInstance().convertSetPropertiesResponse(response);
-    }
+        /**
+         * Create a new instance of {@link RequestSource}
+         *
+         * @param parse                     full parse of the request
+         * @param rawRequest                request text for logging
+         * @param preScan                   pre-scan of the request or <code>null</code> if the request can only be
+         *                                  read once
+         * @param rawFingerprintCalculation fingerprint of the request text or <code>null</code> if the request can
+         *                                  only be read once
+         */
+        private RequestSource(final Function<RequestParser, AdapterRequest> parse,
+                final Supplier<String> rawRequest, final Supplier<RequestRoutingInfo> preScan,
+                final Supplier<String> rawFingerprintCalculation) {
+            this.parse = parse;
+            this.rawRequest = rawRequest;
+            this.preScan = preScan;
+            this.rawFingerprintCalculation = rawFingerprintCalculation;
+        }
 
-    private String dispatchGetCapabilitiesRequestToAdapter(final AdapterRequest request,
-            final VirtualSchemaAdapter adapter, final ExaMetadata metadata) throws AdapterException {
-        final GetCapabilitiesResponse response = adapter.getCapabilities(metadata, (GetCapabilitiesRequest) request);
-        return ResponseJsonConverter.getInstance().convertGetCapabilitiesResponse(response);
-    }
+        private boolean canPreScan() {
+            return this.preScan != null;
+        }
 
-    private String dispatchPushDownRequestToAdapter(final AdapterRequest request, final VirtualSchemaAdapter adapter,
-            final ExaMetadata metadata) throws AdapterException {
-        final PushDownResponse response = adapter.pushdown(metadata, (PushDownRequest) request);
-        return ResponseJsonConverter.getInstance().convertPushDownResponse(response);
+        private String getRawFingerprint() {
+            if (this.rawFingerprint == null) {
+                this.rawFingerprint = this.rawFingerprintCalculation.get();
+            }
+            return this.rawFingerprint;
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,114 @@
+package com.exasol.adapter;
+
+import com.exasol.adapter.metrics.MetricsRecorder;
+import com.exasol.adapter.metrics.RequestPhase;
+import com.exasol.adapter.request.AdapterRequest;
+import com.exasol.adapter.request.parser.RequestParser;
+
+/**
+ * Measures the phases of a single adapter call and reports them to a {@link MetricsRecorder}.
+ * <p>
+ * The SQL statement of a push-down request is parsed when the adapter first reads it. That time is taken out of the
+ * phase it falls into and added to {@link RequestPhase#PARSE}. Therefore the durations are only reported when the call
+ * is finished.
+ * <p>
+ * Without recorder the shared {@link #DISABLED} timer is used, which neither reads the clock nor allocates.
+ */
+class RequestPhaseTimer {
+    private static final RequestPhase[] PHASES = RequestPhase.values();
+    static final RequestPhaseTimer DISABLED = new RequestPhaseTimer(null) {
+        @Override
+        void tag(final AdapterRequest request) {
+            // nothing to measure
+        }
+
+        @Override
+        void startPhase() {
+            // nothing to measure
+        }
+
+        @Override
+        void endPhase(final RequestPhase phase) {
+            // nothing to measure
+        }
+
+        @Override
+        void finish() {
+            // nothing to report
+        }
+    };
+    private final MetricsRecorder recorder;
+    private final long[] phaseNanos = new long[PHASES.length];
+    private final boolean[] measured = new boolean[PHASES.length];
+    private AdapterRequest request;
+    private long phaseStartNanos;
+    private long deferredParseNanosAtPhaseStart = 0;
+
+    private RequestPhaseTimer(final MetricsRecorder recorder) {
+        this.recorder = recorder;
+        this.phaseStartNanos = System.nanoTime();
+    }
+
+    /**
+     * Start measuring an adapter call
+     *
+     * @param recorder recorder that receives the phase durations or <code>null</code> to disable the measurement
+     * @return timer with the first phase started
+     */
+    static RequestPhaseTimer start(final MetricsRecorder recorder) {
+        return (recorder == null) ? DISABLED : new RequestPhaseTimer(recorder);
+    }
+
+    /**
+     * Set the request whose type and adapter name the phase durations are reported for
+     *
+     * @param request parsed request
+     */
+    void tag(final AdapterRequest request) {
+        this.request = request;
+    }
+
+    /**
+     * Start the next phase without counting the time since the end of the previous one
+     */
+    void startPhase() {
+        this.phaseStartNanos = System.nanoTime();
+        this.deferredParseNanosAtPhaseStart = getDeferredParseNanos();
+    }
+
+    /**
+     * End the current phase and start the next phase
+     *
+     * @param phase phase that ends
+     */
+    void endPhase(final RequestPhase phase) {
+        final long now = System.nanoTime();
+        final long deferredParseNanos = getDeferredParseNanos();
+        final int index = phase.ordinal();
+        this.phaseNanos[index] += (now - this.phaseStartNanos)
+                - (deferredParseNanos - this.deferredParseNanosAtPhaseStart);
+        this.measured[index] = true;
+        this.phaseStartNanos = now;
+        this.deferredParseNanosAtPhaseStart = deferredParseNanos;
+    }
+
+    /**
+     * Report the durations of all ended phases, including the deferred parse time in {@link RequestPhase#PARSE}
+     */
+    void finish() {
+        if (this.request == null) {
+            return;
+        }
+        this.phaseNanos[RequestPhase.PARSE.ordinal()] += getDeferredParseNanos();
+        for (final RequestPhase phase : PHASES) {
+            if (this.measured[phase.ordinal()]) {
+                this.recorder.recordPhase(phase, this.request.getType(), this.request.getAdapterName(),
+                        Math.max(0, this.phaseNanos[phase.ordinal()]));
+            }
+        }
+    }
+
+    private long getDeferredParseNanos() {
+        return (this.request == null) ? 0 : RequestParser.getDeferredParseNanos(this.request);
+    }
+}
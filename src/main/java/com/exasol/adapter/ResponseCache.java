@@ -0,0 +1,176 @@
+package com.exasol.adapter;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded cache for the responses of the {@link RequestDispatcher}.
+ * <p>
+ * The cache maps fingerprints of normalized requests to final response strings. When the cache is full, the least
+ * recently used entry is evicted. Each entry expires after the time to live the {@link AdapterFactory} chose for the
+ * request type.
+ * <p>
+ * Additionally the cache remembers which raw request text led to which normalized fingerprint, so that a repeated
+ * request can be answered before it is parsed.
+ */
+public final class ResponseCache {
+    /** Default number of responses the cache holds */
+    public static final int DEFAULT_CAPACITY = 128;
+    private final LongSupplier clock;
+    private final Map<String, CachedResponse> entries;
+    private final Map<String, String> keysByRawKey;
+    private long hitCount = 0;
+    private long missCount = 0;
+
+    /**
+     * Create a new instance of a {@link ResponseCache}
+     *
+     * @param capacity maximum number of responses the cache holds
+     */
+    ResponseCache(final int capacity) {
+        this(capacity, System::nanoTime);
+    }
+
+    /**
+     * Create a new instance of a {@link ResponseCache}
+     *
+     * @param capacity maximum number of responses the cache holds
+     * @param clock    source of the current time in nanoseconds
+     */
+    ResponseCache(final int capacity, final LongSupplier clock) {
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 5036306342734370389L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, CachedResponse> eldest) {
+                return size() > capacity;
+            }
+        };
+        this.keysByRawKey = new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = -3301516400766150245L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, String> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Get a cached response
+     *
+     * @param key request fingerprint
+     * @return cached response or <code>null</code> if the response is not cached or expired
+     */
+    synchronized String get(final String key) {
+        final CachedResponse entry = this.entries.get(key);
+        if (entry == null) {
+            ++this.missCount;
+            return null;
+        } else if (entry.isExpired(this.clock.getAsLong())) {
+            this.entries.remove(key);
+            ++this.missCount;
+            return null;
+        } else {
+            ++this.hitCount;
+            return entry.response;
+        }
+    }
+
+    /**
+     * Get a cached response by the fingerprint of the raw request text
+     * <p>
+     * If the raw request is unknown or its response expired, this does not count as miss, because the caller then
+     * parses the request and looks it up by its normalized fingerprint.
+     *
+     * @param rawKey fingerprint of the raw request
+     * @return cached response or <code>null</code> if the raw request is unknown or the response is not cached
+     */
+    synchronized String getByRawKey(final String rawKey) {
+        final String key = this.keysByRawKey.get(rawKey);
+        if (key == null) {
+            return null;
+        }
+        final CachedResponse entry = this.entries.get(key);
+        if ((entry == null) || entry.isExpired(this.clock.getAsLong())) {
+            return null;
+        }
+        ++this.hitCount;
+        return entry.response;
+    }
+
+    /**
+     * Remember the normalized fingerprint of a raw request
+     *
+     * @param rawKey fingerprint of the raw request
+     * @param key    fingerprint of the normalized request
+     */
+    synchronized void putRawKey(final String rawKey, final String key) {
+        this.keysByRawKey.put(rawKey, key);
+    }
+
+    /**
+     * Cache a response
+     *
+     * @param key        request fingerprint
+     * @param response   response to be cached
+     * @param timeToLive time after which the entry expires
+     */
+    synchronized void put(final String key, final String response, final Duration timeToLive) {
+        this.entries.put(key, new CachedResponse(response, this.clock.getAsLong() + timeToLive.toNanos()));
+    }
+
+    /**
+     * Get the number of requests that were answered from the cache
+     *
+     * @return number of cache hits
+     */
+    public synchronized long getHitCount() {
+        return this.hitCount;
+    }
+
+    /**
+     * Get the number of cacheable requests that were not found in the cache
+     *
+     * @return number of cache misses
+     */
+    public synchronized long getMissCount() {
+        return this.missCount;
+    }
+
+    /**
+     * Get the number of cached responses, including expired responses that were not evicted yet
+     *
+     * @return number of cache entries
+     */
+    public synchronized int size() {
+        return this.entries.size();
+    }
+
+    /**
+     * Remove all cached responses and reset the hit and miss counters
+     */
+    public synchronized void clear() {
+        this.entries.clear();
+        this.keysByRawKey.clear();
+        this.hitCount = 0;
+        this.missCount = 0;
+    }
+
+    private static final class CachedResponse {
+        private final String response;
+        private final long expiresAt;
+
+        private CachedResponse(final String response, final long expiresAt) {
+            this.response = response;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(final long now) {
+            return (now - this.expiresAt) >= 0;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.exasol.adapter.jfr;
+
+import com.exasol.adapter.request.AdapterRequest;
+
+import jdk.jfr.*;
+
+/**
+ * Java Flight Recorder event for the time a Virtual Schema Adapter spends handling a request.
+ */
+@Category({ "Exasol", "Virtual Schema" })
+@StackTrace(false)
+@Name(AdapterInvokedEvent.NAME)
+@Label("Virtual Schema Adapter Invoked")
+@Description("Request handled by the Virtual Schema Adapter")
+public final class AdapterInvokedEvent extends Event {
+    /**
+     * Name of the event type in recordings
+     */
+    public static final String NAME = "com.exasol.adapter.AdapterInvoked";
+
+    @Label("Adapter Name")
+    private String adapterName;
+
+    @Label("Request Type")
+    private String requestType;
+
+    /**
+     * Set adapter name and request type from a request
+     *
+     * @param request request the event belongs to
+     */
+    public void setRequest(final AdapterRequest request) {
+        this.adapterName = request.getAdapterName();
+        this.requestType = String.valueOf(request.getType());
+    }
+}
@@ -0,0 +1,59 @@
+package com.exasol.adapter.jfr;
+
+import com.exasol.adapter.request.AdapterRequest;
+
+import jdk.jfr.*;
+
+/**
+ * Java Flight Recorder event for parsing a Virtual Schema Adapter request.
+ */
+@Category({ "Exasol", "Virtual Schema" })
+@StackTrace(false)
+@Name(RequestParsedEvent.NAME)
+@Label("Virtual Schema Request Parsed")
+@Description("JSON request of an adapter call parsed")
+public final class RequestParsedEvent extends Event {
+    /**
+     * Name of the event type in recordings
+     */
+    public static final String NAME = "com.exasol.adapter.RequestParsed";
+
+    @Label("Adapter Name")
+    private String adapterName;
+
+    @Label("Request Type")
+    private String requestType;
+
+    @Label("Request Size")
+    @Description("Size of the UTF-8 encoded request, -1 if unknown")
+    @DataAmount
+    private long requestSize;
+
+    @Label("JSON Node Count")
+    @Description("Number of JSON values in the request")
+    private long nodeCount;
+
+    /**
+     * @param requestSize size of the UTF-8 encoded request in bytes, -1 if unknown
+     */
+    public void setRequestSize(final long requestSize) {
+        this.requestSize = requestSize;
+    }
+
+    /**
+     * @param nodeCount number of JSON values in the request
+     */
+    public void setNodeCount(final long nodeCount) {
+        this.nodeCount = nodeCount;
+    }
+
+    /**
+     * Set adapter name and request type from a request
+     *
+     * @param request request the event belongs to
+     */
+    public void setRequest(final AdapterRequest request) {
+        this.adapterName = request.getAdapterName();
+        this.requestType = String.valueOf(request.getType());
+    }
+}
@@ -0,0 +1,48 @@
+package com.exasol.adapter.jfr;
+
+import com.exasol.adapter.request.AdapterRequest;
+
+import jdk.jfr.*;
+
+/**
+ * Java Flight Recorder event for converting the response of a Virtual Schema Adapter to JSON.
+ */
+@Category({ "Exasol", "Virtual Schema" })
+@StackTrace(false)
+@Name(ResponseSerializedEvent.NAME)
+@Label("Virtual Schema Response Serialized")
+@Description("Response of an adapter call converted to JSON")
+public final class ResponseSerializedEvent extends Event {
+    /**
+     * Name of the event type in recordings
+     */
+    public static final String NAME = "com.exasol.adapter.ResponseSerialized";
+
+    @Label("Adapter Name")
+    private String adapterName;
+
+    @Label("Request Type")
+    private String requestType;
+
+    @Label("Response Size")
+    @Description("Size of the UTF-8 encoded response")
+    @DataAmount
+    private long responseSize;
+
+    /**
+     * @param responseSize size of the UTF-8 encoded response in bytes
+     */
+    public void setResponseSize(final long responseSize) {
+        this.responseSize = responseSize;
+    }
+
+    /**
+     * Set adapter name and request type from a request
+     *
+     * @param request request the event belongs to
+     */
+    public void setRequest(final AdapterRequest request) {
+        this.adapterName = request.getAdapterName();
+        this.requestType = String.valueOf(request.getType());
+    }
+}
@@ -1,25 +1,36 @@
 package com.exasol.adapter.metadata;
 
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Represents an EXASOL data type.
+ * <p>
+ * Data types are immutable. The factory methods return shared instances, so that metadata of schemas with many columns
+ * does not hold a separate copy of the same type for each column.
  */
 public class DataType {
     public static final int MAX_EXASOL_CHAR_SIZE = 2000;
     public static final int MAX_EXASOL_VARCHAR_SIZE = 2000000;
     public static final int MAX_EXASOL_DECIMAL_PRECISION = 36;
-
-    private ExaDataType exaDataType;
-    private int precision;
-    private int scale;
-    private int size;
-    private ExaCharset charset;
-    private boolean withLocalTimezone;
-    private int geometrySrid;
-    private IntervalType intervalType;
-    private int intervalFraction;
-    private int byteSize;
+    private static final int MAX_CACHED_TYPES = 4096;
+    private static final Map<DataType, DataType> CACHE = new ConcurrentHashMap<>();
+    private static final DataType DOUBLE = new DataType(ExaDataType.DOUBLE);
+    private static final DataType DATE = new DataType(ExaDataType.DATE);
+    private static final DataType BOOL = new DataType(ExaDataType.BOOLEAN);
+    private static final DataType UNSUPPORTED = new DataType(ExaDataType.UNSUPPORTED);
+    private final ExaDataType exaDataType;
+    private final int precision;
+    private final int scale;
+    private final int size;
+    private final ExaCharset charset;
+    private final boolean withLocalTimezone;
+    private final int geometrySrid;
+    private final IntervalType intervalType;
+    private final int intervalFraction;
+    private final int byteSize;
+    private final int hashCode;
 
     public enum ExaDataType {
         UNSUPPORTED, DECIMAL, DOUBLE, VARCHAR, CHAR, DATE, TIMESTAMP, BOOLEAN, GEOMETRY, INTERVAL, HASHTYPE
@@ -33,8 +44,48 @@ public class DataType {
         DAY_TO_SECOND, YEAR_TO_MONTH
     }
 
-    private DataType() {
-        // prevent instantiation
+    private DataType(final ExaDataType exaDataType) {
+        this(exaDataType, 0, 0, 0, null, false, 0, null, 0, 0);
+    }
+
+    @SuppressWarnings("squid:S00107")
+    private DataType(final ExaDataType exaDataType, final int precision, final int scale, final int size,
+            final ExaCharset charset, final boolean withLocalTimezone, final int geometrySrid,
+            final IntervalType intervalType, final int intervalFraction, final int byteSize) {
+        this.exaDataType = exaDataType;
+        this.precision = precision;
+        this.scale = scale;
+        this.size = size;
+        this.charset = charset;
+        this.withLocalTimezone = withLocalTimezone;
+        this.geometrySrid = geometrySrid;
+        this.intervalType = intervalType;
+        this.intervalFraction = intervalFraction;
+        this.byteSize = byteSize;
+        this.hashCode = Objects.hash(this.exaDataType, this.precision, this.scale, this.size, this.charset,
+                this.withLocalTimezone, this.geometrySrid, this.intervalType, this.intervalFraction, this.byteSize);
+    }
+
+    /**
+     * Get the canonical instance of a data type.
+     * <p>
+     * Data types are immutable, so all columns of the same type can share one instance. The number of cached types is
+     * limited. Beyond that limit new types are returned as they are, which is why comparisons must still use
+     * {@link #equals(Object)}.
+     *
+     * @param type data type
+     * @return canonical instance equal to the given type
+     */
+    private static DataType intern(final DataType type) {
+        final DataType cached = CACHE.get(type);
+        if (cached != null) {
+            return cached;
+        } else if (CACHE.size() < MAX_CACHED_TYPES) {
+            final DataType previous = CACHE.putIfAbsent(type, type);
+            return (previous == null) ? type : previous;
+        } else {
+            return type;
+        }
     }
 
     /**
@@ -45,11 +96,7 @@ public class DataType {
      * @return <code>VARCHAR</code> type
      */
     public static DataType createVarChar(final int size, final ExaCharset charset) {
-        final DataType type = new DataType();
-        type.exaDataType = ExaDataType.VARCHAR;
-        type.size = size;
-        type.charset = charset;
-        return type;
+        return intern(new DataType(ExaDataType.VARCHAR, 0, 0, size, charset, false, 0, null, 0, 0));
     }
 
     /**
@@ -70,11 +117,7 @@ public class DataType {
      * @return <code>CHAR</code> type
      */
     public static DataType createChar(final int size, final ExaCharset charset) {
-        final DataType type = new DataType();
-        type.exaDataType = ExaDataType.CHAR;
-        type.size = size;
-        type.charset = charset;
-        return type;
+        return intern(new DataType(ExaDataType.CHAR, 0, 0, size, charset, false, 0, null, 0, 0));
     }
 
     /**
@@ -95,11 +138,7 @@ public class DataType {
      * @return <code>DECIMAL</code> data type
      */
     public static DataType createDecimal(final int precision, final int scale) {
-        final DataType type = new DataType();
-        type.exaDataType = ExaDataType.DECIMAL;
-        type.precision = precision;
-        type.scale = scale;
-        return type;
+        return intern(new DataType(ExaDataType.DECIMAL, precision, scale, 0, null, false, 0, null, 0, 0));
     }
 
     /**
@@ -108,9 +147,7 @@ public class DataType {
      * @return <code>DOUBLE</code> data type
      */
     public static DataType createDouble() {
-        final DataType type = new DataType();
-        type.exaDataType = ExaDataType.DOUBLE;
-        return type;
+        return DOUBLE;
     }
 
     /**
@@ -119,9 +156,7 @@ public class DataType {
      * @return <code>DATE</code> data type
      */
     public static DataType createDate() {
-        final DataType type = new DataType();
-        type.exaDataType = ExaDataType.DATE;
-        return type;
+        return DATE;
     }
 
     /**
@@ -130,9 +165,7 @@ public class DataType {
      * @return <code>UNSUPPORTED</code> data type
      */
     public static DataType createUnsupported() {
-        final DataType type = new DataType();
-        type.exaDataType = ExaDataType.UNSUPPORTED;
-        return type;
+        return UNSUPPORTED;
     }
 
     /**
@@ -143,10 +176,7 @@ public class DataType {
      * @return <code>TIMESTAMP</code> data type
      */
     public static DataType createTimestamp(final boolean withLocalTimezone) {
-        final DataType type = new DataType();
-        type.exaDataType = ExaDataType.TIMESTAMP;
-        type.withLocalTimezone = withLocalTimezone;
-        return type;
+        return intern(new DataType(ExaDataType.TIMESTAMP, 0, 0, 0, null, withLocalTimezone, 0, null, 0, 0));
     }
 
     /**
@@ -155,9 +185,7 @@ public class DataType {
      * @return <code>BOOL</code> data type
      */
     public static DataType createBool() {
-        final DataType type = new DataType();
-        type.exaDataType = ExaDataType.BOOLEAN;
-        return type;
+        return BOOL;
     }
 
     /**
@@ -169,10 +197,7 @@ public class DataType {
      *      Identifier (Wikipedia)</a>
      */
     public static DataType createGeometry(final int srid) {
-        final DataType type = new DataType();
-        type.exaDataType = ExaDataType.GEOMETRY;
-        type.geometrySrid = srid;
-        return type;
+        return intern(new DataType(ExaDataType.GEOMETRY, 0, 0, 0, null, false, srid, null, 0, 0));
     }
 
     /**
@@ -185,12 +210,8 @@ public class DataType {
      *      data type (Exasol documentation)</a>
      */
     public static DataType createIntervalDaySecond(final int precision, final int fraction) {
-        final DataType type = new DataType();
-        type.exaDataType = ExaDataType.INTERVAL;
-        type.intervalType = IntervalType.DAY_TO_SECOND;
-        type.precision = precision;
-        type.intervalFraction = fraction;
-        return type;
+        return intern(new DataType(ExaDataType.INTERVAL, precision, 0, 0, null, false, 0, IntervalType.DAY_TO_SECOND,
+                fraction, 0));
     }
 
     /**
@@ -202,11 +223,8 @@ public class DataType {
      *      data type (Exasol documentation)</a>
      */
     public static DataType createIntervalYearMonth(final int precision) {
-        final DataType type = new DataType();
-        type.exaDataType = ExaDataType.INTERVAL;
-        type.intervalType = IntervalType.YEAR_TO_MONTH;
-        type.precision = precision;
-        return type;
+        return intern(new DataType(ExaDataType.INTERVAL, precision, 0, 0, null, false, 0, IntervalType.YEAR_TO_MONTH,
+                0, 0));
     }
 
     /**
@@ -216,10 +234,7 @@ public class DataType {
      * @return <code>HASHTYPE</code> data type
      */
     public static DataType createHashtype(final int byteSize) {
-        final DataType type = new DataType();
-        type.exaDataType = ExaDataType.HASHTYPE;
-        type.byteSize = byteSize;
-        return type;
+        return intern(new DataType(ExaDataType.HASHTYPE, 0, 0, 0, null, false, 0, null, 0, byteSize));
     }
 
     /**
@@ -434,7 +449,8 @@ public class DataType {
             return false;
         }
         final DataType dataType = (DataType) o;
-        return (this.precision == dataType.precision) && (this.scale == dataType.scale) && (this.size == dataType.size)
+        return (this.hashCode == dataType.hashCode) && (this.precision == dataType.precision)
+                && (this.scale == dataType.scale) && (this.size == dataType.size)
                 && (this.withLocalTimezone == dataType.withLocalTimezone)
                 && (this.geometrySrid == dataType.geometrySrid) && (this.intervalFraction == dataType.intervalFraction)
                 && (this.exaDataType == dataType.exaDataType) && (this.charset == dataType.charset)
@@ -443,7 +459,6 @@ public class DataType {
 
     @Override
     public int hashCode() {
-        return Objects.hash(this.exaDataType, this.precision, this.scale, this.size, this.charset,
-                this.withLocalTimezone, this.geometrySrid, this.intervalType, this.intervalFraction, this.byteSize);
+        return this.hashCode;
     }
 }
\ No newline at end of file
@@ -1,12 +1,11 @@
 package com.exasol.adapter.metadata.converter;
 
-import java.util.Collections;
-
 import javax.json.*;
 
 import com.exasol.adapter.metadata.*;
 import com.exasol.adapter.metadata.DataType.*;
 import com.exasol.errorhandling.ErrorMessages;
+import com.exasol.utils.JsonFactories;
 
 /**
  * This class converts the schema metadata to its JSON representation.
@@ -23,7 +22,7 @@ public final class SchemaMetadataJsonConverter {
     private static final String IDENTITY_KEY = "isIdentity";
     private static final String DEFAULT_KEY = "default";
     private static final String DATA_TYPEKEY = "type";
-    private final JsonBuilderFactory factory = Json.createBuilderFactory(Collections.emptyMap());
+    private final JsonBuilderFactory factory = JsonFactories.getBuilderFactory();
 
     /**
      * Get the singleton instance of the {@link SchemaMetadataJsonConverter}
@@ -62,7 +61,7 @@ public final class SchemaMetadataJsonConverter {
         final JsonObjectBuilder tableBuilder = this.factory.createObjectBuilder();
         tableBuilder.add(TABLE_TYPE_KEY, "table");
         tableBuilder.add(TABLE_NAME_KEY, table.getName());
-        final JsonArrayBuilder columnsBuilder = Json.createArrayBuilder();
+        final JsonArrayBuilder columnsBuilder = this.factory.createArrayBuilder();
         for (final ColumnMetadata column : table.getColumns()) {
             columnsBuilder.add(convertColumnMetadata(column));
         }
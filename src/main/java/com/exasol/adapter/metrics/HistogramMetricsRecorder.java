@@ -0,0 +1,205 @@
+package com.exasol.adapter.metrics;
+
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.logging.Logger;
+
+import com.exasol.adapter.request.AdapterRequestType;
+
+/**
+ * {@link MetricsRecorder} that keeps a {@link LatencyHistogram} per adapter, request type and phase and periodically
+ * writes a summary to the log.
+ * <p>
+ * The summary is written by the thread that records the first phase after the summary interval elapsed, so the
+ * recorder does not need a thread of its own. The histograms accumulate all values since the recorder was created.
+ * <p>
+ * When the recorder is registered as service, set the summary interval with the system property
+ * <code>com.exasol.adapter.metrics.summaryInterval</code> as ISO-8601 duration, for example <code>PT30S</code>.
+ */
+public final class HistogramMetricsRecorder implements MetricsRecorder {
+    private static final Logger LOGGER = Logger.getLogger(HistogramMetricsRecorder.class.getName());
+    /** System property with the summary interval of recorders created with the default constructor */
+    public static final String SUMMARY_INTERVAL_PROPERTY = "com.exasol.adapter.metrics.summaryInterval";
+    private static final Duration DEFAULT_SUMMARY_INTERVAL = Duration.ofMinutes(1);
+    private static final int PHASE_COUNT = RequestPhase.values().length;
+    private static final int HISTOGRAMS_PER_ADAPTER = AdapterRequestType.values().length * PHASE_COUNT;
+    private final Map<String, AtomicReferenceArray<LatencyHistogram>> histograms = new ConcurrentHashMap<>();
+    private final long summaryIntervalNanos;
+    private final AtomicLong nextSummaryNanos;
+
+    /**
+     * Create a new instance of {@link HistogramMetricsRecorder} with the summary interval from the system property
+     * {@value #SUMMARY_INTERVAL_PROPERTY}, or one minute if the property is not set or invalid
+     * <p>
+     * This constructor allows registering the recorder as service.
+     */
+    public HistogramMetricsRecorder() {
+        this(builder().summaryInterval(getSummaryIntervalFromSystemProperty()));
+    }
+
+    private static Duration getSummaryIntervalFromSystemProperty() {
+        final String value = System.getProperty(SUMMARY_INTERVAL_PROPERTY);
+        if (value == null) {
+            return DEFAULT_SUMMARY_INTERVAL;
+        }
+        try {
+            final Duration interval = Duration.parse(value.trim());
+            if (!interval.isNegative()) {
+                return interval;
+            }
+        } catch (final DateTimeParseException exception) {
+            // reported below
+        }
+        LOGGER.warning(() -> "Ignoring invalid value '" + value + "' of system property " + SUMMARY_INTERVAL_PROPERTY
+                + ". Expected a non-negative ISO-8601 duration like PT30S. Using " + DEFAULT_SUMMARY_INTERVAL
+                + " instead.");
+        return DEFAULT_SUMMARY_INTERVAL;
+    }
+
+    private HistogramMetricsRecorder(final Builder builder) {
+        this.summaryIntervalNanos = builder.summaryInterval.toNanos();
+        this.nextSummaryNanos = new AtomicLong(System.nanoTime() + this.summaryIntervalNanos);
+    }
+
+    /**
+     * Create a builder for a {@link HistogramMetricsRecorder}
+     *
+     * @return new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Get the time between two summaries in the log
+     *
+     * @return summary interval, {@link Duration#ZERO} if summaries are disabled
+     */
+    public Duration getSummaryInterval() {
+        return Duration.ofNanos(this.summaryIntervalNanos);
+    }
+
+    @Override
+    public void recordPhase(final RequestPhase phase, final AdapterRequestType requestType, final String adapterName,
+            final long durationNanos) {
+        getHistogram(adapterName, requestType, phase).record(durationNanos);
+        if (isSummaryDue()) {
+            logSummary();
+        }
+    }
+
+    private boolean isSummaryDue() {
+        if (this.summaryIntervalNanos <= 0) {
+            return false;
+        }
+        final long now = System.nanoTime();
+        final long next = this.nextSummaryNanos.get();
+        return ((now - next) >= 0) && this.nextSummaryNanos.compareAndSet(next, now + this.summaryIntervalNanos);
+    }
+
+    /**
+     * Get the histogram for a phase of the calls of an adapter
+     * <p>
+     * If nothing was recorded for the combination yet, an empty histogram is created.
+     *
+     * @param adapterName name of the adapter
+     * @param requestType type of the request
+     * @param phase       phase of the call
+     * @return latency histogram
+     */
+    public LatencyHistogram getHistogram(final String adapterName, final AdapterRequestType requestType,
+            final RequestPhase phase) {
+        final AtomicReferenceArray<LatencyHistogram> adapterHistograms = this.histograms.computeIfAbsent(adapterName,
+                name -> new AtomicReferenceArray<>(HISTOGRAMS_PER_ADAPTER));
+        final int index = (requestType.ordinal() * PHASE_COUNT) + phase.ordinal();
+        final LatencyHistogram histogram = adapterHistograms.get(index);
+        if (histogram != null) {
+            return histogram;
+        }
+        adapterHistograms.compareAndSet(index, null, new LatencyHistogram());
+        return adapterHistograms.get(index);
+    }
+
+    /**
+     * Summarize the recorded latencies
+     *
+     * @return one line per adapter, request type and phase with recorded values
+     */
+    public String summarize() {
+        final StringBuilder builder = new StringBuilder("Latency of Virtual Schema Adapter calls:");
+        for (final String adapterName : new TreeSet<>(this.histograms.keySet())) {
+            final AtomicReferenceArray<LatencyHistogram> adapterHistograms = this.histograms.get(adapterName);
+            for (final AdapterRequestType requestType : AdapterRequestType.values()) {
+                for (final RequestPhase phase : RequestPhase.values()) {
+                    final LatencyHistogram histogram = adapterHistograms
+                            .get((requestType.ordinal() * PHASE_COUNT) + phase.ordinal());
+                    if ((histogram != null) && (histogram.getCount() > 0)) {
+                        appendSummaryLine(builder, adapterName, requestType, phase, histogram);
+                    }
+                }
+            }
+        }
+        return builder.toString();
+    }
+
+    private static void appendSummaryLine(final StringBuilder builder, final String adapterName,
+            final AdapterRequestType requestType, final RequestPhase phase, final LatencyHistogram histogram) {
+        builder.append("\n  ").append(adapterName).append(' ').append(requestType).append(' ').append(phase) //
+                .append(": count ").append(histogram.getCount()) //
+                .append(", mean ").append(formatMillis(histogram.getMeanNanos())) //
+                .append(", p50 ").append(formatMillis(histogram.getValueAtPercentile(50))) //
+                .append(", p90 ").append(formatMillis(histogram.getValueAtPercentile(90))) //
+                .append(", p99 ").append(formatMillis(histogram.getValueAtPercentile(99))) //
+                .append(", max ").append(formatMillis(histogram.getMaxNanos()));
+    }
+
+    private static String formatMillis(final long nanos) {
+        return String.format(Locale.ROOT, "%.3f ms", nanos / 1_000_000.0);
+    }
+
+    /**
+     * Write the summary of the recorded latencies to the log
+     */
+    public void logSummary() {
+        LOGGER.info(this::summarize);
+    }
+
+    /**
+     * Builder for a {@link HistogramMetricsRecorder}
+     */
+    public static class Builder {
+        private Duration summaryInterval = DEFAULT_SUMMARY_INTERVAL;
+
+        private Builder() {
+            // use HistogramMetricsRecorder.builder()
+        }
+
+        /**
+         * Set the time between two summaries in the log
+         *
+         * @param summaryInterval time between two summaries, {@link Duration#ZERO} to disable the summaries
+         * @return this builder for fluent programming
+         * @throws IllegalArgumentException if the interval is <code>null</code> or negative
+         */
+        public Builder summaryInterval(final Duration summaryInterval) {
+            if ((summaryInterval == null) || summaryInterval.isNegative()) {
+                throw new IllegalArgumentException("Summary interval must not be null or negative.");
+            }
+            this.summaryInterval = summaryInterval;
+            return this;
+        }
+
+        /**
+         * Build the recorder
+         *
+         * @return new recorder
+         */
+        public HistogramMetricsRecorder build() {
+            return new HistogramMetricsRecorder(this);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.exasol.adapter.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Latency histogram with logarithmic buckets in the style of an HDR histogram.
+ * <p>
+ * Values below {@value #LINEAR_LIMIT} nanoseconds are counted exactly. Above that each power of two is divided into
+ * {@value #SUB_BUCKETS} buckets, so that percentiles are reported with a relative error of at most about 3 %. Values
+ * above roughly 18 minutes are counted in the last bucket. The histogram has a fixed size of about 9 KiB independently
+ * of the number of recorded values.
+ * <p>
+ * Recording is thread-safe and does not lock. Queries read the buckets one by one, so values recorded concurrently
+ * may or may not be included.
+ */
+public final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int LINEAR_LIMIT = 2 * SUB_BUCKETS;
+    private static final int HIGHEST_BIT = 39;
+    private static final long HIGHEST_TRACKABLE_VALUE = (1L << (HIGHEST_BIT + 1)) - 1;
+    private static final int BUCKET_COUNT = bucketIndex(HIGHEST_TRACKABLE_VALUE) + 1;
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong totalCount = new AtomicLong();
+    private final AtomicLong totalNanos = new AtomicLong();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    /**
+     * Record a latency
+     *
+     * @param nanos latency in nanoseconds, negative values are counted as zero
+     */
+    public void record(final long nanos) {
+        final long value = Math.max(nanos, 0);
+        this.counts.incrementAndGet(bucketIndex(Math.min(value, HIGHEST_TRACKABLE_VALUE)));
+        this.totalCount.incrementAndGet();
+        this.totalNanos.addAndGet(value);
+        this.maxNanos.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * @return number of recorded values
+     */
+    public long getCount() {
+        return this.totalCount.get();
+    }
+
+    /**
+     * @return largest recorded value in nanoseconds, zero if the histogram is empty
+     */
+    public long getMaxNanos() {
+        return this.maxNanos.get();
+    }
+
+    /**
+     * @return average of the recorded values in nanoseconds, zero if the histogram is empty
+     */
+    public long getMeanNanos() {
+        final long count = this.totalCount.get();
+        return (count == 0) ? 0 : (this.totalNanos.get() / count);
+    }
+
+    /**
+     * Get the value below or at which the given percentage of the recorded values lies
+     *
+     * @param percentile percentile between 0 and 100
+     * @return upper bound of the bucket containing the percentile in nanoseconds, capped at the largest recorded value;
+     *         zero if the histogram is empty
+     * @throws IllegalArgumentException if the percentile is out of range
+     */
+    public long getValueAtPercentile(final double percentile) {
+        if (!((percentile >= 0) && (percentile <= 100))) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100, but was " + percentile + ".");
+        }
+        final long count = this.totalCount.get();
+        if (count == 0) {
+            return 0;
+        }
+        final long targetCount = Math.max(1, (long) Math.ceil((percentile / 100) * count));
+        long cumulativeCount = 0;
+        for (int index = 0; index < BUCKET_COUNT; ++index) {
+            cumulativeCount += this.counts.get(index);
+            if (cumulativeCount >= targetCount) {
+                return Math.min(highestValueInBucket(index), getMaxNanos());
+            }
+        }
+        return getMaxNanos();
+    }
+
+    static int bucketIndex(final long value) {
+        if (value < LINEAR_LIMIT) {
+            return (int) value;
+        }
+        final int highestBit = 63 - Long.numberOfLeadingZeros(value);
+        final int shift = highestBit - SUB_BUCKET_BITS;
+        return LINEAR_LIMIT + ((shift - 1) * SUB_BUCKETS) + (int) ((value >>> shift) - SUB_BUCKETS);
+    }
+
+    static long highestValueInBucket(final int index) {
+        if (index < LINEAR_LIMIT) {
+            return index;
+        }
+        final int shift = ((index - LINEAR_LIMIT) / SUB_BUCKETS) + 1;
+        final long subBucket = ((index - LINEAR_LIMIT) % SUB_BUCKETS) + SUB_BUCKETS;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,27 @@
+package com.exasol.adapter.metrics;
+
+import com.exasol.adapter.request.AdapterRequestType;
+
+/**
+ * Service provider interface for recording the latency of the phases of adapter calls.
+ * <p>
+ * Set a recorder with {@link com.exasol.adapter.RequestDispatcher#setMetricsRecorder(MetricsRecorder)} or register an
+ * implementation in <code>META-INF/services/com.exasol.adapter.metrics.MetricsRecorder</code>. Without a recorder the
+ * dispatcher does not take any time measurements.
+ * <p>
+ * Recorders are called concurrently from all threads that run adapter calls and must be thread-safe.
+ *
+ * @see HistogramMetricsRecorder
+ */
+public interface MetricsRecorder {
+    /**
+     * Record the duration of a phase of an adapter call
+     *
+     * @param phase         phase of the call
+     * @param requestType   type of the request
+     * @param adapterName   name of the adapter that handles the request
+     * @param durationNanos duration of the phase in nanoseconds
+     */
+    public void recordPhase(RequestPhase phase, AdapterRequestType requestType, String adapterName,
+            long durationNanos);
+}
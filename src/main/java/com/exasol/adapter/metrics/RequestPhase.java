@@ -0,0 +1,30 @@
+package com.exasol.adapter.metrics;
+
+/**
+ * Phases of an adapter call that the {@link com.exasol.adapter.RequestDispatcher} measures.
+ */
+public enum RequestPhase {
+    /**
+     * Parsing the JSON request.
+     * <p>
+     * This includes parsing the SQL statement and the involved tables of a push-down request, although that only
+     * happens when the adapter first reads them.
+     */
+    PARSE,
+
+    /**
+     * Configuring the logging according to the request properties and logging the request.
+     */
+    LOGGING_SETUP,
+
+    /**
+     * Handling the request in the Virtual Schema Adapter, without the time spent parsing parts of the request that were
+     * only parsed on first access.
+     */
+    ADAPTER,
+
+    /**
+     * Converting the response of the adapter to JSON.
+     */
+    SERIALIZATION
+}
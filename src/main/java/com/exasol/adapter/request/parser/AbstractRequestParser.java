@@ -3,7 +3,8 @@ package com.exasol.adapter.request.parser;
 import static com.exasol.adapter.request.parser.RequestParserConstants.PROPERTIES_KEY;
 
 import java.io.ByteArrayInputStream;
-import java.nio.charset.StandardCharsets;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
 import java.util.*;
 import java.util.Map.Entry;
 import java.util.logging.Logger;
@@ -11,25 +12,53 @@ import java.util.logging.Logger;
 import javax.json.*;
 import javax.json.JsonValue.ValueType;
 
+import com.exasol.utils.JsonFactories;
+
 /**
  * Abstract base class for parsers reading fragments of the Virtual Schema requests.
  */
 class AbstractRequestParser {
     private static final Logger LOGGER = Logger.getLogger(AbstractRequestParser.class.getName());
 
+    /**
+     * Create a JSON reader for raw request data.
+     *
+     * @param rawRequest raw JSON string representing an adapter request or part thereof
+     * @return JSON reader
+     */
+    protected JsonReader createJsonReader(final CharSequence rawRequest) {
+        if (rawRequest instanceof String) {
+            return JsonFactories.getReaderFactory().createReader(new StringReader((String) rawRequest));
+        } else {
+            return JsonFactories.getReaderFactory().createReader(new CharSequenceReader(rawRequest));
+        }
+    }
+
     /**
      * Create a JSON reader for raw request data.
      *
      * <p>
-     * The data stream fed into this reader must be UTF-8 encoded.
+     * The bytes fed into this reader must be UTF-8 encoded. The array is read in place, not copied.
      *
-     * @param rawRequest raw JSON string representing an adapter request or part thereof
+     * @param rawRequest UTF-8 encoded JSON representing an adapter request or part thereof
+     * @return JSON reader
+     */
+    protected JsonReader createJsonReader(final byte[] rawRequest) {
+        return JsonFactories.getReaderFactory().createReader(new ByteArrayInputStream(rawRequest));
+    }
+
+    /**
+     * Create a JSON reader for raw request data.
+     *
+     * <p>
+     * The bytes between position and limit of the buffer must be UTF-8 encoded. They are read in place, not copied,
+     * and the position of the buffer stays untouched.
+     *
+     * @param rawRequest buffer containing UTF-8 encoded JSON representing an adapter request or part thereof
      * @return JSON reader
      */
-    protected JsonReader createJsonReader(final String rawRequest) {
-        final ByteArrayInputStream rawRequestStream = new ByteArrayInputStream(
-                rawRequest.getBytes(StandardCharsets.UTF_8));
-        return Json.createReader(rawRequestStream);
+    protected JsonReader createJsonReader(final ByteBuffer rawRequest) {
+        return JsonFactories.getReaderFactory().createReader(new ByteBufferInputStream(rawRequest));
     }
 
     protected Map<String, String> parseProperties(final JsonObject jsonSchemaMedadataInfo) {
@@ -0,0 +1,329 @@
+package com.exasol.adapter.request.parser;
+
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.logging.Logger;
+
+import javax.json.stream.JsonGenerator;
+import javax.json.stream.JsonParser;
+import javax.json.stream.JsonParser.Event;
+
+import com.exasol.adapter.metadata.DataType;
+import com.exasol.adapter.metadata.DataType.ExaCharset;
+import com.exasol.adapter.metadata.DataType.IntervalType;
+import com.exasol.utils.JsonFactories;
+
+/**
+ * Abstract base class for parsers that read fragments of Virtual Schema requests directly from a stream of JSON parser
+ * events instead of from a JSON object tree.
+ */
+abstract class AbstractStreamingParser {
+    private static final Logger LOGGER = Logger.getLogger(AbstractStreamingParser.class.getName());
+    protected final JsonParser parser;
+
+    /**
+     * Create a new instance of a {@link AbstractStreamingParser}
+     *
+     * @param parser JSON parser that provides the events
+     */
+    protected AbstractStreamingParser(final JsonParser parser) {
+        this.parser = parser;
+    }
+
+    /**
+     * Get the next event from the JSON parser
+     *
+     * @return next event
+     * @throws RequestParserException if the JSON input ends prematurely
+     */
+    protected Event nextEvent() {
+        if (this.parser.hasNext()) {
+            return this.parser.next();
+        } else {
+            throw new RequestParserException("Unexpected end of JSON input while parsing an adapter request.");
+        }
+    }
+
+    /**
+     * Check that an event has the expected type
+     *
+     * @param actual   event read from the parser
+     * @param expected event that the parser should have delivered
+     * @throws RequestParserException if the events don't match
+     */
+    protected void expectEvent(final Event actual, final Event expected) {
+        if (actual != expected) {
+            throw new RequestParserException("Expected JSON parser event " + expected + " but got " + actual + " at "
+                    + this.parser.getLocation() + ".");
+        }
+    }
+
+    /**
+     * Skip the value that starts with the given event, including all nested values
+     *
+     * @param event first event of the value to be skipped
+     */
+    protected void skipValue(final Event event) {
+        if ((event == Event.START_OBJECT) || (event == Event.START_ARRAY)) {
+            int depth = 1;
+            while (depth > 0) {
+                final Event next = nextEvent();
+                if ((next == Event.START_OBJECT) || (next == Event.START_ARRAY)) {
+                    ++depth;
+                } else if ((next == Event.END_OBJECT) || (next == Event.END_ARRAY)) {
+                    --depth;
+                }
+            }
+        }
+    }
+
+    /**
+     * Read a scalar JSON value
+     *
+     * @param event event with which the value starts
+     * @return {@link String} for JSON strings, {@link BigDecimal} for numbers, {@link Boolean} for
+     *         <code>true</code> and <code>false</code> and <code>null</code> for JSON <code>null</code>
+     * @throws RequestParserException if the value is not a scalar
+     */
+    protected Object readScalar(final Event event) {
+        switch (event) {
+        case VALUE_STRING:
+            return this.parser.getString();
+        case VALUE_NUMBER:
+            return this.parser.getBigDecimal();
+        case VALUE_TRUE:
+            return Boolean.TRUE;
+        case VALUE_FALSE:
+            return Boolean.FALSE;
+        case VALUE_NULL:
+            return null;
+        default:
+            throw new RequestParserException(
+                    "Expected a scalar JSON value but got " + event + " at " + this.parser.getLocation() + ".");
+        }
+    }
+
+    /**
+     * Read a JSON object that only contains scalar values into a set of fields
+     * <p>
+     * Nested objects and arrays are skipped.
+     *
+     * @return fields read from the object
+     */
+    protected StreamingFields readScalarFields() {
+        final StreamingFields fields = new StreamingFields();
+        Event event = nextEvent();
+        while (event != Event.END_OBJECT) {
+            final String key = this.parser.getString();
+            final Event valueEvent = nextEvent();
+            if ((valueEvent == Event.START_OBJECT) || (valueEvent == Event.START_ARRAY)) {
+                skipValue(valueEvent);
+            } else {
+                fields.put(key, readScalar(valueEvent));
+            }
+            event = nextEvent();
+        }
+        return fields;
+    }
+
+    /**
+     * Read a data type description
+     * <p>
+     * The parser must be positioned right after the start of the JSON object describing the data type.
+     *
+     * @return data type
+     */
+    protected DataType readDataType() {
+        final StreamingFields dataType = readScalarFields();
+        final String typeName = dataType.getString("type").toUpperCase();
+        switch (typeName) {
+        case "DECIMAL":
+            return DataType.createDecimal(dataType.getInt("precision"), dataType.getInt("scale"));
+        case "DOUBLE":
+            return DataType.createDouble();
+        case "VARCHAR":
+            return DataType.createVarChar(dataType.getInt("size"),
+                    charSetFromString(dataType.getString("characterSet", "UTF8")));
+        case "CHAR":
+            return DataType.createChar(dataType.getInt("size"),
+                    charSetFromString(dataType.getString("characterSet", "UTF8")));
+        case "BOOLEAN":
+            return DataType.createBool();
+        case "DATE":
+            return DataType.createDate();
+        case "TIMESTAMP":
+            return DataType.createTimestamp(dataType.getBoolean("withLocalTimeZone", false));
+        case "INTERVAL":
+            return createInterval(dataType);
+        case "GEOMETRY":
+            return DataType.createGeometry(dataType.getInt("srid"));
+        case "HASHTYPE":
+            return DataType.createHashtype(dataType.getInt("bytesize"));
+        default:
+            throw new RequestParserException("Unsupported data type encountered: " + typeName);
+        }
+    }
+
+    private static DataType createInterval(final StreamingFields dataType) {
+        final int precision = dataType.getInt("precision", 2);
+        final String intervalTypeName = dataType.getString("fromTo");
+        final IntervalType intervalType = EnumLookup.INTERVAL_TYPES.find(intervalTypeName);
+        if (intervalType == IntervalType.DAY_TO_SECOND) {
+            return DataType.createIntervalDaySecond(precision, dataType.getInt("fraction", 3));
+        } else if (intervalType == IntervalType.YEAR_TO_MONTH) {
+            return DataType.createIntervalYearMonth(precision);
+        } else {
+            throw new RequestParserException("Unsupported interval data type encountered: " + intervalTypeName);
+        }
+    }
+
+    private static ExaCharset charSetFromString(final String charset) {
+        final ExaCharset exaCharset = EnumLookup.CHARSETS.find(charset);
+        if (exaCharset == null) {
+            throw new RequestParserException("Unsupported charset encountered: " + charset);
+        }
+        return exaCharset;
+    }
+
+    /**
+     * Read a JSON array of strings
+     *
+     * @return list of strings
+     */
+    protected List<String> readStringList() {
+        final List<String> values = new ArrayList<>();
+        Event event = nextEvent();
+        while (event != Event.END_ARRAY) {
+            expectEvent(event, Event.VALUE_STRING);
+            values.add(this.parser.getString());
+            event = nextEvent();
+        }
+        return values;
+    }
+
+    /**
+     * Read the adapter properties from a JSON object
+     *
+     * @return properties
+     */
+    protected Map<String, String> readProperties() {
+        final Map<String, String> properties = new HashMap<>();
+        Event event = nextEvent();
+        while (event != Event.END_OBJECT) {
+            final String key = this.parser.getString();
+            final Event valueEvent = nextEvent();
+            final String value = readPropertyValue(valueEvent);
+            LOGGER.finer(() -> "Parsed property: \"" + key + "\" = \"" + value + "\"");
+            properties.put(key, value);
+            event = nextEvent();
+        }
+        return properties;
+    }
+
+    private String readPropertyValue(final Event event) {
+        switch (event) {
+        case VALUE_STRING:
+            return this.parser.getString();
+        case VALUE_NUMBER:
+            return this.parser.getBigDecimal().toString();
+        case VALUE_TRUE:
+            return "true";
+        case VALUE_FALSE:
+            return "false";
+        case VALUE_NULL:
+            return null;
+        default:
+            throw new IllegalArgumentException("Unable to parse adapter property value of type \"" + event
+                    + "\". Supported types are strings, booleans, numbers and NULL.");
+        }
+    }
+
+    /**
+     * Read a JSON value and render it as compact JSON text
+     * <p>
+     * The result is the same as calling <code>toString()</code> on the corresponding {@link javax.json.JsonValue}.
+     * Callers are expected to handle JSON strings themselves, since those are usually taken verbatim.
+     *
+     * @param event event with which the value starts
+     * @return JSON text
+     */
+    protected String readValueAsJsonText(final Event event) {
+        switch (event) {
+        case START_OBJECT: // falling through intentionally
+        case START_ARRAY:
+            final StringWriter writer = new StringWriter();
+            try (final JsonGenerator generator = JsonFactories.getGeneratorFactory().createGenerator(writer)) {
+                copyStructure(event, null, generator);
+            }
+            return writer.toString();
+        case VALUE_NUMBER:
+            return this.parser.getBigDecimal().toString();
+        case VALUE_TRUE:
+            return "true";
+        case VALUE_FALSE:
+            return "false";
+        default:
+            return "null";
+        }
+    }
+
+    private void copyStructure(final Event event, final String key, final JsonGenerator generator) {
+        switch (event) {
+        case START_OBJECT:
+            if (key == null) {
+                generator.writeStartObject();
+            } else {
+                generator.writeStartObject(key);
+            }
+            Event objectEvent = nextEvent();
+            while (objectEvent != Event.END_OBJECT) {
+                final String childKey = this.parser.getString();
+                copyStructure(nextEvent(), childKey, generator);
+                objectEvent = nextEvent();
+            }
+            generator.writeEnd();
+            break;
+        case START_ARRAY:
+            if (key == null) {
+                generator.writeStartArray();
+            } else {
+                generator.writeStartArray(key);
+            }
+            Event arrayEvent = nextEvent();
+            while (arrayEvent != Event.END_ARRAY) {
+                copyStructure(arrayEvent, null, generator);
+                arrayEvent = nextEvent();
+            }
+            generator.writeEnd();
+            break;
+        default:
+            copyScalar(event, key, generator);
+        }
+    }
+
+    private void copyScalar(final Event event, final String key, final JsonGenerator generator) {
+        final Object value = readScalar(event);
+        if (key == null) {
+            if (value == null) {
+                generator.writeNull();
+            } else if (value instanceof String) {
+                generator.write((String) value);
+            } else if (value instanceof Boolean) {
+                generator.write((Boolean) value);
+            } else {
+                generator.write((BigDecimal) value);
+            }
+        } else {
+            if (value == null) {
+                generator.writeNull(key);
+            } else if (value instanceof String) {
+                generator.write(key, (String) value);
+            } else if (value instanceof Boolean) {
+                generator.write(key, (Boolean) value);
+            } else {
+                generator.write(key, (BigDecimal) value);
+            }
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.exasol.adapter.request.parser;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * {@link InputStream} that reads the remaining bytes of a {@link ByteBuffer} without copying them.
+ * <p>
+ * The stream works on a view of the buffer, so the position of the original buffer is not changed.
+ */
+final class ByteBufferInputStream extends InputStream {
+    private final ByteBuffer buffer;
+
+    /**
+     * Create a new instance of a {@link ByteBufferInputStream}
+     *
+     * @param buffer buffer to be read from its current position up to its limit
+     */
+    ByteBufferInputStream(final ByteBuffer buffer) {
+        this.buffer = buffer.duplicate();
+    }
+
+    @Override
+    public int read() {
+        return this.buffer.hasRemaining() ? (this.buffer.get() & 0xFF) : -1;
+    }
+
+    @Override
+    public int read(final byte[] target, final int offset, final int length) {
+        if (length == 0) {
+            return 0;
+        } else if (!this.buffer.hasRemaining()) {
+            return -1;
+        } else {
+            final int count = Math.min(length, this.buffer.remaining());
+            this.buffer.get(target, offset, count);
+            return count;
+        }
+    }
+
+    @Override
+    public long skip(final long count) {
+        final int skipped = (int) Math.max(0, Math.min(count, this.buffer.remaining()));
+        this.buffer.position(this.buffer.position() + skipped);
+        return skipped;
+    }
+
+    @Override
+    public int available() {
+        return this.buffer.remaining();
+    }
+}
@@ -0,0 +1,58 @@
+package com.exasol.adapter.request.parser;
+
+import java.io.Reader;
+
+/**
+ * {@link Reader} that reads directly from a {@link CharSequence} without copying it into a {@link String} first.
+ */
+final class CharSequenceReader extends Reader {
+    private final CharSequence source;
+    private int position = 0;
+
+    /**
+     * Create a new instance of a {@link CharSequenceReader}
+     *
+     * @param source character sequence to be read
+     */
+    CharSequenceReader(final CharSequence source) {
+        this.source = source;
+    }
+
+    @Override
+    public int read() {
+        return (this.position < this.source.length()) ? this.source.charAt(this.position++) : -1;
+    }
+
+    @Override
+    public int read(final char[] buffer, final int offset, final int length) {
+        final int remaining = this.source.length() - this.position;
+        if (length == 0) {
+            return 0;
+        } else if (remaining <= 0) {
+            return -1;
+        } else {
+            final int count = Math.min(length, remaining);
+            for (int i = 0; i < count; ++i) {
+                buffer[offset + i] = this.source.charAt(this.position++);
+            }
+            return count;
+        }
+    }
+
+    @Override
+    public long skip(final long count) {
+        final int skipped = (int) Math.max(0, Math.min(count, (long) this.source.length() - this.position));
+        this.position += skipped;
+        return skipped;
+    }
+
+    @Override
+    public boolean ready() {
+        return true;
+    }
+
+    @Override
+    public void close() {
+        // nothing to release
+    }
+}
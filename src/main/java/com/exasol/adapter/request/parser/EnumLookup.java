@@ -0,0 +1,124 @@
+package com.exasol.adapter.request.parser;
+
+import java.util.*;
+
+import com.exasol.adapter.metadata.DataType.ExaCharset;
+import com.exasol.adapter.metadata.DataType.IntervalType;
+import com.exasol.adapter.sql.*;
+
+/**
+ * Precomputed mapping from the names used in the JSON requests to enum constants.
+ * <p>
+ * The lookup first tries the exact spelling. The table contains the constant names, their lower-case variants and any
+ * additional aliases, so the names the database sends are found with a single hash lookup that does not allocate. Only
+ * if that fails, the lookup falls back to a case-insensitive comparison against all known names.
+ * <p>
+ * Unlike <code>Enum.valueOf(name.toUpperCase())</code> this neither creates a new string for each lookup nor uses an
+ * exception to signal an unknown name.
+ *
+ * @param <E> enum type
+ */
+final class EnumLookup<E extends Enum<E>> {
+    static final EnumLookup<SqlNodeType> SQL_NODE_TYPES = forConstantNames(SqlNodeType.class);
+    static final EnumLookup<ScalarFunction> SCALAR_FUNCTIONS = forConstantNames(ScalarFunction.class);
+    static final EnumLookup<AggregateFunction> AGGREGATE_FUNCTIONS = forConstantNames(AggregateFunction.class);
+    static final EnumLookup<JoinType> JOIN_TYPES = forConstantNames(JoinType.class);
+    static final EnumLookup<ExaCharset> CHARSETS = forConstantNames(ExaCharset.class);
+    static final EnumLookup<IntervalType> INTERVAL_TYPES = forAliasesOnly(IntervalType.class) //
+            .withAlias("DAY TO SECONDS", IntervalType.DAY_TO_SECOND) //
+            .withAlias("YEAR TO MONTH", IntervalType.YEAR_TO_MONTH);
+
+    private final Class<E> enumClass;
+    private final Map<String, E> exactNames = new HashMap<>();
+    private final List<String> names = new ArrayList<>();
+    private final List<E> constants = new ArrayList<>();
+
+    private EnumLookup(final Class<E> enumClass) {
+        this.enumClass = enumClass;
+    }
+
+    /**
+     * Create a lookup table that knows all constants of an enum by their names
+     *
+     * @param <E>       enum type
+     * @param enumClass enum type
+     * @return new lookup table
+     */
+    static <E extends Enum<E>> EnumLookup<E> forConstantNames(final Class<E> enumClass) {
+        final EnumLookup<E> lookup = new EnumLookup<>(enumClass);
+        for (final E constant : enumClass.getEnumConstants()) {
+            lookup.register(constant.name(), constant);
+            lookup.register(constant.name().toLowerCase(Locale.ROOT), constant);
+        }
+        return lookup;
+    }
+
+    /**
+     * Create an empty lookup table for enums whose names in the request differ from the constant names
+     *
+     * @param <E>       enum type
+     * @param enumClass enum type
+     * @return new lookup table to be filled with {@link #withAlias(String, Enum)}
+     */
+    static <E extends Enum<E>> EnumLookup<E> forAliasesOnly(final Class<E> enumClass) {
+        return new EnumLookup<>(enumClass);
+    }
+
+    /**
+     * Add an additional name for a constant
+     *
+     * @param alias    additional name
+     * @param constant constant the name maps to
+     * @return this instance for fluent programming
+     */
+    EnumLookup<E> withAlias(final String alias, final E constant) {
+        register(alias, constant);
+        return this;
+    }
+
+    private void register(final String name, final E constant) {
+        if (this.exactNames.putIfAbsent(name, constant) == null) {
+            this.names.add(name);
+            this.constants.add(constant);
+        }
+    }
+
+    /**
+     * Find the constant for a name
+     *
+     * @param name name as used in the request
+     * @return constant or <code>null</code> if the name is unknown
+     */
+    E find(final String name) {
+        if (name == null) {
+            return null;
+        }
+        final E constant = this.exactNames.get(name);
+        return (constant == null) ? findIgnoringCase(name) : constant;
+    }
+
+    private E findIgnoringCase(final String name) {
+        for (int i = 0; i < this.names.size(); ++i) {
+            if (this.names.get(i).equalsIgnoreCase(name)) {
+                return this.constants.get(i);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Get the constant for a name
+     *
+     * @param name name as used in the request
+     * @return constant
+     * @throws IllegalArgumentException if the name is unknown
+     */
+    E get(final String name) {
+        final E constant = find(name);
+        if (constant == null) {
+            throw new IllegalArgumentException(
+                    "Unknown name \"" + name + "\" for enum type " + this.enumClass.getSimpleName() + ".");
+        }
+        return constant;
+    }
+}
@@ -0,0 +1,100 @@
+package com.exasol.adapter.request.parser;
+
+import java.util.*;
+
+import com.exasol.adapter.metadata.ColumnMetadata;
+import com.exasol.adapter.metadata.TableMetadata;
+
+/**
+ * Index over the metadata of the tables involved in a push-down request.
+ * <p>
+ * The index is built once per request and resolves table and column references in constant time instead of scanning
+ * the table and column lists for every column that appears in the push-down statement. Tables are keyed by name.
+ * Columns are first looked up by their position (<code>columnNr</code>) and then by name in case the position does not
+ * match.
+ * <p>
+ * If table names are ambiguous, the first table with that name wins, same as with a linear search.
+ */
+final class InvolvedTablesIndex {
+    private final List<TableMetadata> involvedTablesMetadata;
+    private final Map<String, TableMetadata> tables;
+    private final Map<String, Map<String, ColumnMetadata>> columnsByTable = new HashMap<>();
+
+    /**
+     * Create a new instance of an {@link InvolvedTablesIndex}
+     *
+     * @param involvedTablesMetadata metadata for all tables that are referred to in the push-down request
+     */
+    InvolvedTablesIndex(final List<TableMetadata> involvedTablesMetadata) {
+        this.involvedTablesMetadata = involvedTablesMetadata;
+        this.tables = new HashMap<>(involvedTablesMetadata.size() * 2);
+        for (final TableMetadata tableMetadata : involvedTablesMetadata) {
+            this.tables.putIfAbsent(tableMetadata.getName(), tableMetadata);
+        }
+    }
+
+    /**
+     * Find the metadata of an involved table
+     *
+     * @param tableName name of the table
+     * @return table metadata
+     * @throws IllegalStateException if the table is not one of the involved tables
+     */
+    TableMetadata findTableMetadata(final String tableName) {
+        final TableMetadata tableMetadata = this.tables.get(tableName);
+        if (tableMetadata == null) {
+            throw new IllegalStateException("Could not find table metadata for involved table " + tableName
+                    + ". All involved tables: " + this.involvedTablesMetadata.toString());
+        }
+        return tableMetadata;
+    }
+
+    /**
+     * Find the metadata of a column in one of the involved tables
+     *
+     * @param tableName  name of the table the column belongs to
+     * @param columnName name of the column
+     * @return column metadata
+     * @throws IllegalStateException if the table or column does not exist
+     */
+    ColumnMetadata findColumnMetadata(final String tableName, final String columnName) {
+        final ColumnMetadata columnMetadata = getColumnsByName(tableName).get(columnName);
+        if (columnMetadata == null) {
+            throw new IllegalStateException("Could not find column metadata for involved table " + tableName
+                    + " and column + " + columnName + ". All involved tables: "
+                    + this.involvedTablesMetadata.toString());
+        }
+        return columnMetadata;
+    }
+
+    /**
+     * Find the metadata of a column, using the column position as a shortcut
+     *
+     * @param tableName  name of the table the column belongs to
+     * @param columnNr   position of the column in the table as given in the push-down request
+     * @param columnName name of the column
+     * @return column metadata
+     * @throws IllegalStateException if the table or column does not exist
+     */
+    ColumnMetadata findColumnMetadata(final String tableName, final int columnNr, final String columnName) {
+        final List<ColumnMetadata> columns = findTableMetadata(tableName).getColumns();
+        if ((columns instanceof RandomAccess) && (columnNr >= 0) && (columnNr < columns.size())) {
+            final ColumnMetadata candidate = columns.get(columnNr);
+            if (candidate.getName().equals(columnName)) {
+                return candidate;
+            }
+        }
+        return findColumnMetadata(tableName, columnName);
+    }
+
+    private Map<String, ColumnMetadata> getColumnsByName(final String tableName) {
+        return this.columnsByTable.computeIfAbsent(tableName, name -> {
+            final List<ColumnMetadata> columns = findTableMetadata(name).getColumns();
+            final Map<String, ColumnMetadata> columnsByName = new HashMap<>(columns.size() * 2);
+            for (final ColumnMetadata columnMetadata : columns) {
+                columnsByName.putIfAbsent(columnMetadata.getName(), columnMetadata);
+            }
+            return columnsByName;
+        });
+    }
+}
@@ -0,0 +1,91 @@
+package com.exasol.adapter.request.parser;
+
+import java.util.List;
+
+import javax.json.JsonArray;
+import javax.json.JsonObject;
+
+import com.exasol.adapter.metadata.SchemaMetadataInfo;
+import com.exasol.adapter.metadata.TableMetadata;
+import com.exasol.adapter.request.PushDownRequest;
+import com.exasol.adapter.sql.SqlStatement;
+
+/**
+ * {@link PushDownRequest} that keeps the JSON sections of the request and parses them on first access.
+ * <p>
+ * Each section is parsed at most once. The statement parser uses the same table metadata that this request returns, so
+ * the involved tables are only parsed once, no matter whether an adapter reads the statement, the metadata or both.
+ * The time spent in these deferred parses is summed up, so that it can be reported as parse time.
+ */
+final class LazyPushDownRequest extends PushDownRequest {
+    private final JsonObject jsonStatement;
+    private final JsonArray jsonInvolvedTables;
+    private SqlStatement select = null;
+    private List<TableMetadata> involvedTablesMetadata = null;
+    private long deferredParseNanos = 0;
+
+    /**
+     * Create a new instance of a {@link LazyPushDownRequest}
+     *
+     * @param adapterName        name of the adapter that should handle the request
+     * @param schemaMetadataInfo schema metadata
+     * @param jsonStatement      JSON representation of the statement to be pushed down
+     * @param jsonInvolvedTables JSON representation of the tables involved in the push-down request
+     */
+    LazyPushDownRequest(final String adapterName, final SchemaMetadataInfo schemaMetadataInfo,
+            final JsonObject jsonStatement, final JsonArray jsonInvolvedTables) {
+        super(adapterName, schemaMetadataInfo, null, null);
+        this.jsonStatement = jsonStatement;
+        this.jsonInvolvedTables = jsonInvolvedTables;
+    }
+
+    @Override
+    public synchronized SqlStatement getSelect() {
+        if (this.select == null) {
+            final List<TableMetadata> tablesMetadata = getInvolvedTablesMetadata();
+            final long start = System.nanoTime();
+            final PushdownSqlParser pushdownSqlParser = PushdownSqlParser
+                    .createIterativeWithTablesMetadata(tablesMetadata);
+            this.select = (SqlStatement) pushdownSqlParser.parseExpression(this.jsonStatement);
+            this.deferredParseNanos += System.nanoTime() - start;
+        }
+        return this.select;
+    }
+
+    @Override
+    public synchronized List<TableMetadata> getInvolvedTablesMetadata() {
+        if (this.involvedTablesMetadata == null) {
+            final long start = System.nanoTime();
+            this.involvedTablesMetadata = TablesMetadataParser.create().parse(this.jsonInvolvedTables);
+            this.deferredParseNanos += System.nanoTime() - start;
+        }
+        return this.involvedTablesMetadata;
+    }
+
+    /**
+     * Get the time spent parsing the statement and the involved tables on first access
+     *
+     * @return sum of the deferred parse times in nanoseconds
+     */
+    synchronized long getDeferredParseNanos() {
+        return this.deferredParseNanos;
+    }
+
+    /**
+     * Get the JSON representation of the statement to be pushed down
+     *
+     * @return JSON statement
+     */
+    JsonObject getJsonStatement() {
+        return this.jsonStatement;
+    }
+
+    /**
+     * Get the JSON representation of the tables involved in the push-down request
+     *
+     * @return JSON table metadata
+     */
+    JsonArray getJsonInvolvedTables() {
+        return this.jsonInvolvedTables;
+    }
+}
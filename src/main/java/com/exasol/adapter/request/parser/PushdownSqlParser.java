@@ -9,9 +9,11 @@ import com.exasol.adapter.sql.*;
 
 import javax.json.JsonArray;
 import javax.json.JsonObject;
+import javax.json.JsonString;
+import javax.json.JsonValue;
+import javax.json.JsonValue.ValueType;
 import java.math.BigDecimal;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
 
 public final class PushdownSqlParser extends AbstractRequestParser {
     private static final String ORDER_BY = "orderBy";
@@ -21,14 +23,112 @@ public final class PushdownSqlParser extends AbstractRequestParser {
     private static final String ARGUMENTS = "arguments";
     private static final String DISTINCT = "distinct";
     private static final String DATA_TYPE = "dataType";
+    private static final String[] CHILD_EXPRESSION_KEYS = { "from", "filter", "having", EXPRESSION, "left", RIGHT,
+            "condition", "pattern", "escapeChar", "basis" };
+    private static final String[] CHILD_EXPRESSION_LIST_KEYS = { "selectList", "groupBy", "expressions", ARGUMENTS,
+            "results" };
 
-    private final List<TableMetadata> involvedTablesMetadata;
+    private final InvolvedTablesIndex involvedTables;
+    private final boolean iterative;
+    private Map<JsonObject, SqlNode> parsedExpressions = null;
 
-    private PushdownSqlParser(final List<TableMetadata> involvedTablesMetadata) {
-        this.involvedTablesMetadata = involvedTablesMetadata;
+    private PushdownSqlParser(final List<TableMetadata> involvedTablesMetadata, final boolean iterative) {
+        this.involvedTables = new InvolvedTablesIndex(involvedTablesMetadata);
+        this.iterative = iterative;
     }
 
     public SqlNode parseExpression(final JsonObject expression) {
+        if (this.parsedExpressions != null) {
+            final SqlNode parsedExpression = this.parsedExpressions.remove(expression);
+            return (parsedExpression == null) ? parseSingleExpression(expression) : parsedExpression;
+        } else if (this.iterative) {
+            return parseExpressionIteratively(expression);
+        } else {
+            return parseSingleExpression(expression);
+        }
+    }
+
+    /**
+     * Parse an expression tree bottom-up without recursion.
+     * <p>
+     * First all nested expressions are collected with an explicit stack so that each expression comes after all of its
+     * children. Then the expressions are parsed in that order. When the parser for an expression asks for one of its
+     * children, the child was already parsed and is taken from the cache, so the call stack never grows deeper than one
+     * level of nesting.
+     */
+    private SqlNode parseExpressionIteratively(final JsonObject root) {
+        this.parsedExpressions = new IdentityHashMap<>();
+        try {
+            for (final JsonObject expression : collectExpressionsChildrenFirst(root)) {
+                this.parsedExpressions.put(expression, parseSingleExpression(expression));
+            }
+            return this.parsedExpressions.remove(root);
+        } finally {
+            this.parsedExpressions = null;
+        }
+    }
+
+    private static List<JsonObject> collectExpressionsChildrenFirst(final JsonObject root) {
+        final List<JsonObject> expressions = new ArrayList<>();
+        final Deque<JsonObject> stack = new ArrayDeque<>();
+        stack.push(root);
+        while (!stack.isEmpty()) {
+            final JsonObject expression = stack.pop();
+            expressions.add(expression);
+            pushChildExpressions(expression, stack);
+        }
+        Collections.reverse(expressions);
+        return expressions;
+    }
+
+    private static void pushChildExpressions(final JsonObject expression, final Deque<JsonObject> stack) {
+        for (final String key : CHILD_EXPRESSION_KEYS) {
+            pushIfObject(expression.get(key), stack);
+        }
+        final boolean isInConstList = hasType(expression, SqlNodeType.PREDICATE_IN_CONSTLIST);
+        for (final String key : CHILD_EXPRESSION_LIST_KEYS) {
+            final JsonValue value = expression.get(key);
+            if ((value != null) && (value.getValueType() == ValueType.ARRAY)) {
+                for (final JsonValue element : (JsonArray) value) {
+                    if (!isInConstList || !isCompactLiteral(element)) {
+                        pushIfObject(element, stack);
+                    }
+                }
+            }
+        }
+        final JsonValue orderBy = expression.get(ORDER_BY);
+        if ((orderBy != null) && (orderBy.getValueType() == ValueType.ARRAY)) {
+            for (final JsonValue element : (JsonArray) orderBy) {
+                if (element.getValueType() == ValueType.OBJECT) {
+                    pushIfObject(((JsonObject) element).get(EXPRESSION), stack);
+                }
+            }
+        }
+    }
+
+    private static boolean isCompactLiteral(final JsonValue value) {
+        if (value.getValueType() != ValueType.OBJECT) {
+            return false;
+        }
+        final JsonObject expression = (JsonObject) value;
+        return hasType(expression, SqlNodeType.LITERAL_EXACTNUMERIC) || hasType(expression, SqlNodeType.LITERAL_DOUBLE)
+                || hasType(expression, SqlNodeType.LITERAL_STRING);
+    }
+
+    // Leaves reporting a missing or unknown type to the parser of the expression.
+    private static boolean hasType(final JsonObject expression, final SqlNodeType type) {
+        final JsonValue typeName = expression.get("type");
+        return (typeName != null) && (typeName.getValueType() == ValueType.STRING)
+                && type.name().equalsIgnoreCase(((JsonString) typeName).getString());
+    }
+
+    private static void pushIfObject(final JsonValue value, final Deque<JsonObject> stack) {
+        if ((value != null) && (value.getValueType() == ValueType.OBJECT)) {
+            stack.push((JsonObject) value);
+        }
+    }
+
+    private SqlNode parseSingleExpression(final JsonObject expression) {
         final String typeName = expression.getString("type", "");
         final SqlNodeType type = fromTypeName(typeName);
         switch (type) {
@@ -131,7 +231,7 @@ public final class PushdownSqlParser extends AbstractRequestParser {
 
     private SqlNode parseTable(final JsonObject exp) {
         final String tableName = exp.getString("name");
-        final TableMetadata tableMetadata = findInvolvedTableMetadata(tableName);
+        final TableMetadata tableMetadata = this.involvedTables.findTableMetadata(tableName);
         if (exp.containsKey("alias")) {
             final String tableAlias = exp.getString("alias");
             return new SqlTable(tableName, tableAlias, tableMetadata);
@@ -152,7 +252,7 @@ public final class PushdownSqlParser extends AbstractRequestParser {
         final int columnId = exp.getInt("columnNr");
         final String columnName = exp.getString("name");
         final String tableName = exp.getString("tableName");
-        final ColumnMetadata columnMetadata = findColumnMetadata(tableName, columnName);
+        final ColumnMetadata columnMetadata = this.involvedTables.findColumnMetadata(tableName, columnId, columnName);
         if (exp.containsKey("tableAlias")) {
             final String tableAlias = exp.getString("tableAlias");
             return new SqlColumn(columnId, columnMetadata, tableName, tableAlias);
@@ -368,25 +468,21 @@ public final class PushdownSqlParser extends AbstractRequestParser {
     }
 
     private static ExaCharset charSetFromString(final String charset) {
-        if (charset.equals("UTF8")) {
-            return ExaCharset.UTF8;
-        } else if (charset.equals("ASCII")) {
-            return ExaCharset.ASCII;
-        } else {
+        final ExaCharset exaCharset = EnumLookup.CHARSETS.find(charset);
+        if (exaCharset == null) {
             throw new IllegalArgumentException(
                     "Unsupported charset encountered: " + charset + ". Supported charsets are \"UTF8\" and \"ASCII\".");
         }
+        return exaCharset;
     }
 
     private static IntervalType intervalTypeFromString(final String intervalType) {
-        if (intervalType.equals("DAY TO SECONDS")) {
-            return IntervalType.DAY_TO_SECOND;
-        } else if (intervalType.equals("YEAR TO MONTH")) {
-            return IntervalType.YEAR_TO_MONTH;
-        } else {
+        final IntervalType type = EnumLookup.INTERVAL_TYPES.find(intervalType);
+        if (type == null) {
             throw new IllegalArgumentException("Unsupported interval data type encountered: " + intervalType //
                     + " Supported intervals are \"DAY TO SECONDS\" and \"YEAR TO MONTH\".");
         }
+        return type;
     }
 
     private SqlNode parseLiteralString(final JsonObject exp) {
@@ -424,11 +520,30 @@ public final class PushdownSqlParser extends AbstractRequestParser {
 
     private SqlNode parsePredicateInConstlist(final JsonObject exp) {
         final SqlNode inExp = parseExpression(exp.getJsonObject(EXPRESSION));
-        final List<SqlNode> inArguments = new ArrayList<>();
-        for (final JsonObject pred : exp.getJsonArray(ARGUMENTS).getValuesAs(JsonObject.class)) {
-            inArguments.add(parseExpression(pred));
+        final SqlPredicateInConstList.Builder builder = SqlPredicateInConstList.builder().expression(inExp);
+        for (final JsonObject argument : exp.getJsonArray(ARGUMENTS).getValuesAs(JsonObject.class)) {
+            addInConstListArgument(builder, argument);
+        }
+        return builder.build();
+    }
+
+    // Literals go into the builder as values, so that long lists do not create a node per constant.
+    private void addInConstListArgument(final SqlPredicateInConstList.Builder builder, final JsonObject argument) {
+        if (!isCompactLiteral(argument)) {
+            builder.addArgument(parseExpression(argument));
+            return;
+        }
+        final String value = argument.getString(VALUE);
+        switch (fromTypeName(argument.getString("type"))) {
+        case LITERAL_EXACTNUMERIC:
+            builder.addExactNumeric(new BigDecimal(value));
+            break;
+        case LITERAL_DOUBLE:
+            builder.addDouble(Double.parseDouble(value));
+            break;
+        default:
+            builder.addString(value);
         }
-        return new SqlPredicateInConstList(inExp, inArguments);
     }
 
     private SqlNode parseFunctionScalar(final JsonObject exp) {
@@ -542,50 +657,28 @@ public final class PushdownSqlParser extends AbstractRequestParser {
      * Mapping from join type name (as in json api) to enum
      */
     private static JoinType fromJoinTypeName(final String typeName) {
-        return Enum.valueOf(JoinType.class, typeName.toUpperCase());
+        return EnumLookup.JOIN_TYPES.get(typeName);
     }
 
     /**
      * Mapping from scalar function name (as in json api) to enum
      */
     private static ScalarFunction fromScalarFunctionName(final String functionName) {
-        return Enum.valueOf(ScalarFunction.class, functionName.toUpperCase());
+        return EnumLookup.SCALAR_FUNCTIONS.get(functionName);
     }
 
     /**
      * Mapping from aggregate function name (as in json api) to enum
      */
     private static AggregateFunction fromAggregationFunctionName(final String functionName) {
-        return Enum.valueOf(AggregateFunction.class, functionName.toUpperCase());
+        return EnumLookup.AGGREGATE_FUNCTIONS.get(functionName);
     }
 
     /**
      * Mapping from type name (as in json api) to enum
      */
     private static SqlNodeType fromTypeName(final String typeName) {
-        return Enum.valueOf(SqlNodeType.class, typeName.toUpperCase());
-    }
-
-    private TableMetadata findInvolvedTableMetadata(final String tableName) {
-        assert this.involvedTablesMetadata != null;
-        for (final TableMetadata tableMetadata : this.involvedTablesMetadata) {
-            if (tableMetadata.getName().equals(tableName)) {
-                return tableMetadata;
-            }
-        }
-        throw new IllegalStateException("Could not find table metadata for involved table " + tableName
-                + ". All involved tables: " + this.involvedTablesMetadata.toString());
-    }
-
-    private ColumnMetadata findColumnMetadata(final String tableName, final String columnName) {
-        final TableMetadata tableMetadata = findInvolvedTableMetadata(tableName);
-        for (final ColumnMetadata columnMetadata : tableMetadata.getColumns()) {
-            if (columnMetadata.getName().equals(columnName)) {
-                return columnMetadata;
-            }
-        }
-        throw new IllegalStateException("Could not find column metadata for involved table " + tableName
-                + " and column + " + columnName + ". All involved tables: " + this.involvedTablesMetadata.toString());
+        return EnumLookup.SQL_NODE_TYPES.get(typeName);
     }
 
     /**
@@ -595,6 +688,21 @@ public final class PushdownSqlParser extends AbstractRequestParser {
      * @return new instance
      */
     public static PushdownSqlParser createWithTablesMetadata(final List<TableMetadata> involvedTableMetadata) {
-        return new PushdownSqlParser(involvedTableMetadata);
+        return new PushdownSqlParser(involvedTableMetadata, false);
+    }
+
+    /**
+     * Create an instance of a {@link PushdownSqlParser} that parses expressions with an explicit stack instead of
+     * recursion
+     * <p>
+     * The result is the same as with a parser created by {@link #createWithTablesMetadata(List)}, but the nesting depth
+     * of the expressions is not limited by the size of the Java call stack.
+     *
+     * @param involvedTableMetadata metadata for all tables that are referred to in the push-down request
+     * @return new instance
+     */
+    public static PushdownSqlParser createIterativeWithTablesMetadata(
+            final List<TableMetadata> involvedTableMetadata) {
+        return new PushdownSqlParser(involvedTableMetadata, true);
     }
 }
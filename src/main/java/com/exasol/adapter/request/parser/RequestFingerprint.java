@@ -0,0 +1,199 @@
+package com.exasol.adapter.request.parser;
+
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.Map.Entry;
+
+import javax.json.*;
+import javax.json.stream.JsonGenerator;
+
+import com.exasol.adapter.metadata.SchemaMetadataInfo;
+import com.exasol.adapter.request.*;
+import com.exasol.utils.JsonFactories;
+
+/**
+ * Fingerprint of a normalized adapter request.
+ * <p>
+ * Two requests have the same fingerprint if they have the same type, adapter name, schema metadata, properties and
+ * requested tables and, for push-down requests, the same push-down statement and involved tables. The order of JSON
+ * object members and the order of properties do not matter.
+ * <p>
+ * Fingerprints of raw requests ({@link #ofRawRequest(ByteBuffer)}) are calculated from the request text without parsing
+ * it. They are cheaper, but only identical texts have the same raw fingerprint.
+ */
+public final class RequestFingerprint {
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private RequestFingerprint() {
+        // prevent instantiation
+    }
+
+    /**
+     * Calculate the fingerprint of a request
+     *
+     * @param request adapter request
+     * @return SHA-256 hash of the normalized request as hexadecimal string or <code>null</code> if the request does
+     *         not support fingerprinting
+     */
+    public static String of(final AdapterRequest request) {
+        final String normalizedRequest = normalize(request);
+        return (normalizedRequest == null) ? null : hash(normalizedRequest);
+    }
+
+    /**
+     * Calculate the fingerprint of a raw request without parsing it
+     *
+     * @param rawRequest buffer containing the UTF-8 encoded request between position and limit; the position of the
+     *                   buffer is not changed
+     * @return SHA-256 hash of the request text as hexadecimal string
+     */
+    public static String ofRawRequest(final ByteBuffer rawRequest) {
+        final MessageDigest digest = createDigest();
+        digest.update(rawRequest.duplicate());
+        return toHex(digest.digest());
+    }
+
+    /**
+     * Calculate the fingerprint of a raw request without parsing it
+     *
+     * @param rawRequest request text
+     * @return SHA-256 hash of the UTF-8 encoded request text as hexadecimal string
+     */
+    public static String ofRawRequest(final CharSequence rawRequest) {
+        return ofRawRequest(StandardCharsets.UTF_8.encode(CharBuffer.wrap(rawRequest)));
+    }
+
+    /**
+     * Render a request in its normalized form
+     *
+     * @param request adapter request
+     * @return normalized request or <code>null</code> if the request does not support normalization
+     */
+    static String normalize(final AdapterRequest request) {
+        if ((request instanceof PushDownRequest) && !(request instanceof LazyPushDownRequest)) {
+            return null;
+        }
+        final StringWriter writer = new StringWriter();
+        try (final JsonGenerator generator = JsonFactories.getGeneratorFactory().createGenerator(writer)) {
+            generator.writeStartObject();
+            generator.write("type", request.getType().name());
+            writeNullable(generator, "adapterName", request.getAdapterName());
+            writeSchemaMetadataInfo(generator, request.getSchemaMetadataInfo());
+            writeRequestSpecificParts(generator, request);
+            generator.writeEnd();
+        }
+        return writer.toString();
+    }
+
+    private static void writeSchemaMetadataInfo(final JsonGenerator generator,
+            final SchemaMetadataInfo schemaMetadataInfo) {
+        generator.writeStartObject("schemaMetadataInfo");
+        writeNullable(generator, "name", schemaMetadataInfo.getSchemaName());
+        writeNullable(generator, "adapterNotes", schemaMetadataInfo.getAdapterNotes());
+        writeProperties(generator, "properties", schemaMetadataInfo.getProperties());
+        generator.writeEnd();
+    }
+
+    private static void writeRequestSpecificParts(final JsonGenerator generator, final AdapterRequest request) {
+        if (request instanceof SetPropertiesRequest) {
+            writeProperties(generator, "properties", ((SetPropertiesRequest) request).getProperties());
+        } else if (request instanceof RefreshRequest) {
+            final List<String> tables = ((RefreshRequest) request).getTables();
+            if (tables != null) {
+                generator.writeStartArray("requestedTables");
+                tables.forEach(generator::write);
+                generator.writeEnd();
+            }
+        } else if (request instanceof LazyPushDownRequest) {
+            final LazyPushDownRequest pushDownRequest = (LazyPushDownRequest) request;
+            writeCanonical(generator, "pushdownRequest", pushDownRequest.getJsonStatement());
+            writeCanonical(generator, "involvedTables", pushDownRequest.getJsonInvolvedTables());
+        }
+    }
+
+    private static void writeNullable(final JsonGenerator generator, final String key, final String value) {
+        if (value == null) {
+            generator.writeNull(key);
+        } else {
+            generator.write(key, value);
+        }
+    }
+
+    private static void writeProperties(final JsonGenerator generator, final String key,
+            final Map<String, String> properties) {
+        generator.writeStartObject(key);
+        for (final Entry<String, String> property : new TreeMap<>(properties).entrySet()) {
+            writeNullable(generator, property.getKey(), property.getValue());
+        }
+        generator.writeEnd();
+    }
+
+    private static void writeCanonical(final JsonGenerator generator, final String key, final JsonValue value) {
+        if (value == null) {
+            generator.writeNull(key);
+        } else if (value instanceof JsonObject) {
+            generator.writeStartObject(key);
+            writeCanonicalMembers(generator, (JsonObject) value);
+            generator.writeEnd();
+        } else if (value instanceof JsonArray) {
+            generator.writeStartArray(key);
+            writeCanonicalElements(generator, (JsonArray) value);
+            generator.writeEnd();
+        } else {
+            generator.write(key, value);
+        }
+    }
+
+    private static void writeCanonical(final JsonGenerator generator, final JsonValue value) {
+        if (value instanceof JsonObject) {
+            generator.writeStartObject();
+            writeCanonicalMembers(generator, (JsonObject) value);
+            generator.writeEnd();
+        } else if (value instanceof JsonArray) {
+            generator.writeStartArray();
+            writeCanonicalElements(generator, (JsonArray) value);
+            generator.writeEnd();
+        } else {
+            generator.write(value);
+        }
+    }
+
+    private static void writeCanonicalMembers(final JsonGenerator generator, final JsonObject object) {
+        for (final String key : new TreeSet<>(object.keySet())) {
+            writeCanonical(generator, key, object.get(key));
+        }
+    }
+
+    private static void writeCanonicalElements(final JsonGenerator generator, final JsonArray array) {
+        for (final JsonValue element : array) {
+            writeCanonical(generator, element);
+        }
+    }
+
+    private static String hash(final String normalizedRequest) {
+        return toHex(createDigest().digest(normalizedRequest.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException exception) {
+            throw new IllegalStateException("SHA-256 message digest is not available in this Java runtime.",
+                    exception);
+        }
+    }
+
+    private static String toHex(final byte[] digest) {
+        final char[] hex = new char[digest.length * 2];
+        for (int i = 0; i < digest.length; ++i) {
+            hex[2 * i] = HEX_DIGITS[(digest[i] >> 4) & 0x0F];
+            hex[(2 * i) + 1] = HEX_DIGITS[digest[i] & 0x0F];
+        }
+        return new String(hex);
+    }
+}
@@ -2,19 +2,27 @@ package com.exasol.adapter.request.parser;
 
 import static com.exasol.adapter.request.parser.RequestParserConstants.*;
 
+import java.io.Reader;
+import java.nio.ByteBuffer;
 import java.util.*;
+import java.util.function.LongSupplier;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import javax.json.*;
 
+import com.exasol.adapter.jfr.RequestParsedEvent;
 import com.exasol.adapter.metadata.SchemaMetadataInfo;
 import com.exasol.adapter.metadata.TableMetadata;
 import com.exasol.adapter.request.*;
 import com.exasol.adapter.sql.SqlStatement;
+import com.exasol.utils.JsonFactories;
+import com.exasol.utils.Utf8;
 
 /**
  * Parser for JSON structures representing a Virtual Schema Adapter request.
+ * <p>
+ * Each parsed request is reported as {@link RequestParsedEvent} to the Java Flight Recorder.
  */
 public class RequestParser extends AbstractRequestParser {
     private static final Logger LOGGER = Logger.getLogger(RequestParser.class.getName());
@@ -28,12 +36,98 @@ public class RequestParser extends AbstractRequestParser {
      */
     public AdapterRequest parse(final String rawRequest) {
         try (final JsonReader reader = createJsonReader(rawRequest)) {
-            return parseFromReader(reader);
+            return parseFromReader(reader, () -> Utf8.encodedLength(rawRequest));
         }
     }
 
-    private AbstractAdapterRequest parseFromReader(final JsonReader reader) {
+    /**
+     * Parse a character sequence containing a Virtual Schema Adapter request without converting it to a string first
+     *
+     * @param rawRequest request as JSON character sequence
+     * @return parsed request
+     * @throws RequestParserException if an unknown request type is encountered
+     */
+    public AdapterRequest parse(final CharSequence rawRequest) {
+        try (final JsonReader reader = createJsonReader(rawRequest)) {
+            return parseFromReader(reader, () -> Utf8.encodedLength(rawRequest));
+        }
+    }
+
+    /**
+     * Parse a Virtual Schema Adapter request read from a character stream
+     * <p>
+     * The stream is consumed but not closed by this method.
+     *
+     * @param rawRequest reader providing the request as JSON
+     * @return parsed request
+     * @throws RequestParserException if an unknown request type is encountered
+     */
+    public AdapterRequest parse(final Reader rawRequest) {
+        return parseFromReader(JsonFactories.getReaderFactory().createReader(rawRequest), () -> -1);
+    }
+
+    /**
+     * Parse a UTF-8 encoded Virtual Schema Adapter request
+     *
+     * @param rawRequest request as UTF-8 encoded JSON
+     * @return parsed request
+     * @throws RequestParserException if an unknown request type is encountered
+     */
+    public AdapterRequest parse(final byte[] rawRequest) {
+        try (final JsonReader reader = createJsonReader(rawRequest)) {
+            return parseFromReader(reader, () -> rawRequest.length);
+        }
+    }
+
+    /**
+     * Parse a UTF-8 encoded Virtual Schema Adapter request stored between position and limit of a buffer
+     * <p>
+     * The position of the buffer is not changed.
+     *
+     * @param rawRequest buffer containing the request as UTF-8 encoded JSON
+     * @return parsed request
+     * @throws RequestParserException if an unknown request type is encountered
+     */
+    public AdapterRequest parse(final ByteBuffer rawRequest) {
+        final int requestSize = rawRequest.remaining();
+        try (final JsonReader reader = createJsonReader(rawRequest)) {
+            return parseFromReader(reader, () -> requestSize);
+        }
+    }
+
+    private AbstractAdapterRequest parseFromReader(final JsonReader reader, final LongSupplier requestSize) {
+        final RequestParsedEvent event = new RequestParsedEvent();
+        event.begin();
         final JsonObject root = reader.readObject();
+        final AbstractAdapterRequest request = parseRoot(root);
+        event.end();
+        if (event.shouldCommit()) {
+            event.setRequest(request);
+            event.setRequestSize(requestSize.getAsLong());
+            event.setNodeCount(countNodes(root));
+            event.commit();
+        }
+        return request;
+    }
+
+    // Iterative, so that deeply nested requests do not overflow the stack.
+    private static long countNodes(final JsonValue root) {
+        final Deque<JsonValue> pending = new ArrayDeque<>();
+        pending.push(root);
+        long count = 0;
+        while (!pending.isEmpty()) {
+            final JsonValue value = pending.pop();
+            ++count;
+            if (value instanceof JsonObject) {
+                ((JsonObject) value).values().forEach(pending::push);
+            } else if (value instanceof JsonArray) {
+                ((JsonArray) value).forEach(pending::push);
+            }
+        }
+        return count;
+    }
+
+    private AbstractAdapterRequest parseRoot(final JsonObject root) {
         final String type = readRequestType(root);
         final SchemaMetadataInfo metadataInfo = readSchemaMetadataInfo(root);
         final String adapterName = extractAdapterNameFromMetadataInfo(metadataInfo);
@@ -72,13 +166,8 @@ public class RequestParser extends AbstractRequestParser {
 
     private AbstractAdapterRequest parsePushdownRequest(final JsonObject root, final SchemaMetadataInfo metadataInfo,
             final String adapterName) {
-        final SqlStatement statement = parsePushdownStatement(root);
-        final List<TableMetadata> involvedTables = parseInvolvedTablesMetadata(root);
-        return new PushDownRequest(adapterName, metadataInfo, statement, involvedTables);
-    }
-
-    private List<TableMetadata> parseInvolvedTablesMetadata(final JsonObject root) {
-        return new TablesMetadataParser().parse(root.getJsonArray("involvedTables"));
+        return new LazyPushDownRequest(adapterName, metadataInfo, root.getJsonObject(PUSHDOW_REQUEST_KEY),
+                root.getJsonArray(INVOLVED_TABLES_KEY));
     }
 
     private String extractAdapterNameFromMetadataInfo(final SchemaMetadataInfo metadataInfo) {
@@ -104,17 +193,6 @@ public class RequestParser extends AbstractRequestParser {
         }
     }
 
-    private SqlStatement parsePushdownStatement(final JsonObject root) {
-        final List<TableMetadata> involvedTables = parseInvolvedTables(root);
-        final PushdownSqlParser pushdownSqlParser = PushdownSqlParser.createWithTablesMetadata(involvedTables);
-        final JsonObject jsonPushdownStatement = root.getJsonObject(PUSHDOW_REQUEST_KEY);
-        return (SqlStatement) pushdownSqlParser.parseExpression(jsonPushdownStatement);
-    }
-
-    private List<TableMetadata> parseInvolvedTables(final JsonObject root) {
-        return TablesMetadataParser.create().parse(root.getJsonArray(INVOLVED_TABLES_KEY));
-    }
-
     /**
      * Create a {@link RequestParser}
      *
@@ -123,4 +201,16 @@ public class RequestParser extends AbstractRequestParser {
     public static RequestParser create() {
         return new RequestParser();
     }
+
+    /**
+     * Get the time spent parsing the parts of a request that the parser deferred until their first access
+     * <p>
+     * The SQL statement and the involved tables of push-down requests are only parsed when the adapter reads them.
+     *
+     * @param request parsed request
+     * @return deferred parse time in nanoseconds, 0 if nothing was deferred or the deferred parts were not read yet
+     */
+    public static long getDeferredParseNanos(final AdapterRequest request) {
+        return (request instanceof LazyPushDownRequest) ? ((LazyPushDownRequest) request).getDeferredParseNanos() : 0;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,164 @@
+package com.exasol.adapter.request.parser;
+
+import static com.exasol.adapter.request.parser.RequestParserConstants.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+
+import javax.json.stream.JsonParser;
+import javax.json.stream.JsonParser.Event;
+
+import com.exasol.adapter.request.AdapterRequestType;
+import com.exasol.utils.JsonFactories;
+
+/**
+ * Cheap first pass over a raw adapter request that only extracts the information needed for routing.
+ * <p>
+ * The pre-scan reads the request type, the schema name and the <code>SQL_DIALECT</code> property from the stream of
+ * JSON parser events. It does not build any objects for the push-down statement or the involved tables and stops as
+ * soon as it has found everything it is looking for. This allows the caller to pick the adapter and check caches
+ * before paying for a full parse with the {@link RequestParser}.
+ */
+public final class RequestPreScanner {
+    private static final String UNKNOWN_ADAPTER_NAME = "UNKNOWN";
+
+    private RequestPreScanner() {
+        // prevent instantiation
+    }
+
+    /**
+     * Pre-scan a request
+     *
+     * @param rawRequest request as JSON text
+     * @return routing information
+     * @throws RequestParserException if the request type is missing or unknown
+     */
+    public static RequestRoutingInfo scan(final CharSequence rawRequest) {
+        if (rawRequest instanceof String) {
+            return scan(JsonFactories.getParserFactory().createParser(new StringReader((String) rawRequest)));
+        } else {
+            return scan(JsonFactories.getParserFactory().createParser(new CharSequenceReader(rawRequest)));
+        }
+    }
+
+    /**
+     * Pre-scan a request
+     *
+     * @param rawRequest UTF-8 encoded request
+     * @return routing information
+     * @throws RequestParserException if the request type is missing or unknown
+     */
+    public static RequestRoutingInfo scan(final byte[] rawRequest) {
+        return scan(JsonFactories.getParserFactory().createParser(new ByteArrayInputStream(rawRequest)));
+    }
+
+    /**
+     * Pre-scan a request
+     * <p>
+     * The position of the buffer is not changed.
+     *
+     * @param rawRequest buffer containing the UTF-8 encoded request between position and limit
+     * @return routing information
+     * @throws RequestParserException if the request type is missing or unknown
+     */
+    public static RequestRoutingInfo scan(final ByteBuffer rawRequest) {
+        return scan(JsonFactories.getParserFactory().createParser(new ByteBufferInputStream(rawRequest)));
+    }
+
+    private static RequestRoutingInfo scan(final JsonParser parser) {
+        try (final JsonParser closeableParser = parser) {
+            return new Scanner(closeableParser).scan();
+        }
+    }
+
+    private static final class Scanner extends AbstractStreamingParser {
+        private String type = null;
+        private boolean schemaMetadataInfoFound = false;
+        private String schemaName = null;
+        private String adapterName = UNKNOWN_ADAPTER_NAME;
+
+        private Scanner(final JsonParser parser) {
+            super(parser);
+        }
+
+        private RequestRoutingInfo scan() {
+            expectEvent(nextEvent(), Event.START_OBJECT);
+            Event event = nextEvent();
+            while ((event != Event.END_OBJECT) && !isComplete()) {
+                final String key = this.parser.getString();
+                final Event valueEvent = nextEvent();
+                if (ADAPTER_REQUEST_TYPE_KEY.equals(key)) {
+                    this.type = (String) readScalar(valueEvent);
+                } else if (SCHEMA_METADATA_INFO_KEY.equals(key) && (valueEvent == Event.START_OBJECT)) {
+                    scanSchemaMetadataInfo();
+                } else {
+                    skipValue(valueEvent);
+                }
+                if (!isComplete()) {
+                    event = nextEvent();
+                }
+            }
+            return new RequestRoutingInfo(toRequestType(this.type), this.schemaName, this.adapterName);
+        }
+
+        private boolean isComplete() {
+            return (this.type != null) && this.schemaMetadataInfoFound;
+        }
+
+        private void scanSchemaMetadataInfo() {
+            this.schemaMetadataInfoFound = true;
+            Event event = nextEvent();
+            while (event != Event.END_OBJECT) {
+                final String key = this.parser.getString();
+                final Event valueEvent = nextEvent();
+                if (SCHEMA_NAME_KEY.equals(key) && (valueEvent == Event.VALUE_STRING)) {
+                    this.schemaName = this.parser.getString();
+                } else if (PROPERTIES_KEY.equals(key) && (valueEvent == Event.START_OBJECT)) {
+                    scanProperties();
+                } else {
+                    skipValue(valueEvent);
+                }
+                event = nextEvent();
+            }
+        }
+
+        private void scanProperties() {
+            Event event = nextEvent();
+            while (event != Event.END_OBJECT) {
+                final String key = this.parser.getString();
+                final Event valueEvent = nextEvent();
+                if (ADAPTER_NAME_PROPERTY_KEY.equals(key) && (valueEvent == Event.VALUE_STRING)) {
+                    this.adapterName = this.parser.getString();
+                } else {
+                    skipValue(valueEvent);
+                }
+                event = nextEvent();
+            }
+        }
+
+        private static AdapterRequestType toRequestType(final String typeName) {
+            if (typeName == null) {
+                throw new RequestParserException("Missing request type in adapter request.");
+            }
+            switch (typeName) {
+            case REQUEST_TYPE_DROP_VIRTUAL_SCHEMA:
+                return AdapterRequestType.DROP_VIRTUAL_SCHEMA;
+            case REQUEST_TYPE_CREATE_VIRTUAL_SCHEMA:
+                return AdapterRequestType.CREATE_VIRTUAL_SCHEMA;
+            case REQUEST_TYPE_REFRESH:
+                return AdapterRequestType.REFRESH;
+            case REQUEST_TYPE_SET_PROPERTIES:
+                return AdapterRequestType.SET_PROPERTIES;
+            case REQUEST_TYPE_GET_CAPABILITIES:
+                return AdapterRequestType.GET_CAPABILITIES;
+            case REQUEST_TYPE_PUSHDOWN:
+                return AdapterRequestType.PUSHDOWN;
+            default:
+                throw new RequestParserException("Could not parse unknown adapter request type identifier \""
+                        + typeName
+                        + "\". Check whether versions of Exasol database and Virtual Schema Adapter are compatible.");
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.exasol.adapter.request.parser;
+
+import com.exasol.adapter.request.AdapterRequestType;
+
+/**
+ * The parts of an adapter request that are needed to route it: request type, schema name and adapter name.
+ *
+ * @see RequestPreScanner
+ */
+public final class RequestRoutingInfo {
+    private final AdapterRequestType type;
+    private final String schemaName;
+    private final String adapterName;
+
+    /**
+     * Create a new instance of {@link RequestRoutingInfo}
+     *
+     * @param type        request type
+     * @param schemaName  name of the Virtual Schema or <code>null</code> if the request does not contain one
+     * @param adapterName name of the adapter (<code>SQL_DIALECT</code> property)
+     */
+    RequestRoutingInfo(final AdapterRequestType type, final String schemaName, final String adapterName) {
+        this.type = type;
+        this.schemaName = schemaName;
+        this.adapterName = adapterName;
+    }
+
+    /**
+     * @return request type
+     */
+    public AdapterRequestType getType() {
+        return this.type;
+    }
+
+    /**
+     * @return name of the Virtual Schema or <code>null</code> if the request does not contain the schema metadata
+     */
+    public String getSchemaName() {
+        return this.schemaName;
+    }
+
+    /**
+     * @return name of the adapter responsible for the request or <code>UNKNOWN</code> if the request does not name one
+     */
+    public String getAdapterName() {
+        return this.adapterName;
+    }
+
+    @Override
+    public String toString() {
+        return "RequestRoutingInfo [type=" + this.type + ", schemaName=" + this.schemaName + ", adapterName="
+                + this.adapterName + "]";
+    }
+}
@@ -0,0 +1,123 @@
+package com.exasol.adapter.request.parser;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+import com.exasol.adapter.sql.SqlNode;
+
+/**
+ * Values collected from the members of a single JSON object while it is being streamed.
+ * <p>
+ * JSON does not guarantee the order of object members, so the streaming parsers can only decide how to interpret an
+ * object once they read all of its members. The values stored here are already converted (e.g. nested expressions are
+ * {@link SqlNode}s), so there is no JSON object tree involved.
+ */
+final class StreamingFields {
+    private final Map<String, Object> values = new HashMap<>();
+
+    /**
+     * Store a value
+     *
+     * @param key   member name
+     * @param value converted member value
+     */
+    void put(final String key, final Object value) {
+        this.values.put(key, value);
+    }
+
+    /**
+     * Check if a member with the given name was read
+     *
+     * @param key member name
+     * @return <code>true</code> if the member exists
+     */
+    boolean containsKey(final String key) {
+        return this.values.containsKey(key);
+    }
+
+    /**
+     * Get a mandatory string value
+     *
+     * @param key member name
+     * @return value
+     */
+    String getString(final String key) {
+        return (String) getMandatory(key);
+    }
+
+    /**
+     * Get a string value or a default if the member is missing or not a string
+     *
+     * @param key          member name
+     * @param defaultValue default value
+     * @return value
+     */
+    String getString(final String key, final String defaultValue) {
+        final Object value = this.values.get(key);
+        return (value instanceof String) ? (String) value : defaultValue;
+    }
+
+    /**
+     * Get a mandatory integer value
+     *
+     * @param key member name
+     * @return value
+     */
+    int getInt(final String key) {
+        return ((BigDecimal) getMandatory(key)).intValue();
+    }
+
+    /**
+     * Get an integer value or a default if the member is missing or not a number
+     *
+     * @param key          member name
+     * @param defaultValue default value
+     * @return value
+     */
+    int getInt(final String key, final int defaultValue) {
+        final Object value = this.values.get(key);
+        return (value instanceof BigDecimal) ? ((BigDecimal) value).intValue() : defaultValue;
+    }
+
+    /**
+     * Get a mandatory boolean value
+     *
+     * @param key member name
+     * @return value
+     */
+    boolean getBoolean(final String key) {
+        return (Boolean) getMandatory(key);
+    }
+
+    /**
+     * Get a boolean value or a default if the member is missing or not a boolean
+     *
+     * @param key          member name
+     * @param defaultValue default value
+     * @return value
+     */
+    boolean getBoolean(final String key, final boolean defaultValue) {
+        final Object value = this.values.get(key);
+        return (value instanceof Boolean) ? (Boolean) value : defaultValue;
+    }
+
+    /**
+     * Get a value that was converted while streaming (e.g. a {@link SqlNode})
+     *
+     * @param <T> type of the value
+     * @param key member name
+     * @return value or <code>null</code> if the member does not exist
+     */
+    @SuppressWarnings("unchecked")
+    <T> T get(final String key) {
+        return (T) this.values.get(key);
+    }
+
+    private Object getMandatory(final String key) {
+        if (this.values.containsKey(key)) {
+            return this.values.get(key);
+        } else {
+            throw new RequestParserException("Missing mandatory JSON member \"" + key + "\" in adapter request.");
+        }
+    }
+}
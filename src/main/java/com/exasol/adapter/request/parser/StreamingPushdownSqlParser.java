@@ -0,0 +1,416 @@
+package com.exasol.adapter.request.parser;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+import javax.json.stream.JsonParser;
+import javax.json.stream.JsonParser.Event;
+
+import com.exasol.adapter.metadata.*;
+import com.exasol.adapter.sql.*;
+
+/**
+ * Event-driven parser for the SQL statement in a push-down request.
+ * <p>
+ * This parser builds the {@link SqlNode} tree directly from the events of a {@link JsonParser}. Since JSON does not
+ * guarantee the order of object members, the members of each expression are collected in {@link StreamingFields} until
+ * the end of the expression is reached. Nested expressions are already converted into {@link SqlNode}s at that point.
+ * <p>
+ * Produces the same results as the {@link PushdownSqlParser}.
+ */
+final class StreamingPushdownSqlParser extends AbstractStreamingParser {
+    private static final String ORDER_BY = "orderBy";
+    private static final String EXPRESSION = "expression";
+    private static final String EXPRESSIONS = "expressions";
+    private static final String LEFT = "left";
+    private static final String RIGHT = "right";
+    private static final String VALUE = "value";
+    private static final String ARGUMENTS = "arguments";
+    private static final String DISTINCT = "distinct";
+    private static final String DATA_TYPE = "dataType";
+    private static final String LIMIT = "limit";
+    private static final String SELECT_LIST = "selectList";
+    private static final String GROUP_BY = "groupBy";
+    private static final String RESULTS = "results";
+    private final InvolvedTablesIndex involvedTables;
+
+    /**
+     * Create a new instance of a {@link StreamingPushdownSqlParser}
+     *
+     * @param parser                 JSON parser positioned right after the start of the push-down statement object
+     * @param involvedTablesMetadata metadata for all tables that are referred to in the push-down request
+     */
+    StreamingPushdownSqlParser(final JsonParser parser, final List<TableMetadata> involvedTablesMetadata) {
+        super(parser);
+        this.involvedTables = new InvolvedTablesIndex(involvedTablesMetadata);
+    }
+
+    /**
+     * Parse the expression the parser is currently positioned in up to and including the end of the expression object
+     * <p>
+     * Nested expressions are tracked on an explicit stack instead of the Java call stack, so that the nesting depth of
+     * the statement is only limited by the available heap.
+     *
+     * @return parsed expression
+     */
+    SqlNode parseExpression() {
+        final Deque<Frame> stack = new ArrayDeque<>();
+        stack.push(new Frame(FrameKind.EXPRESSION, null));
+        while (true) {
+            final Frame frame = stack.peek();
+            final Event event = nextEvent();
+            if ((event == Event.END_OBJECT) || (event == Event.END_ARRAY)) {
+                stack.pop();
+                final Frame parent = stack.peek();
+                if (parent == null) {
+                    return (SqlNode) completeFrame(frame);
+                } else if (parent.kind == FrameKind.IN_CONST_LIST_ARGUMENTS) {
+                    addInConstListArgument(parent.inConstListBuilder, frame.fields);
+                } else {
+                    parent.addValue(frame.key, completeFrame(frame));
+                }
+            } else if (frame.kind.isArray()) {
+                expectEvent(event, Event.START_OBJECT);
+                stack.push(new Frame(frame.kind.getElementKind(), null));
+            } else {
+                readMember(frame, stack);
+            }
+        }
+    }
+
+    private void readMember(final Frame frame, final Deque<Frame> stack) {
+        final String key = this.parser.getString();
+        final Event valueEvent = nextEvent();
+        if (valueEvent == Event.START_OBJECT) {
+            readObjectMember(frame, stack, key);
+        } else if (valueEvent == Event.START_ARRAY) {
+            readArrayMember(frame, stack, key);
+        } else {
+            frame.fields.put(key, readScalar(valueEvent));
+        }
+    }
+
+    private void readObjectMember(final Frame frame, final Deque<Frame> stack, final String key) {
+        switch (key) {
+        case DATA_TYPE:
+            frame.fields.put(key, readDataType());
+            break;
+        case LIMIT:
+            frame.fields.put(key, readLimit());
+            break;
+        case "from":
+        case "filter":
+        case "having":
+        case EXPRESSION:
+        case LEFT:
+        case RIGHT:
+        case "condition":
+        case "pattern":
+        case "escapeChar":
+        case "basis":
+            stack.push(new Frame(FrameKind.EXPRESSION, key));
+            break;
+        default:
+            skipValue(Event.START_OBJECT);
+        }
+    }
+
+    private void readArrayMember(final Frame frame, final Deque<Frame> stack, final String key) {
+        switch (key) {
+        case ORDER_BY:
+            stack.push(new Frame(FrameKind.ORDER_BY, key));
+            break;
+        case ARGUMENTS:
+            // Usually the type comes first. Otherwise the arguments are collected as nodes.
+            final boolean isInConstList = frame.fields.containsKey("type")
+                    && (fromTypeName(frame.fields.getString("type")) == SqlNodeType.PREDICATE_IN_CONSTLIST);
+            stack.push(new Frame(isInConstList ? FrameKind.IN_CONST_LIST_ARGUMENTS : FrameKind.EXPRESSION_LIST, key));
+            break;
+        case SELECT_LIST:
+        case GROUP_BY:
+        case EXPRESSIONS:
+        case RESULTS:
+            stack.push(new Frame(FrameKind.EXPRESSION_LIST, key));
+            break;
+        default:
+            skipValue(Event.START_ARRAY);
+        }
+    }
+
+    private Object completeFrame(final Frame frame) {
+        switch (frame.kind) {
+        case EXPRESSION:
+            return createExpression(frame.fields);
+        case ORDER_BY_ELEMENT:
+            return frame.fields;
+        case EXPRESSION_LIST:
+            final List<SqlNode> sqlNodes = new ArrayList<>(frame.elements.size());
+            for (final Object element : frame.elements) {
+                sqlNodes.add((SqlNode) element);
+            }
+            return sqlNodes;
+        case ORDER_BY:
+            return createOrderBy(frame.elements);
+        case IN_CONST_LIST_ARGUMENTS:
+            return frame.inConstListBuilder;
+        default:
+            throw new IllegalStateException("Unknown parser frame kind: " + frame.kind);
+        }
+    }
+
+    private SqlNode createExpression(final StreamingFields expression) {
+        final String typeName = expression.getString("type", "");
+        final SqlNodeType type = fromTypeName(typeName);
+        switch (type) {
+        case SELECT:
+            return parseSelect(expression);
+        case TABLE:
+            return parseTable(expression);
+        case JOIN:
+            return parseJoin(expression);
+        case COLUMN:
+            return parseColumn(expression);
+        case LITERAL_NULL:
+            return new SqlLiteralNull();
+        case LITERAL_BOOL:
+            return new SqlLiteralBool(expression.getBoolean(VALUE));
+        case LITERAL_DATE:
+            return new SqlLiteralDate(expression.getString(VALUE));
+        case LITERAL_TIMESTAMP:
+            return new SqlLiteralTimestamp(expression.getString(VALUE));
+        case LITERAL_TIMESTAMPUTC:
+            return new SqlLiteralTimestampUtc(expression.getString(VALUE));
+        case LITERAL_DOUBLE:
+            return new SqlLiteralDouble(Double.parseDouble(expression.getString(VALUE)));
+        case LITERAL_EXACTNUMERIC:
+            return new SqlLiteralExactnumeric(new BigDecimal(expression.getString(VALUE)));
+        case LITERAL_STRING:
+            return new SqlLiteralString(expression.getString(VALUE));
+        case LITERAL_INTERVAL:
+            return new SqlLiteralInterval(expression.getString(VALUE), expression.get(DATA_TYPE));
+        case PREDICATE_AND:
+            return new SqlPredicateAnd(getNodes(expression, EXPRESSIONS));
+        case PREDICATE_OR:
+            return new SqlPredicateOr(getNodes(expression, EXPRESSIONS));
+        case PREDICATE_NOT:
+            return new SqlPredicateNot(expression.get(EXPRESSION));
+        case PREDICATE_EQUAL:
+            return new SqlPredicateEqual(expression.get(LEFT), expression.get(RIGHT));
+        case PREDICATE_NOTEQUAL:
+            return new SqlPredicateNotEqual(expression.get(LEFT), expression.get(RIGHT));
+        case PREDICATE_LESS:
+            return new SqlPredicateLess(expression.get(LEFT), expression.get(RIGHT));
+        case PREDICATE_LESSEQUAL:
+            return new SqlPredicateLessEqual(expression.get(LEFT), expression.get(RIGHT));
+        case PREDICATE_LIKE:
+            return parsePredicateLike(expression);
+        case PREDICATE_LIKE_REGEXP:
+            return new SqlPredicateLikeRegexp(expression.get(EXPRESSION), expression.get("pattern"));
+        case PREDICATE_BETWEEN:
+            return new SqlPredicateBetween(expression.get(EXPRESSION), expression.get(LEFT), expression.get(RIGHT));
+        case PREDICATE_IN_CONSTLIST:
+            return parsePredicateInConstList(expression);
+        case PREDICATE_IS_NULL:
+            return new SqlPredicateIsNull(expression.get(EXPRESSION));
+        case PREDICATE_IS_NOT_NULL:
+            return new SqlPredicateIsNotNull(expression.get(EXPRESSION));
+        case FUNCTION_SCALAR:
+            return parseFunctionScalar(expression);
+        case FUNCTION_SCALAR_EXTRACT:
+            return new SqlFunctionScalarExtract(expression.getString("toExtract"), getNodes(expression, ARGUMENTS));
+        case FUNCTION_SCALAR_CASE:
+            return new SqlFunctionScalarCase(getNodes(expression, ARGUMENTS), getNodes(expression, RESULTS),
+                    expression.get("basis"));
+        case FUNCTION_SCALAR_CAST:
+            return new SqlFunctionScalarCast(expression.get(DATA_TYPE), getNodes(expression, ARGUMENTS));
+        case FUNCTION_AGGREGATE:
+            return new SqlFunctionAggregate(fromAggregationFunctionName(expression.getString("name")),
+                    getNodes(expression, ARGUMENTS), expression.getBoolean(DISTINCT, false));
+        case FUNCTION_AGGREGATE_GROUP_CONCAT:
+            return parseFunctionAggregateGroupConcat(expression);
+        default:
+            throw new IllegalArgumentException("Unknown node type: " + typeName);
+        }
+    }
+
+    private SqlOrderBy createOrderBy(final List<Object> orderElements) {
+        final List<SqlNode> orderByExpressions = new ArrayList<>(orderElements.size());
+        final List<Boolean> isAsc = new ArrayList<>(orderElements.size());
+        final List<Boolean> nullsLast = new ArrayList<>(orderElements.size());
+        for (final Object element : orderElements) {
+            final StreamingFields orderElement = (StreamingFields) element;
+            orderByExpressions.add(orderElement.get(EXPRESSION));
+            isAsc.add(orderElement.getBoolean("isAscending", true));
+            nullsLast.add(orderElement.getBoolean("nullsLast", true));
+        }
+        return new SqlOrderBy(orderByExpressions, isAsc, nullsLast);
+    }
+
+    private SqlLimit readLimit() {
+        final StreamingFields limit = readScalarFields();
+        return new SqlLimit(limit.getInt("numElements"), limit.getInt("offset", 0));
+    }
+
+    private List<SqlNode> getNodes(final StreamingFields expression, final String key) {
+        final List<SqlNode> nodes = expression.get(key);
+        return (nodes == null) ? new ArrayList<>() : nodes;
+    }
+
+    private SqlStatementSelect parseSelect(final StreamingFields select) {
+        final SqlNode table = select.get("from");
+        assert (table.getType() == SqlNodeType.TABLE) || (table.getType() == SqlNodeType.JOIN);
+        final SqlSelectList selectList = createSelectList(select.get(SELECT_LIST));
+        final List<SqlNode> groupByElements = select.get(GROUP_BY);
+        final SqlExpressionList groupByClause = (groupByElements == null) ? null : new SqlGroupBy(groupByElements);
+        return SqlStatementSelect.builder().selectList(selectList).fromClause(table)
+                .whereClause(select.get("filter")).groupBy(groupByClause).having(select.get("having"))
+                .orderBy(select.get(ORDER_BY)).limit(select.get(LIMIT)).build();
+    }
+
+    private SqlSelectList createSelectList(final List<SqlNode> selectListElements) {
+        if (selectListElements == null) {
+            return SqlSelectList.createSelectStarSelectList();
+        } else if (selectListElements.isEmpty()) {
+            return SqlSelectList.createAnyValueSelectList();
+        } else {
+            return SqlSelectList.createRegularSelectList(selectListElements);
+        }
+    }
+
+    private SqlNode parseTable(final StreamingFields table) {
+        final String tableName = table.getString("name");
+        final TableMetadata tableMetadata = this.involvedTables.findTableMetadata(tableName);
+        if (table.containsKey("alias")) {
+            return new SqlTable(tableName, table.getString("alias"), tableMetadata);
+        } else {
+            return new SqlTable(tableName, tableMetadata);
+        }
+    }
+
+    private SqlNode parseJoin(final StreamingFields join) {
+        final JoinType joinType = EnumLookup.JOIN_TYPES.get(join.getString("join_type"));
+        return new SqlJoin(join.get(LEFT), join.get(RIGHT), join.get("condition"), joinType);
+    }
+
+    private SqlNode parseColumn(final StreamingFields column) {
+        final int columnId = column.getInt("columnNr");
+        final String columnName = column.getString("name");
+        final String tableName = column.getString("tableName");
+        final ColumnMetadata columnMetadata = this.involvedTables.findColumnMetadata(tableName, columnId, columnName);
+        if (column.containsKey("tableAlias")) {
+            return new SqlColumn(columnId, columnMetadata, tableName, column.getString("tableAlias"));
+        } else {
+            return new SqlColumn(columnId, columnMetadata, tableName);
+        }
+    }
+
+    private SqlNode parsePredicateLike(final StreamingFields like) {
+        if (like.containsKey("escapeChar")) {
+            return new SqlPredicateLike(like.get(EXPRESSION), like.get("pattern"), like.get("escapeChar"));
+        } else {
+            return new SqlPredicateLike(like.get(EXPRESSION), like.get("pattern"));
+        }
+    }
+
+    private SqlNode parsePredicateInConstList(final StreamingFields inConstList) {
+        final Object arguments = inConstList.get(ARGUMENTS);
+        final SqlPredicateInConstList.Builder builder;
+        if (arguments instanceof SqlPredicateInConstList.Builder) {
+            builder = (SqlPredicateInConstList.Builder) arguments;
+        } else {
+            builder = SqlPredicateInConstList.builder();
+            for (final SqlNode argument : getNodes(inConstList, ARGUMENTS)) {
+                builder.addArgument(argument);
+            }
+        }
+        return builder.expression(inConstList.get(EXPRESSION)).build();
+    }
+
+    // Literals go into the builder as values, so that long lists do not create a node per constant.
+    private void addInConstListArgument(final SqlPredicateInConstList.Builder builder,
+            final StreamingFields argument) {
+        switch (fromTypeName(argument.getString("type", ""))) {
+        case LITERAL_EXACTNUMERIC:
+            builder.addExactNumeric(new BigDecimal(argument.getString(VALUE)));
+            break;
+        case LITERAL_DOUBLE:
+            builder.addDouble(Double.parseDouble(argument.getString(VALUE)));
+            break;
+        case LITERAL_STRING:
+            builder.addString(argument.getString(VALUE));
+            break;
+        default:
+            builder.addArgument(createExpression(argument));
+        }
+    }
+
+    private SqlNode parseFunctionScalar(final StreamingFields function) {
+        final List<SqlNode> arguments = getNodes(function, ARGUMENTS);
+        if (!function.getBoolean("variableInputArgs", false)) {
+            final int numArgs = function.getInt("numArgs");
+            assert numArgs == arguments.size();
+        }
+        return new SqlFunctionScalar(fromScalarFunctionName(function.getString("name")), arguments,
+                function.getBoolean("infix", false), function.getBoolean("prefix", false));
+    }
+
+    private SqlNode parseFunctionAggregateGroupConcat(final StreamingFields function) {
+        final String separator = function.containsKey("separator") ? function.getString("separator") : null;
+        return new SqlFunctionAggregateGroupConcat(fromAggregationFunctionName(function.getString("name")),
+                getNodes(function, ARGUMENTS), function.get(ORDER_BY), function.getBoolean(DISTINCT, false),
+                separator);
+    }
+
+    private static ScalarFunction fromScalarFunctionName(final String functionName) {
+        return EnumLookup.SCALAR_FUNCTIONS.get(functionName);
+    }
+
+    private static AggregateFunction fromAggregationFunctionName(final String functionName) {
+        return EnumLookup.AGGREGATE_FUNCTIONS.get(functionName);
+    }
+
+    private static SqlNodeType fromTypeName(final String typeName) {
+        return EnumLookup.SQL_NODE_TYPES.get(typeName);
+    }
+
+    private enum FrameKind {
+        EXPRESSION, ORDER_BY_ELEMENT, EXPRESSION_LIST, IN_CONST_LIST_ARGUMENTS, ORDER_BY;
+
+        private boolean isArray() {
+            return (this == EXPRESSION_LIST) || (this == IN_CONST_LIST_ARGUMENTS) || (this == ORDER_BY);
+        }
+
+        private FrameKind getElementKind() {
+            return (this == ORDER_BY) ? ORDER_BY_ELEMENT : EXPRESSION;
+        }
+    }
+
+    /**
+     * JSON object or array that is currently being streamed, together with the member name under which its value is
+     * stored in the enclosing object
+     */
+    private static final class Frame {
+        private final FrameKind kind;
+        private final String key;
+        private final StreamingFields fields;
+        private final List<Object> elements;
+        private final SqlPredicateInConstList.Builder inConstListBuilder;
+
+        private Frame(final FrameKind kind, final String key) {
+            this.kind = kind;
+            this.key = key;
+            this.fields = kind.isArray() ? null : new StreamingFields();
+            this.elements = kind.isArray() ? new ArrayList<>() : null;
+            this.inConstListBuilder = (kind == FrameKind.IN_CONST_LIST_ARGUMENTS) ? SqlPredicateInConstList.builder()
+                    : null;
+        }
+
+        private void addValue(final String memberKey, final Object value) {
+            if (this.kind.isArray()) {
+                this.elements.add(value);
+            } else {
+                this.fields.put(memberKey, value);
+            }
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package com.exasol.adapter.request.parser;
+
+import static com.exasol.adapter.request.parser.RequestParserConstants.*;
+
+import java.io.StringReader;
+import java.util.*;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import javax.json.stream.JsonParser;
+import javax.json.stream.JsonParser.Event;
+
+import com.exasol.adapter.metadata.SchemaMetadataInfo;
+import com.exasol.adapter.metadata.TableMetadata;
+import com.exasol.adapter.request.*;
+import com.exasol.adapter.sql.SqlStatement;
+import com.exasol.utils.JsonFactories;
+
+/**
+ * Event-driven parser for JSON structures representing a Virtual Schema Adapter request.
+ * <p>
+ * In contrast to the {@link RequestParser} this parser does not read the request into a JSON object tree first. It
+ * builds the request objects, the table metadata and the push-down statement directly from the events of a
+ * {@link JsonParser}. The results are the same as those of the {@link RequestParser}.
+ * <p>
+ * The push-down statement references the metadata of the involved tables. If the request lists the involved tables
+ * before the push-down statement, the request is parsed in a single pass. Otherwise the parser skips the statement in
+ * the first pass and reads the input a second time, streaming only the statement.
+ */
+public class StreamingRequestParser {
+    private static final Logger LOGGER = Logger.getLogger(StreamingRequestParser.class.getName());
+
+    /**
+     * Parse a JSON string containing a Virtual Schema Adapter request into the abstract representation of that request
+     *
+     * @param rawRequest request as JSON string
+     * @return parsed request
+     * @throws RequestParserException if an unknown request type is encountered
+     */
+    public AdapterRequest parse(final String rawRequest) {
+        return parse(() -> JsonFactories.getParserFactory().createParser(new StringReader(rawRequest)));
+    }
+
+    /**
+     * Parse a request from a source that can be read repeatedly
+     *
+     * @param parserFactory supplies a new JSON parser positioned at the beginning of the request on each call
+     * @return parsed request
+     */
+    AdapterRequest parse(final Supplier<JsonParser> parserFactory) {
+        final RootParser rootParser;
+        try (final JsonParser parser = parserFactory.get()) {
+            rootParser = new RootParser(parser);
+            rootParser.parse();
+        }
+        if (rootParser.pushdownStatementSkipped && REQUEST_TYPE_PUSHDOWN.equals(rootParser.type)) {
+            LOGGER.finest("Push-down statement precedes involved tables. Streaming statement in a second pass.");
+            try (final JsonParser parser = parserFactory.get()) {
+                rootParser.pushdownStatement = new PushdownStatementLocator(parser)
+                        .parseStatement(rootParser.getInvolvedTables());
+            }
+        }
+        return rootParser.createRequest();
+    }
+
+    /**
+     * Create a {@link StreamingRequestParser}
+     *
+     * @return request parser instance
+     */
+    public static StreamingRequestParser create() {
+        return new StreamingRequestParser();
+    }
+
+    private static final class RootParser extends AbstractStreamingParser {
+        private String type = null;
+        private SchemaMetadataInfo schemaMetadataInfo = null;
+        private Map<String, String> properties = Collections.emptyMap();
+        private List<String> requestedTables = null;
+        private List<TableMetadata> involvedTables = null;
+        private SqlStatement pushdownStatement = null;
+        private boolean pushdownStatementSkipped = false;
+
+        private RootParser(final JsonParser parser) {
+            super(parser);
+        }
+
+        private void parse() {
+            expectEvent(nextEvent(), Event.START_OBJECT);
+            Event event = nextEvent();
+            while (event != Event.END_OBJECT) {
+                final String key = this.parser.getString();
+                parseMember(key, nextEvent());
+                event = nextEvent();
+            }
+        }
+
+        private void parseMember(final String key, final Event valueEvent) {
+            switch (key) {
+            case ADAPTER_REQUEST_TYPE_KEY:
+                this.type = (String) readScalar(valueEvent);
+                break;
+            case SCHEMA_METADATA_INFO_KEY:
+                expectEvent(valueEvent, Event.START_OBJECT);
+                this.schemaMetadataInfo = parseSchemaMetadataInfo();
+                break;
+            case PROPERTIES_KEY:
+                expectEvent(valueEvent, Event.START_OBJECT);
+                this.properties = readProperties();
+                break;
+            case REFRESH_TABLES_KEY:
+                expectEvent(valueEvent, Event.START_ARRAY);
+                this.requestedTables = readStringList();
+                break;
+            case INVOLVED_TABLES_KEY:
+                expectEvent(valueEvent, Event.START_ARRAY);
+                this.involvedTables = new StreamingTablesMetadataParser(this.parser).parse();
+                break;
+            case PUSHDOW_REQUEST_KEY:
+                parsePushdownStatementIfPossible(valueEvent);
+                break;
+            default:
+                skipValue(valueEvent);
+            }
+        }
+
+        private void parsePushdownStatementIfPossible(final Event valueEvent) {
+            if (this.involvedTables == null) {
+                skipValue(valueEvent);
+                this.pushdownStatementSkipped = true;
+            } else {
+                expectEvent(valueEvent, Event.START_OBJECT);
+                this.pushdownStatement = (SqlStatement) new StreamingPushdownSqlParser(this.parser,
+                        this.involvedTables).parseExpression();
+            }
+        }
+
+        private SchemaMetadataInfo parseSchemaMetadataInfo() {
+            String schemaName = null;
+            String adapterNotes = "";
+            Map<String, String> schemaProperties = Collections.emptyMap();
+            Event event = nextEvent();
+            while (event != Event.END_OBJECT) {
+                final String key = this.parser.getString();
+                final Event valueEvent = nextEvent();
+                switch (key) {
+                case SCHEMA_NAME_KEY:
+                    schemaName = (String) readScalar(valueEvent);
+                    break;
+                case PROPERTIES_KEY:
+                    expectEvent(valueEvent, Event.START_OBJECT);
+                    schemaProperties = readProperties();
+                    break;
+                case ADAPTER_NOTES_KEY:
+                    adapterNotes = readSchemaAdapterNotes(valueEvent);
+                    break;
+                default:
+                    skipValue(valueEvent);
+                }
+                event = nextEvent();
+            }
+            if (schemaName == null) {
+                throw new RequestParserException("Missing schema name in schema metadata information.");
+            }
+            return new SchemaMetadataInfo(schemaName, adapterNotes, schemaProperties);
+        }
+
+        private String readSchemaAdapterNotes(final Event valueEvent) {
+            switch (valueEvent) {
+            case VALUE_STRING:
+                return this.parser.getString();
+            case START_OBJECT:
+                return readValueAsJsonText(valueEvent);
+            default:
+                throw new IllegalArgumentException(
+                        "Error parsing adapter notes. Must be a JSON string or a JSON object but was type \""
+                                + valueEvent + "\".");
+            }
+        }
+
+        private List<TableMetadata> getInvolvedTables() {
+            if (this.involvedTables == null) {
+                throw new RequestParserException("Push-down request does not contain the involved tables.");
+            }
+            return this.involvedTables;
+        }
+
+        private AbstractAdapterRequest createRequest() {
+            if (this.type == null) {
+                throw new RequestParserException("Missing request type in adapter request.");
+            }
+            final SchemaMetadataInfo metadataInfo = getSchemaMetadataInfo();
+            final String adapterName = extractAdapterNameFromMetadataInfo(metadataInfo);
+            switch (this.type) {
+            case REQUEST_TYPE_DROP_VIRTUAL_SCHEMA:
+                return new DropVirtualSchemaRequest(adapterName, metadataInfo);
+            case REQUEST_TYPE_CREATE_VIRTUAL_SCHEMA:
+                return new CreateVirtualSchemaRequest(adapterName, metadataInfo);
+            case REQUEST_TYPE_REFRESH:
+                return createRefreshRequest(metadataInfo, adapterName);
+            case REQUEST_TYPE_SET_PROPERTIES:
+                return new SetPropertiesRequest(adapterName, metadataInfo, this.properties);
+            case REQUEST_TYPE_GET_CAPABILITIES:
+                return new GetCapabilitiesRequest(adapterName, metadataInfo);
+            case REQUEST_TYPE_PUSHDOWN:
+                return new PushDownRequest(adapterName, metadataInfo, this.pushdownStatement, getInvolvedTables());
+            default:
+                throw new RequestParserException("Could not parse unknown adapter request type identifier \""
+                        + this.type
+                        + "\". Check whether versions of Exasol database and Virtual Schema Adapter are compatible.");
+            }
+        }
+
+        private SchemaMetadataInfo getSchemaMetadataInfo() {
+            if (this.schemaMetadataInfo == null) {
+                LOGGER.severe("Missing metadata information trying to parse adapter request.");
+                return new SchemaMetadataInfo("UNKNOWN", "", new HashMap<>());
+            } else {
+                return this.schemaMetadataInfo;
+            }
+        }
+
+        private String extractAdapterNameFromMetadataInfo(final SchemaMetadataInfo metadataInfo) {
+            if (metadataInfo.containsProperty(ADAPTER_NAME_PROPERTY_KEY)) {
+                return metadataInfo.getProperty(ADAPTER_NAME_PROPERTY_KEY);
+            } else {
+                LOGGER.severe("Missing adapter name trying to parse metadata information.");
+                return "UNKNOWN";
+            }
+        }
+
+        private AbstractAdapterRequest createRefreshRequest(final SchemaMetadataInfo metadataInfo,
+                final String adapterName) {
+            if (this.requestedTables == null) {
+                return new RefreshRequest(adapterName, metadataInfo);
+            } else {
+                return new RefreshRequest(adapterName, metadataInfo, this.requestedTables);
+            }
+        }
+    }
+
+    private static final class PushdownStatementLocator extends AbstractStreamingParser {
+        private PushdownStatementLocator(final JsonParser parser) {
+            super(parser);
+        }
+
+        private SqlStatement parseStatement(final List<TableMetadata> involvedTables) {
+            expectEvent(nextEvent(), Event.START_OBJECT);
+            Event event = nextEvent();
+            while (event != Event.END_OBJECT) {
+                final String key = this.parser.getString();
+                final Event valueEvent = nextEvent();
+                if (PUSHDOW_REQUEST_KEY.equals(key)) {
+                    expectEvent(valueEvent, Event.START_OBJECT);
+                    return (SqlStatement) new StreamingPushdownSqlParser(this.parser, involvedTables)
+                            .parseExpression();
+                }
+                skipValue(valueEvent);
+                event = nextEvent();
+            }
+            throw new RequestParserException("Push-down request does not contain a push-down statement.");
+        }
+    }
+}
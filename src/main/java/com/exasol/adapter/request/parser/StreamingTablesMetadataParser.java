@@ -0,0 +1,139 @@
+package com.exasol.adapter.request.parser;
+
+import static com.exasol.adapter.request.parser.RequestParserConstants.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.json.stream.JsonParser;
+import javax.json.stream.JsonParser.Event;
+
+import com.exasol.adapter.metadata.*;
+
+/**
+ * Event-driven parser for the table metadata in a Virtual Schema request.
+ * <p>
+ * Produces the same results as the {@link TablesMetadataParser}.
+ */
+final class StreamingTablesMetadataParser extends AbstractStreamingParser {
+    /**
+     * Create a new instance of a {@link StreamingTablesMetadataParser}
+     *
+     * @param parser JSON parser positioned right after the start of the array containing the table metadata
+     */
+    StreamingTablesMetadataParser(final JsonParser parser) {
+        super(parser);
+    }
+
+    /**
+     * Parse the table metadata up to and including the end of the array
+     *
+     * @return list of table metadata
+     */
+    List<TableMetadata> parse() {
+        final List<TableMetadata> tables = new ArrayList<>();
+        Event event = nextEvent();
+        while (event != Event.END_ARRAY) {
+            expectEvent(event, Event.START_OBJECT);
+            tables.add(parseTable());
+            event = nextEvent();
+        }
+        return tables;
+    }
+
+    private TableMetadata parseTable() {
+        String tableName = "";
+        String adapterNotes = "";
+        String comment = "";
+        List<ColumnMetadata> columns = null;
+        Event event = nextEvent();
+        while (event != Event.END_OBJECT) {
+            final String key = this.parser.getString();
+            final Event valueEvent = nextEvent();
+            switch (key) {
+            case TABLE_NAME_KEY:
+                tableName = readStringOrDefault(valueEvent, "");
+                break;
+            case ADAPTER_NOTES_KEY:
+                adapterNotes = readAdapterNotes(valueEvent);
+                break;
+            case TABLE_COMMENT_KEY:
+                comment = readStringOrDefault(valueEvent, "");
+                break;
+            case TABLE_COLUMNS_KEY:
+                expectEvent(valueEvent, Event.START_ARRAY);
+                columns = parseColumns();
+                break;
+            default:
+                skipValue(valueEvent);
+            }
+            event = nextEvent();
+        }
+        if (columns == null) {
+            throw new RequestParserException("Missing columns in metadata of involved table \"" + tableName + "\".");
+        }
+        return new TableMetadata(tableName, adapterNotes, columns, comment);
+    }
+
+    private List<ColumnMetadata> parseColumns() {
+        final List<ColumnMetadata> columns = new ArrayList<>();
+        Event event = nextEvent();
+        while (event != Event.END_ARRAY) {
+            expectEvent(event, Event.START_OBJECT);
+            columns.add(parseColumnMetadata());
+            event = nextEvent();
+        }
+        return columns;
+    }
+
+    private ColumnMetadata parseColumnMetadata() {
+        final StreamingFields column = new StreamingFields();
+        Event event = nextEvent();
+        while (event != Event.END_OBJECT) {
+            final String key = this.parser.getString();
+            final Event valueEvent = nextEvent();
+            switch (key) {
+            case ADAPTER_NOTES_KEY:
+                column.put(key, readAdapterNotes(valueEvent));
+                break;
+            case DATA_TYPE:
+                expectEvent(valueEvent, Event.START_OBJECT);
+                column.put(key, readDataType());
+                break;
+            default:
+                if ((valueEvent == Event.START_OBJECT) || (valueEvent == Event.START_ARRAY)) {
+                    skipValue(valueEvent);
+                } else {
+                    column.put(key, readScalar(valueEvent));
+                }
+            }
+            event = nextEvent();
+        }
+        return ColumnMetadata.builder() //
+                .name(column.getString(TABLE_NAME_KEY)) //
+                .adapterNotes(column.getString(ADAPTER_NOTES_KEY, "")) //
+                .type(column.get(DATA_TYPE)) //
+                .nullable(column.getBoolean("isNullable", true)) //
+                .identity(column.getBoolean("isIdentity", true)) //
+                .defaultValue(column.getString("default", "")) //
+                .comment(column.getString(TABLE_COMMENT_KEY, "")) //
+                .build();
+    }
+
+    private String readStringOrDefault(final Event event, final String defaultValue) {
+        if (event == Event.VALUE_STRING) {
+            return this.parser.getString();
+        } else {
+            skipValue(event);
+            return defaultValue;
+        }
+    }
+
+    private String readAdapterNotes(final Event event) {
+        if (event == Event.VALUE_STRING) {
+            return this.parser.getString();
+        } else {
+            return readValueAsJsonText(event);
+        }
+    }
+}
@@ -159,23 +159,19 @@ public class TablesMetadataParser {
     }
 
     private static DataType.ExaCharset charSetFromString(final String charset) {
-        if (charset.equals("UTF8")) {
-            return DataType.ExaCharset.UTF8;
-        } else if (charset.equals("ASCII")) {
-            return DataType.ExaCharset.ASCII;
-        } else {
+        final DataType.ExaCharset exaCharset = EnumLookup.CHARSETS.find(charset);
+        if (exaCharset == null) {
             throw new RequestParserException("Unsupported charset encountered: " + charset);
         }
+        return exaCharset;
     }
 
     private static DataType.IntervalType intervalTypeFromString(final String intervalType) {
-        if (intervalType.equals("DAY TO SECONDS")) {
-            return DataType.IntervalType.DAY_TO_SECOND;
-        } else if (intervalType.equals("YEAR TO MONTH")) {
-            return DataType.IntervalType.YEAR_TO_MONTH;
-        } else {
+        final DataType.IntervalType type = EnumLookup.INTERVAL_TYPES.find(intervalType);
+        if (type == null) {
             throw new RequestParserException("Unsupported interval data type encountered: " + intervalType);
         }
+        return type;
     }
 
     /**
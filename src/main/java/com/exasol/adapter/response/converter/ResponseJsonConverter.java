@@ -5,6 +5,7 @@ import javax.json.*;
 import com.exasol.adapter.capabilities.*;
 import com.exasol.adapter.metadata.converter.SchemaMetadataJsonConverter;
 import com.exasol.adapter.response.*;
+import com.exasol.utils.JsonFactories;
 
 /**
  * Converts response into JSON format
@@ -16,6 +17,7 @@ public final class ResponseJsonConverter {
     private static final String LITERAL_PREFIX = "LITERAL_";
     private static final String SCHEMA_METADATA = "schemaMetadata";
     private static final ResponseJsonConverter responseJsonConverter = new ResponseJsonConverter();
+    private static final JsonBuilderFactory BUILDER_FACTORY = JsonFactories.getBuilderFactory();
 
     private ResponseJsonConverter() {
     }
@@ -37,7 +39,7 @@ public final class ResponseJsonConverter {
      */
     @SuppressWarnings("squid:S1172")
     public String convertDropVirtualSchemaResponse(final DropVirtualSchemaResponse dropResponse) {
-        return Json.createObjectBuilder() //
+        return BUILDER_FACTORY.createObjectBuilder() //
                 .add("type", "dropVirtualSchema") //
                 .build() //
                 .toString();
@@ -50,7 +52,7 @@ public final class ResponseJsonConverter {
      * @return string representation of a JSON Object
      */
     public String convertCreateVirtualSchemaResponse(final CreateVirtualSchemaResponse createResponse) {
-        return Json.createObjectBuilder() //
+        return BUILDER_FACTORY.createObjectBuilder() //
                 .add("type", "createVirtualSchema") //
                 .add(SCHEMA_METADATA,
                         SchemaMetadataJsonConverter.getInstance().convert(createResponse.getSchemaMetadata())) //
@@ -65,7 +67,7 @@ public final class ResponseJsonConverter {
      * @return string representation of a JSON Object
      */
     public String convertPushDownResponse(final PushDownResponse pushDownResponse) {
-        return Json.createObjectBuilder() //
+        return BUILDER_FACTORY.createObjectBuilder() //
                 .add("type", "pushdown") //
                 .add("sql", pushDownResponse.getPushDownSql()) //
                 .build() //
@@ -79,8 +81,8 @@ public final class ResponseJsonConverter {
      * @return string representation of a JSON Object
      */
     public String convertGetCapabilitiesResponse(final GetCapabilitiesResponse getCapabilitiesResponse) {
-        final JsonObjectBuilder builder = Json.createObjectBuilder().add("type", "getCapabilities");
-        final JsonArrayBuilder arrayBuilder = Json.createArrayBuilder();
+        final JsonObjectBuilder builder = BUILDER_FACTORY.createObjectBuilder().add("type", "getCapabilities");
+        final JsonArrayBuilder arrayBuilder = BUILDER_FACTORY.createArrayBuilder();
         final Capabilities capabilities = getCapabilitiesResponse.getCapabilities();
         addMainCapabilitiesToBuilder(capabilities, arrayBuilder);
         addScalarFunctionCapabilitiesToBuilder(capabilities, arrayBuilder);
@@ -136,7 +138,7 @@ public final class ResponseJsonConverter {
      * @return string representation of a JSON Object
      */
     public String convertRefreshResponse(final RefreshResponse refreshResponse) {
-        return Json.createObjectBuilder() //
+        return BUILDER_FACTORY.createObjectBuilder() //
                 .add("type", "refresh") //
                 .add(SCHEMA_METADATA,
                         SchemaMetadataJsonConverter.getInstance().convert(refreshResponse.getSchemaMetadata())) //
@@ -151,7 +153,7 @@ public final class ResponseJsonConverter {
      * @return string representation of a JSON Object
      */
     public String convertSetPropertiesResponse(final SetPropertiesResponse setPropertiesResponse) {
-        final JsonObjectBuilder builder = Json.createObjectBuilder();
+        final JsonObjectBuilder builder = BUILDER_FACTORY.createObjectBuilder();
         builder.add("type", "setProperties");
         if (setPropertiesResponse.getSchemaMetadata() != null) {
             builder.add(SCHEMA_METADATA,
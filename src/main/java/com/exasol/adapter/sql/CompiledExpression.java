@@ -0,0 +1,32 @@
+package com.exasol.adapter.sql;
+
+/**
+ * Expression compiled by the {@link SqlExpressionCompiler} that can be evaluated on many rows.
+ * <p>
+ * Compiled expressions are immutable and can be shared between threads.
+ */
+@FunctionalInterface
+public interface CompiledExpression {
+    /**
+     * Evaluate the expression on a row
+     *
+     * @param row values of the current row
+     * @return value of the expression or <code>null</code> for SQL <code>NULL</code>
+     * @throws IllegalArgumentException if a value can't be converted as required by the expression
+     * @throws ArithmeticException      on division by zero or numeric overflow
+     */
+    Object evaluate(RowValues row);
+
+    /**
+     * Evaluate a predicate on a row
+     * <p>
+     * Like in a <code>WHERE</code> clause, a row only qualifies if the predicate is <code>TRUE</code>, not if it is
+     * <code>FALSE</code> or <code>NULL</code>.
+     *
+     * @param row values of the current row
+     * @return <code>true</code> if the predicate is <code>TRUE</code> for the row
+     */
+    default boolean isTrue(final RowValues row) {
+        return Boolean.TRUE.equals(evaluate(row));
+    }
+}
@@ -0,0 +1,595 @@
+package com.exasol.adapter.sql;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+import com.exasol.adapter.metadata.*;
+import com.exasol.adapter.response.PushDownResponse;
+
+/**
+ * Detection of push-down statements that provably return no rows.
+ * <p>
+ * Some generated statements cannot return a row, for example because of <code>x = 1 AND x = 2</code>,
+ * <code>x BETWEEN 10 AND 5</code>, <code>LIMIT 0</code> or <code>x IS NULL</code> on a column that is not nullable and
+ * not on the null-extended side of an outer join. For those statements adapters can answer with an empty result that
+ * Exasol computes locally, instead of querying the remote data source.
+ * <p>
+ * The analysis is conservative: if it reports a statement as empty, the statement is empty for every content of the
+ * remote tables. Value ranges are only derived for <code>DECIMAL</code> columns compared with exact numeric literals,
+ * because comparisons of strings and floating point values depend on the remote data source. <code>NOT</code> is not
+ * analyzed, so run the {@link SqlPredicateSimplifier} first to push it into the comparisons.
+ */
+public final class EmptyResultAnalyzer {
+    private static final int MAX_DISJUNCTION_DEPTH = 4;
+    private static final int MAX_BRANCHES = 64;
+
+    private EmptyResultAnalyzer() {
+        // prevent instantiation
+    }
+
+    /**
+     * Check whether a statement provably returns no rows
+     *
+     * @param select statement
+     * @return <code>true</code> if the statement returns no rows, independently of the content of the tables
+     */
+    public static boolean isProvablyEmpty(final SqlStatementSelect select) {
+        if (select.hasLimit() && (select.getLimit().getLimit() == 0)) {
+            return true;
+        }
+        final NullExtendedTables nullExtendedTables = new NullExtendedTables(select.getFromClause());
+        if (select.hasHaving() && isUnsatisfiable(select.getHaving(), nullExtendedTables)) {
+            return true;
+        }
+        // An aggregation without GROUP BY returns one row even if no row matches the filter.
+        return select.hasFilter() && !isGlobalAggregation(select)
+                && isUnsatisfiable(select.getWhereClause(), nullExtendedTables);
+    }
+
+    private static boolean isGlobalAggregation(final SqlStatementSelect select) {
+        if (select.hasGroupBy()) {
+            return false;
+        }
+        final boolean[] containsAggregate = { false };
+        SqlNodeTraversal.forEachPreOrder(select.getSelectList(), node -> {
+            final SqlNodeType type = node.getType();
+            if ((type == SqlNodeType.FUNCTION_AGGREGATE) || (type == SqlNodeType.FUNCTION_AGGREGATE_GROUP_CONCAT)) {
+                containsAggregate[0] = true;
+            }
+        });
+        return containsAggregate[0] || select.hasHaving();
+    }
+
+    /**
+     * Check whether a predicate is provably never <code>TRUE</code>
+     * <p>
+     * If the predicate belongs to a statement, columns of tables on the null-extended side of an outer join in that
+     * statement can be <code>NULL</code> even if they are not nullable.
+     *
+     * @param predicate predicate
+     * @return <code>true</code> if no row can satisfy the predicate
+     */
+    public static boolean isUnsatisfiable(final SqlNode predicate) {
+        return isUnsatisfiable(predicate, new NullExtendedTables(findFromClause(predicate)));
+    }
+
+    private static boolean isUnsatisfiable(final SqlNode predicate, final NullExtendedTables nullExtendedTables) {
+        return new Analysis().isUnsatisfiable(Collections.singletonList(predicate),
+                new Constraints(nullExtendedTables), 0);
+    }
+
+    private static SqlNode findFromClause(final SqlNode node) {
+        SqlNode current = node;
+        while (current != null) {
+            if (current.getType() == SqlNodeType.SELECT) {
+                return ((SqlStatementSelect) current).getFromClause();
+            }
+            current = current.getParent();
+        }
+        return null;
+    }
+
+    /**
+     * Create a push-down response with an empty result for a statement that provably returns no rows
+     * <p>
+     * The push-down SQL selects typed <code>NULL</code> values from <code>DUAL</code> with a filter that is always
+     * false, so Exasol computes the result without contacting the remote data source.
+     *
+     * @param select statement
+     * @return response or an empty optional if the statement might return rows or the data types of its select list
+     *         are unknown
+     */
+    public static Optional<PushDownResponse> createEmptyResponse(final SqlStatementSelect select) {
+        if (!isProvablyEmpty(select)) {
+            return Optional.empty();
+        }
+        return createEmptyResultSql(select).map(sql -> PushDownResponse.builder().pushDownSql(sql).build());
+    }
+
+    /**
+     * Create SQL for an empty result with the columns of a statement
+     *
+     * @param select statement
+     * @return SQL or an empty optional if the data types of the select list are unknown
+     */
+    static Optional<String> createEmptyResultSql(final SqlStatementSelect select) {
+        final List<String> columns = new ArrayList<>();
+        final SqlSelectList selectList = select.getSelectList();
+        if (selectList.isRequestAnyColumn()) {
+            columns.add("true");
+        } else {
+            final List<DataType> types = selectList.isSelectStar() ? getTableColumnTypes(select.getFromClause())
+                    : getExpressionTypes(selectList.getExpressions());
+            if (types == null) {
+                return Optional.empty();
+            }
+            for (final DataType type : types) {
+                columns.add("CAST(NULL AS " + type + ")");
+            }
+        }
+        return Optional.of("SELECT " + String.join(", ", columns) + " FROM DUAL WHERE FALSE");
+    }
+
+    private static List<DataType> getTableColumnTypes(final SqlNode fromClause) {
+        final List<DataType> types = new ArrayList<>();
+        final Deque<SqlNode> stack = new ArrayDeque<>();
+        stack.push(fromClause);
+        while (!stack.isEmpty()) {
+            final SqlNode node = stack.pop();
+            if (node.getType() == SqlNodeType.JOIN) {
+                final SqlJoin join = (SqlJoin) node;
+                stack.push(join.getRight());
+                stack.push(join.getLeft());
+            } else if (node.getType() == SqlNodeType.TABLE) {
+                final TableMetadata metadata = ((SqlTable) node).getMetadata();
+                if (metadata == null) {
+                    return null;
+                }
+                for (final ColumnMetadata column : metadata.getColumns()) {
+                    if (!addSupportedType(types, column.getType())) {
+                        return null;
+                    }
+                }
+            } else {
+                return null;
+            }
+        }
+        return types;
+    }
+
+    private static List<DataType> getExpressionTypes(final List<SqlNode> expressions) {
+        final List<DataType> types = new ArrayList<>(expressions.size());
+        for (final SqlNode expression : expressions) {
+            final DataType type;
+            if (expression.getType() == SqlNodeType.COLUMN) {
+                final ColumnMetadata metadata = ((SqlColumn) expression).getMetadata();
+                type = (metadata == null) ? null : metadata.getType();
+            } else if (expression.getType() == SqlNodeType.FUNCTION_SCALAR_CAST) {
+                type = ((SqlFunctionScalarCast) expression).getDataType();
+            } else {
+                type = null;
+            }
+            if (!addSupportedType(types, type)) {
+                return null;
+            }
+        }
+        return types;
+    }
+
+    private static boolean addSupportedType(final List<DataType> types, final DataType type) {
+        if ((type == null) || !type.isSupported()) {
+            return false;
+        }
+        types.add(type);
+        return true;
+    }
+
+    /**
+     * Analysis of a conjunction of predicates that splits on disjunctions up to a fixed budget
+     */
+    private static final class Analysis {
+        private int branches = 0;
+
+        private boolean isUnsatisfiable(final List<SqlNode> predicates, final Constraints constraints,
+                final int depth) {
+            final List<SqlNode> disjunctions = new ArrayList<>();
+            final Deque<SqlNode> stack = new ArrayDeque<>();
+            for (int i = predicates.size() - 1; i >= 0; --i) {
+                stack.push(predicates.get(i));
+            }
+            while (!stack.isEmpty()) {
+                final SqlNode predicate = stack.pop();
+                if (predicate.getType() == SqlNodeType.PREDICATE_AND) {
+                    final List<SqlNode> conjuncts = ((SqlPredicateAnd) predicate).getAndedPredicates();
+                    for (int i = conjuncts.size() - 1; i >= 0; --i) {
+                        stack.push(conjuncts.get(i));
+                    }
+                } else if (predicate.getType() == SqlNodeType.PREDICATE_OR) {
+                    disjunctions.add(predicate);
+                } else {
+                    constraints.add(predicate);
+                    if (constraints.isContradiction()) {
+                        return true;
+                    }
+                }
+            }
+            for (final SqlNode disjunction : disjunctions) {
+                if (isEveryDisjunctUnsatisfiable((SqlPredicateOr) disjunction, constraints, depth)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean isEveryDisjunctUnsatisfiable(final SqlPredicateOr disjunction, final Constraints constraints,
+                final int depth) {
+            final List<SqlNode> disjuncts = disjunction.getOrPredicates();
+            if (disjuncts.isEmpty()) {
+                return true;
+            }
+            if ((depth >= MAX_DISJUNCTION_DEPTH) || ((this.branches + disjuncts.size()) > MAX_BRANCHES)) {
+                return false;
+            }
+            this.branches += disjuncts.size();
+            for (final SqlNode disjunct : disjuncts) {
+                if (!isUnsatisfiable(Collections.singletonList(disjunct), constraints.copy(), depth + 1)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Constraints on the columns of a statement derived from a conjunction of predicates
+     */
+    private static final class Constraints {
+        private final Map<SqlNode, ColumnConstraint> columns;
+        private final NullExtendedTables nullExtendedTables;
+        private boolean contradiction = false;
+
+        private Constraints(final NullExtendedTables nullExtendedTables) {
+            this.columns = new HashMap<>();
+            this.nullExtendedTables = nullExtendedTables;
+        }
+
+        private Constraints(final Constraints other) {
+            this.nullExtendedTables = other.nullExtendedTables;
+            this.columns = new HashMap<>(other.columns.size());
+            for (final Map.Entry<SqlNode, ColumnConstraint> entry : other.columns.entrySet()) {
+                this.columns.put(entry.getKey(), entry.getValue().copy());
+            }
+            this.contradiction = other.contradiction;
+        }
+
+        private Constraints copy() {
+            return new Constraints(this);
+        }
+
+        private boolean isContradiction() {
+            return this.contradiction;
+        }
+
+        private void add(final SqlNode predicate) {
+            switch (predicate.getType()) {
+            case LITERAL_BOOL:
+                this.contradiction |= !((SqlLiteralBool) predicate).getValue();
+                break;
+            case LITERAL_NULL:
+                this.contradiction = true;
+                break;
+            case PREDICATE_EQUAL: // falling through intentionally
+            case PREDICATE_NOTEQUAL:
+            case PREDICATE_LESS:
+            case PREDICATE_LESSEQUAL:
+                addComparison((AbstractSqlBinaryEquality) predicate);
+                break;
+            case PREDICATE_BETWEEN:
+                addBetween((SqlPredicateBetween) predicate);
+                break;
+            case PREDICATE_IN_CONSTLIST:
+                addInList((SqlPredicateInConstList) predicate);
+                break;
+            case PREDICATE_IS_NULL:
+                addIsNull(((SqlPredicateIsNull) predicate).getExpression());
+                break;
+            case PREDICATE_IS_NOT_NULL:
+                addIsNotNull(((SqlPredicateIsNotNull) predicate).getExpression());
+                break;
+            case PREDICATE_LIKE:
+                addIsNotNull(((SqlPredicateLike) predicate).getLeft());
+                break;
+            default:
+                break;
+            }
+        }
+
+        private void addComparison(final AbstractSqlBinaryEquality comparison) {
+            final Boolean value = SqlPredicateSimplifier.evaluateConstantComparison(comparison);
+            if (value != null) {
+                this.contradiction |= !value;
+                return;
+            }
+            final SqlNode left = comparison.getLeft();
+            final SqlNode right = comparison.getRight();
+            if ((left.getType() == SqlNodeType.LITERAL_NULL) || (right.getType() == SqlNodeType.LITERAL_NULL)) {
+                this.contradiction = true;
+                return;
+            }
+            addIsNotNull(left);
+            addIsNotNull(right);
+            final boolean columnLeft = isDecimalColumn(left) && (right.getType() == SqlNodeType.LITERAL_EXACTNUMERIC);
+            final boolean columnRight = isDecimalColumn(right) && (left.getType() == SqlNodeType.LITERAL_EXACTNUMERIC);
+            if (!columnLeft && !columnRight) {
+                return;
+            }
+            final ColumnConstraint column = getColumn(columnLeft ? left : right);
+            final BigDecimal literal = ((SqlLiteralExactnumeric) (columnLeft ? right : left)).getValue();
+            switch (comparison.getType()) {
+            case PREDICATE_EQUAL:
+                column.restrictTo(Collections.singletonList(literal));
+                break;
+            case PREDICATE_NOTEQUAL:
+                column.exclude(literal);
+                break;
+            case PREDICATE_LESS:
+                column.restrictRange(columnLeft ? null : literal, false, columnLeft ? literal : null, false);
+                break;
+            case PREDICATE_LESSEQUAL:
+                column.restrictRange(columnLeft ? null : literal, true, columnLeft ? literal : null, true);
+                break;
+            default:
+                break;
+            }
+            this.contradiction |= column.isEmpty();
+        }
+
+        private void addBetween(final SqlPredicateBetween between) {
+            addIsNotNull(between.getExpression());
+            if (isDecimalColumn(between.getExpression())
+                    && (between.getBetweenLeft().getType() == SqlNodeType.LITERAL_EXACTNUMERIC)
+                    && (between.getBetweenRight().getType() == SqlNodeType.LITERAL_EXACTNUMERIC)) {
+                final ColumnConstraint column = getColumn(between.getExpression());
+                column.restrictRange(((SqlLiteralExactnumeric) between.getBetweenLeft()).getValue(), true,
+                        ((SqlLiteralExactnumeric) between.getBetweenRight()).getValue(), true);
+                this.contradiction |= column.isEmpty();
+            }
+        }
+
+        private void addInList(final SqlPredicateInConstList inList) {
+            final SqlNode expression = inList.getExpression();
+            addIsNotNull(expression);
+            if (!isDecimalColumn(expression)) {
+                return;
+            }
+            final List<BigDecimal> values = getExactNumericValues(inList);
+            if (values != null) {
+                final ColumnConstraint column = getColumn(expression);
+                column.restrictTo(values);
+                this.contradiction |= column.isEmpty();
+            }
+        }
+
+        private static List<BigDecimal> getExactNumericValues(final SqlPredicateInConstList inList) {
+            final int count = inList.getInArgumentCount();
+            final List<BigDecimal> values = new ArrayList<>(count);
+            if (inList.hasLongValues()) {
+                for (int i = 0; i < count; ++i) {
+                    values.add(BigDecimal.valueOf(inList.getLongValue(i)));
+                }
+            } else if (inList.hasDoubleValues() || inList.hasStringValues()) {
+                return null;
+            } else {
+                for (final SqlNode argument : inList.getInArguments()) {
+                    if (argument.getType() == SqlNodeType.LITERAL_EXACTNUMERIC) {
+                        values.add(((SqlLiteralExactnumeric) argument).getValue());
+                    } else if (argument.getType() != SqlNodeType.LITERAL_NULL) {
+                        return null;
+                    }
+                }
+            }
+            return values;
+        }
+
+        private void addIsNull(final SqlNode expression) {
+            if ((expression != null) && (expression.getType() == SqlNodeType.COLUMN)) {
+                final ColumnConstraint column = getColumn(expression);
+                column.isNull = true;
+                this.contradiction |= column.isEmpty() || isNeverNull((SqlColumn) expression);
+            }
+        }
+
+        private void addIsNotNull(final SqlNode expression) {
+            if ((expression != null) && (expression.getType() == SqlNodeType.COLUMN)) {
+                final ColumnConstraint column = getColumn(expression);
+                column.isNotNull = true;
+                this.contradiction |= column.isEmpty();
+            }
+        }
+
+        private boolean isNeverNull(final SqlColumn column) {
+            final ColumnMetadata metadata = column.getMetadata();
+            return (metadata != null) && !metadata.isNullable() && !this.nullExtendedTables.contains(column);
+        }
+
+        private ColumnConstraint getColumn(final SqlNode column) {
+            return this.columns.computeIfAbsent(column, key -> new ColumnConstraint());
+        }
+
+        private static boolean isDecimalColumn(final SqlNode node) {
+            if (node.getType() != SqlNodeType.COLUMN) {
+                return false;
+            }
+            final ColumnMetadata metadata = ((SqlColumn) node).getMetadata();
+            return (metadata != null) && (metadata.getType() != null)
+                    && (metadata.getType().getExaDataType() == DataType.ExaDataType.DECIMAL);
+        }
+    }
+
+    /**
+     * Tables on the null-extended side of outer joins
+     * <p>
+     * An outer join fills the columns of the table on its null-extended side with <code>NULL</code> for rows without
+     * join partner, so those columns can be <code>NULL</code> even if the table metadata says otherwise.
+     */
+    private static final class NullExtendedTables {
+        private final Set<String> identifiers = new HashSet<>();
+        private boolean hasOuterJoin = false;
+        private boolean isUnknown = false;
+
+        private NullExtendedTables(final SqlNode fromClause) {
+            if (fromClause != null) {
+                collect(fromClause);
+            }
+        }
+
+        private void collect(final SqlNode fromClause) {
+            final Deque<SqlNode> nodes = new ArrayDeque<>();
+            final Deque<Boolean> nullExtended = new ArrayDeque<>();
+            nodes.push(fromClause);
+            nullExtended.push(false);
+            while (!nodes.isEmpty()) {
+                final SqlNode node = nodes.pop();
+                final boolean isNullExtended = nullExtended.pop();
+                if (node.getType() == SqlNodeType.JOIN) {
+                    final SqlJoin join = (SqlJoin) node;
+                    final JoinType joinType = join.getJoinType();
+                    this.hasOuterJoin |= (joinType != JoinType.INNER);
+                    nodes.push(join.getLeft());
+                    nullExtended.push(isNullExtended || (joinType == JoinType.RIGHT_OUTER)
+                            || (joinType == JoinType.FULL_OUTER));
+                    nodes.push(join.getRight());
+                    nullExtended.push(isNullExtended || (joinType == JoinType.LEFT_OUTER)
+                            || (joinType == JoinType.FULL_OUTER));
+                } else if (node.getType() == SqlNodeType.TABLE) {
+                    if (isNullExtended) {
+                        final SqlTable table = (SqlTable) node;
+                        this.identifiers.add(table.getName());
+                        this.identifiers.add(table.getAlias());
+                    }
+                } else {
+                    this.isUnknown = true;
+                }
+            }
+        }
+
+        /**
+         * Check whether a column might belong to a table on the null-extended side of an outer join
+         * <p>
+         * Columns are matched by table name and alias, so a table joined with itself counts as null-extended on both
+         * sides. Columns without table name count as null-extended as soon as the statement contains an outer join.
+         */
+        private boolean contains(final SqlColumn column) {
+            if (!this.hasOuterJoin && !this.isUnknown) {
+                return false;
+            }
+            if (this.isUnknown || (column.getTableName() == null)) {
+                return true;
+            }
+            return this.identifiers.contains(column.getTableName())
+                    || (column.hasTableAlias() && this.identifiers.contains(column.getTableAlias()));
+        }
+    }
+
+    /**
+     * Constraint on the values of a single column
+     */
+    private static final class ColumnConstraint {
+        private boolean isNull = false;
+        private boolean isNotNull = false;
+        private BigDecimal low = null;
+        private boolean lowInclusive = false;
+        private BigDecimal high = null;
+        private boolean highInclusive = false;
+        private SortedSet<BigDecimal> allowed = null;
+        private final SortedSet<BigDecimal> excluded = new TreeSet<>();
+
+        private ColumnConstraint copy() {
+            final ColumnConstraint copy = new ColumnConstraint();
+            copy.isNull = this.isNull;
+            copy.isNotNull = this.isNotNull;
+            copy.low = this.low;
+            copy.lowInclusive = this.lowInclusive;
+            copy.high = this.high;
+            copy.highInclusive = this.highInclusive;
+            copy.allowed = (this.allowed == null) ? null : new TreeSet<>(this.allowed);
+            copy.excluded.addAll(this.excluded);
+            return copy;
+        }
+
+        private void restrictTo(final Collection<BigDecimal> values) {
+            // TreeSet compares with compareTo(), so 1 and 1.0 are the same value
+            final SortedSet<BigDecimal> valueSet = new TreeSet<>(values);
+            if (this.allowed == null) {
+                this.allowed = valueSet;
+            } else {
+                this.allowed.retainAll(valueSet);
+            }
+            this.isNotNull = true;
+        }
+
+        private void exclude(final BigDecimal value) {
+            this.excluded.add(value);
+            this.isNotNull = true;
+        }
+
+        private void restrictRange(final BigDecimal newLow, final boolean newLowInclusive, final BigDecimal newHigh,
+                final boolean newHighInclusive) {
+            if (newLow != null) {
+                final int order = (this.low == null) ? 1 : newLow.compareTo(this.low);
+                if ((order > 0) || ((order == 0) && !newLowInclusive)) {
+                    this.low = newLow;
+                    this.lowInclusive = newLowInclusive;
+                }
+            }
+            if (newHigh != null) {
+                final int order = (this.high == null) ? -1 : newHigh.compareTo(this.high);
+                if ((order < 0) || ((order == 0) && !newHighInclusive)) {
+                    this.high = newHigh;
+                    this.highInclusive = newHighInclusive;
+                }
+            }
+            this.isNotNull = true;
+        }
+
+        private boolean isInRange(final BigDecimal value) {
+            if (this.low != null) {
+                final int order = value.compareTo(this.low);
+                if ((order < 0) || ((order == 0) && !this.lowInclusive)) {
+                    return false;
+                }
+            }
+            if (this.high != null) {
+                final int order = value.compareTo(this.high);
+                if ((order > 0) || ((order == 0) && !this.highInclusive)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean isEmpty() {
+            if (this.isNull) {
+                return this.isNotNull;
+            }
+            if ((this.low != null) && (this.high != null)) {
+                final int order = this.low.compareTo(this.high);
+                if ((order > 0) || ((order == 0) && !(this.lowInclusive && this.highInclusive))) {
+                    return true;
+                }
+                if ((order == 0) && this.excluded.contains(this.low)) {
+                    return true;
+                }
+            }
+            if (this.allowed != null) {
+                for (final BigDecimal value : this.allowed) {
+                    if (isInRange(value) && !this.excluded.contains(value)) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.exasol.adapter.sql;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import com.exasol.adapter.metadata.*;
+
+/**
+ * Streaming 128-bit hash with the mixing steps of MurmurHash3 (x64, 128 bit).
+ * <p>
+ * Values are tagged with their type before they are hashed, so that for example the string <code>"1"</code> and the
+ * number <code>1</code> produce different hashes.
+ */
+final class FingerprintHasher {
+    private static final long C1 = 0x87c37b91114253d5L;
+    private static final long C2 = 0x4cf5ad432745937fL;
+    private static final int TAG_NULL = 0;
+    private static final int TAG_STRING = 1;
+    private static final int TAG_INTEGER = 2;
+    private static final int TAG_BOOLEAN = 3;
+    private static final int TAG_DOUBLE = 4;
+    private static final int TAG_DECIMAL = 5;
+    private static final int TAG_ENUM = 6;
+    private static final int TAG_IN_LIST_VALUES = 7;
+    private static final int TAG_LIST = 8;
+    private static final int TAG_OTHER = 9;
+    private static final int TAG_TABLE_METADATA = 10;
+    private static final int TAG_COLUMN_METADATA = 11;
+    private static final int TAG_DATA_TYPE = 12;
+    private long h1 = 0;
+    private long h2 = 0;
+    private long length = 0;
+
+    /**
+     * Add a 64-bit value
+     *
+     * @param value value to be hashed
+     * @return this instance for fluent programming
+     */
+    FingerprintHasher addLong(final long value) {
+        long k1 = value * C1;
+        k1 = Long.rotateLeft(k1, 31);
+        k1 *= C2;
+        this.h1 ^= k1;
+        this.h1 = Long.rotateLeft(this.h1, 27);
+        this.h1 += this.h2;
+        this.h1 = (this.h1 * 5) + 0x52dce729;
+        long k2 = value * C2;
+        k2 = Long.rotateLeft(k2, 33);
+        k2 *= C1;
+        this.h2 ^= k2;
+        this.h2 = Long.rotateLeft(this.h2, 31);
+        this.h2 += this.h1;
+        this.h2 = (this.h2 * 5) + 0x38495ab5;
+        ++this.length;
+        return this;
+    }
+
+    /**
+     * Add a string, four characters per 64-bit word
+     *
+     * @param value string to be hashed
+     * @return this instance for fluent programming
+     */
+    FingerprintHasher addString(final String value) {
+        addLong(TAG_STRING);
+        addLong(value.length());
+        long word = 0;
+        for (int i = 0; i < value.length(); ++i) {
+            word = (word << 16) | value.charAt(i);
+            if ((i % 4) == 3) {
+                addLong(word);
+                word = 0;
+            }
+        }
+        if ((value.length() % 4) != 0) {
+            addLong(word);
+        }
+        return this;
+    }
+
+    /**
+     * Add an attribute of a node
+     * <p>
+     * Table and column metadata are hashed by their identifying fields: the table name, the column name and the data
+     * type. Fields like comments or adapter notes do not contribute, so nodes that only differ in those have the same
+     * hash, but are not equal. Other objects without special handling are hashed by their string representation, which
+     * therefore must be consistent with their <code>equals()</code> method.
+     *
+     * @param value attribute
+     * @return this instance for fluent programming
+     */
+    FingerprintHasher addObject(final Object value) {
+        if (value == null) {
+            addLong(TAG_NULL);
+        } else if (value instanceof String) {
+            addString((String) value);
+        } else if ((value instanceof Integer) || (value instanceof Long)) {
+            addLong(TAG_INTEGER).addLong(((Number) value).longValue());
+        } else if (value instanceof Boolean) {
+            addLong(TAG_BOOLEAN).addLong(((Boolean) value) ? 1 : 0);
+        } else if (value instanceof Double) {
+            addLong(TAG_DOUBLE).addLong(Double.doubleToLongBits((Double) value));
+        } else if (value instanceof BigDecimal) {
+            addLong(TAG_DECIMAL).addString(value.toString());
+        } else if (value instanceof Enum) {
+            addLong(TAG_ENUM).addString(((Enum<?>) value).name());
+        } else if (value instanceof InConstListValues) {
+            addLong(TAG_IN_LIST_VALUES);
+            ((InConstListValues) value).hashInto(this);
+        } else if (value instanceof TableMetadata) {
+            addLong(TAG_TABLE_METADATA).addObject(((TableMetadata) value).getName());
+        } else if (value instanceof ColumnMetadata) {
+            final ColumnMetadata column = (ColumnMetadata) value;
+            addLong(TAG_COLUMN_METADATA).addObject(column.getName()).addObject(column.getType());
+        } else if (value instanceof DataType) {
+            addDataType((DataType) value);
+        } else if (value instanceof List) {
+            final List<?> list = (List<?>) value;
+            addLong(TAG_LIST).addLong(list.size());
+            for (final Object element : list) {
+                addObject(element);
+            }
+        } else {
+            addLong(TAG_OTHER).addString(value.toString());
+        }
+        return this;
+    }
+
+    private void addDataType(final DataType type) {
+        addLong(TAG_DATA_TYPE).addObject(type.getExaDataType()).addLong(type.getPrecision()).addLong(type.getScale())
+                .addLong(type.getSize()).addObject(type.getCharset()).addLong(type.isWithLocalTimezone() ? 1 : 0)
+                .addLong(type.getGeometrySrid()).addObject(type.getIntervalType()).addLong(type.getIntervalFraction())
+                .addLong(type.getByteSize());
+    }
+
+    /**
+     * @return fingerprint of all values added so far
+     */
+    SqlNodeFingerprint finish() {
+        long high = this.h1 ^ this.length;
+        long low = this.h2 ^ this.length;
+        high += low;
+        low += high;
+        high = mix(high);
+        low = mix(low);
+        high += low;
+        low += high;
+        return new SqlNodeFingerprint(high, low);
+    }
+
+    private static long mix(final long value) {
+        long mixed = value;
+        mixed ^= mixed >>> 33;
+        mixed *= 0xff51afd7ed558ccdL;
+        mixed ^= mixed >>> 33;
+        mixed *= 0xc4ceb9fe1a85ec53L;
+        mixed ^= mixed >>> 33;
+        return mixed;
+    }
+}
@@ -0,0 +1,323 @@
+package com.exasol.adapter.sql;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+/**
+ * Storage for the constants of an <code>IN</code> list.
+ * <p>
+ * If all constants of an <code>IN</code> list are literals of the same type, they can be stored in a primitive array or
+ * a packed string table instead of one {@link SqlNode} per constant. That needs a fraction of the memory for long
+ * lists. The literal nodes are only created on demand.
+ */
+abstract class InConstListValues {
+    private static final BigDecimal MIN_LONG = BigDecimal.valueOf(Long.MIN_VALUE);
+    private static final BigDecimal MAX_LONG = BigDecimal.valueOf(Long.MAX_VALUE);
+    private final boolean sortedDistinct;
+
+    InConstListValues(final boolean sortedDistinct) {
+        this.sortedDistinct = sortedDistinct;
+    }
+
+    /**
+     * @return number of constants in the list
+     */
+    abstract int size();
+
+    /**
+     * Create a literal node for a constant
+     *
+     * @param index position of the constant in the list
+     * @return new literal node without parent
+     */
+    abstract SqlNode createNode(int index);
+
+    /**
+     * @return <code>true</code> if the constants are sorted in ascending order and free of duplicates
+     */
+    boolean isSortedDistinct() {
+        return this.sortedDistinct;
+    }
+
+    /**
+     * Add the constants to a fingerprint
+     * <p>
+     * Lists that are equal according to <code>equals()</code> must add the same values.
+     *
+     * @param hasher hasher that receives the constants
+     */
+    abstract void hashInto(FingerprintHasher hasher);
+
+    long getLong(final int index) {
+        throw new IllegalStateException("IN list is not backed by exact numeric integer values.");
+    }
+
+    double getDouble(final int index) {
+        throw new IllegalStateException("IN list is not backed by double values.");
+    }
+
+    String getString(final int index) {
+        throw new IllegalStateException("IN list is not backed by string values.");
+    }
+
+    /**
+     * Store the constants of a list of literal nodes in compact form
+     *
+     * @param nodes literal nodes
+     * @return compact values or <code>null</code> if the nodes are not all literals of the same supported type
+     */
+    static InConstListValues compact(final List<SqlNode> nodes) {
+        if ((nodes == null) || nodes.isEmpty()) {
+            return null;
+        }
+        switch (nodes.get(0).getType()) {
+        case LITERAL_EXACTNUMERIC:
+            return compactLongs(nodes);
+        case LITERAL_DOUBLE:
+            return compactDoubles(nodes);
+        case LITERAL_STRING:
+            return compactStrings(nodes);
+        default:
+            return null;
+        }
+    }
+
+    /**
+     * @param value exact numeric constant
+     * @return <code>true</code> if the value has no fraction and fits into a <code>long</code>
+     */
+    static boolean isLong(final BigDecimal value) {
+        return (value.scale() == 0) && (value.compareTo(MIN_LONG) >= 0) && (value.compareTo(MAX_LONG) <= 0);
+    }
+
+    private static InConstListValues compactLongs(final List<SqlNode> nodes) {
+        final long[] values = new long[nodes.size()];
+        int i = 0;
+        for (final SqlNode node : nodes) {
+            if (node.getType() != SqlNodeType.LITERAL_EXACTNUMERIC) {
+                return null;
+            }
+            final BigDecimal value = ((SqlLiteralExactnumeric) node).getValue();
+            if (!isLong(value)) {
+                return null;
+            }
+            values[i++] = value.longValue();
+        }
+        return new LongValues(values, false);
+    }
+
+    private static InConstListValues compactDoubles(final List<SqlNode> nodes) {
+        final double[] values = new double[nodes.size()];
+        int i = 0;
+        for (final SqlNode node : nodes) {
+            if (node.getType() != SqlNodeType.LITERAL_DOUBLE) {
+                return null;
+            }
+            values[i++] = ((SqlLiteralDouble) node).getValue();
+        }
+        return new DoubleValues(values, false);
+    }
+
+    private static InConstListValues compactStrings(final List<SqlNode> nodes) {
+        final String[] values = new String[nodes.size()];
+        int i = 0;
+        for (final SqlNode node : nodes) {
+            if (node.getType() != SqlNodeType.LITERAL_STRING) {
+                return null;
+            }
+            values[i++] = ((SqlLiteralString) node).getValue();
+        }
+        return StringValues.pack(values, false);
+    }
+
+    /**
+     * Exact numeric constants without fraction that fit into a <code>long</code>
+     */
+    static final class LongValues extends InConstListValues {
+        private final long[] values;
+
+        LongValues(final long[] values, final boolean sortedDistinct) {
+            super(sortedDistinct);
+            this.values = values;
+        }
+
+        static LongValues sortedDistinct(final long[] values) {
+            final long[] sorted = values.clone();
+            Arrays.sort(sorted);
+            int distinct = 0;
+            for (int i = 0; i < sorted.length; ++i) {
+                if ((i == 0) || (sorted[i] != sorted[distinct - 1])) {
+                    sorted[distinct++] = sorted[i];
+                }
+            }
+            return new LongValues(Arrays.copyOf(sorted, distinct), true);
+        }
+
+        @Override
+        int size() {
+            return this.values.length;
+        }
+
+        @Override
+        SqlNode createNode(final int index) {
+            return new SqlLiteralExactnumeric(BigDecimal.valueOf(this.values[index]));
+        }
+
+        @Override
+        long getLong(final int index) {
+            return this.values[index];
+        }
+
+        @Override
+        void hashInto(final FingerprintHasher hasher) {
+            hasher.addObject(SqlNodeType.LITERAL_EXACTNUMERIC).addLong(this.values.length);
+            for (final long value : this.values) {
+                hasher.addLong(value);
+            }
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            return (other instanceof LongValues) && Arrays.equals(this.values, ((LongValues) other).values);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(this.values);
+        }
+    }
+
+    /**
+     * Double constants
+     */
+    static final class DoubleValues extends InConstListValues {
+        private final double[] values;
+
+        DoubleValues(final double[] values, final boolean sortedDistinct) {
+            super(sortedDistinct);
+            this.values = values;
+        }
+
+        static DoubleValues sortedDistinct(final double[] values) {
+            final double[] sorted = values.clone();
+            Arrays.sort(sorted);
+            int distinct = 0;
+            for (int i = 0; i < sorted.length; ++i) {
+                if ((i == 0) || (Double.compare(sorted[i], sorted[distinct - 1]) != 0)) {
+                    sorted[distinct++] = sorted[i];
+                }
+            }
+            return new DoubleValues(Arrays.copyOf(sorted, distinct), true);
+        }
+
+        @Override
+        int size() {
+            return this.values.length;
+        }
+
+        @Override
+        SqlNode createNode(final int index) {
+            return new SqlLiteralDouble(this.values[index]);
+        }
+
+        @Override
+        double getDouble(final int index) {
+            return this.values[index];
+        }
+
+        @Override
+        void hashInto(final FingerprintHasher hasher) {
+            hasher.addObject(SqlNodeType.LITERAL_DOUBLE).addLong(this.values.length);
+            for (final double value : this.values) {
+                hasher.addLong(Double.doubleToLongBits(value));
+            }
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            return (other instanceof DoubleValues) && Arrays.equals(this.values, ((DoubleValues) other).values);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(this.values);
+        }
+    }
+
+    /**
+     * String constants packed into a single character sequence with an offset table
+     */
+    static final class StringValues extends InConstListValues {
+        private final String packed;
+        private final int[] offsets;
+
+        private StringValues(final String packed, final int[] offsets, final boolean sortedDistinct) {
+            super(sortedDistinct);
+            this.packed = packed;
+            this.offsets = offsets;
+        }
+
+        static StringValues pack(final String[] values, final boolean sortedDistinct) {
+            final int[] offsets = new int[values.length + 1];
+            final StringBuilder builder = new StringBuilder();
+            for (int i = 0; i < values.length; ++i) {
+                builder.append(values[i]);
+                offsets[i + 1] = builder.length();
+            }
+            return new StringValues(builder.toString(), offsets, sortedDistinct);
+        }
+
+        static StringValues sortedDistinct(final String[] values) {
+            final String[] sorted = values.clone();
+            Arrays.sort(sorted);
+            int distinct = 0;
+            for (int i = 0; i < sorted.length; ++i) {
+                if ((i == 0) || !sorted[i].equals(sorted[distinct - 1])) {
+                    sorted[distinct++] = sorted[i];
+                }
+            }
+            return pack(Arrays.copyOf(sorted, distinct), true);
+        }
+
+        @Override
+        int size() {
+            return this.offsets.length - 1;
+        }
+
+        @Override
+        SqlNode createNode(final int index) {
+            return new SqlLiteralString(getString(index));
+        }
+
+        @Override
+        String getString(final int index) {
+            if ((index < 0) || (index >= size())) {
+                throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size());
+            }
+            return this.packed.substring(this.offsets[index], this.offsets[index + 1]);
+        }
+
+        @Override
+        void hashInto(final FingerprintHasher hasher) {
+            hasher.addObject(SqlNodeType.LITERAL_STRING).addLong(size());
+            for (final int offset : this.offsets) {
+                hasher.addLong(offset);
+            }
+            hasher.addString(this.packed);
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            if (!(other instanceof StringValues)) {
+                return false;
+            }
+            final StringValues otherValues = (StringValues) other;
+            return this.packed.equals(otherValues.packed) && Arrays.equals(this.offsets, otherValues.offsets);
+        }
+
+        @Override
+        public int hashCode() {
+            return (31 * this.packed.hashCode()) + Arrays.hashCode(this.offsets);
+        }
+    }
+}
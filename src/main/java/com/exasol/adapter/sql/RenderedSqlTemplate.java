@@ -0,0 +1,145 @@
+package com.exasol.adapter.sql;
+
+import java.util.*;
+
+/**
+ * SQL text of a {@link SqlStatementTemplate} rendered in the dialect of an adapter, with gaps for the parameters.
+ * <p>
+ * Instances are immutable and can be shared between threads.
+ */
+public final class RenderedSqlTemplate {
+    private final String[] fragments;
+    private final int[] parameterIndexes;
+    private final int parameterCount;
+    private final int fragmentsLength;
+
+    private RenderedSqlTemplate(final String[] fragments, final int[] parameterIndexes, final int parameterCount) {
+        this.fragments = fragments;
+        this.parameterIndexes = parameterIndexes;
+        this.parameterCount = parameterCount;
+        int length = 0;
+        for (final String fragment : this.fragments) {
+            length += fragment.length();
+        }
+        this.fragmentsLength = length;
+    }
+
+    /**
+     * @return number of parameters the template expects
+     */
+    public int getParameterCount() {
+        return this.parameterCount;
+    }
+
+    /**
+     * Render the complete SQL statement
+     *
+     * @param renderedParameters SQL text of the parameters in the order of {@link SqlStatementTemplate#getParameters()}
+     * @return SQL statement
+     * @throws IllegalArgumentException if the number of parameters does not match the template
+     */
+    public String render(final List<String> renderedParameters) {
+        if (renderedParameters.size() != this.parameterCount) {
+            throw new IllegalArgumentException("SQL template expects " + this.parameterCount + " parameters but got "
+                    + renderedParameters.size() + ".");
+        }
+        int length = this.fragmentsLength;
+        for (final String parameter : renderedParameters) {
+            length += parameter.length();
+        }
+        final StringBuilder builder = new StringBuilder(length);
+        builder.append(this.fragments[0]);
+        for (int i = 0; i < this.parameterIndexes.length; ++i) {
+            builder.append(renderedParameters.get(this.parameterIndexes[i]));
+            builder.append(this.fragments[i + 1]);
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder(this.fragments[0]);
+        for (int i = 0; i < this.parameterIndexes.length; ++i) {
+            builder.append("{").append(this.parameterIndexes[i]).append("}").append(this.fragments[i + 1]);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Create a new builder for a {@link RenderedSqlTemplate}
+     *
+     * @return builder instance
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Builder for a {@link RenderedSqlTemplate}
+     */
+    public static class Builder {
+        private final List<String> fragments = new ArrayList<>();
+        private final List<Integer> parameterIndexes = new ArrayList<>();
+        private final StringBuilder currentFragment = new StringBuilder();
+        private int parameterCount = 0;
+
+        /**
+         * Append SQL text
+         *
+         * @param sql SQL text
+         * @return builder instance for fluent programming
+         */
+        public Builder appendSql(final String sql) {
+            this.currentFragment.append(sql);
+            return this;
+        }
+
+        /**
+         * Append a parameter
+         * <p>
+         * A parameter can appear more than once, for example if the dialect repeats an expression.
+         *
+         * @param index index of the parameter in the parameter vector of the {@link SqlStatementTemplate}
+         * @return builder instance for fluent programming
+         */
+        public Builder appendParameter(final int index) {
+            if (index < 0) {
+                throw new IllegalArgumentException("Parameter index must not be negative but was " + index + ".");
+            }
+            this.fragments.add(this.currentFragment.toString());
+            this.currentFragment.setLength(0);
+            this.parameterIndexes.add(index);
+            this.parameterCount = Math.max(this.parameterCount, index + 1);
+            return this;
+        }
+
+        /**
+         * Set the number of parameters the template expects
+         * <p>
+         * Only needed if the rendered SQL text does not use all parameters.
+         *
+         * @param parameterCount number of parameters
+         * @return builder instance for fluent programming
+         */
+        public Builder parameterCount(final int parameterCount) {
+            if (parameterCount < this.parameterCount) {
+                throw new IllegalArgumentException("Parameter count " + parameterCount
+                        + " is smaller than the number of parameters used (" + this.parameterCount + ").");
+            }
+            this.parameterCount = parameterCount;
+            return this;
+        }
+
+        /**
+         * Build a new instance of {@link RenderedSqlTemplate}
+         *
+         * @return new instance
+         */
+        public RenderedSqlTemplate build() {
+            final String[] allFragments = this.fragments.toArray(new String[this.fragments.size() + 1]);
+            allFragments[this.fragments.size()] = this.currentFragment.toString();
+            final int[] indexes = this.parameterIndexes.stream().mapToInt(Integer::intValue).toArray();
+            return new RenderedSqlTemplate(allFragments, indexes, this.parameterCount);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.exasol.adapter.sql;
+
+/**
+ * Access to the column values of a row for a {@link CompiledExpression}.
+ * <p>
+ * Supported values are <code>null</code>, {@link Boolean}, {@link Long}, {@link Integer}, {@link Short}, {@link Byte},
+ * {@link java.math.BigDecimal}, {@link java.math.BigInteger}, {@link Double}, {@link Float}, {@link CharSequence},
+ * {@link java.time.LocalDate}, {@link java.time.LocalDateTime}, {@link java.sql.Date} and {@link java.sql.Timestamp}.
+ */
+@FunctionalInterface
+public interface RowValues {
+    /**
+     * Get the value of a column
+     *
+     * @param columnIndex index of the column as resolved by the {@link SqlExpressionCompiler}
+     * @return value or <code>null</code> for SQL <code>NULL</code>
+     */
+    Object getValue(int columnIndex);
+}
@@ -0,0 +1,854 @@
+package com.exasol.adapter.sql;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.*;
+import java.util.regex.Pattern;
+
+import com.exasol.adapter.metadata.DataType;
+
+/**
+ * Compiler that turns predicates and scalar expressions into {@link CompiledExpression}s.
+ * <p>
+ * Adapters for sources without a query engine, like files or REST APIs, have to filter and project rows themselves.
+ * Instead of interpreting the {@link SqlNode} tree for each row, they compile it once into a tree of closures and
+ * evaluate that on all rows. Sub-expressions without columns are evaluated once at compile time, nested
+ * <code>AND</code> and <code>OR</code> predicates are flattened and <code>LIKE</code> patterns are translated once.
+ * <p>
+ * The compiled expressions follow Exasol's semantics: <code>NULL</code> propagates through functions and comparisons,
+ * predicates use three-valued logic and empty strings are <code>NULL</code>.
+ * <p>
+ * Supported are literals (except intervals), columns, all predicates, <code>CASE</code>, <code>CAST</code> to
+ * <code>DECIMAL</code>, <code>DOUBLE</code>, <code>VARCHAR</code>, <code>CHAR</code>, <code>BOOLEAN</code>,
+ * <code>DATE</code> and <code>TIMESTAMP</code>, <code>EXTRACT</code> and the scalar functions listed in
+ * {@link #isSupported(ScalarFunction)}.
+ */
+public final class SqlExpressionCompiler {
+    /** Maximum nesting depth of a compiled expression, which is evaluated recursively */
+    public static final int MAX_DEPTH = 1000;
+    private static final Set<ScalarFunction> SUPPORTED_FUNCTIONS = EnumSet.of(ScalarFunction.ADD, ScalarFunction.SUB,
+            ScalarFunction.MULT, ScalarFunction.FLOAT_DIV, ScalarFunction.NEG, ScalarFunction.ABS, ScalarFunction.MOD,
+            ScalarFunction.GREATEST, ScalarFunction.LEAST, ScalarFunction.ZEROIFNULL, ScalarFunction.NULLIFZERO,
+            ScalarFunction.CONCAT, ScalarFunction.LENGTH, ScalarFunction.LOWER, ScalarFunction.UPPER,
+            ScalarFunction.LTRIM, ScalarFunction.RTRIM, ScalarFunction.TRIM, ScalarFunction.SUBSTR,
+            ScalarFunction.YEAR, ScalarFunction.MONTH, ScalarFunction.DAY);
+    private static final RowValues NO_ROW = columnIndex -> {
+        throw new IllegalStateException("Constant expression must not access columns.");
+    };
+    private final ToIntFunction<SqlColumn> columnIndexResolver;
+
+    private SqlExpressionCompiler(final Builder builder) {
+        this.columnIndexResolver = builder.columnIndexResolver;
+    }
+
+    /**
+     * Create a compiler that uses the column ID as index into the {@link RowValues}
+     *
+     * @return new compiler
+     */
+    public static SqlExpressionCompiler create() {
+        return builder().build();
+    }
+
+    /**
+     * Check whether a scalar function is supported
+     *
+     * @param function scalar function
+     * @return <code>true</code> if expressions containing the function can be compiled
+     */
+    public static boolean isSupported(final ScalarFunction function) {
+        return SUPPORTED_FUNCTIONS.contains(function);
+    }
+
+    /**
+     * Compile an expression
+     *
+     * @param expression predicate or scalar expression
+     * @return compiled expression
+     * @throws IllegalArgumentException if the expression contains unsupported nodes or is nested deeper than
+     *                                  {@link #MAX_DEPTH} levels
+     */
+    public CompiledExpression compile(final SqlNode expression) {
+        final Deque<Frame> stack = new ArrayDeque<>();
+        stack.push(new Frame(expression));
+        Compiled result = null;
+        while (!stack.isEmpty()) {
+            final Frame frame = stack.peek();
+            if (frame.nextChildIndex < frame.children.size()) {
+                stack.push(new Frame(frame.children.get(frame.nextChildIndex++)));
+            } else {
+                stack.pop();
+                result = compileNode(frame.node, frame.results);
+                if (result.depth > MAX_DEPTH) {
+                    throw new IllegalArgumentException("Expression is nested deeper than " + MAX_DEPTH
+                            + " levels. Please simplify it with the SqlPredicateSimplifier before compiling it.");
+                }
+                if (!stack.isEmpty()) {
+                    stack.peek().results.add(result);
+                }
+            }
+        }
+        return result.getExpression();
+    }
+
+    private static List<SqlNode> getChildren(final SqlNode node) {
+        switch (node.getType()) {
+        case PREDICATE_IN_CONSTLIST:
+            return Collections.singletonList(((SqlPredicateInConstList) node).getExpression());
+        case COLUMN: // falling through intentionally
+        case LITERAL_NULL:
+        case LITERAL_BOOL:
+        case LITERAL_DATE:
+        case LITERAL_TIMESTAMP:
+        case LITERAL_TIMESTAMPUTC:
+        case LITERAL_DOUBLE:
+        case LITERAL_EXACTNUMERIC:
+        case LITERAL_STRING:
+        case PREDICATE_AND:
+        case PREDICATE_OR:
+        case PREDICATE_NOT:
+        case PREDICATE_EQUAL:
+        case PREDICATE_NOTEQUAL:
+        case PREDICATE_LESS:
+        case PREDICATE_LESSEQUAL:
+        case PREDICATE_LIKE:
+        case PREDICATE_LIKE_REGEXP:
+        case PREDICATE_BETWEEN:
+        case PREDICATE_IS_NULL:
+        case PREDICATE_IS_NOT_NULL:
+        case FUNCTION_SCALAR_CASE:
+        case FUNCTION_SCALAR_CAST:
+        case FUNCTION_SCALAR_EXTRACT:
+            return SqlNodeTraversal.getChildren(node);
+        case FUNCTION_SCALAR:
+            final ScalarFunction function = ((SqlFunctionScalar) node).getFunction();
+            if (!isSupported(function)) {
+                throw new IllegalArgumentException("Scalar function " + function + " can't be compiled.");
+            }
+            return SqlNodeTraversal.getChildren(node);
+        default:
+            throw new IllegalArgumentException("Node type " + node.getType() + " can't be compiled.");
+        }
+    }
+
+    private Compiled compileNode(final SqlNode node, final List<Compiled> arguments) {
+        switch (node.getType()) {
+        case COLUMN:
+            return compileColumn((SqlColumn) node);
+        case LITERAL_NULL: // falling through intentionally
+        case LITERAL_BOOL:
+        case LITERAL_DATE:
+        case LITERAL_TIMESTAMP:
+        case LITERAL_TIMESTAMPUTC:
+        case LITERAL_DOUBLE:
+        case LITERAL_EXACTNUMERIC:
+        case LITERAL_STRING:
+            return compileLiteral(node);
+        case PREDICATE_AND:
+            return compileJunction(SqlNodeType.PREDICATE_AND, arguments);
+        case PREDICATE_OR:
+            return compileJunction(SqlNodeType.PREDICATE_OR, arguments);
+        case PREDICATE_NOT:
+            return compileNot(arguments.get(0));
+        case PREDICATE_EQUAL: // falling through intentionally
+        case PREDICATE_NOTEQUAL:
+        case PREDICATE_LESS:
+        case PREDICATE_LESSEQUAL:
+            return compileComparison(node.getType(), arguments.get(0), arguments.get(1));
+        case PREDICATE_BETWEEN:
+            return compileBetween(arguments.get(0), arguments.get(1), arguments.get(2));
+        case PREDICATE_IN_CONSTLIST:
+            return compileInList((SqlPredicateInConstList) node, arguments.get(0));
+        case PREDICATE_IS_NULL:
+            return derive(arguments.get(0), value -> value == null);
+        case PREDICATE_IS_NOT_NULL:
+            return derive(arguments.get(0), value -> value != null);
+        case PREDICATE_LIKE:
+            return compileLike(arguments);
+        case PREDICATE_LIKE_REGEXP:
+            return compilePatternMatch(arguments.get(0), arguments.get(1), Pattern::compile);
+        case FUNCTION_SCALAR_CASE:
+            return compileCase((SqlFunctionScalarCase) node, arguments);
+        case FUNCTION_SCALAR_CAST:
+            return compileCast(((SqlFunctionScalarCast) node).getDataType(), arguments.get(0));
+        case FUNCTION_SCALAR_EXTRACT:
+            return compileExtract(((SqlFunctionScalarExtract) node).getToExtract(), arguments.get(0));
+        case FUNCTION_SCALAR:
+            return compileFunction(((SqlFunctionScalar) node).getFunction(), arguments);
+        default:
+            throw new IllegalArgumentException("Node type " + node.getType() + " can't be compiled.");
+        }
+    }
+
+    private static Compiled compileLiteral(final SqlNode node) {
+        switch (node.getType()) {
+        case LITERAL_NULL:
+            return Compiled.constant(null);
+        case LITERAL_BOOL:
+            return Compiled.constant(((SqlLiteralBool) node).getValue());
+        case LITERAL_DATE:
+            return Compiled.constant(SqlValues.parseDate(((SqlLiteralDate) node).getValue()));
+        case LITERAL_TIMESTAMP:
+            return Compiled.constant(SqlValues.parseTimestamp(((SqlLiteralTimestamp) node).getValue()));
+        case LITERAL_TIMESTAMPUTC:
+            return Compiled.constant(SqlValues.parseTimestamp(((SqlLiteralTimestampUtc) node).getValue()));
+        case LITERAL_DOUBLE:
+            return Compiled.constant(((SqlLiteralDouble) node).getValue());
+        case LITERAL_EXACTNUMERIC:
+            return Compiled.constant(SqlValues.normalizeDecimal(((SqlLiteralExactnumeric) node).getValue()));
+        case LITERAL_STRING:
+            return Compiled.constant(SqlValues.normalize(((SqlLiteralString) node).getValue()));
+        default:
+            throw new IllegalArgumentException("Literal type " + node.getType() + " can't be compiled.");
+        }
+    }
+
+    private Compiled compileColumn(final SqlColumn column) {
+        final int index = this.columnIndexResolver.applyAsInt(column);
+        return new Compiled(row -> SqlValues.normalize(row.getValue(index)), 1);
+    }
+
+    /**
+     * Compile a conjunction or disjunction
+     * <p>
+     * Operands of nested junctions of the same type are merged into this junction. The closure is only created when the
+     * junction is used as an operand of another node, so that long chains of nested junctions are merged in linear
+     * time.
+     */
+    private static Compiled compileJunction(final SqlNodeType type, final List<Compiled> arguments) {
+        final boolean absorbing = (type == SqlNodeType.PREDICATE_OR);
+        final Compiled first = arguments.get(0);
+        final boolean reuseFirst = (first.junctionType == type);
+        final List<CompiledExpression> operands = reuseFirst ? first.junctionOperands : new ArrayList<>();
+        boolean unknown = reuseFirst && first.junctionContainsUnknown;
+        int depth = reuseFirst ? (first.depth - 1) : 0;
+        for (int i = reuseFirst ? 1 : 0; i < arguments.size(); ++i) {
+            final Compiled argument = arguments.get(i);
+            if (argument.isConstant) {
+                final Boolean value = toBoolean(argument.value);
+                if ((value != null) && (value == absorbing)) {
+                    return Compiled.constant(absorbing);
+                }
+                unknown |= (value == null);
+            } else if (argument.junctionType == type) {
+                operands.addAll(argument.junctionOperands);
+                unknown |= argument.junctionContainsUnknown;
+                depth = Math.max(depth, argument.depth - 1);
+            } else {
+                operands.add(argument.getExpression());
+                depth = Math.max(depth, argument.depth);
+            }
+        }
+        if (operands.isEmpty()) {
+            return Compiled.constant(unknown ? null : !absorbing);
+        }
+        return Compiled.junction(type, operands, unknown, depth + 1);
+    }
+
+    private static CompiledExpression createJunction(final boolean absorbing,
+            final List<CompiledExpression> operands, final boolean containsUnknown) {
+        final CompiledExpression[] operandArray = operands.toArray(new CompiledExpression[0]);
+        return row -> {
+            boolean isUnknown = containsUnknown;
+            for (final CompiledExpression operand : operandArray) {
+                final Boolean value = toBoolean(operand.evaluate(row));
+                if (value == null) {
+                    isUnknown = true;
+                } else if (value == absorbing) {
+                    return absorbing;
+                }
+            }
+            return isUnknown ? null : !absorbing;
+        };
+    }
+
+    private static Compiled compileNot(final Compiled argument) {
+        return derive(argument, value -> {
+            final Boolean bool = toBoolean(value);
+            return (bool == null) ? null : !bool;
+        });
+    }
+
+    private static Compiled compileComparison(final SqlNodeType type, final Compiled left, final Compiled right) {
+        final IntPredicate test;
+        switch (type) {
+        case PREDICATE_EQUAL:
+            test = order -> order == 0;
+            break;
+        case PREDICATE_NOTEQUAL:
+            test = order -> order != 0;
+            break;
+        case PREDICATE_LESS:
+            test = order -> order < 0;
+            break;
+        default:
+            test = order -> order <= 0;
+            break;
+        }
+        if (right.isConstant && !left.isConstant) {
+            final Object constant = right.value;
+            if (constant == null) {
+                return Compiled.constant(null);
+            }
+            final CompiledExpression leftExpression = left.getExpression();
+            return new Compiled(row -> {
+                final Object value = leftExpression.evaluate(row);
+                return (value == null) ? null : test.test(SqlValues.compare(value, constant));
+            }, left.depth + 1);
+        }
+        return derive(Arrays.asList(left, right), values -> ((values[0] == null) || (values[1] == null)) ? null
+                : test.test(SqlValues.compare(values[0], values[1])));
+    }
+
+    private static Compiled compileBetween(final Compiled expression, final Compiled low, final Compiled high) {
+        if (low.isConstant && high.isConstant && (low.value != null) && (high.value != null)) {
+            final Object lowValue = low.value;
+            final Object highValue = high.value;
+            return derive(expression, value -> (value == null) ? null
+                    : ((SqlValues.compare(value, lowValue) >= 0) && (SqlValues.compare(value, highValue) <= 0)));
+        }
+        return derive(Arrays.asList(expression, low, high), values -> {
+            if (values[0] == null) {
+                return null;
+            }
+            final Boolean aboveLow = (values[1] == null) ? null : (SqlValues.compare(values[0], values[1]) >= 0);
+            final Boolean belowHigh = (values[2] == null) ? null : (SqlValues.compare(values[0], values[2]) <= 0);
+            if (Boolean.FALSE.equals(aboveLow) || Boolean.FALSE.equals(belowHigh)) {
+                return false;
+            }
+            return ((aboveLow == null) || (belowHigh == null)) ? null : true;
+        });
+    }
+
+    private static Compiled compileInList(final SqlPredicateInConstList inList, final Compiled expression) {
+        final InConstListValues compactValues = inList.getCompactValuesOrNull();
+        final java.util.function.Predicate<Object> contains;
+        final boolean containsNull;
+        if (inList.hasLongValues()) {
+            final long[] values = sortedLongs(compactValues);
+            contains = value -> containsLong(values, value);
+            containsNull = false;
+        } else if (inList.hasStringValues()) {
+            final Set<String> values = new HashSet<>();
+            for (int i = 0; i < compactValues.size(); ++i) {
+                values.add(compactValues.getString(i));
+            }
+            contains = value -> (value instanceof String) ? values.contains(value)
+                    : containsByComparison(values, value);
+            containsNull = values.remove("");
+        } else {
+            final List<Object> values = new ArrayList<>();
+            if (compactValues != null) {
+                for (int i = 0; i < compactValues.size(); ++i) {
+                    values.add(compactValues.getDouble(i));
+                }
+            } else {
+                for (final SqlNode argument : inList.getInArguments()) {
+                    values.add(compileLiteral(argument).value);
+                }
+            }
+            containsNull = values.remove(null);
+            while (values.remove(null)) {
+                // remove all NULL constants, they never match
+            }
+            contains = value -> containsByComparison(values, value);
+        }
+        return derive(expression, value -> {
+            if (value == null) {
+                return null;
+            }
+            return contains.test(value) ? Boolean.TRUE : (containsNull ? null : Boolean.FALSE);
+        });
+    }
+
+    private static long[] sortedLongs(final InConstListValues values) {
+        final long[] sorted = new long[values.size()];
+        for (int i = 0; i < sorted.length; ++i) {
+            sorted[i] = values.getLong(i);
+        }
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    private static boolean containsLong(final long[] sortedValues, final Object value) {
+        if (value instanceof Long) {
+            return Arrays.binarySearch(sortedValues, (Long) value) >= 0;
+        }
+        final Number number = SqlValues.toNumber(value);
+        if ((number instanceof Double) && !Double.isFinite(number.doubleValue())) {
+            return false;
+        }
+        final Object normalized = SqlValues.normalizeDecimal(SqlValues.toDecimal(number));
+        return (normalized instanceof Long) && (Arrays.binarySearch(sortedValues, (Long) normalized) >= 0);
+    }
+
+    private static boolean containsByComparison(final Collection<?> values, final Object value) {
+        for (final Object candidate : values) {
+            if (SqlValues.compare(value, candidate) == 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Compiled compileLike(final List<Compiled> arguments) {
+        if (arguments.size() == 2) {
+            return compilePatternMatch(arguments.get(0), arguments.get(1),
+                    pattern -> SqlValues.likeToRegex(pattern, null));
+        }
+        final Compiled escape = arguments.get(2);
+        if (!escape.isConstant) {
+            throw new IllegalArgumentException("LIKE with a non-constant escape character can't be compiled.");
+        }
+        final String escapeCharacter = (escape.value == null) ? null : escape.value.toString();
+        return compilePatternMatch(arguments.get(0), arguments.get(1),
+                pattern -> SqlValues.likeToRegex(pattern, escapeCharacter));
+    }
+
+    private static Compiled compilePatternMatch(final Compiled subject, final Compiled pattern,
+            final Function<String, Pattern> patternCompiler) {
+        if (pattern.isConstant) {
+            if (pattern.value == null) {
+                return Compiled.constant(null);
+            }
+            final Pattern regex = patternCompiler.apply(toStringValue(pattern.value));
+            return derive(subject, value -> (value == null) ? null : regex.matcher(toStringValue(value)).matches());
+        }
+        final PatternCache cache = new PatternCache(patternCompiler);
+        return derive(Arrays.asList(subject, pattern), values -> ((values[0] == null) || (values[1] == null)) ? null
+                : cache.get(toStringValue(values[1])).matcher(toStringValue(values[0])).matches());
+    }
+
+    private static Compiled compileCase(final SqlFunctionScalarCase caseNode, final List<Compiled> arguments) {
+        final boolean hasBasis = caseNode.getBasis() != null;
+        final int whenCount = caseNode.getArguments().size();
+        final int offset = hasBasis ? 1 : 0;
+        final boolean hasElse = caseNode.getResults().size() > whenCount;
+        return derive(arguments, (row, operands) -> {
+            final Object basis = hasBasis ? operands[0].evaluate(row) : null;
+            for (int i = 0; i < whenCount; ++i) {
+                final Object when = operands[offset + i].evaluate(row);
+                final boolean matches = hasBasis
+                        ? ((basis != null) && (when != null) && (SqlValues.compare(basis, when) == 0))
+                        : Boolean.TRUE.equals(toBoolean(when));
+                if (matches) {
+                    return operands[offset + whenCount + i].evaluate(row);
+                }
+            }
+            return hasElse ? operands[offset + whenCount + whenCount].evaluate(row) : null;
+        });
+    }
+
+    private static Compiled compileCast(final DataType type, final Compiled argument) {
+        switch (type.getExaDataType()) {
+        case DECIMAL: // falling through intentionally
+        case DOUBLE:
+        case VARCHAR:
+        case CHAR:
+        case BOOLEAN:
+        case DATE:
+        case TIMESTAMP:
+            return derive(argument, value -> (value == null) ? null : SqlValues.cast(value, type));
+        default:
+            throw new IllegalArgumentException("CAST to " + type + " can't be compiled.");
+        }
+    }
+
+    private static Compiled compileExtract(final String field, final Compiled argument) {
+        final Function<LocalDateTime, Object> extractor;
+        switch (field.toUpperCase(Locale.ROOT)) {
+        case "YEAR":
+            extractor = timestamp -> (long) timestamp.getYear();
+            break;
+        case "MONTH":
+            extractor = timestamp -> (long) timestamp.getMonthValue();
+            break;
+        case "DAY":
+            extractor = timestamp -> (long) timestamp.getDayOfMonth();
+            break;
+        case "HOUR":
+            extractor = timestamp -> (long) timestamp.getHour();
+            break;
+        case "MINUTE":
+            extractor = timestamp -> (long) timestamp.getMinute();
+            break;
+        case "SECOND":
+            extractor = timestamp -> SqlValues.normalizeDecimal(BigDecimal.valueOf(timestamp.getSecond())
+                    .add(BigDecimal.valueOf(timestamp.getNano(), 9)));
+            break;
+        default:
+            throw new IllegalArgumentException("EXTRACT of " + field + " can't be compiled.");
+        }
+        return derive(argument, value -> (value == null) ? null : extractor.apply(toTimestamp(value)));
+    }
+
+    private static Compiled compileFunction(final ScalarFunction function, final List<Compiled> arguments) {
+        switch (function) {
+        case ADD:
+            return numeric(arguments, 2, values -> SqlValues.add(values[0], values[1]));
+        case SUB:
+            return numeric(arguments, 2, values -> SqlValues.subtract(values[0], values[1]));
+        case MULT:
+            return numeric(arguments, 2, values -> SqlValues.multiply(values[0], values[1]));
+        case FLOAT_DIV:
+            return numeric(arguments, 2, values -> SqlValues.divide(values[0], values[1]));
+        case MOD:
+            return numeric(arguments, 2, values -> SqlValues.modulo(values[0], values[1]));
+        case NEG:
+            return numeric(arguments, 1, values -> SqlValues.negate(values[0]));
+        case ABS:
+            return numeric(arguments, 1, values -> SqlValues.abs(values[0]));
+        case ZEROIFNULL:
+            checkArgumentCount(function, arguments, 1);
+            return derive(arguments.get(0), value -> (value == null) ? Long.valueOf(0) : value);
+        case NULLIFZERO:
+            checkArgumentCount(function, arguments, 1);
+            return derive(arguments.get(0),
+                    value -> ((value == null) || SqlValues.isZero(SqlValues.toNumber(value))) ? null : value);
+        case GREATEST:
+            return derive(arguments, values -> extreme(values, 1));
+        case LEAST:
+            return derive(arguments, values -> extreme(values, -1));
+        case CONCAT:
+            return derive(arguments, SqlExpressionCompiler::concat);
+        case LENGTH:
+            return string(function, arguments, 1, values -> (long) values[0].codePointCount(0, values[0].length()));
+        case LOWER:
+            return string(function, arguments, 1, values -> values[0].toLowerCase(Locale.ROOT));
+        case UPPER:
+            return string(function, arguments, 1, values -> values[0].toUpperCase(Locale.ROOT));
+        case LTRIM:
+            return trim(function, arguments, true, false);
+        case RTRIM:
+            return trim(function, arguments, false, true);
+        case TRIM:
+            return trim(function, arguments, true, true);
+        case SUBSTR:
+            return substring(arguments);
+        case YEAR:
+            checkArgumentCount(function, arguments, 1);
+            return derive(arguments.get(0), value -> (value == null) ? null : (long) toTimestamp(value).getYear());
+        case MONTH:
+            checkArgumentCount(function, arguments, 1);
+            return derive(arguments.get(0),
+                    value -> (value == null) ? null : (long) toTimestamp(value).getMonthValue());
+        case DAY:
+            checkArgumentCount(function, arguments, 1);
+            return derive(arguments.get(0),
+                    value -> (value == null) ? null : (long) toTimestamp(value).getDayOfMonth());
+        default:
+            throw new IllegalArgumentException("Scalar function " + function + " can't be compiled.");
+        }
+    }
+
+    private static void checkArgumentCount(final ScalarFunction function, final List<Compiled> arguments,
+            final int... allowedCounts) {
+        for (final int count : allowedCounts) {
+            if (arguments.size() == count) {
+                return;
+            }
+        }
+        throw new IllegalArgumentException("Scalar function " + function + " can't be compiled with "
+                + arguments.size() + " arguments.");
+    }
+
+    private static Compiled numeric(final List<Compiled> arguments, final int count,
+            final Function<Number[], Object> operation) {
+        if (arguments.size() != count) {
+            throw new IllegalArgumentException(
+                    "Arithmetic expression expects " + count + " arguments but got " + arguments.size() + ".");
+        }
+        return derive(arguments, values -> {
+            final Number[] numbers = new Number[values.length];
+            for (int i = 0; i < values.length; ++i) {
+                if (values[i] == null) {
+                    return null;
+                }
+                numbers[i] = SqlValues.toNumber(values[i]);
+            }
+            return operation.apply(numbers);
+        });
+    }
+
+    private static Compiled string(final ScalarFunction function, final List<Compiled> arguments, final int count,
+            final Function<String[], Object> operation) {
+        checkArgumentCount(function, arguments, count);
+        return derive(arguments, values -> {
+            final String[] strings = new String[values.length];
+            for (int i = 0; i < values.length; ++i) {
+                if (values[i] == null) {
+                    return null;
+                }
+                strings[i] = toStringValue(values[i]);
+            }
+            return SqlValues.normalize(operation.apply(strings));
+        });
+    }
+
+    private static Compiled trim(final ScalarFunction function, final List<Compiled> arguments, final boolean leading,
+            final boolean trailing) {
+        checkArgumentCount(function, arguments, 1, 2);
+        return string(function, arguments, arguments.size(), values -> {
+            final String characters = (values.length > 1) ? values[1] : " ";
+            final String value = values[0];
+            int start = 0;
+            int end = value.length();
+            while (leading && (start < end) && (characters.indexOf(value.charAt(start)) >= 0)) {
+                ++start;
+            }
+            while (trailing && (end > start) && (characters.indexOf(value.charAt(end - 1)) >= 0)) {
+                --end;
+            }
+            return value.substring(start, end);
+        });
+    }
+
+    private static Compiled substring(final List<Compiled> arguments) {
+        checkArgumentCount(ScalarFunction.SUBSTR, arguments, 2, 3);
+        return derive(arguments, values -> {
+            for (final Object value : values) {
+                if (value == null) {
+                    return null;
+                }
+            }
+            final String string = toStringValue(values[0]);
+            final int length = string.codePointCount(0, string.length());
+            long start = SqlValues.toNumber(values[1]).longValue();
+            if (start < 0) {
+                start = length + start + 1;
+            } else if (start == 0) {
+                start = 1;
+            }
+            long end = (values.length > 2) ? (start + SqlValues.toNumber(values[2]).longValue()) : (length + 1L);
+            start = Math.max(1, start);
+            end = Math.min(length + 1L, end);
+            if ((start > length) || (end <= start)) {
+                return null;
+            }
+            final int beginIndex = string.offsetByCodePoints(0, (int) start - 1);
+            final int endIndex = string.offsetByCodePoints(beginIndex, (int) (end - start));
+            return string.substring(beginIndex, endIndex);
+        });
+    }
+
+    private static Object extreme(final Object[] values, final int sign) {
+        Object result = null;
+        for (final Object value : values) {
+            if (value == null) {
+                return null;
+            }
+            if ((result == null) || ((Integer.signum(SqlValues.compare(value, result)) * sign) > 0)) {
+                result = value;
+            }
+        }
+        return result;
+    }
+
+    private static Object concat(final Object[] values) {
+        final StringBuilder builder = new StringBuilder();
+        for (final Object value : values) {
+            if (value != null) {
+                builder.append(toStringValue(value));
+            }
+        }
+        return SqlValues.normalize(builder.toString());
+    }
+
+    private static Boolean toBoolean(final Object value) {
+        if ((value == null) || (value instanceof Boolean)) {
+            return (Boolean) value;
+        }
+        throw new IllegalArgumentException("Expected a boolean value but got " + value + ".");
+    }
+
+    private static String toStringValue(final Object value) {
+        if (value instanceof String) {
+            return (String) value;
+        } else if (value instanceof BigDecimal) {
+            return ((BigDecimal) value).toPlainString();
+        } else if (value instanceof Boolean) {
+            return ((Boolean) value) ? "TRUE" : "FALSE";
+        } else {
+            return value.toString();
+        }
+    }
+
+    private static LocalDateTime toTimestamp(final Object value) {
+        if (value instanceof LocalDateTime) {
+            return (LocalDateTime) value;
+        } else if (value instanceof LocalDate) {
+            return ((LocalDate) value).atStartOfDay();
+        } else {
+            throw new IllegalArgumentException("Expected a date or timestamp but got " + value + ".");
+        }
+    }
+
+    /**
+     * Create an expression that evaluates a single argument and maps its value
+     * <p>
+     * If the argument is constant, the expression is evaluated once at compile time.
+     */
+    private static Compiled derive(final Compiled argument, final UnaryOperator<Object> function) {
+        final CompiledExpression operand = argument.getExpression();
+        final CompiledExpression expression = row -> function.apply(operand.evaluate(row));
+        return foldIfConstant(expression, argument.isConstant, argument.depth + 1);
+    }
+
+    /**
+     * Create an expression that evaluates all arguments and combines their values
+     * <p>
+     * If all arguments are constant, the expression is evaluated once at compile time.
+     */
+    private static Compiled derive(final List<Compiled> arguments, final Function<Object[], Object> combiner) {
+        return derive(arguments, (row, operands) -> {
+            final Object[] values = new Object[operands.length];
+            for (int i = 0; i < operands.length; ++i) {
+                values[i] = operands[i].evaluate(row);
+            }
+            return combiner.apply(values);
+        });
+    }
+
+    private static Compiled derive(final List<Compiled> arguments,
+            final BiFunction<RowValues, CompiledExpression[], Object> evaluator) {
+        final CompiledExpression[] operands = new CompiledExpression[arguments.size()];
+        boolean allConstant = true;
+        int depth = 0;
+        for (int i = 0; i < operands.length; ++i) {
+            final Compiled argument = arguments.get(i);
+            operands[i] = argument.getExpression();
+            allConstant &= argument.isConstant;
+            depth = Math.max(depth, argument.depth);
+        }
+        final CompiledExpression expression = row -> evaluator.apply(row, operands);
+        return foldIfConstant(expression, allConstant, depth + 1);
+    }
+
+    private static Compiled foldIfConstant(final CompiledExpression expression, final boolean isConstant,
+            final int depth) {
+        if (isConstant) {
+            try {
+                return Compiled.constant(expression.evaluate(NO_ROW));
+            } catch (final RuntimeException exception) {
+                // keep the error for evaluation time, the expression might never be evaluated
+            }
+        }
+        return new Compiled(expression, depth);
+    }
+
+    /**
+     * Builder for a {@link SqlExpressionCompiler}
+     *
+     * @return builder instance
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Builder for a {@link SqlExpressionCompiler}
+     */
+    public static class Builder {
+        private ToIntFunction<SqlColumn> columnIndexResolver = SqlColumn::getId;
+
+        /**
+         * Set the mapping from columns to indexes into the {@link RowValues}
+         * <p>
+         * By default the column ID is used, which is the position of the column in its table.
+         *
+         * @param columnIndexResolver mapping from column to index
+         * @return builder instance for fluent programming
+         */
+        public Builder columnIndexResolver(final ToIntFunction<SqlColumn> columnIndexResolver) {
+            this.columnIndexResolver = columnIndexResolver;
+            return this;
+        }
+
+        /**
+         * Build a new instance of {@link SqlExpressionCompiler}
+         *
+         * @return new instance
+         */
+        public SqlExpressionCompiler build() {
+            return new SqlExpressionCompiler(this);
+        }
+    }
+
+    private static final class Compiled {
+        private CompiledExpression expression;
+        private final int depth;
+        private final boolean isConstant;
+        private final Object value;
+        private SqlNodeType junctionType = null;
+        private List<CompiledExpression> junctionOperands = null;
+        private boolean junctionContainsUnknown = false;
+
+        private Compiled(final CompiledExpression expression, final int depth) {
+            this.expression = expression;
+            this.depth = depth;
+            this.isConstant = false;
+            this.value = null;
+        }
+
+        private Compiled(final Object value) {
+            this.expression = row -> value;
+            this.depth = 1;
+            this.isConstant = true;
+            this.value = value;
+        }
+
+        private static Compiled constant(final Object value) {
+            return new Compiled(value);
+        }
+
+        private static Compiled junction(final SqlNodeType type, final List<CompiledExpression> operands,
+                final boolean containsUnknown, final int depth) {
+            final Compiled compiled = new Compiled(null, depth);
+            compiled.junctionType = type;
+            compiled.junctionOperands = operands;
+            compiled.junctionContainsUnknown = containsUnknown;
+            return compiled;
+        }
+
+        private CompiledExpression getExpression() {
+            if (this.expression == null) {
+                this.expression = createJunction(this.junctionType == SqlNodeType.PREDICATE_OR, this.junctionOperands,
+                        this.junctionContainsUnknown);
+            }
+            return this.expression;
+        }
+    }
+
+    private static final class PatternCache {
+        private final Function<String, Pattern> patternCompiler;
+        private volatile Map.Entry<String, Pattern> lastPattern = null;
+
+        private PatternCache(final Function<String, Pattern> patternCompiler) {
+            this.patternCompiler = patternCompiler;
+        }
+
+        private Pattern get(final String pattern) {
+            final Map.Entry<String, Pattern> cached = this.lastPattern;
+            if ((cached != null) && cached.getKey().equals(pattern)) {
+                return cached.getValue();
+            }
+            final Pattern compiled = this.patternCompiler.apply(pattern);
+            this.lastPattern = new AbstractMap.SimpleImmutableEntry<>(pattern, compiled);
+            return compiled;
+        }
+    }
+
+    private static final class Frame {
+        private final SqlNode node;
+        private final List<SqlNode> children;
+        private final List<Compiled> results = new ArrayList<>();
+        private int nextChildIndex = 0;
+
+        private Frame(final SqlNode node) {
+            this.node = node;
+            this.children = getChildren(node);
+        }
+    }
+}
@@ -33,10 +33,12 @@ public class SqlLimit extends SqlNode {
 
     public void setLimit(final int limit) {
         this.limit = limit;
+        invalidateFingerprint();
     }
 
     public void setOffset(final int offset) {
         this.offset = offset;
+        invalidateFingerprint();
     }
 
     @Override
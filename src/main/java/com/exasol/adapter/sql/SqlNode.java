@@ -4,9 +4,14 @@ import com.exasol.adapter.AdapterException;
 
 /**
  * Node in a graph representing a SQL query.
+ * <p>
+ * Nodes are compared by structure: two nodes are equal if they have the same type, the same attributes and equal
+ * children. The parent is not part of the structure.
  */
 public abstract class SqlNode {
     private SqlNode parent;
+    private volatile SqlNodeFingerprint fingerprint;
+    private volatile SqlStatementTemplate template;
 
     public abstract SqlNodeType getType();
 
@@ -39,4 +44,61 @@ public abstract class SqlNode {
      *         not guaranteed to be 100 % correct SQL (e.g. might be ambiguous).
      */
     abstract String toSimpleSql();
+
+    /**
+     * Get the fingerprint of the tree below this node
+     * <p>
+     * The fingerprint is computed on the first call and cached in this node and all of its descendants, so that
+     * fingerprints of sub-trees are never computed twice.
+     *
+     * @return 128-bit fingerprint that is equal for structurally equal trees
+     */
+    public SqlNodeFingerprint getFingerprint() {
+        final SqlNodeFingerprint cached = this.fingerprint;
+        return (cached == null) ? SqlNodeStructure.fingerprint(this) : cached;
+    }
+
+    SqlNodeFingerprint getCachedFingerprint() {
+        return this.fingerprint;
+    }
+
+    void cacheFingerprint(final SqlNodeFingerprint fingerprint) {
+        this.fingerprint = fingerprint;
+    }
+
+    SqlStatementTemplate getCachedTemplate() {
+        return this.template;
+    }
+
+    void cacheTemplate(final SqlStatementTemplate template) {
+        this.template = template;
+    }
+
+    /**
+     * Forget the cached fingerprints and templates of this node and its ancestors
+     * <p>
+     * Must be called by nodes that change their attributes after construction.
+     */
+    protected void invalidateFingerprint() {
+        for (SqlNode node = this; node != null; node = node.parent) {
+            node.fingerprint = null;
+            node.template = null;
+        }
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        if (this == other) {
+            return true;
+        }
+        if ((other == null) || (getClass() != other.getClass())) {
+            return false;
+        }
+        return SqlNodeStructure.isEqual(this, (SqlNode) other);
+    }
+
+    @Override
+    public int hashCode() {
+        return getFingerprint().hashCode();
+    }
 }
@@ -0,0 +1,65 @@
+package com.exasol.adapter.sql;
+
+/**
+ * 128-bit fingerprint of the structure of a {@link SqlNode} tree.
+ * <p>
+ * Structurally equal trees have the same fingerprint, independently of the JVM they were parsed in. Different trees
+ * have different fingerprints with overwhelming probability, so the fingerprint can be used as compact cache key, for
+ * example for SQL rendered from a push-down statement. Table and column metadata only contribute their names and data
+ * types, so trees that differ only in comments or adapter notes of the metadata have the same fingerprint.
+ *
+ * @see SqlNode#getFingerprint()
+ */
+public final class SqlNodeFingerprint {
+    private final long high;
+    private final long low;
+
+    SqlNodeFingerprint(final long high, final long low) {
+        this.high = high;
+        this.low = low;
+    }
+
+    /**
+     * @return upper 64 bits of the fingerprint
+     */
+    public long getHigh() {
+        return this.high;
+    }
+
+    /**
+     * @return lower 64 bits of the fingerprint
+     */
+    public long getLow() {
+        return this.low;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof SqlNodeFingerprint)) {
+            return false;
+        }
+        final SqlNodeFingerprint that = (SqlNodeFingerprint) other;
+        return (this.high == that.high) && (this.low == that.low);
+    }
+
+    @Override
+    public int hashCode() {
+        return (int) (this.low ^ (this.low >>> 32));
+    }
+
+    /**
+     * @return fingerprint as 32 hexadecimal digits
+     */
+    @Override
+    public String toString() {
+        return toHex(this.high) + toHex(this.low);
+    }
+
+    private static String toHex(final long value) {
+        final String digits = Long.toHexString(value);
+        return "0000000000000000".substring(digits.length()) + digits;
+    }
+}
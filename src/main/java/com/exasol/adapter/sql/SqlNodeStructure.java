@@ -0,0 +1,315 @@
+package com.exasol.adapter.sql;
+
+import java.util.*;
+
+/**
+ * Structural view of {@link SqlNode} trees used for equality and fingerprints.
+ * <p>
+ * The structure of a node consists of its type, its own attributes (like function, literal value or column metadata)
+ * and the structure of its children. The parent of a node is not part of its structure. Like the methods in
+ * {@link SqlNodeTraversal}, the methods in this class keep their state on the heap, so they work on trees of any depth.
+ * <p>
+ * <code>IN</code> lists of literals are compared by their constants, independently of whether they are stored as nodes
+ * or in compact form.
+ */
+final class SqlNodeStructure {
+    private SqlNodeStructure() {
+        // prevent instantiation
+    }
+
+    /**
+     * Get the fingerprint of a node, computing and caching the fingerprints of all sub-trees that are not cached yet
+     *
+     * @param root root of the tree
+     * @return fingerprint
+     */
+    static SqlNodeFingerprint fingerprint(final SqlNode root) {
+        final Deque<Frame> stack = new ArrayDeque<>();
+        stack.push(new Frame(root));
+        while (!stack.isEmpty()) {
+            final Frame frame = stack.peek();
+            if (frame.nextChildIndex < frame.children.size()) {
+                final SqlNode child = frame.children.get(frame.nextChildIndex++);
+                if (child.getCachedFingerprint() == null) {
+                    stack.push(new Frame(child));
+                }
+            } else {
+                stack.pop();
+                frame.node.cacheFingerprint(hash(frame));
+            }
+        }
+        return root.getCachedFingerprint();
+    }
+
+    private static SqlNodeFingerprint hash(final Frame frame) {
+        final FingerprintHasher hasher = new FingerprintHasher();
+        hasher.addObject(frame.node.getType());
+        hasher.addObject(frame.attributes);
+        hasher.addLong(frame.children.size());
+        for (final SqlNode child : frame.children) {
+            final SqlNodeFingerprint childFingerprint = child.getCachedFingerprint();
+            hasher.addLong(childFingerprint.getHigh()).addLong(childFingerprint.getLow());
+        }
+        return hasher.finish();
+    }
+
+    /**
+     * Get the key of the template of a tree and collect the literals that are parameters of the template
+     * <p>
+     * The key is computed like a fingerprint, except that literals only contribute their type.
+     *
+     * @param root       root of the tree
+     * @param parameters list to which the literals are appended in the order in which they appear in the statement
+     * @return template key
+     */
+    static SqlNodeFingerprint templateKey(final SqlNode root, final List<SqlNode> parameters) {
+        final Deque<TemplateFrame> stack = new ArrayDeque<>();
+        stack.push(new TemplateFrame(root));
+        SqlNodeFingerprint key = null;
+        while (!stack.isEmpty()) {
+            final TemplateFrame frame = stack.peek();
+            if (frame.nextChildIndex < frame.children.size()) {
+                final SqlNode child = frame.children.get(frame.nextChildIndex++);
+                stack.push(new TemplateFrame(child));
+            } else {
+                stack.pop();
+                if (isLiteral(frame.node.getType())) {
+                    parameters.add(frame.node);
+                }
+                key = frame.hasher.finish();
+                if (!stack.isEmpty()) {
+                    stack.peek().hasher.addLong(key.getHigh()).addLong(key.getLow());
+                }
+            }
+        }
+        return key;
+    }
+
+    /**
+     * Check whether a node type is a literal
+     *
+     * @param type node type
+     * @return <code>true</code> for all <code>LITERAL_...</code> types
+     */
+    static boolean isLiteral(final SqlNodeType type) {
+        switch (type) {
+        case LITERAL_NULL: // falling through intentionally
+        case LITERAL_BOOL:
+        case LITERAL_DATE:
+        case LITERAL_TIMESTAMP:
+        case LITERAL_TIMESTAMPUTC:
+        case LITERAL_DOUBLE:
+        case LITERAL_EXACTNUMERIC:
+        case LITERAL_STRING:
+        case LITERAL_INTERVAL:
+            return true;
+        default:
+            return false;
+        }
+    }
+
+    /**
+     * Check whether two trees have the same structure
+     *
+     * @param first  root of the first tree
+     * @param second root of the second tree
+     * @return <code>true</code> if both trees have the same structure
+     */
+    static boolean isEqual(final SqlNode first, final SqlNode second) {
+        return first.getFingerprint().equals(second.getFingerprint()) && isSameStructure(first, second, false);
+    }
+
+    /**
+     * Check whether two trees have the same template, so that they only differ in the values of their literals
+     *
+     * @param first  root of the first tree
+     * @param second root of the second tree
+     * @return <code>true</code> if both trees have the same structure apart from literal values
+     */
+    static boolean isSameTemplate(final SqlNode first, final SqlNode second) {
+        return isSameStructure(first, second, true);
+    }
+
+    private static boolean isSameStructure(final SqlNode first, final SqlNode second,
+            final boolean ignoreLiteralValues) {
+        final Deque<SqlNode> stack = new ArrayDeque<>();
+        stack.push(second);
+        stack.push(first);
+        while (!stack.isEmpty()) {
+            final SqlNode left = stack.pop();
+            final SqlNode right = stack.pop();
+            if (left == right) {
+                continue;
+            }
+            if ((left.getClass() != right.getClass()) || (left.getType() != right.getType())) {
+                return false;
+            }
+            if (ignoreLiteralValues && isLiteral(left.getType())) {
+                continue;
+            }
+            final Frame leftFrame = new Frame(left);
+            final Frame rightFrame = new Frame(right);
+            if (!leftFrame.attributes.equals(rightFrame.attributes)
+                    || (leftFrame.children.size() != rightFrame.children.size())) {
+                return false;
+            }
+            for (int i = leftFrame.children.size() - 1; i >= 0; --i) {
+                stack.push(rightFrame.children.get(i));
+                stack.push(leftFrame.children.get(i));
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Get the attributes of a node that are not represented by its children
+     *
+     * @param node node
+     * @return attributes in a fixed order per node type
+     */
+    static List<Object> getAttributes(final SqlNode node) {
+        switch (node.getType()) {
+        case SELECT:
+            final SqlStatementSelect select = (SqlStatementSelect) node;
+            return Collections.singletonList(presence(select.getSelectList(), select.getFromClause(),
+                    select.getWhereClause(), select.getGroupBy(), select.getHaving(), select.getOrderBy(),
+                    select.getLimit()));
+        case TABLE:
+            final SqlTable table = (SqlTable) node;
+            return Arrays.asList(table.getName(), table.getAlias(), table.getMetadata());
+        case JOIN:
+            final SqlJoin join = (SqlJoin) node;
+            return Arrays.asList(join.getJoinType(), presence(join.getLeft(), join.getRight(), join.getCondition()));
+        case COLUMN:
+            final SqlColumn column = (SqlColumn) node;
+            return Arrays.asList(column.getId(), column.getMetadata(), column.getTableName(), column.getTableAlias());
+        case LITERAL_NULL:
+            return Collections.emptyList();
+        case LITERAL_BOOL:
+            return Collections.singletonList(((SqlLiteralBool) node).getValue());
+        case LITERAL_DATE:
+            return Collections.singletonList(((SqlLiteralDate) node).getValue());
+        case LITERAL_TIMESTAMP:
+            return Collections.singletonList(((SqlLiteralTimestamp) node).getValue());
+        case LITERAL_TIMESTAMPUTC:
+            return Collections.singletonList(((SqlLiteralTimestampUtc) node).getValue());
+        case LITERAL_DOUBLE:
+            return Collections.singletonList(((SqlLiteralDouble) node).getValue());
+        case LITERAL_EXACTNUMERIC:
+            return Collections.singletonList(((SqlLiteralExactnumeric) node).getValue());
+        case LITERAL_STRING:
+            return Collections.singletonList(((SqlLiteralString) node).getValue());
+        case LITERAL_INTERVAL:
+            final SqlLiteralInterval interval = (SqlLiteralInterval) node;
+            return Arrays.asList(interval.getValue(), interval.getDataType());
+        case PREDICATE_LIKE:
+            final SqlPredicateLike like = (SqlPredicateLike) node;
+            return Collections.singletonList(presence(like.getLeft(), like.getPattern(), like.getEscapeChar()));
+        case PREDICATE_IN_CONSTLIST:
+            final SqlPredicateInConstList inConstList = (SqlPredicateInConstList) node;
+            return Arrays.asList(presence(inConstList.getExpression()), getCanonicalValues(inConstList));
+        case FUNCTION_SCALAR:
+            final SqlFunctionScalar scalar = (SqlFunctionScalar) node;
+            return Arrays.asList(scalar.getFunction(), scalar.isInfix(), scalar.isPrefix());
+        case FUNCTION_SCALAR_CASE:
+            final SqlFunctionScalarCase scalarCase = (SqlFunctionScalarCase) node;
+            return Arrays.asList(presence(scalarCase.getBasis()), size(scalarCase.getArguments()),
+                    size(scalarCase.getResults()));
+        case FUNCTION_SCALAR_CAST:
+            return Collections.singletonList(((SqlFunctionScalarCast) node).getDataType());
+        case FUNCTION_SCALAR_EXTRACT:
+            return Collections.singletonList(((SqlFunctionScalarExtract) node).getToExtract());
+        case FUNCTION_AGGREGATE:
+            final SqlFunctionAggregate aggregate = (SqlFunctionAggregate) node;
+            return Arrays.asList(aggregate.getFunction(), aggregate.hasDistinct());
+        case FUNCTION_AGGREGATE_GROUP_CONCAT:
+            final SqlFunctionAggregateGroupConcat groupConcat = (SqlFunctionAggregateGroupConcat) node;
+            return Arrays.asList(groupConcat.getFunction(), groupConcat.hasDistinct(), groupConcat.getSeparator(),
+                    size(groupConcat.getArguments()), presence(groupConcat.getOrderBy()));
+        case SELECT_LIST:
+            final SqlSelectList selectList = (SqlSelectList) node;
+            return Arrays.asList(selectList.isSelectStar(), selectList.isRequestAnyColumn());
+        case ORDER_BY:
+            final SqlOrderBy orderBy = (SqlOrderBy) node;
+            return Arrays.asList(orderBy.isAscending(), orderBy.nullsLast());
+        case LIMIT:
+            final SqlLimit limit = (SqlLimit) node;
+            return Arrays.asList(limit.getLimit(), limit.getOffset());
+        default:
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * Get the children that are part of the structure of a node
+     * <p>
+     * This is the list of {@link SqlNodeTraversal#getChildren(SqlNode)}, except for <code>IN</code> lists of literals
+     * that are not stored in compact form, whose constants are attributes instead of children here as well.
+     *
+     * @param node node
+     * @return child nodes
+     */
+    static List<SqlNode> getChildren(final SqlNode node) {
+        if (node.getType() == SqlNodeType.PREDICATE_IN_CONSTLIST) {
+            final SqlPredicateInConstList inConstList = (SqlPredicateInConstList) node;
+            if (getCanonicalValues(inConstList) != null) {
+                final SqlNode expression = inConstList.getExpression();
+                return (expression == null) ? Collections.emptyList() : Collections.singletonList(expression);
+            }
+        }
+        return SqlNodeTraversal.getChildren(node);
+    }
+
+    private static InConstListValues getCanonicalValues(final SqlPredicateInConstList inConstList) {
+        final InConstListValues compactValues = inConstList.getCompactValuesOrNull();
+        return (compactValues == null) ? InConstListValues.compact(inConstList.getInArguments()) : compactValues;
+    }
+
+    private static Integer presence(final Object... slots) {
+        int mask = 0;
+        for (int i = 0; i < slots.length; ++i) {
+            if (slots[i] != null) {
+                mask |= 1 << i;
+            }
+        }
+        return mask;
+    }
+
+    private static Integer size(final List<?> list) {
+        return (list == null) ? 0 : list.size();
+    }
+
+    private static final class Frame {
+        private final SqlNode node;
+        private final List<Object> attributes;
+        private final List<SqlNode> children;
+        private int nextChildIndex = 0;
+
+        private Frame(final SqlNode node) {
+            this.node = node;
+            this.attributes = getAttributes(node);
+            this.children = getChildren(node);
+        }
+    }
+
+    private static final class TemplateFrame {
+        private final SqlNode node;
+        private final List<SqlNode> children;
+        private final FingerprintHasher hasher = new FingerprintHasher();
+        private int nextChildIndex = 0;
+
+        private TemplateFrame(final SqlNode node) {
+            this.node = node;
+            this.hasher.addObject(node.getType());
+            if (isLiteral(node.getType())) {
+                // literal values are parameters, so only the absence of attributes is hashed
+                this.children = Collections.emptyList();
+                this.hasher.addObject(null);
+            } else {
+                this.children = getChildren(node);
+                this.hasher.addObject(getAttributes(node));
+            }
+            this.hasher.addLong(this.children.size());
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package com.exasol.adapter.sql;
+
+import java.util.*;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+/**
+ * Traversal of {@link SqlNode} trees that does not use the Java call stack.
+ * <p>
+ * Filters generated by BI tools can nest thousands of levels deep. Recursive algorithms like the
+ * {@link SqlNodeVisitor} implementations or <code>toSimpleSql()</code> then risk a {@link StackOverflowError},
+ * especially in the small stacks of UDF VMs. The methods in this class keep their state in an explicit stack on the
+ * heap instead, so they work on trees of any depth.
+ */
+public final class SqlNodeTraversal {
+    private SqlNodeTraversal() {
+        // prevent instantiation
+    }
+
+    /**
+     * Get the direct children of a node in the order in which they appear in the SQL statement
+     * <p>
+     * The constants of an <code>IN</code> list that is stored in compact form are values of the list, not children, so
+     * that traversals do not create a node per constant. Read them with
+     * {@link SqlPredicateInConstList#getInArgumentCount()} and the typed accessors.
+     *
+     * @param node parent node
+     * @return child nodes (empty list for leaf nodes)
+     */
+    public static List<SqlNode> getChildren(final SqlNode node) {
+        switch (node.getType()) {
+        case SELECT:
+            final SqlStatementSelect select = (SqlStatementSelect) node;
+            return nonNull(select.getSelectList(), select.getFromClause(), select.getWhereClause(),
+                    select.getGroupBy(), select.getHaving(), select.getOrderBy(), select.getLimit());
+        case JOIN:
+            final SqlJoin join = (SqlJoin) node;
+            return nonNull(join.getLeft(), join.getRight(), join.getCondition());
+        case SELECT_LIST: // falling through intentionally
+        case GROUP_BY:
+            return nonNull(((SqlExpressionList) node).getExpressions());
+        case ORDER_BY:
+            return nonNull(((SqlOrderBy) node).getExpressions());
+        case PREDICATE_AND:
+            return nonNull(((SqlPredicateAnd) node).getAndedPredicates());
+        case PREDICATE_OR:
+            return nonNull(((SqlPredicateOr) node).getOrPredicates());
+        case PREDICATE_NOT:
+            return nonNull(((SqlPredicateNot) node).getExpression());
+        case PREDICATE_EQUAL: // falling through intentionally
+        case PREDICATE_NOTEQUAL:
+        case PREDICATE_LESS:
+        case PREDICATE_LESSEQUAL:
+            final AbstractSqlBinaryEquality binary = (AbstractSqlBinaryEquality) node;
+            return nonNull(binary.getLeft(), binary.getRight());
+        case PREDICATE_LIKE:
+            final SqlPredicateLike like = (SqlPredicateLike) node;
+            return nonNull(like.getLeft(), like.getPattern(), like.getEscapeChar());
+        case PREDICATE_LIKE_REGEXP:
+            final SqlPredicateLikeRegexp likeRegexp = (SqlPredicateLikeRegexp) node;
+            return nonNull(likeRegexp.getLeft(), likeRegexp.getPattern());
+        case PREDICATE_BETWEEN:
+            final SqlPredicateBetween between = (SqlPredicateBetween) node;
+            return nonNull(between.getExpression(), between.getBetweenLeft(), between.getBetweenRight());
+        case PREDICATE_IN_CONSTLIST:
+            final SqlPredicateInConstList inConstList = (SqlPredicateInConstList) node;
+            final List<SqlNode> inChildren = nonNull(inConstList.getExpression());
+            if (inConstList.getCompactValuesOrNull() == null) {
+                inChildren.addAll(nonNull(inConstList.getInArguments()));
+            }
+            return inChildren;
+        case PREDICATE_IS_NULL:
+            return nonNull(((SqlPredicateIsNull) node).getExpression());
+        case PREDICATE_IS_NOT_NULL:
+            return nonNull(((SqlPredicateIsNotNull) node).getExpression());
+        case FUNCTION_SCALAR:
+            return nonNull(((SqlFunctionScalar) node).getArguments());
+        case FUNCTION_SCALAR_CASE:
+            final SqlFunctionScalarCase scalarCase = (SqlFunctionScalarCase) node;
+            final List<SqlNode> caseChildren = nonNull(scalarCase.getBasis());
+            caseChildren.addAll(nonNull(scalarCase.getArguments()));
+            caseChildren.addAll(nonNull(scalarCase.getResults()));
+            return caseChildren;
+        case FUNCTION_SCALAR_CAST:
+            return nonNull(((SqlFunctionScalarCast) node).getArguments());
+        case FUNCTION_SCALAR_EXTRACT:
+            return nonNull(((SqlFunctionScalarExtract) node).getArguments());
+        case FUNCTION_AGGREGATE:
+            return nonNull(((SqlFunctionAggregate) node).getArguments());
+        case FUNCTION_AGGREGATE_GROUP_CONCAT:
+            final SqlFunctionAggregateGroupConcat groupConcat = (SqlFunctionAggregateGroupConcat) node;
+            final List<SqlNode> groupConcatChildren = nonNull(groupConcat.getArguments());
+            groupConcatChildren.addAll(nonNull(groupConcat.getOrderBy()));
+            return groupConcatChildren;
+        default:
+            return Collections.emptyList();
+        }
+    }
+
+    private static List<SqlNode> nonNull(final SqlNode... nodes) {
+        final List<SqlNode> children = new ArrayList<>(nodes.length);
+        for (final SqlNode node : nodes) {
+            if (node != null) {
+                children.add(node);
+            }
+        }
+        return children;
+    }
+
+    private static List<SqlNode> nonNull(final List<SqlNode> nodes) {
+        return (nodes == null) ? new ArrayList<>() : nonNull(nodes.toArray(new SqlNode[0]));
+    }
+
+    /**
+     * Visit all nodes of a tree, parents before their children
+     *
+     * @param root   root of the tree
+     * @param action action to be applied to each node
+     */
+    public static void forEachPreOrder(final SqlNode root, final Consumer<SqlNode> action) {
+        final Deque<SqlNode> stack = new ArrayDeque<>();
+        stack.push(root);
+        while (!stack.isEmpty()) {
+            final SqlNode node = stack.pop();
+            action.accept(node);
+            final List<SqlNode> children = getChildren(node);
+            for (int i = children.size() - 1; i >= 0; --i) {
+                stack.push(children.get(i));
+            }
+        }
+    }
+
+    /**
+     * Visit all nodes of a tree, children before their parents
+     *
+     * @param root   root of the tree
+     * @param action action to be applied to each node
+     */
+    public static void forEachPostOrder(final SqlNode root, final Consumer<SqlNode> action) {
+        reduce(root, (node, childResults) -> {
+            action.accept(node);
+            return null;
+        });
+    }
+
+    /**
+     * Compute a value for a tree bottom-up
+     * <p>
+     * The combiner is called once per node, children before their parents, with the results computed for the children
+     * in the order of {@link #getChildren(SqlNode)}. This is the stack-safe replacement for a recursive visitor.
+     *
+     * @param <R>      type of the computed value
+     * @param root     root of the tree
+     * @param combiner function computing the value of a node from the node and the values of its children
+     * @return value computed for the root node
+     */
+    public static <R> R reduce(final SqlNode root, final BiFunction<SqlNode, List<R>, R> combiner) {
+        final Deque<Frame<R>> stack = new ArrayDeque<>();
+        stack.push(new Frame<>(root));
+        R result = null;
+        while (!stack.isEmpty()) {
+            final Frame<R> frame = stack.peek();
+            if (frame.hasNextChild()) {
+                stack.push(new Frame<>(frame.nextChild()));
+            } else {
+                stack.pop();
+                result = combiner.apply(frame.node, frame.childResults);
+                if (!stack.isEmpty()) {
+                    stack.peek().childResults.add(result);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Get the depth of a tree
+     *
+     * @param root root of the tree
+     * @return number of nodes on the longest path from the root to a leaf
+     */
+    public static int getDepth(final SqlNode root) {
+        return reduce(root, (node, childDepths) -> {
+            int maxChildDepth = 0;
+            for (final int childDepth : childDepths) {
+                maxChildDepth = Math.max(maxChildDepth, childDepth);
+            }
+            return maxChildDepth + 1;
+        });
+    }
+
+    private static final class Frame<R> {
+        private final SqlNode node;
+        private final List<SqlNode> children;
+        private final List<R> childResults;
+        private int nextChildIndex = 0;
+
+        private Frame(final SqlNode node) {
+            this.node = node;
+            this.children = getChildren(node);
+            this.childResults = new ArrayList<>(this.children.size());
+        }
+
+        private boolean hasNextChild() {
+            return this.nextChildIndex < this.children.size();
+        }
+
+        private SqlNode nextChild() {
+            return this.children.get(this.nextChildIndex++);
+        }
+    }
+}
@@ -2,13 +2,22 @@ package com.exasol.adapter.sql;
 
 import com.exasol.adapter.AdapterException;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
+import java.math.BigDecimal;
+import java.util.*;
 
+/**
+ * Predicate <code>&lt;exp&gt; IN (&lt;constant&gt;, ...)</code>.
+ * <p>
+ * Long lists of same-typed literals can be stored compactly as <code>long</code> or <code>double</code> array or as
+ * packed string table (see {@link #createCompactIfPossible(SqlNode, List)}, the {@link #builder()} and the
+ * <code>of...</code> factory methods). In that case the literal nodes returned by {@link #getInArguments()} are only
+ * created on first access. Code that processes long lists should prefer {@link #getInArgumentCount()} and the typed
+ * accessors like {@link #getLongValue(int)}.
+ */
 public class SqlPredicateInConstList extends SqlPredicate {
     private final SqlNode expression;
-    private final List<SqlNode> inArguments;
+    private final InConstListValues compactValues;
+    private List<SqlNode> inArguments;
 
     /**
      * Create a new instance of {@link SqlPredicateInConstList}.
@@ -17,24 +26,130 @@ public class SqlPredicateInConstList extends SqlPredicate {
      * @param inArguments arguments inside the brackets
      */
     public SqlPredicateInConstList(final SqlNode expression, final List<SqlNode> inArguments) {
+        this(expression, inArguments, null);
+        if (this.inArguments != null) {
+            for (final SqlNode node : this.inArguments) {
+                node.setParent(this);
+            }
+        }
+    }
+
+    private SqlPredicateInConstList(final SqlNode expression, final List<SqlNode> inArguments,
+            final InConstListValues compactValues) {
         super(Predicate.IN_CONSTLIST);
         this.expression = expression;
         this.inArguments = inArguments;
+        this.compactValues = compactValues;
         if (this.expression != null) {
             this.expression.setParent(this);
         }
-        if (this.inArguments != null) {
-            for (final SqlNode node : this.inArguments) {
-                node.setParent(this);
-            }
-        }
+    }
+
+    /**
+     * Create a new instance of {@link SqlPredicateInConstList} that stores its arguments compactly if they are all
+     * literals of the same type
+     * <p>
+     * Exact numeric literals without fraction that fit into a <code>long</code>, double literals and string literals
+     * are supported. Other argument lists are stored as they are.
+     *
+     * @param expression  For &lt;exp&gt; IN (...) this stores &lt;exp&gt;
+     * @param inArguments arguments inside the brackets
+     * @return new instance
+     */
+    public static SqlPredicateInConstList createCompactIfPossible(final SqlNode expression,
+            final List<SqlNode> inArguments) {
+        final InConstListValues values = InConstListValues.compact(inArguments);
+        return (values == null) ? new SqlPredicateInConstList(expression, inArguments)
+                : new SqlPredicateInConstList(expression, null, values);
+    }
+
+    /**
+     * Create an <code>IN</code> list of exact numeric integer constants backed by a <code>long</code> array
+     *
+     * @param expression For &lt;exp&gt; IN (...) this stores &lt;exp&gt;
+     * @param values     constants in the order given
+     * @return new instance
+     */
+    public static SqlPredicateInConstList ofLongs(final SqlNode expression, final long... values) {
+        return new SqlPredicateInConstList(expression, null,
+                new InConstListValues.LongValues(values.clone(), false));
+    }
+
+    /**
+     * Create an <code>IN</code> list of exact numeric integer constants that are sorted ascending and deduplicated
+     * <p>
+     * Since order and duplicates do not change the result of an <code>IN</code> predicate, this is equivalent to
+     * {@link #ofLongs(SqlNode, long...)}. Dialects can use the order to render consecutive values as ranges.
+     *
+     * @param expression For &lt;exp&gt; IN (...) this stores &lt;exp&gt;
+     * @param values     constants in any order
+     * @return new instance
+     */
+    public static SqlPredicateInConstList ofDistinctSortedLongs(final SqlNode expression, final long... values) {
+        return new SqlPredicateInConstList(expression, null, InConstListValues.LongValues.sortedDistinct(values));
+    }
+
+    /**
+     * Create an <code>IN</code> list of double constants backed by a <code>double</code> array
+     *
+     * @param expression For &lt;exp&gt; IN (...) this stores &lt;exp&gt;
+     * @param values     constants in the order given
+     * @return new instance
+     */
+    public static SqlPredicateInConstList ofDoubles(final SqlNode expression, final double... values) {
+        return new SqlPredicateInConstList(expression, null,
+                new InConstListValues.DoubleValues(values.clone(), false));
+    }
+
+    /**
+     * Create an <code>IN</code> list of double constants that are sorted ascending and deduplicated
+     *
+     * @param expression For &lt;exp&gt; IN (...) this stores &lt;exp&gt;
+     * @param values     constants in any order
+     * @return new instance
+     */
+    public static SqlPredicateInConstList ofDistinctSortedDoubles(final SqlNode expression, final double... values) {
+        return new SqlPredicateInConstList(expression, null, InConstListValues.DoubleValues.sortedDistinct(values));
+    }
+
+    /**
+     * Create an <code>IN</code> list of string constants backed by a packed string table
+     *
+     * @param expression For &lt;exp&gt; IN (...) this stores &lt;exp&gt;
+     * @param values     constants in the order given
+     * @return new instance
+     */
+    public static SqlPredicateInConstList ofStrings(final SqlNode expression, final String... values) {
+        return new SqlPredicateInConstList(expression, null, InConstListValues.StringValues.pack(values, false));
+    }
+
+    /**
+     * Create an <code>IN</code> list of string constants that are sorted by {@link String#compareTo(String)} and
+     * deduplicated
+     *
+     * @param expression For &lt;exp&gt; IN (...) this stores &lt;exp&gt;
+     * @param values     constants in any order
+     * @return new instance
+     */
+    public static SqlPredicateInConstList ofDistinctSortedStrings(final SqlNode expression, final String... values) {
+        return new SqlPredicateInConstList(expression, null, InConstListValues.StringValues.sortedDistinct(values));
     }
 
     public SqlNode getExpression() {
         return this.expression;
     }
 
-    public List<SqlNode> getInArguments() {
+    /**
+     * Get the arguments as list of nodes
+     * <p>
+     * For compactly stored lists the literal nodes are created on the first call.
+     *
+     * @return arguments inside the brackets
+     */
+    public synchronized List<SqlNode> getInArguments() {
+        if ((this.inArguments == null) && (this.compactValues != null)) {
+            this.inArguments = materializeArguments();
+        }
         if (this.inArguments == null) {
             return Collections.emptyList();
         } else {
@@ -42,15 +157,317 @@ public class SqlPredicateInConstList extends SqlPredicate {
         }
     }
 
+    private List<SqlNode> materializeArguments() {
+        final int size = this.compactValues.size();
+        final List<SqlNode> nodes = new ArrayList<>(size);
+        for (int i = 0; i < size; ++i) {
+            final SqlNode node = this.compactValues.createNode(i);
+            node.setParent(this);
+            nodes.add(node);
+        }
+        return nodes;
+    }
+
+    /**
+     * @return number of arguments inside the brackets
+     */
+    public synchronized int getInArgumentCount() {
+        if (this.inArguments != null) {
+            return this.inArguments.size();
+        } else {
+            return (this.compactValues == null) ? 0 : this.compactValues.size();
+        }
+    }
+
+    /**
+     * @return <code>true</code> if the arguments are stored as <code>long</code> values
+     */
+    public boolean hasLongValues() {
+        return this.compactValues instanceof InConstListValues.LongValues;
+    }
+
+    /**
+     * @return <code>true</code> if the arguments are stored as <code>double</code> values
+     */
+    public boolean hasDoubleValues() {
+        return this.compactValues instanceof InConstListValues.DoubleValues;
+    }
+
+    /**
+     * @return <code>true</code> if the arguments are stored as string values
+     */
+    public boolean hasStringValues() {
+        return this.compactValues instanceof InConstListValues.StringValues;
+    }
+
+    /**
+     * @return <code>true</code> if the arguments are known to be sorted ascending and free of duplicates
+     */
+    public boolean isSortedDistinct() {
+        return (this.compactValues != null) && this.compactValues.isSortedDistinct();
+    }
+
+    /**
+     * Get an argument of a list backed by <code>long</code> values without creating a node
+     *
+     * @param index position of the argument
+     * @return value
+     * @throws IllegalStateException if the list is not backed by <code>long</code> values
+     */
+    public long getLongValue(final int index) {
+        return getCompactValues().getLong(index);
+    }
+
+    /**
+     * Get an argument of a list backed by <code>double</code> values without creating a node
+     *
+     * @param index position of the argument
+     * @return value
+     * @throws IllegalStateException if the list is not backed by <code>double</code> values
+     */
+    public double getDoubleValue(final int index) {
+        return getCompactValues().getDouble(index);
+    }
+
+    /**
+     * Get an argument of a list backed by string values without creating a node
+     *
+     * @param index position of the argument
+     * @return value
+     * @throws IllegalStateException if the list is not backed by string values
+     */
+    public String getStringValue(final int index) {
+        return getCompactValues().getString(index);
+    }
+
+    /**
+     * @return compactly stored constants or <code>null</code> if the arguments are stored as nodes
+     */
+    InConstListValues getCompactValuesOrNull() {
+        return this.compactValues;
+    }
+
+    private InConstListValues getCompactValues() {
+        if (this.compactValues == null) {
+            throw new IllegalStateException("IN list is not stored in compact form.");
+        }
+        return this.compactValues;
+    }
+
     @Override
     public String toSimpleSql() {
         final List<String> argumentsSql = new ArrayList<>();
-        for (final SqlNode node : this.inArguments) {
-            argumentsSql.add(node.toSimpleSql());
+        if (this.compactValues != null) {
+            for (int i = 0; i < this.compactValues.size(); ++i) {
+                argumentsSql.add(this.compactValues.createNode(i).toSimpleSql());
+            }
+        } else {
+            for (final SqlNode node : this.inArguments) {
+                argumentsSql.add(node.toSimpleSql());
+            }
         }
         return this.expression.toSimpleSql() + " IN (" + String.join(", ", argumentsSql) + ")";
     }
 
+    /**
+     * Create a new builder for {@link SqlPredicateInConstList}.
+     *
+     * @return builder instance
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Builder for {@link SqlPredicateInConstList} that collects literal constants directly in compact form.
+     * <p>
+     * Parsers can add the values of literals without creating a node for each constant. As soon as a constant does not
+     * fit the compact form of the previous ones, the builder switches to a list of nodes. The result is then the same
+     * as with {@link SqlPredicateInConstList#createCompactIfPossible(SqlNode, List)}.
+     */
+    public static class Builder {
+        private static final int INITIAL_CAPACITY = 16;
+        private SqlNode expression;
+        private SqlNodeType valueType;
+        private long[] longs;
+        private double[] doubles;
+        private String[] strings;
+        private int size = 0;
+        private List<SqlNode> nodes;
+
+        /**
+         * Set the expression that is compared with the constants.
+         *
+         * @param expression For &lt;exp&gt; IN (...) this stores &lt;exp&gt;
+         * @return builder instance for fluent programming
+         */
+        public Builder expression(final SqlNode expression) {
+            this.expression = expression;
+            return this;
+        }
+
+        /**
+         * Add an exact numeric constant.
+         *
+         * @param value constant
+         * @return builder instance for fluent programming
+         */
+        public Builder addExactNumeric(final BigDecimal value) {
+            if (!tryAddLong(value)) {
+                addNode(new SqlLiteralExactnumeric(value));
+            }
+            return this;
+        }
+
+        /**
+         * Add a double constant.
+         *
+         * @param value constant
+         * @return builder instance for fluent programming
+         */
+        public Builder addDouble(final double value) {
+            if (!tryAddDouble(value)) {
+                addNode(new SqlLiteralDouble(value));
+            }
+            return this;
+        }
+
+        /**
+         * Add a string constant.
+         *
+         * @param value constant
+         * @return builder instance for fluent programming
+         */
+        public Builder addString(final String value) {
+            if (!tryAddString(value)) {
+                addNode(new SqlLiteralString(value));
+            }
+            return this;
+        }
+
+        /**
+         * Add an argument node.
+         * <p>
+         * Literals that fit the compact form are stored as values, other nodes as they are.
+         *
+         * @param argument argument inside the brackets
+         * @return builder instance for fluent programming
+         */
+        public Builder addArgument(final SqlNode argument) {
+            if (!tryAddLiteral(argument)) {
+                addNode(argument);
+            }
+            return this;
+        }
+
+        private boolean tryAddLiteral(final SqlNode argument) {
+            switch (argument.getType()) {
+            case LITERAL_EXACTNUMERIC:
+                return tryAddLong(((SqlLiteralExactnumeric) argument).getValue());
+            case LITERAL_DOUBLE:
+                return tryAddDouble(((SqlLiteralDouble) argument).getValue());
+            case LITERAL_STRING:
+                return tryAddString(((SqlLiteralString) argument).getValue());
+            default:
+                return false;
+            }
+        }
+
+        private boolean tryAddLong(final BigDecimal value) {
+            if (!InConstListValues.isLong(value) || !isCompact(SqlNodeType.LITERAL_EXACTNUMERIC)) {
+                return false;
+            }
+            if (this.longs == null) {
+                this.longs = new long[INITIAL_CAPACITY];
+            } else if (this.size == this.longs.length) {
+                this.longs = Arrays.copyOf(this.longs, 2 * this.size);
+            }
+            this.longs[this.size++] = value.longValue();
+            return true;
+        }
+
+        private boolean tryAddDouble(final double value) {
+            if (!isCompact(SqlNodeType.LITERAL_DOUBLE)) {
+                return false;
+            }
+            if (this.doubles == null) {
+                this.doubles = new double[INITIAL_CAPACITY];
+            } else if (this.size == this.doubles.length) {
+                this.doubles = Arrays.copyOf(this.doubles, 2 * this.size);
+            }
+            this.doubles[this.size++] = value;
+            return true;
+        }
+
+        private boolean tryAddString(final String value) {
+            if (!isCompact(SqlNodeType.LITERAL_STRING)) {
+                return false;
+            }
+            if (this.strings == null) {
+                this.strings = new String[INITIAL_CAPACITY];
+            } else if (this.size == this.strings.length) {
+                this.strings = Arrays.copyOf(this.strings, 2 * this.size);
+            }
+            this.strings[this.size++] = value;
+            return true;
+        }
+
+        private boolean isCompact(final SqlNodeType literalType) {
+            if (this.nodes != null) {
+                return false;
+            } else if (this.valueType == null) {
+                this.valueType = literalType;
+                return true;
+            } else {
+                return this.valueType == literalType;
+            }
+        }
+
+        private void addNode(final SqlNode argument) {
+            if (this.nodes == null) {
+                this.nodes = new ArrayList<>(this.size + 1);
+                if (this.valueType != null) {
+                    final InConstListValues values = createValues();
+                    for (int i = 0; i < this.size; ++i) {
+                        this.nodes.add(values.createNode(i));
+                    }
+                }
+                this.longs = null;
+                this.doubles = null;
+                this.strings = null;
+            }
+            this.nodes.add(argument);
+        }
+
+        private InConstListValues createValues() {
+            switch (this.valueType) {
+            case LITERAL_EXACTNUMERIC:
+                return new InConstListValues.LongValues(Arrays.copyOf(this.longs, this.size), false);
+            case LITERAL_DOUBLE:
+                return new InConstListValues.DoubleValues(Arrays.copyOf(this.doubles, this.size), false);
+            case LITERAL_STRING:
+                return InConstListValues.StringValues.pack(Arrays.copyOf(this.strings, this.size), false);
+            default:
+                throw new IllegalStateException("Unsupported type of compact IN list values: " + this.valueType);
+            }
+        }
+
+        /**
+         * Build a new instance of {@link SqlPredicateInConstList}.
+         *
+         * @return new instance
+         */
+        public SqlPredicateInConstList build() {
+            if (this.nodes != null) {
+                return new SqlPredicateInConstList(this.expression, this.nodes);
+            } else if (this.valueType == null) {
+                return new SqlPredicateInConstList(this.expression, new ArrayList<>());
+            } else {
+                return new SqlPredicateInConstList(this.expression, null, createValues());
+            }
+        }
+    }
+
     @Override
     public SqlNodeType getType() {
         return SqlNodeType.PREDICATE_IN_CONSTLIST;
@@ -0,0 +1,336 @@
+package com.exasol.adapter.sql;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+/**
+ * Simplification and normalization of predicates in {@link SqlNode} trees.
+ * <p>
+ * Filters generated by BI tools are often full of redundancy. The simplifier
+ * <ul>
+ * <li>flattens nested <code>AND</code> and <code>OR</code> predicates,</li>
+ * <li>removes duplicate operands of <code>AND</code> and <code>OR</code>,</li>
+ * <li>merges equality chains like <code>x = 1 OR x = 2 OR x IN (3, 4)</code> on the same column into a single
+ * <code>IN</code> list,</li>
+ * <li>pushes <code>NOT</code> inward, e.g. <code>NOT (a &lt; b)</code> becomes <code>b &lt;= a</code>, and</li>
+ * <li>folds boolean constants and comparisons of exact numeric literals.</li>
+ * </ul>
+ * All rules preserve the three-valued logic of SQL, so a simplified predicate is <code>TRUE</code>, <code>FALSE</code>
+ * or <code>NULL</code> exactly when the original predicate is. Like the methods in {@link SqlNodeTraversal}, the
+ * simplifier keeps its state on the heap, so it works on predicates of any depth.
+ * <p>
+ * Unchanged sub-trees are reused in the result instead of being copied. Since constructors of nodes set the parent of
+ * their children, the original tree must not be used anymore after simplification.
+ */
+public final class SqlPredicateSimplifier {
+    private SqlPredicateSimplifier() {
+        // prevent instantiation
+    }
+
+    /**
+     * Simplify the <code>WHERE</code> and <code>HAVING</code> clauses of a statement
+     * <p>
+     * A <code>WHERE</code> clause that simplifies to <code>TRUE</code> is removed. So is such a <code>HAVING</code>
+     * clause, but only together with a <code>GROUP BY</code> clause. Without one, <code>HAVING</code> turns the whole
+     * table into a single group, so it is kept as literal <code>TRUE</code>.
+     *
+     * @param select statement
+     * @return the original statement if nothing could be simplified, otherwise a new statement
+     */
+    public static SqlStatementSelect simplifyStatement(final SqlStatementSelect select) {
+        final SqlNode whereClause = simplifyClause(select.getWhereClause(), true);
+        final SqlNode having = simplifyClause(select.getHaving(), select.hasGroupBy());
+        if ((whereClause == select.getWhereClause()) && (having == select.getHaving())) {
+            return select;
+        }
+        return SqlStatementSelect.builder() //
+                .selectList(select.getSelectList()) //
+                .fromClause(select.getFromClause()) //
+                .whereClause(whereClause) //
+                .groupBy(select.getGroupBy()) //
+                .having(having) //
+                .orderBy(select.getOrderBy()) //
+                .limit(select.getLimit()) //
+                .build();
+    }
+
+    private static SqlNode simplifyClause(final SqlNode predicate, final boolean isTrueRemovable) {
+        if (predicate == null) {
+            return null;
+        }
+        final SqlNode simplified = simplify(predicate);
+        return (isTrueRemovable && isBoolLiteral(simplified, true)) ? null : simplified;
+    }
+
+    /**
+     * Simplify a predicate
+     *
+     * @param predicate predicate
+     * @return the original predicate if nothing could be simplified, otherwise the simplified predicate
+     */
+    public static SqlNode simplify(final SqlNode predicate) {
+        final Deque<Frame> stack = new ArrayDeque<>();
+        stack.push(new Frame(predicate, false));
+        SqlNode result = null;
+        while (!stack.isEmpty()) {
+            final Frame frame = stack.peek();
+            if (frame.nextOperandIndex < frame.operands.size()) {
+                final SqlNode operand = frame.operands.get(frame.nextOperandIndex++);
+                final boolean negated = frame.negated ^ (frame.node.getType() == SqlNodeType.PREDICATE_NOT);
+                stack.push(new Frame(operand, negated));
+            } else {
+                stack.pop();
+                result = frame.combine();
+                if (!stack.isEmpty()) {
+                    stack.peek().results.add(result);
+                }
+            }
+        }
+        return result;
+    }
+
+    private static List<SqlNode> getOperands(final SqlNode node) {
+        switch (node.getType()) {
+        case PREDICATE_AND:
+            return ((SqlPredicateAnd) node).getAndedPredicates();
+        case PREDICATE_OR:
+            return ((SqlPredicateOr) node).getOrPredicates();
+        case PREDICATE_NOT:
+            return Collections.singletonList(((SqlPredicateNot) node).getExpression());
+        default:
+            return Collections.emptyList();
+        }
+    }
+
+    private static SqlNode combineJunction(final SqlNodeType type, final List<SqlNode> results,
+            final SqlNode original) {
+        final boolean isAnd = (type == SqlNodeType.PREDICATE_AND);
+        final Set<SqlNode> distinctOperands = new LinkedHashSet<>();
+        for (final SqlNode result : results) {
+            if (result.getType() == type) {
+                distinctOperands.addAll(getOperands(result));
+            } else if (result.getType() == SqlNodeType.LITERAL_BOOL) {
+                if (((SqlLiteralBool) result).getValue() != isAnd) {
+                    return new SqlLiteralBool(!isAnd);
+                }
+            } else {
+                distinctOperands.add(result);
+            }
+        }
+        final List<SqlNode> operands = isAnd ? new ArrayList<>(distinctOperands)
+                : mergeEqualities(new ArrayList<>(distinctOperands));
+        if (operands.isEmpty()) {
+            return new SqlLiteralBool(isAnd);
+        } else if (operands.size() == 1) {
+            return operands.get(0);
+        } else if ((original != null) && isSameInstances(operands, getOperands(original))) {
+            return original;
+        } else {
+            return isAnd ? new SqlPredicateAnd(operands) : new SqlPredicateOr(operands);
+        }
+    }
+
+    private static boolean isSameInstances(final List<SqlNode> first, final List<SqlNode> second) {
+        if (first.size() != second.size()) {
+            return false;
+        }
+        for (int i = 0; i < first.size(); ++i) {
+            if (first.get(i) != second.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static List<SqlNode> mergeEqualities(final List<SqlNode> disjuncts) {
+        final Map<SqlNode, Integer> occurrences = new HashMap<>();
+        for (final SqlNode disjunct : disjuncts) {
+            final SqlNode column = getMembershipColumn(disjunct);
+            if (column != null) {
+                occurrences.merge(column, 1, Integer::sum);
+            }
+        }
+        if (occurrences.values().stream().noneMatch(count -> count > 1)) {
+            return disjuncts;
+        }
+        final Map<SqlNode, Integer> positionByColumn = new HashMap<>();
+        final Map<SqlNode, Set<SqlNode>> constantsByColumn = new LinkedHashMap<>();
+        final List<SqlNode> merged = new ArrayList<>(disjuncts.size());
+        for (final SqlNode disjunct : disjuncts) {
+            final SqlNode column = getMembershipColumn(disjunct);
+            if ((column == null) || (occurrences.get(column) < 2)) {
+                merged.add(disjunct);
+            } else {
+                if (!positionByColumn.containsKey(column)) {
+                    positionByColumn.put(column, merged.size());
+                    constantsByColumn.put(column, new LinkedHashSet<>());
+                    merged.add(null);
+                }
+                constantsByColumn.get(column).addAll(getMembershipConstants(disjunct));
+            }
+        }
+        for (final Map.Entry<SqlNode, Set<SqlNode>> entry : constantsByColumn.entrySet()) {
+            merged.set(positionByColumn.get(entry.getKey()), SqlPredicateInConstList
+                    .createCompactIfPossible(entry.getKey(), new ArrayList<>(entry.getValue())));
+        }
+        return merged;
+    }
+
+    private static SqlNode getMembershipColumn(final SqlNode predicate) {
+        if (predicate.getType() == SqlNodeType.PREDICATE_EQUAL) {
+            final SqlPredicateEqual equal = (SqlPredicateEqual) predicate;
+            if ((equal.getLeft().getType() == SqlNodeType.COLUMN) && isLiteral(equal.getRight())) {
+                return equal.getLeft();
+            } else if ((equal.getRight().getType() == SqlNodeType.COLUMN) && isLiteral(equal.getLeft())) {
+                return equal.getRight();
+            }
+        } else if (predicate.getType() == SqlNodeType.PREDICATE_IN_CONSTLIST) {
+            final SqlNode expression = ((SqlPredicateInConstList) predicate).getExpression();
+            if ((expression != null) && (expression.getType() == SqlNodeType.COLUMN)) {
+                return expression;
+            }
+        }
+        return null;
+    }
+
+    private static List<SqlNode> getMembershipConstants(final SqlNode predicate) {
+        if (predicate.getType() == SqlNodeType.PREDICATE_EQUAL) {
+            final SqlPredicateEqual equal = (SqlPredicateEqual) predicate;
+            return Collections.singletonList(isLiteral(equal.getRight()) ? equal.getRight() : equal.getLeft());
+        } else {
+            return ((SqlPredicateInConstList) predicate).getInArguments();
+        }
+    }
+
+    private static boolean isLiteral(final SqlNode node) {
+        return (node != null) && SqlNodeStructure.isLiteral(node.getType());
+    }
+
+    private static boolean isBoolLiteral(final SqlNode node, final boolean value) {
+        return (node.getType() == SqlNodeType.LITERAL_BOOL) && (((SqlLiteralBool) node).getValue() == value);
+    }
+
+    private static SqlNode negate(final SqlNode predicate) {
+        switch (predicate.getType()) {
+        case LITERAL_BOOL:
+            return new SqlLiteralBool(!((SqlLiteralBool) predicate).getValue());
+        case PREDICATE_EQUAL:
+            final SqlPredicateEqual equal = (SqlPredicateEqual) predicate;
+            return new SqlPredicateNotEqual(equal.getLeft(), equal.getRight());
+        case PREDICATE_NOTEQUAL:
+            final SqlPredicateNotEqual notEqual = (SqlPredicateNotEqual) predicate;
+            return new SqlPredicateEqual(notEqual.getLeft(), notEqual.getRight());
+        case PREDICATE_LESS:
+            final SqlPredicateLess less = (SqlPredicateLess) predicate;
+            return new SqlPredicateLessEqual(less.getRight(), less.getLeft());
+        case PREDICATE_LESSEQUAL:
+            final SqlPredicateLessEqual lessEqual = (SqlPredicateLessEqual) predicate;
+            return new SqlPredicateLess(lessEqual.getRight(), lessEqual.getLeft());
+        case PREDICATE_IS_NULL:
+            return new SqlPredicateIsNotNull(((SqlPredicateIsNull) predicate).getExpression());
+        case PREDICATE_IS_NOT_NULL:
+            return new SqlPredicateIsNull(((SqlPredicateIsNotNull) predicate).getExpression());
+        default:
+            return new SqlPredicateNot(predicate);
+        }
+    }
+
+    private static SqlNode foldConstants(final SqlNode predicate) {
+        final Boolean value = evaluateConstantComparison(predicate);
+        return (value == null) ? predicate : new SqlLiteralBool(value);
+    }
+
+    /**
+     * Evaluate a comparison of two literals
+     * <p>
+     * Only exact numeric literals and, for (in)equality, boolean literals are compared. Other literals, like strings,
+     * depend on the collation of the database that evaluates the comparison.
+     *
+     * @param predicate predicate
+     * @return result of the comparison or <code>null</code> if the predicate is not a comparison of literals that can
+     *         be evaluated locally
+     */
+    static Boolean evaluateConstantComparison(final SqlNode predicate) {
+        switch (predicate.getType()) {
+        case PREDICATE_EQUAL: // falling through intentionally
+        case PREDICATE_NOTEQUAL:
+        case PREDICATE_LESS:
+        case PREDICATE_LESSEQUAL:
+            final AbstractSqlBinaryEquality comparison = (AbstractSqlBinaryEquality) predicate;
+            final Integer order = compareLiterals(comparison.getLeft(), comparison.getRight(),
+                    (predicate.getType() == SqlNodeType.PREDICATE_EQUAL)
+                            || (predicate.getType() == SqlNodeType.PREDICATE_NOTEQUAL));
+            return (order == null) ? null : evaluate(predicate.getType(), order);
+        default:
+            return null;
+        }
+    }
+
+    private static Integer compareLiterals(final SqlNode left, final SqlNode right, final boolean equalityOnly) {
+        if ((left.getType() == SqlNodeType.LITERAL_EXACTNUMERIC)
+                && (right.getType() == SqlNodeType.LITERAL_EXACTNUMERIC)) {
+            final BigDecimal leftValue = ((SqlLiteralExactnumeric) left).getValue();
+            return leftValue.compareTo(((SqlLiteralExactnumeric) right).getValue());
+        } else if (equalityOnly && (left.getType() == SqlNodeType.LITERAL_BOOL)
+                && (right.getType() == SqlNodeType.LITERAL_BOOL)) {
+            return (((SqlLiteralBool) left).getValue() == ((SqlLiteralBool) right).getValue()) ? 0 : 1;
+        } else {
+            return null;
+        }
+    }
+
+    private static boolean evaluate(final SqlNodeType comparisonType, final int order) {
+        switch (comparisonType) {
+        case PREDICATE_EQUAL:
+            return order == 0;
+        case PREDICATE_NOTEQUAL:
+            return order != 0;
+        case PREDICATE_LESS:
+            return order < 0;
+        case PREDICATE_LESSEQUAL:
+            return order <= 0;
+        default:
+            throw new IllegalArgumentException("Unsupported comparison " + comparisonType + ".");
+        }
+    }
+
+    private static final class Frame {
+        private final SqlNode node;
+        private final boolean negated;
+        private final List<SqlNode> operands;
+        private final List<SqlNode> results = new ArrayList<>();
+        private int nextOperandIndex = 0;
+
+        private Frame(final SqlNode node, final boolean negated) {
+            this.node = node;
+            this.negated = negated;
+            this.operands = getOperands(node);
+        }
+
+        private SqlNode combine() {
+            switch (this.node.getType()) {
+            case PREDICATE_NOT:
+                return combineNot();
+            case PREDICATE_AND:
+                return combineJunction(this.negated ? SqlNodeType.PREDICATE_OR : SqlNodeType.PREDICATE_AND,
+                        this.results, this.negated ? null : this.node);
+            case PREDICATE_OR:
+                return combineJunction(this.negated ? SqlNodeType.PREDICATE_AND : SqlNodeType.PREDICATE_OR,
+                        this.results, this.negated ? null : this.node);
+            default:
+                return foldConstants(this.negated ? negate(this.node) : this.node);
+            }
+        }
+
+        private SqlNode combineNot() {
+            final SqlNode result = this.results.get(0);
+            final SqlNode expression = ((SqlPredicateNot) this.node).getExpression();
+            if (!this.negated && (result.getType() == SqlNodeType.PREDICATE_NOT)
+                    && (((SqlPredicateNot) result).getExpression() == expression)) {
+                expression.setParent(this.node);
+                return this.node;
+            }
+            return result;
+        }
+    }
+}
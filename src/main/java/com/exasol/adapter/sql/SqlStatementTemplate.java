@@ -0,0 +1,103 @@
+package com.exasol.adapter.sql;
+
+import java.util.*;
+
+/**
+ * Template of a SQL statement with all literals lifted out into a parameter vector.
+ * <p>
+ * Dashboards send the same query shape over and over with different literals, for example a different date range.
+ * Statements that only differ in their literals have the same template key. Adapters can therefore render a template
+ * once, cache it with a {@link SqlTemplateCache} and later only splice in the rendered literals.
+ * <p>
+ * All literal nodes are parameters, including <code>NULL</code>, except the constants of <code>IN</code> lists of
+ * literals. Those stay part of the template, so that long lists stored in compact form are never materialized.
+ */
+public final class SqlStatementTemplate {
+    private final SqlNode statement;
+    private final SqlNodeFingerprint key;
+    private final List<SqlNode> parameters;
+    private final Map<SqlNode, Integer> parameterIndexes;
+
+    private SqlStatementTemplate(final SqlNode statement, final SqlNodeFingerprint key,
+            final List<SqlNode> parameters) {
+        this.statement = statement;
+        this.key = key;
+        this.parameters = Collections.unmodifiableList(parameters);
+        this.parameterIndexes = new IdentityHashMap<>(parameters.size());
+        for (int i = 0; i < parameters.size(); ++i) {
+            this.parameterIndexes.put(parameters.get(i), i);
+        }
+    }
+
+    /**
+     * Create the template of a statement
+     * <p>
+     * The template is computed once and cached in the root node of the statement.
+     *
+     * @param statement statement or any other SQL node tree
+     * @return template
+     */
+    public static SqlStatementTemplate of(final SqlNode statement) {
+        final SqlStatementTemplate cached = statement.getCachedTemplate();
+        if (cached != null) {
+            return cached;
+        }
+        final List<SqlNode> parameters = new ArrayList<>();
+        final SqlNodeFingerprint key = SqlNodeStructure.templateKey(statement, parameters);
+        final SqlStatementTemplate template = new SqlStatementTemplate(statement, key, parameters);
+        statement.cacheTemplate(template);
+        return template;
+    }
+
+    /**
+     * Check whether another template has the same shape as this one
+     * <p>
+     * Templates with the same shape have the same key. The reverse is only true with overwhelming probability, so
+     * caches compare the shape before reusing SQL rendered for another statement.
+     *
+     * @param other other template
+     * @return <code>true</code> if both statements only differ in the values of their literals
+     */
+    public boolean hasSameShape(final SqlStatementTemplate other) {
+        return this.key.equals(other.key) && SqlNodeStructure.isSameTemplate(this.statement, other.statement);
+    }
+
+    /**
+     * Get the key of the template
+     * <p>
+     * The key is equal for all statements that only differ in the values of their parameters. It takes the type of
+     * each literal into account though, so a string and a date parameter lead to different templates.
+     *
+     * @return 128-bit template key
+     */
+    public SqlNodeFingerprint getKey() {
+        return this.key;
+    }
+
+    /**
+     * @return literal nodes of the statement in the order in which they appear in the statement
+     */
+    public List<SqlNode> getParameters() {
+        return this.parameters;
+    }
+
+    /**
+     * @return number of parameters
+     */
+    public int getParameterCount() {
+        return this.parameters.size();
+    }
+
+    /**
+     * Get the position of a literal node in the parameter vector
+     * <p>
+     * Adapters use this while rendering a template to emit a parameter instead of a literal.
+     *
+     * @param literal literal node of the statement
+     * @return index of the parameter or <code>-1</code> if the node is not a parameter of this template
+     */
+    public int getParameterIndex(final SqlNode literal) {
+        final Integer index = this.parameterIndexes.get(literal);
+        return (index == null) ? -1 : index;
+    }
+}
@@ -0,0 +1,161 @@
+package com.exasol.adapter.sql;
+
+import java.util.*;
+
+import com.exasol.adapter.AdapterException;
+
+/**
+ * Bounded cache for SQL templates rendered by an adapter.
+ * <p>
+ * The cache maps template keys to {@link RenderedSqlTemplate}s. When the cache is full, the least recently used entry
+ * is evicted. For a statement whose template is cached, rendering only costs computing the template key, comparing
+ * the statement with the one the template was rendered for and rendering the literals.
+ * <p>
+ * The cache relies on the adapter rendering a literal the same way, independently of where it appears in the
+ * statement.
+ */
+public final class SqlTemplateCache {
+    /** Default number of templates the cache holds */
+    public static final int DEFAULT_CAPACITY = 256;
+    private final Map<SqlNodeFingerprint, Entry> entries;
+    private long hitCount = 0;
+    private long missCount = 0;
+
+    /**
+     * Create a new instance of a {@link SqlTemplateCache} with the default capacity
+     */
+    public SqlTemplateCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Create a new instance of a {@link SqlTemplateCache}
+     *
+     * @param capacity maximum number of templates the cache holds
+     */
+    public SqlTemplateCache(final int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException(
+                    "SQL template cache capacity must be positive but was " + capacity + ".");
+        }
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = -2916411284529618730L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<SqlNodeFingerprint, Entry> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Render a statement, using the cached template if the cache contains one for the shape of the statement
+     *
+     * @param statement statement to be rendered
+     * @param renderer  adapter specific rendering of templates and literals
+     * @return SQL text of the statement
+     * @throws AdapterException if rendering the template or a literal fails
+     */
+    public String render(final SqlNode statement, final Renderer renderer) throws AdapterException {
+        final SqlStatementTemplate template = SqlStatementTemplate.of(statement);
+        RenderedSqlTemplate renderedTemplate = get(template);
+        if (renderedTemplate == null) {
+            renderedTemplate = renderer.renderTemplate(template);
+            put(template, renderedTemplate);
+        }
+        final List<String> renderedParameters = new ArrayList<>(template.getParameterCount());
+        for (final SqlNode parameter : template.getParameters()) {
+            renderedParameters.add(renderer.renderLiteral(parameter));
+        }
+        return renderedTemplate.render(renderedParameters);
+    }
+
+    private synchronized RenderedSqlTemplate get(final SqlStatementTemplate template) {
+        final Entry entry = this.entries.get(template.getKey());
+        // Keys of different shapes collide with negligible probability, but a collision must not return wrong SQL.
+        if ((entry == null) || !entry.template.hasSameShape(template)) {
+            ++this.missCount;
+            return null;
+        } else {
+            ++this.hitCount;
+            return entry.renderedTemplate;
+        }
+    }
+
+    private synchronized void put(final SqlStatementTemplate template, final RenderedSqlTemplate renderedTemplate) {
+        this.entries.put(template.getKey(), new Entry(template, renderedTemplate));
+    }
+
+    /**
+     * Get the number of statements that were rendered from a cached template
+     *
+     * @return number of cache hits
+     */
+    public synchronized long getHitCount() {
+        return this.hitCount;
+    }
+
+    /**
+     * Get the number of statements for which a template had to be rendered
+     *
+     * @return number of cache misses
+     */
+    public synchronized long getMissCount() {
+        return this.missCount;
+    }
+
+    /**
+     * Get the number of cached templates
+     *
+     * @return number of cache entries
+     */
+    public synchronized int size() {
+        return this.entries.size();
+    }
+
+    /**
+     * Remove all cached templates and reset the hit and miss counters
+     */
+    public synchronized void clear() {
+        this.entries.clear();
+        this.hitCount = 0;
+        this.missCount = 0;
+    }
+
+    private static final class Entry {
+        private final SqlStatementTemplate template;
+        private final RenderedSqlTemplate renderedTemplate;
+
+        private Entry(final SqlStatementTemplate template, final RenderedSqlTemplate renderedTemplate) {
+            this.template = template;
+            this.renderedTemplate = renderedTemplate;
+        }
+    }
+
+    /**
+     * Adapter specific rendering of SQL templates and literals
+     */
+    public interface Renderer {
+        /**
+         * Render the SQL text of a template
+         * <p>
+         * Implementations typically render the statement with their SQL generation visitor and call
+         * {@link RenderedSqlTemplate.Builder#appendParameter(int)} with the index from
+         * {@link SqlStatementTemplate#getParameterIndex(SqlNode)} for each literal.
+         *
+         * @param template template of the statement
+         * @return rendered template
+         * @throws AdapterException if rendering fails
+         */
+        RenderedSqlTemplate renderTemplate(SqlStatementTemplate template) throws AdapterException;
+
+        /**
+         * Render a literal
+         *
+         * @param literal literal node
+         * @return SQL text of the literal, including quotes and escaping
+         * @throws AdapterException if rendering fails
+         */
+        String renderLiteral(SqlNode literal) throws AdapterException;
+    }
+}
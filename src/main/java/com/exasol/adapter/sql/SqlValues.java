@@ -0,0 +1,397 @@
+package com.exasol.adapter.sql;
+
+import java.math.*;
+import java.time.*;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.temporal.ChronoField;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+import com.exasol.adapter.metadata.DataType;
+
+/**
+ * Value semantics of Exasol for the {@link SqlExpressionCompiler}.
+ * <p>
+ * Values are represented as <code>null</code> for SQL <code>NULL</code>, {@link Boolean}, {@link Long} for exact
+ * integers, {@link BigDecimal} for other exact numbers, {@link Double}, {@link String}, {@link LocalDate} and
+ * {@link LocalDateTime}. Like in Exasol, the empty string is <code>NULL</code>.
+ */
+final class SqlValues {
+    private static final MathContext DIVISION_CONTEXT = new MathContext(36, RoundingMode.HALF_UP);
+    private static final BigDecimal MIN_LONG = BigDecimal.valueOf(Long.MIN_VALUE);
+    private static final BigDecimal MAX_LONG = BigDecimal.valueOf(Long.MAX_VALUE);
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = new DateTimeFormatterBuilder()
+            .appendPattern("yyyy-MM-dd HH:mm:ss").optionalStart()
+            .appendFraction(ChronoField.NANO_OF_SECOND, 0, 9, true).optionalEnd().toFormatter(Locale.ROOT);
+    private static final DateTimeFormatter TIMESTAMP_OUTPUT_FORMAT = DateTimeFormatter
+            .ofPattern("yyyy-MM-dd HH:mm:ss.SSS", Locale.ROOT);
+    private static final char DEFAULT_LIKE_ESCAPE_CHARACTER = '\\';
+
+    private SqlValues() {
+        // prevent instantiation
+    }
+
+    /**
+     * Convert a value provided by an adapter into the internal representation
+     *
+     * @param value value as provided by the adapter
+     * @return normalized value
+     * @throws IllegalArgumentException if the value has an unsupported type
+     */
+    static Object normalize(final Object value) {
+        if ((value == null) || (value instanceof Long) || (value instanceof Double)
+                || (value instanceof LocalDate) || (value instanceof LocalDateTime)) {
+            return value;
+        } else if (value instanceof Boolean) {
+            return Boolean.valueOf((Boolean) value);
+        } else if (value instanceof String) {
+            return ((String) value).isEmpty() ? null : value;
+        } else if ((value instanceof Integer) || (value instanceof Short) || (value instanceof Byte)) {
+            return ((Number) value).longValue();
+        } else if (value instanceof BigDecimal) {
+            return normalizeDecimal((BigDecimal) value);
+        } else if (value instanceof BigInteger) {
+            return normalizeDecimal(new BigDecimal((BigInteger) value));
+        } else if (value instanceof Float) {
+            return ((Float) value).doubleValue();
+        } else if (value instanceof CharSequence) {
+            return normalize(value.toString());
+        } else if (value instanceof java.sql.Timestamp) {
+            return ((java.sql.Timestamp) value).toLocalDateTime();
+        } else if (value instanceof java.sql.Date) {
+            return ((java.sql.Date) value).toLocalDate();
+        } else {
+            throw new IllegalArgumentException("Unsupported value type " + value.getClass().getName() + ".");
+        }
+    }
+
+    /**
+     * @param value exact number
+     * @return {@link Long} if the value is an integer in the range of <code>long</code>, otherwise the value itself
+     */
+    static Object normalizeDecimal(final BigDecimal value) {
+        if ((value.signum() == 0) || ((value.scale() <= 0) && (value.compareTo(MIN_LONG) >= 0)
+                && (value.compareTo(MAX_LONG) <= 0))) {
+            return value.longValueExact();
+        }
+        final BigDecimal stripped = value.stripTrailingZeros();
+        if ((stripped.scale() <= 0) && (stripped.compareTo(MIN_LONG) >= 0) && (stripped.compareTo(MAX_LONG) <= 0)) {
+            return stripped.longValueExact();
+        }
+        return value;
+    }
+
+    static LocalDate parseDate(final String value) {
+        return LocalDate.parse(value.trim());
+    }
+
+    static LocalDateTime parseTimestamp(final String value) {
+        return LocalDateTime.parse(value.trim(), TIMESTAMP_FORMAT);
+    }
+
+    /**
+     * Compare two values that are not <code>NULL</code>
+     * <p>
+     * Numbers are compared by value independently of their representation. Strings are compared by code points. A
+     * string compared with a number is converted to a number, like Exasol does implicitly.
+     *
+     * @param left  left value
+     * @param right right value
+     * @return negative, zero or positive number like {@link Comparable#compareTo(Object)}
+     * @throws IllegalArgumentException if the values can't be compared
+     */
+    static int compare(final Object left, final Object right) {
+        if ((left instanceof Long) && (right instanceof Long)) {
+            return Long.compare((Long) left, (Long) right);
+        } else if ((left instanceof Number) && (right instanceof Number)) {
+            return compareNumbers((Number) left, (Number) right);
+        } else if ((left instanceof String) && (right instanceof String)) {
+            return compareStrings((String) left, (String) right);
+        } else if ((left instanceof Number) && (right instanceof String)) {
+            return compareNumbers((Number) left, toDecimal((String) right));
+        } else if ((left instanceof String) && (right instanceof Number)) {
+            return compareNumbers(toDecimal((String) left), (Number) right);
+        } else if ((left instanceof LocalDate) && (right instanceof LocalDateTime)) {
+            return ((LocalDate) left).atStartOfDay().compareTo((LocalDateTime) right);
+        } else if ((left instanceof LocalDateTime) && (right instanceof LocalDate)) {
+            return ((LocalDateTime) left).compareTo(((LocalDate) right).atStartOfDay());
+        } else if ((left.getClass() == right.getClass()) && (left instanceof Comparable)) {
+            @SuppressWarnings("unchecked")
+            final Comparable<Object> comparable = (Comparable<Object>) left;
+            return comparable.compareTo(right);
+        } else {
+            throw new IllegalArgumentException("Unable to compare values of type " + left.getClass().getSimpleName()
+                    + " and " + right.getClass().getSimpleName() + ".");
+        }
+    }
+
+    private static int compareNumbers(final Number left, final Number right) {
+        if ((left instanceof Double) || (right instanceof Double)) {
+            return Double.compare(left.doubleValue(), right.doubleValue());
+        } else {
+            return toDecimal(left).compareTo(toDecimal(right));
+        }
+    }
+
+    private static int compareStrings(final String left, final String right) {
+        final int length = Math.min(left.length(), right.length());
+        for (int i = 0; i < length; ++i) {
+            final char leftChar = left.charAt(i);
+            final char rightChar = right.charAt(i);
+            if (leftChar != rightChar) {
+                if (Character.isSurrogate(leftChar) || Character.isSurrogate(rightChar)) {
+                    return Integer.compare(left.codePointAt(i), right.codePointAt(i));
+                }
+                return leftChar - rightChar;
+            }
+        }
+        return left.length() - right.length();
+    }
+
+    static BigDecimal toDecimal(final Number value) {
+        if (value instanceof BigDecimal) {
+            return (BigDecimal) value;
+        } else if (value instanceof Double) {
+            return new BigDecimal(value.doubleValue());
+        } else {
+            return BigDecimal.valueOf(value.longValue());
+        }
+    }
+
+    private static BigDecimal toDecimal(final String value) {
+        try {
+            return new BigDecimal(value.trim());
+        } catch (final NumberFormatException exception) {
+            throw new IllegalArgumentException("Unable to convert '" + value + "' to a number.", exception);
+        }
+    }
+
+    static Number toNumber(final Object value) {
+        if (value instanceof Number) {
+            return (Number) value;
+        } else if (value instanceof String) {
+            return (Number) normalizeDecimal(toDecimal((String) value));
+        } else {
+            throw new IllegalArgumentException(
+                    "Unable to use value of type " + value.getClass().getSimpleName() + " as number.");
+        }
+    }
+
+    static Object add(final Number left, final Number right) {
+        if ((left instanceof Long) && (right instanceof Long)) {
+            final long a = (Long) left;
+            final long b = (Long) right;
+            final long sum = a + b;
+            if (((a ^ sum) & (b ^ sum)) >= 0) {
+                return sum;
+            }
+        } else if ((left instanceof Double) || (right instanceof Double)) {
+            return left.doubleValue() + right.doubleValue();
+        }
+        return normalizeDecimal(toDecimal(left).add(toDecimal(right)));
+    }
+
+    static Object subtract(final Number left, final Number right) {
+        if ((left instanceof Long) && (right instanceof Long)) {
+            final long a = (Long) left;
+            final long b = (Long) right;
+            final long difference = a - b;
+            if (((a ^ b) & (a ^ difference)) >= 0) {
+                return difference;
+            }
+        } else if ((left instanceof Double) || (right instanceof Double)) {
+            return left.doubleValue() - right.doubleValue();
+        }
+        return normalizeDecimal(toDecimal(left).subtract(toDecimal(right)));
+    }
+
+    static Object multiply(final Number left, final Number right) {
+        if ((left instanceof Long) && (right instanceof Long)) {
+            final long a = (Long) left;
+            final long b = (Long) right;
+            final long high = Math.multiplyHigh(a, b);
+            final long product = a * b;
+            if (((high == 0) && (product >= 0)) || ((high == -1) && (product < 0))) {
+                return product;
+            }
+        } else if ((left instanceof Double) || (right instanceof Double)) {
+            return left.doubleValue() * right.doubleValue();
+        }
+        return normalizeDecimal(toDecimal(left).multiply(toDecimal(right)));
+    }
+
+    static Object divide(final Number left, final Number right) {
+        if ((left instanceof Double) || (right instanceof Double)) {
+            if (right.doubleValue() == 0) {
+                throw new ArithmeticException("Division by zero.");
+            }
+            return left.doubleValue() / right.doubleValue();
+        }
+        final BigDecimal divisor = toDecimal(right);
+        if (divisor.signum() == 0) {
+            throw new ArithmeticException("Division by zero.");
+        }
+        return normalizeDecimal(toDecimal(left).divide(divisor, DIVISION_CONTEXT));
+    }
+
+    static Object modulo(final Number left, final Number right) {
+        if ((left instanceof Long) && (right instanceof Long)) {
+            final long divisor = (Long) right;
+            return (divisor == 0) ? left : (Long) left % divisor;
+        } else if ((left instanceof Double) || (right instanceof Double)) {
+            return (right.doubleValue() == 0) ? left : (left.doubleValue() % right.doubleValue());
+        }
+        final BigDecimal divisor = toDecimal(right);
+        return (divisor.signum() == 0) ? left : normalizeDecimal(toDecimal(left).remainder(divisor));
+    }
+
+    static Object negate(final Number value) {
+        if ((value instanceof Long) && ((Long) value != Long.MIN_VALUE)) {
+            return -(Long) value;
+        } else if (value instanceof Double) {
+            return -(Double) value;
+        } else {
+            return normalizeDecimal(toDecimal(value).negate());
+        }
+    }
+
+    static Object abs(final Number value) {
+        return (compareNumbers(value, 0L) < 0) ? negate(value) : value;
+    }
+
+    static boolean isZero(final Number value) {
+        return compareNumbers(value, 0L) == 0;
+    }
+
+    /**
+     * Cast a value that is not <code>NULL</code>
+     *
+     * @param value value
+     * @param type  target type
+     * @return converted value
+     */
+    static Object cast(final Object value, final DataType type) {
+        switch (type.getExaDataType()) {
+        case DECIMAL:
+            return castToDecimal(value, type);
+        case DOUBLE:
+            return toNumber(value).doubleValue();
+        case VARCHAR: // falling through intentionally
+        case CHAR:
+            return castToString(value, type);
+        case BOOLEAN:
+            return castToBoolean(value);
+        case DATE:
+            return castToDate(value);
+        case TIMESTAMP:
+            return castToTimestamp(value);
+        default:
+            throw new IllegalArgumentException("Unsupported cast to " + type + ".");
+        }
+    }
+
+    private static Object castToDecimal(final Object value, final DataType type) {
+        final BigDecimal decimal;
+        if (value instanceof Boolean) {
+            decimal = ((Boolean) value) ? BigDecimal.ONE : BigDecimal.ZERO;
+        } else {
+            decimal = toDecimal(toNumber(value));
+        }
+        final BigDecimal scaled = decimal.setScale(type.getScale(), RoundingMode.HALF_UP);
+        if (scaled.precision() - scaled.scale() > type.getPrecision() - type.getScale()) {
+            throw new ArithmeticException("Value " + decimal + " does not fit into " + type + ".");
+        }
+        return normalizeDecimal(scaled);
+    }
+
+    private static String castToString(final Object value, final DataType type) {
+        final String string;
+        if (value instanceof Boolean) {
+            string = ((Boolean) value) ? "TRUE" : "FALSE";
+        } else if (value instanceof BigDecimal) {
+            string = ((BigDecimal) value).toPlainString();
+        } else if (value instanceof Double) {
+            throw new IllegalArgumentException("Casting DOUBLE values to strings is not supported.");
+        } else if (value instanceof LocalDateTime) {
+            string = TIMESTAMP_OUTPUT_FORMAT.format((LocalDateTime) value);
+        } else {
+            string = value.toString();
+        }
+        if (string.codePointCount(0, string.length()) > type.getSize()) {
+            throw new IllegalArgumentException("String '" + string + "' is too long for " + type + ".");
+        }
+        return string;
+    }
+
+    private static Boolean castToBoolean(final Object value) {
+        if (value instanceof Boolean) {
+            return (Boolean) value;
+        } else if (value instanceof Number) {
+            return !isZero((Number) value);
+        } else if (value instanceof String) {
+            final String string = ((String) value).trim().toUpperCase(Locale.ROOT);
+            if (string.equals("TRUE") || string.equals("T") || string.equals("1")) {
+                return Boolean.TRUE;
+            } else if (string.equals("FALSE") || string.equals("F") || string.equals("0")) {
+                return Boolean.FALSE;
+            }
+        }
+        throw new IllegalArgumentException("Unable to convert '" + value + "' to BOOLEAN.");
+    }
+
+    private static LocalDate castToDate(final Object value) {
+        if (value instanceof LocalDate) {
+            return (LocalDate) value;
+        } else if (value instanceof LocalDateTime) {
+            return ((LocalDateTime) value).toLocalDate();
+        } else if (value instanceof String) {
+            return parseDate((String) value);
+        }
+        throw new IllegalArgumentException("Unable to convert '" + value + "' to DATE.");
+    }
+
+    private static LocalDateTime castToTimestamp(final Object value) {
+        if (value instanceof LocalDateTime) {
+            return (LocalDateTime) value;
+        } else if (value instanceof LocalDate) {
+            return ((LocalDate) value).atStartOfDay();
+        } else if (value instanceof String) {
+            return parseTimestamp((String) value);
+        }
+        throw new IllegalArgumentException("Unable to convert '" + value + "' to TIMESTAMP.");
+    }
+
+    /**
+     * Translate a <code>LIKE</code> pattern into a regular expression
+     *
+     * @param pattern         <code>LIKE</code> pattern
+     * @param escapeCharacter escape character or <code>null</code> for the default escape character
+     * @return regular expression that matches the complete string
+     */
+    static Pattern likeToRegex(final String pattern, final String escapeCharacter) {
+        final char escape = (escapeCharacter == null) ? DEFAULT_LIKE_ESCAPE_CHARACTER : escapeCharacter.charAt(0);
+        final StringBuilder regex = new StringBuilder(pattern.length() + 8);
+        final StringBuilder literal = new StringBuilder();
+        for (int i = 0; i < pattern.length(); ++i) {
+            final char character = pattern.charAt(i);
+            if ((character == escape) && ((i + 1) < pattern.length())) {
+                literal.append(pattern.charAt(++i));
+            } else if ((character == '%') || (character == '_')) {
+                appendQuoted(regex, literal);
+                regex.append((character == '%') ? ".*" : ".");
+            } else {
+                literal.append(character);
+            }
+        }
+        appendQuoted(regex, literal);
+        return Pattern.compile(regex.toString(), Pattern.DOTALL);
+    }
+
+    private static void appendQuoted(final StringBuilder regex, final StringBuilder literal) {
+        if (literal.length() > 0) {
+            regex.append(Pattern.quote(literal.toString()));
+            literal.setLength(0);
+        }
+    }
+}
@@ -0,0 +1,317 @@
+package com.exasol.logging;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.*;
+
+/**
+ * Log handler that hands records to a background thread, which writes them to a delegate handler.
+ * <p>
+ * The logging thread only puts the record into a bounded ring buffer. The writer thread takes the records out in
+ * batches, publishes them to the delegate and flushes the delegate once per batch. A slow log receiver therefore does
+ * not slow down the logging thread until the buffer is full. What happens then is decided by the {@link LogDropPolicy}.
+ * Dropped records are counted.
+ */
+public final class AsyncLogHandler extends Handler {
+    private static final long CLOSE_TIMEOUT_MILLIS = 5000;
+    private final Handler delegate;
+    private final LogDropPolicy dropPolicy;
+    private final int dropLevel;
+    private final int batchSize;
+    private final LogRecord[] buffer;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = this.lock.newCondition();
+    private final Condition notFull = this.lock.newCondition();
+    private final Condition idle = this.lock.newCondition();
+    private final AtomicLong droppedRecords = new AtomicLong();
+    private final AtomicLong writtenRecords = new AtomicLong();
+    private final Thread writer;
+    private int head = 0;
+    private int size = 0;
+    private boolean writing = false;
+    private boolean closed = false;
+
+    private AsyncLogHandler(final Builder builder) {
+        this.delegate = builder.delegate;
+        this.dropPolicy = builder.dropPolicy;
+        this.dropLevel = builder.dropLevel.intValue();
+        this.batchSize = builder.batchSize;
+        this.buffer = new LogRecord[builder.capacity];
+        this.writer = new Thread(this::writeRecords, "virtual-schema-log-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * Get an {@link AsyncLogHandler} builder
+     *
+     * @param delegate handler that writes the records
+     * @return builder instance
+     */
+    public static Builder builder(final Handler delegate) {
+        return new Builder(delegate);
+    }
+
+    @Override
+    public void publish(final LogRecord record) {
+        if (!isLoggable(record)) {
+            return;
+        }
+        // The source class is determined from the stack trace of the current thread on first access.
+        record.getSourceClassName();
+        this.lock.lock();
+        try {
+            if (this.closed || ((this.size == this.buffer.length) && !makeRoomFor(record))) {
+                this.droppedRecords.incrementAndGet();
+                return;
+            }
+            this.buffer[(this.head + this.size) % this.buffer.length] = record;
+            ++this.size;
+            this.notEmpty.signal();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private boolean makeRoomFor(final LogRecord record) {
+        switch (this.dropPolicy) {
+        case BLOCK:
+            while ((this.size == this.buffer.length) && !this.closed) {
+                this.notFull.awaitUninterruptibly();
+            }
+            return !this.closed;
+        case DROP_BELOW_LEVEL:
+            if (record.getLevel().intValue() < this.dropLevel) {
+                return false;
+            }
+            removeRecord(findOldestRecordBelowDropLevel());
+            this.droppedRecords.incrementAndGet();
+            return true;
+        default:
+            removeRecord(0);
+            this.droppedRecords.incrementAndGet();
+            return true;
+        }
+    }
+
+    private int findOldestRecordBelowDropLevel() {
+        for (int i = 0; i < this.size; ++i) {
+            if (getRecord(i).getLevel().intValue() < this.dropLevel) {
+                return i;
+            }
+        }
+        return 0;
+    }
+
+    private LogRecord getRecord(final int index) {
+        return this.buffer[(this.head + index) % this.buffer.length];
+    }
+
+    private void removeRecord(final int index) {
+        for (int i = index; i > 0; --i) {
+            this.buffer[(this.head + i) % this.buffer.length] = getRecord(i - 1);
+        }
+        this.buffer[this.head] = null;
+        this.head = (this.head + 1) % this.buffer.length;
+        --this.size;
+    }
+
+    private void writeRecords() {
+        final List<LogRecord> batch = new ArrayList<>(this.batchSize);
+        while (takeBatch(batch)) {
+            for (final LogRecord record : batch) {
+                try {
+                    this.delegate.publish(record);
+                } catch (final RuntimeException exception) {
+                    reportError("Unable to write log record.", exception, ErrorManager.WRITE_FAILURE);
+                }
+            }
+            this.delegate.flush();
+            this.writtenRecords.addAndGet(batch.size());
+            batch.clear();
+        }
+    }
+
+    private boolean takeBatch(final List<LogRecord> batch) {
+        this.lock.lock();
+        try {
+            while (this.size == 0) {
+                this.writing = false;
+                this.idle.signalAll();
+                if (this.closed) {
+                    return false;
+                }
+                this.notEmpty.awaitUninterruptibly();
+            }
+            this.writing = true;
+            while ((this.size > 0) && (batch.size() < this.batchSize)) {
+                batch.add(this.buffer[this.head]);
+                this.buffer[this.head] = null;
+                this.head = (this.head + 1) % this.buffer.length;
+                --this.size;
+            }
+            this.notFull.signalAll();
+            return true;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Wait until all buffered records are written to the delegate
+     */
+    @Override
+    public void flush() {
+        this.lock.lock();
+        try {
+            while (((this.size > 0) || this.writing) && this.writer.isAlive()) {
+                this.idle.await(100, TimeUnit.MILLISECONDS);
+            }
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Write the remaining records, stop the writer thread and close the delegate
+     * <p>
+     * Records published after closing are dropped.
+     */
+    @Override
+    public void close() {
+        this.lock.lock();
+        try {
+            this.closed = true;
+            this.notEmpty.signalAll();
+            this.notFull.signalAll();
+        } finally {
+            this.lock.unlock();
+        }
+        try {
+            this.writer.join(CLOSE_TIMEOUT_MILLIS);
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+        this.delegate.close();
+    }
+
+    @Override
+    public synchronized void setFormatter(final Formatter formatter) {
+        super.setFormatter(formatter);
+        this.delegate.setFormatter(formatter);
+    }
+
+    @Override
+    public synchronized void setLevel(final Level level) {
+        super.setLevel(level);
+        this.delegate.setLevel(level);
+    }
+
+    /**
+     * @return number of records that were dropped because the buffer was full or the handler was closed
+     */
+    public long getDroppedRecordCount() {
+        return this.droppedRecords.get();
+    }
+
+    /**
+     * @return number of records written to the delegate
+     */
+    public long getWrittenRecordCount() {
+        return this.writtenRecords.get();
+    }
+
+    /**
+     * @return policy applied when the buffer is full
+     */
+    public LogDropPolicy getDropPolicy() {
+        return this.dropPolicy;
+    }
+
+    /**
+     * Builder for {@link AsyncLogHandler}
+     */
+    public static class Builder {
+        private static final int DEFAULT_CAPACITY = 1024;
+        private static final int DEFAULT_BATCH_SIZE = 64;
+        private final Handler delegate;
+        private int capacity = DEFAULT_CAPACITY;
+        private int batchSize = DEFAULT_BATCH_SIZE;
+        private LogDropPolicy dropPolicy = LogDropPolicy.DROP_BELOW_LEVEL;
+        private Level dropLevel = Level.WARNING;
+
+        private Builder(final Handler delegate) {
+            this.delegate = delegate;
+        }
+
+        /**
+         * Set the number of records the buffer can hold
+         *
+         * @param capacity buffer capacity (default 1024)
+         * @return builder instance for fluent programming
+         */
+        public Builder capacity(final int capacity) {
+            this.capacity = capacity;
+            return this;
+        }
+
+        /**
+         * Set the maximum number of records the writer publishes before it flushes the delegate
+         *
+         * @param batchSize maximum batch size (default 64)
+         * @return builder instance for fluent programming
+         */
+        public Builder batchSize(final int batchSize) {
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * Set what happens to records when the buffer is full
+         * <p>
+         * By default records are dropped and counted, so that logging never stalls the adapter. Choose
+         * {@link LogDropPolicy#BLOCK} if no record may be lost.
+         *
+         * @param dropPolicy drop policy (default {@link LogDropPolicy#DROP_BELOW_LEVEL})
+         * @return builder instance for fluent programming
+         */
+        public Builder dropPolicy(final LogDropPolicy dropPolicy) {
+            this.dropPolicy = dropPolicy;
+            return this;
+        }
+
+        /**
+         * Set the level below which records are dropped first under {@link LogDropPolicy#DROP_BELOW_LEVEL}
+         *
+         * @param dropLevel level (default {@link Level#WARNING})
+         * @return builder instance for fluent programming
+         */
+        public Builder dropLevel(final Level dropLevel) {
+            this.dropLevel = dropLevel;
+            return this;
+        }
+
+        /**
+         * Create new {@link AsyncLogHandler} instance and start its writer thread
+         *
+         * @return new {@link AsyncLogHandler} instance
+         * @throws IllegalArgumentException if capacity or batch size are not positive or an argument is missing
+         */
+        public AsyncLogHandler build() {
+            if ((this.delegate == null) || (this.dropPolicy == null) || (this.dropLevel == null)) {
+                throw new IllegalArgumentException("Delegate handler, drop policy and drop level must not be null.");
+            }
+            if ((this.capacity < 1) || (this.batchSize < 1)) {
+                throw new IllegalArgumentException("Buffer capacity and batch size must be positive, but are "
+                        + this.capacity + " and " + this.batchSize + ".");
+            }
+            return new AsyncLogHandler(this);
+        }
+    }
+}
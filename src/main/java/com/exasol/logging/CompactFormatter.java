@@ -5,15 +5,28 @@ import java.io.StringWriter;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Formatter;
+import java.util.logging.Level;
 import java.util.logging.LogRecord;
 
 /**
  * Formatter for compact log messages.
+ * <p>
+ * The formatter is optimized for high log volumes. Abbreviated class names and padded level names are cached, each
+ * thread reuses its own string builder and the timestamp is only formatted again when the millisecond changes.
  */
 public class CompactFormatter extends Formatter {
-    private static final String LOG_LEVEL_FORMAT = "%-8s";
+    private static final int LEVEL_WIDTH = 8;
+    private static final int MAX_CACHED_CLASS_NAMES = 4096;
+    private static final int MAX_REUSED_BUILDER_CAPACITY = 16384;
+    private static final ZoneId UTC = ZoneId.of("Z");
+    private static final String LINE_SEPARATOR = System.lineSeparator();
     private final DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS");
+    private final Map<String, String> paddedLevels = new ConcurrentHashMap<>();
+    private final Map<String, String> abbreviatedClassNames = new ConcurrentHashMap<>();
+    private final ThreadLocal<FormattingState> formattingState = ThreadLocal.withInitial(FormattingState::new);
 
     /**
      * Formats a log record according in a compact manner.
@@ -25,43 +38,83 @@ public class CompactFormatter extends Formatter {
      */
     @Override
     public String format(final LogRecord record) {
-        final StringBuilder builder = new StringBuilder();
-        builder.append(formatTimestamp(record.getMillis()));
+        final FormattingState state = this.formattingState.get();
+        final StringBuilder builder = state.getEmptyBuilder();
+        builder.append(state.getTimestamp(record.getMillis()));
         builder.append(" ");
-        builder.append(String.format(LOG_LEVEL_FORMAT, record.getLevel()));
+        builder.append(padLevel(record.getLevel()));
         appendClassName(record.getSourceClassName(), builder);
         builder.append(formatMessage(record));
         formatException(record, builder);
-        builder.append(System.lineSeparator());
+        builder.append(LINE_SEPARATOR);
+        return builder.toString();
+    }
+
+    // Same as String.format("%-8s", level). Keyed by name, since levels with the same value are equal.
+    private String padLevel(final Level level) {
+        final String name = (level == null) ? "null" : level.toString();
+        return this.paddedLevels.computeIfAbsent(name, CompactFormatter::pad);
+    }
+
+    private static String pad(final String name) {
+        final StringBuilder builder = new StringBuilder(name);
+        while (builder.length() < LEVEL_WIDTH) {
+            builder.append(' ');
+        }
         return builder.toString();
     }
 
     private void appendClassName(final String className, final StringBuilder builder) {
         if ((className != null) && !className.isEmpty()) {
             builder.append("[");
-            appendNonEmptyClassName(className, builder);
+            builder.append(abbreviateClassName(className));
             builder.append("] ");
         }
     }
 
+    private String abbreviateClassName(final String className) {
+        final String cached = this.abbreviatedClassNames.get(className);
+        if (cached != null) {
+            return cached;
+        }
+        final StringBuilder builder = new StringBuilder();
+        appendNonEmptyClassName(className, builder);
+        final String abbreviated = builder.toString();
+        if (this.abbreviatedClassNames.size() < MAX_CACHED_CLASS_NAMES) {
+            this.abbreviatedClassNames.put(className, abbreviated);
+        }
+        return abbreviated;
+    }
+
     private void appendNonEmptyClassName(final String className, final StringBuilder builder) {
         int lastPosition = -1;
         int position = className.indexOf('.');
         while (position > 0) {
-            final String characterAfterDot = className.substring(lastPosition + 1, lastPosition + 2);
-            if (!(".".equals(characterAfterDot))) {
+            final char characterAfterDot = className.charAt(lastPosition + 1);
+            if (characterAfterDot != '.') {
                 builder.append(characterAfterDot);
             }
             builder.append(".");
             lastPosition = position;
             position = className.indexOf('.', position + 1);
         }
-        builder.append(className.substring(lastPosition + 1));
+        builder.append(className, lastPosition + 1, className.length());
     }
 
-    private String formatTimestamp(final long millis) {
-        final Instant instant = Instant.ofEpochMilli(millis);
-        return this.dateTimeFormatter.format(instant.atZone(ZoneId.of("Z")));
+    /**
+     * Format the message of a record
+     * <p>
+     * Messages without parameters and resource bundle are used as they are, which avoids the synchronized
+     * {@link Formatter#formatMessage(LogRecord)}.
+     */
+    @Override
+    public String formatMessage(final LogRecord record) {
+        final Object[] parameters = record.getParameters();
+        if ((record.getResourceBundle() == null) && ((parameters == null) || (parameters.length == 0))) {
+            return record.getMessage();
+        } else {
+            return super.formatMessage(record);
+        }
     }
 
     private void formatException(final LogRecord record, final StringBuilder builder) {
@@ -73,4 +126,28 @@ public class CompactFormatter extends Formatter {
             builder.append(errors);
         }
     }
-}
\ No newline at end of file
+
+    private final class FormattingState {
+        private StringBuilder builder = new StringBuilder();
+        private long lastMillis = Long.MIN_VALUE;
+        private String lastTimestamp = null;
+
+        private StringBuilder getEmptyBuilder() {
+            if (this.builder.capacity() > MAX_REUSED_BUILDER_CAPACITY) {
+                this.builder = new StringBuilder();
+            } else {
+                this.builder.setLength(0);
+            }
+            return this.builder;
+        }
+
+        private String getTimestamp(final long millis) {
+            if ((millis != this.lastMillis) || (this.lastTimestamp == null)) {
+                this.lastTimestamp = CompactFormatter.this.dateTimeFormatter
+                        .format(Instant.ofEpochMilli(millis).atZone(UTC));
+                this.lastMillis = millis;
+            }
+            return this.lastTimestamp;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.exasol.logging;
+
+/**
+ * What the {@link AsyncLogHandler} does with a log record when its buffer is full.
+ */
+public enum LogDropPolicy {
+    /**
+     * Drop the oldest buffered record to make room for the new one.
+     */
+    DROP_OLDEST,
+
+    /**
+     * Drop new records below the configured level. More important records replace the oldest buffered record below
+     * that level or, if there is none, the oldest record. This is the default.
+     */
+    DROP_BELOW_LEVEL,
+
+    /**
+     * Block the logging thread until the writer has made room. No records are lost, but a slow receiver slows down the
+     * adapter.
+     */
+    BLOCK
+}
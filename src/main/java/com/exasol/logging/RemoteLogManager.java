@@ -1,35 +1,102 @@
 package com.exasol.logging;
 
-import java.io.IOException;
+import java.io.*;
+import java.net.Socket;
+import java.util.Objects;
 import java.util.logging.*;
 
 /**
  * This class sets up remote logging or falls back to local logging. The later is especially useful in case of unit
  * tests.
+ * <p>
+ * The manager remembers the active setup and only reconfigures the root logger if the requested setup differs from it.
+ * A socket connection to the remote log receiver is kept open and reused as long as host and port stay the same. Use
+ * the process-wide instance from {@link #getInstance()} to benefit from this across adapter calls.
+ * <p>
+ * Remote log records are written by an {@link AsyncLogHandler}, so that a slow log receiver does not delay the adapter.
  */
 public class RemoteLogManager {
     private static final Logger ROOT_LOGGER = LogManager.getLogManager().getLogger("");
     private static final Logger LOGGER = Logger.getLogger(RemoteLogManager.class.getName());
-    private SocketHandler socketHandler = null;
+    private static final RemoteLogManager INSTANCE = new RemoteLogManager();
+    private AsyncLogHandler socketHandler = null;
+    private String socketHost = null;
+    private int socketPort = 0;
+    private LogDropPolicy socketDropPolicy = null;
+    private Handler activeHandler = null;
+    private PrintStream activeErrorStream = null;
+    private boolean activeRemote = false;
+    private String activeHost = null;
+    private int activePort = 0;
+    private Level activeLevel = null;
+    private LogDropPolicy activeDropPolicy = null;
+
+    /**
+     * Get the process-wide instance of the {@link RemoteLogManager}
+     *
+     * @return shared instance
+     */
+    public static RemoteLogManager getInstance() {
+        return INSTANCE;
+    }
 
     /**
      * Configure the logger to write to the console
+     * <p>
+     * Does nothing if console logging with the same log level is already active.
      *
      * @param logLevel from this level on upward messages are logged
      */
-    public void setupConsoleLogger(final Level logLevel) {
+    public synchronized void setupConsoleLogger(final Level logLevel) {
+        if (isActive(false, null, 0, logLevel, null)) {
+            return;
+        }
+        closeSocketHandler();
         setupRootLoggerForLocalLogging(logLevel);
+        rememberActiveSetup(false, null, 0, logLevel, null);
         LOGGER.info(() -> "Set up local logging with log level " + logLevel + ".");
     }
 
+    private boolean isActive(final boolean remote, final String host, final int port, final Level logLevel,
+            final LogDropPolicy dropPolicy) {
+        return (this.activeHandler != null) && (this.activeRemote == remote) && Objects.equals(this.activeHost, host)
+                && (this.activePort == port) && logLevel.equals(this.activeLevel)
+                && (this.activeDropPolicy == dropPolicy)
+                && logLevel.equals(ROOT_LOGGER.getLevel()) && isActiveHandlerAttached()
+                && ((this.activeErrorStream == null) || (this.activeErrorStream == System.err));
+    }
+
+    private boolean isActiveHandlerAttached() {
+        for (final Handler handler : ROOT_LOGGER.getHandlers()) {
+            if (handler == this.activeHandler) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void rememberActiveSetup(final boolean remote, final String host, final int port, final Level logLevel,
+            final LogDropPolicy dropPolicy) {
+        this.activeRemote = remote;
+        this.activeHost = host;
+        this.activePort = port;
+        this.activeLevel = logLevel;
+        this.activeDropPolicy = dropPolicy;
+    }
+
+    // The console handler binds to the error stream that is current when the handler is created. If the stream is
+    // replaced later, the handler must be replaced too.
     private void setupRootLoggerForLocalLogging(final Level logLevel) {
         setupRootLogger(new ConsoleHandler(), logLevel);
+        this.activeErrorStream = System.err;
     }
 
     private void setupRootLogger(final Handler handler, final Level logLevel) {
         removeExistingHandlers();
         ROOT_LOGGER.setLevel(logLevel);
         addHandler(handler, logLevel);
+        this.activeHandler = handler;
+        this.activeErrorStream = null;
     }
 
     private void removeExistingHandlers() {
@@ -47,31 +114,94 @@ public class RemoteLogManager {
 
     /**
      * Configure the logger to write to a socket
+     * <p>
+     * The logging thread never waits for the receiver: if it cannot keep up and the buffer of the asynchronous handler
+     * is full, records below level {@link Level#WARNING} are dropped first. Dropped records are counted, see
+     * {@link #getDroppedRemoteLogRecordCount()}. Pass {@link LogDropPolicy#BLOCK} to the overloaded method if no record
+     * may be lost.
      *
      * @param host     host that the log should be sent to
      * @param port     port on which the log receiver is listening
      * @param logLevel from this level on upward messages are logged
+     * @see #setupRemoteLogger(String, int, Level, LogDropPolicy)
      */
     public void setupRemoteLogger(final String host, final int port, final Level logLevel) {
+        setupRemoteLogger(host, port, logLevel, LogDropPolicy.DROP_BELOW_LEVEL);
+    }
+
+    /**
+     * Configure the logger to write to a socket
+     * <p>
+     * Does nothing if the same setup is already active, including a previous fallback to console logging. An open
+     * connection to the same host and port is reused when only the log level changes.
+     *
+     * @param host       host that the log should be sent to
+     * @param port       port on which the log receiver is listening
+     * @param logLevel   from this level on upward messages are logged
+     * @param dropPolicy what happens to log records if the receiver cannot keep up
+     */
+    public synchronized void setupRemoteLogger(final String host, final int port, final Level logLevel,
+            final LogDropPolicy dropPolicy) {
+        if (isActive(true, host, port, logLevel, dropPolicy)) {
+            return;
+        }
         try {
-            if (this.socketHandler == null) {
-                this.socketHandler = new SocketHandler(host, port);
+            if ((this.socketHandler == null) || !Objects.equals(this.socketHost, host) || (this.socketPort != port)
+                    || (this.socketDropPolicy != dropPolicy)) {
+                closeSocketHandler();
+                this.socketHandler = createSocketHandler(host, port, dropPolicy);
+                this.socketHost = host;
+                this.socketPort = port;
+                this.socketDropPolicy = dropPolicy;
             }
             setupRootLogger(this.socketHandler, logLevel);
+            rememberActiveSetup(true, host, port, logLevel, dropPolicy);
             LOGGER.info(() -> "Attached to output service with log level " + logLevel + ".");
         } catch (final IOException exception) {
             setupRootLoggerForLocalLogging(logLevel);
+            rememberActiveSetup(true, host, port, logLevel, dropPolicy);
             LOGGER.warning(() -> "Unable to attach to remote log listener on " + host + ":" + port
                     + ". Falling back to console log.");
         }
     }
 
-    /**
-     * Close remote connections if any
-     */
-    public void close() {
+    private static AsyncLogHandler createSocketHandler(final String host, final int port,
+            final LogDropPolicy dropPolicy) throws IOException {
+        final Socket socket = new Socket(host, port);
+        final StreamHandler streamHandler = new StreamHandler(new BufferedOutputStream(socket.getOutputStream()),
+                new CompactFormatter());
+        return AsyncLogHandler.builder(streamHandler).dropPolicy(dropPolicy).build();
+    }
+
+    private void closeSocketHandler() {
         if (this.socketHandler != null) {
+            ROOT_LOGGER.removeHandler(this.socketHandler);
             this.socketHandler.close();
+            this.socketHandler = null;
+            this.socketHost = null;
+            this.socketPort = 0;
+            this.socketDropPolicy = null;
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Get the number of log records the remote log handler dropped because the receiver could not keep up
+     *
+     * @return number of dropped records since remote logging was set up, 0 if remote logging is not active
+     */
+    public synchronized long getDroppedRemoteLogRecordCount() {
+        return (this.socketHandler == null) ? 0 : this.socketHandler.getDroppedRecordCount();
+    }
+
+    /**
+     * Close remote connections if any
+     * <p>
+     * The next setup call reconfigures the logger.
+     */
+    public synchronized void close() {
+        closeSocketHandler();
+        this.activeHandler = null;
+        this.activeErrorStream = null;
+        rememberActiveSetup(false, null, 0, null, null);
+    }
+}
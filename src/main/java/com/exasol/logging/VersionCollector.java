@@ -2,11 +2,21 @@ package com.exasol.logging;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Reads the version number from the Maven properties packaged with the library.
+ * <p>
+ * The properties file is read only once per path and JVM. Later calls return the cached version, so that logging the
+ * version on each adapter call does not cost a resource lookup.
+ */
 public class VersionCollector {
     private static final String DEFAULT_PATH = "META-INF/maven/com.exasol/virtual-schema-common-java/pom.properties";
     private static final String VERSION = "version";
+    private static final String UNKNOWN_VERSION = "UNKNOWN";
+    private static final Map<String, String> CACHED_VERSIONS = new ConcurrentHashMap<>();
     private final String path;
 
     public VersionCollector(final String path) {
@@ -18,19 +28,21 @@ public class VersionCollector {
     }
 
     public String getVersionNumber() {
-        final Properties properties = new Properties();
+        return CACHED_VERSIONS.computeIfAbsent(this.path, VersionCollector::readVersionNumber);
+    }
+
+    private static String readVersionNumber(final String path) {
         final ClassLoader loader = Thread.currentThread().getContextClassLoader();
-        final InputStream stream = loader.getResourceAsStream(this.path);
-        if (stream == null) {
-            return "UNKNOWN";
-        }
-        try {
+        try (final InputStream stream = loader.getResourceAsStream(path)) {
+            if (stream == null) {
+                return UNKNOWN_VERSION;
+            }
+            final Properties properties = new Properties();
             properties.load(stream);
+            final String version = properties.getProperty(VERSION);
+            return (version == null) ? UNKNOWN_VERSION : version;
         } catch (final IOException exception) {
-            throw new IllegalArgumentException("Unable to read the version from the file: " + this.path + ".",
-                    exception);
+            throw new IllegalArgumentException("Unable to read the version from the file: " + path + ".", exception);
         }
-        return properties.getProperty(VERSION);
     }
-
 }
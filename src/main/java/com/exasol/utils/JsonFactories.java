@@ -0,0 +1,57 @@
+package com.exasol.utils;
+
+import java.util.Collections;
+
+import javax.json.JsonBuilderFactory;
+import javax.json.JsonReaderFactory;
+import javax.json.spi.JsonProvider;
+import javax.json.stream.JsonGeneratorFactory;
+import javax.json.stream.JsonParserFactory;
+
+/**
+ * Shared JSON factories.
+ * <p>
+ * The static convenience methods in {@link javax.json.Json} look up the {@link JsonProvider} with a
+ * {@link java.util.ServiceLoader} on every call. The factories here are created once from a single provider lookup.
+ * They are thread-safe and share their internal buffers, so all parsers and converters should use them.
+ */
+public final class JsonFactories {
+    private static final JsonProvider PROVIDER = JsonProvider.provider();
+    private static final JsonReaderFactory READER_FACTORY = PROVIDER.createReaderFactory(Collections.emptyMap());
+    private static final JsonParserFactory PARSER_FACTORY = PROVIDER.createParserFactory(Collections.emptyMap());
+    private static final JsonBuilderFactory BUILDER_FACTORY = PROVIDER.createBuilderFactory(Collections.emptyMap());
+    private static final JsonGeneratorFactory GENERATOR_FACTORY = PROVIDER
+            .createGeneratorFactory(Collections.emptyMap());
+
+    private JsonFactories() {
+        // prevent instantiation
+    }
+
+    /**
+     * @return shared factory for JSON readers
+     */
+    public static JsonReaderFactory getReaderFactory() {
+        return READER_FACTORY;
+    }
+
+    /**
+     * @return shared factory for streaming JSON parsers
+     */
+    public static JsonParserFactory getParserFactory() {
+        return PARSER_FACTORY;
+    }
+
+    /**
+     * @return shared factory for JSON object and array builders
+     */
+    public static JsonBuilderFactory getBuilderFactory() {
+        return BUILDER_FACTORY;
+    }
+
+    /**
+     * @return shared factory for JSON generators
+     */
+    public static JsonGeneratorFactory getGeneratorFactory() {
+        return GENERATOR_FACTORY;
+    }
+}
@@ -5,24 +5,25 @@ import javax.json.stream.JsonGenerator;
 import java.io.PrintWriter;
 import java.io.StringReader;
 import java.io.StringWriter;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Collections;
 
 /**
  * A helper class that handles creation and formatting of json files.
  */
 public final class JsonHelper {
+    private static final JsonWriterFactory PRETTY_WRITER_FACTORY = Json
+            .createWriterFactory(Collections.singletonMap(JsonGenerator.PRETTY_PRINTING, true));
+
     private JsonHelper() {
         // Intentionally left blank
     }
 
     public static JsonBuilderFactory getBuilderFactory() {
-        final Map<String, Object> config = new HashMap<>();
-        return Json.createBuilderFactory(config);
+        return JsonFactories.getBuilderFactory();
     }
 
     public static JsonObject getJsonObject(final String data) {
-        try (final JsonReader jr = Json.createReader(new StringReader(data))) {
+        try (final JsonReader jr = JsonFactories.getReaderFactory().createReader(new StringReader(data))) {
             return jr.readObject();
         }
     }
@@ -36,11 +37,9 @@ public final class JsonHelper {
     }
 
     public static String prettyJson(final JsonObject obj) {
-        final Map<String, Boolean> config = new HashMap<>();
-        config.put(JsonGenerator.PRETTY_PRINTING, true);
         final StringWriter strWriter = new StringWriter();
         final PrintWriter pw = new PrintWriter(strWriter);
-        try (final JsonWriter jsonWriter = Json.createWriterFactory(config).createWriter(pw)) {
+        try (final JsonWriter jsonWriter = PRETTY_WRITER_FACTORY.createWriter(pw)) {
             jsonWriter.writeObject(obj);
         }
         return strWriter.toString();
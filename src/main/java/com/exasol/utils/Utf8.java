@@ -0,0 +1,41 @@
+package com.exasol.utils;
+
+/**
+ * Helpers for UTF-8 encoded text.
+ */
+public final class Utf8 {
+    private Utf8() {
+        // prevent instantiation
+    }
+
+    /**
+     * Calculate the length of a text in UTF-8 encoding without encoding it
+     * <p>
+     * Unpaired surrogates are counted as one byte, like the replacement character <code>?</code> the encoder writes
+     * for them.
+     *
+     * @param text text to be measured
+     * @return number of bytes
+     */
+    public static long encodedLength(final CharSequence text) {
+        long length = 0;
+        final int size = text.length();
+        for (int i = 0; i < size; ++i) {
+            final char character = text.charAt(i);
+            if (character < 0x80) {
+                ++length;
+            } else if (character < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(character) && ((i + 1) < size)
+                    && Character.isLowSurrogate(text.charAt(i + 1))) {
+                length += 4;
+                ++i;
+            } else if (Character.isSurrogate(character)) {
+                ++length;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+}
@@ -0,0 +1,133 @@
+package com.exasol.adapter;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+
+import javax.tools.*;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class AdapterIndexProcessorTest {
+    private static final String FACTORY_BODY = " implements com.exasol.adapter.AdapterFactory {\n"
+            + "    public java.util.Set<String> getSupportedAdapterNames() { return null; }\n"
+            + "    public com.exasol.adapter.VirtualSchemaAdapter createAdapter() { return null; }\n"
+            + "    public String getAdapterVersion() { return null; }\n"
+            + "    public String getAdapterName() { return null; }\n" + "}\n";
+    @TempDir
+    Path outputDirectory;
+
+    @Test
+    void testWritesIndexForAnnotatedFactories() throws IOException {
+        final CompilationResult result = compile(
+                source("a.FirstFactory", "@com.exasol.adapter.IndexedAdapterFactory({\"ONE\", \"UNO\"})\n"
+                        + "public class FirstFactory" + FACTORY_BODY),
+                source("b.Outer", "public class Outer {\n"
+                        + "@com.exasol.adapter.IndexedAdapterFactory(\"TWO\")\n"
+                        + "public static class SecondFactory" + FACTORY_BODY + "}\n"));
+        assertAll(() -> assertThat(result.errors, empty()), //
+                () -> assertThat(readIndex(), equalTo("ONE=a.FirstFactory\nTWO=b.Outer$SecondFactory\n"
+                        + "UNO=a.FirstFactory\n")));
+    }
+
+    @Test
+    void testEscapesAdapterNames() throws IOException {
+        final CompilationResult result = compile(source("a.Factory",
+                "@com.exasol.adapter.IndexedAdapterFactory(\"MY DIALECT\")\npublic class Factory" + FACTORY_BODY));
+        assertAll(() -> assertThat(result.errors, empty()), //
+                () -> assertThat(readIndex(), equalTo("MY\\ DIALECT=a.Factory\n")));
+    }
+
+    @Test
+    void testWritesNoIndexWithoutAnnotatedFactories() throws IOException {
+        final CompilationResult result = compile(source("a.Factory", "public class Factory" + FACTORY_BODY));
+        assertAll(() -> assertThat(result.errors, empty()), //
+                () -> assertThat(Files.exists(this.outputDirectory.resolve(AdapterIndex.RESOURCE)), equalTo(false)));
+    }
+
+    @Test
+    void testRejectsClassThatIsNoFactory() throws IOException {
+        final CompilationResult result = compile(source("a.NoFactory",
+                "@com.exasol.adapter.IndexedAdapterFactory(\"ONE\")\npublic class NoFactory {}\n"));
+        assertThat(result.errors, contains(containsString("must implement com.exasol.adapter.AdapterFactory")));
+    }
+
+    @Test
+    void testRejectsFactoryWithoutPublicConstructor() throws IOException {
+        final CompilationResult result = compile(source("a.Factory",
+                "@com.exasol.adapter.IndexedAdapterFactory(\"ONE\")\npublic class Factory"
+                        + FACTORY_BODY.replaceFirst("\\{\n", "{\n    private Factory() {}\n")));
+        assertThat(result.errors, contains(containsString("must have a public constructor without arguments")));
+    }
+
+    @Test
+    void testRejectsAdapterNameUsedByTwoFactories() throws IOException {
+        final CompilationResult result = compile(
+                source("a.FirstFactory",
+                        "@com.exasol.adapter.IndexedAdapterFactory(\"ONE\")\npublic class FirstFactory"
+                                + FACTORY_BODY),
+                source("a.SecondFactory",
+                        "@com.exasol.adapter.IndexedAdapterFactory(\"ONE\")\npublic class SecondFactory"
+                                + FACTORY_BODY));
+        assertThat(result.errors, contains(containsString("Adapter name \"ONE\" is already used")));
+    }
+
+    private static JavaFileObject source(final String className, final String body) {
+        final String packageName = className.substring(0, className.lastIndexOf('.'));
+        final String code = "package " + packageName + ";\n" + body;
+        return new SimpleJavaFileObject(
+                Paths.get(className.replace('.', '/') + JavaFileObject.Kind.SOURCE.extension).toUri(),
+                JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(final boolean ignoreEncodingErrors) {
+                return code;
+            }
+        };
+    }
+
+    private CompilationResult compile(final JavaFileObject... sources) throws IOException {
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        final List<String> options = Arrays.asList("-proc:only", "-classpath", getMainClassesPath(), "-d",
+                this.outputDirectory.toString());
+        try (final StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null,
+                StandardCharsets.UTF_8)) {
+            final JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, options, null,
+                    Arrays.asList(sources));
+            task.setProcessors(Collections.singletonList(new AdapterIndexProcessor()));
+            task.call();
+        }
+        final CompilationResult result = new CompilationResult();
+        for (final Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+            if (diagnostic.getKind() == Diagnostic.Kind.ERROR) {
+                result.errors.add(diagnostic.getMessage(Locale.ENGLISH));
+            }
+        }
+        return result;
+    }
+
+    private static String getMainClassesPath() {
+        try {
+            return Paths.get(AdapterFactory.class.getProtectionDomain().getCodeSource().getLocation().toURI())
+                    .toString();
+        } catch (final URISyntaxException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    private String readIndex() throws IOException {
+        return new String(Files.readAllBytes(this.outputDirectory.resolve(AdapterIndex.RESOURCE)),
+                StandardCharsets.UTF_8);
+    }
+
+    private static final class CompilationResult {
+        private final List<String> errors = new ArrayList<>();
+    }
+}
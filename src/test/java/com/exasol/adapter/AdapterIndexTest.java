@@ -0,0 +1,105 @@
+package com.exasol.adapter;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Enumeration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class AdapterIndexTest {
+    @TempDir
+    Path tempDirectory;
+    private Path firstDirectory;
+    private Path secondDirectory;
+
+    @BeforeEach
+    void beforeEach() {
+        this.firstDirectory = this.tempDirectory.resolve("first");
+        this.secondDirectory = this.tempDirectory.resolve("second");
+    }
+
+    @Test
+    void testLoadWithoutIndexReturnsEmptyIndex() throws IOException {
+        assertThat(AdapterIndex.load(createClassLoader()).isEmpty(), equalTo(true));
+    }
+
+    @Test
+    void testLoadMergesIndexes() throws IOException {
+        writeIndex(this.firstDirectory, "ONE=a.First\n");
+        writeIndex(this.secondDirectory, "TWO=b.Second\nONE=b.Other\n");
+        final AdapterIndex index = AdapterIndex.load(createClassLoader(this.firstDirectory, this.secondDirectory));
+        assertAll(() -> assertThat(index.getAdapterNames(), containsInAnyOrder("ONE", "TWO")),
+                () -> assertThat(index.containsFactoryClass("a.First"), equalTo(true)),
+                () -> assertThat(index.containsFactoryClass("b.Other"), equalTo(false)));
+    }
+
+    @Test
+    void testGetAdapterNamesOfSameFactory() throws IOException {
+        writeIndex(this.firstDirectory, "ONE=a.First\nTWO=b.Second\nUNO=a.First\n");
+        final AdapterIndex index = AdapterIndex.load(createClassLoader(this.firstDirectory));
+        assertThat(index.getAdapterNamesOfSameFactory("UNO"), containsInAnyOrder("ONE", "UNO"));
+    }
+
+    @Test
+    void testCreateFactory() throws IOException {
+        writeIndex(this.firstDirectory, "Dummy=" + DummyAdapterFactory.class.getName() + "\n");
+        final AdapterIndex index = AdapterIndex.load(createClassLoader(this.firstDirectory));
+        assertThat(index.createFactory("Dummy"), instanceOf(DummyAdapterFactory.class));
+    }
+
+    @Test
+    void testCreateFactoryThrowsExceptionIfClassIsMissing() throws IOException {
+        writeIndex(this.firstDirectory, "ONE=a.Missing\n");
+        final AdapterIndex index = AdapterIndex.load(createClassLoader(this.firstDirectory));
+        assertThrows(IllegalStateException.class, () -> index.createFactory("ONE"));
+    }
+
+    @Test
+    void testCreateFactoryThrowsExceptionIfClassIsNoFactory() throws IOException {
+        writeIndex(this.firstDirectory, "ONE=" + DummyAdapter.class.getName() + "\n");
+        final AdapterIndex index = AdapterIndex.load(createClassLoader(this.firstDirectory));
+        assertThrows(IllegalStateException.class, () -> index.createFactory("ONE"));
+    }
+
+    @Test
+    void testCreateFactoryThrowsExceptionIfAdapterIsNotIndexed() throws IOException {
+        writeIndex(this.firstDirectory, "ONE=a.First\n");
+        final AdapterIndex index = AdapterIndex.load(createClassLoader(this.firstDirectory));
+        assertThrows(IllegalArgumentException.class, () -> index.createFactory("TWO"));
+    }
+
+    private static void writeIndex(final Path directory, final String content) throws IOException {
+        final Path index = directory.resolve(AdapterIndex.RESOURCE);
+        Files.createDirectories(index.getParent());
+        Files.write(index, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // The parent is the class loader of the tests, so that the factory classes can be found. The index of the test
+    // classes is hidden, so that only the indexes in the given directories are read.
+    private static ClassLoader createClassLoader(final Path... directories) throws IOException {
+        final URL[] urls = new URL[directories.length];
+        for (int i = 0; i < directories.length; ++i) {
+            Files.createDirectories(directories[i]);
+            urls[i] = directories[i].toUri().toURL();
+        }
+        final ClassLoader parent = new ClassLoader(AdapterIndexTest.class.getClassLoader()) {
+            @Override
+            public Enumeration<URL> getResources(final String name) {
+                return Collections.emptyEnumeration();
+            }
+        };
+        return new URLClassLoader(urls, parent);
+    }
+}
@@ -0,0 +1,79 @@
+package com.exasol.adapter;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark for concurrent adapter lookups in the {@link AdapterRegistry}.
+ * <p>
+ * The registry is compared with a registry guarded by a single monitor, which is how lookups worked before the
+ * registry switched to immutable snapshots. The adapter is a singleton, so the benchmark measures the lookup and not
+ * the adapter creation. The <code>main</code> method runs the benchmark with 1 to 64 threads.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AdapterRegistryBenchmark {
+    private static final String ADAPTER_NAME = "BENCHMARK";
+    private static final int[] THREAD_COUNTS = { 1, 2, 4, 8, 16, 32, 64 };
+    private final SynchronizedRegistry synchronizedRegistry = new SynchronizedRegistry();
+
+    @Setup
+    public void setup() {
+        final AdapterFactory factory = new DummyAdapterFactory() {
+            @Override
+            public AdapterScope getAdapterScope() {
+                return AdapterScope.SINGLETON;
+            }
+        };
+        AdapterRegistry.getInstance().registerAdapterFactory(ADAPTER_NAME, factory);
+        this.synchronizedRegistry.register(ADAPTER_NAME, factory.createAdapter());
+    }
+
+    @TearDown
+    public void tearDown() {
+        AdapterRegistry.getInstance().clear();
+    }
+
+    @Benchmark
+    public VirtualSchemaAdapter snapshotRegistry() {
+        return AdapterRegistry.getInstance().getAdapterForName(ADAPTER_NAME);
+    }
+
+    @Benchmark
+    public VirtualSchemaAdapter synchronizedRegistry() {
+        return this.synchronizedRegistry.getAdapterForName(ADAPTER_NAME);
+    }
+
+    private static final class SynchronizedRegistry {
+        private final Map<String, VirtualSchemaAdapter> adapters = new HashMap<>();
+
+        private synchronized void register(final String name, final VirtualSchemaAdapter adapter) {
+            this.adapters.put(name, adapter);
+        }
+
+        private synchronized VirtualSchemaAdapter getAdapterForName(final String name) {
+            if (this.adapters.containsKey(name)) {
+                return this.adapters.get(name);
+            } else {
+                throw new IllegalArgumentException("Unknown Virtual Schema Adapter \"" + name + "\" requested.");
+            }
+        }
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        for (final int threads : THREAD_COUNTS) {
+            new Runner(new OptionsBuilder().include(AdapterRegistryBenchmark.class.getSimpleName()).threads(threads)
+                    .build()).run();
+        }
+    }
+}
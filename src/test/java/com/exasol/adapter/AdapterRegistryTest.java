@@ -1,12 +1,22 @@
 package com.exasol.adapter;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.collection.IsEmptyCollection.emptyCollectionOf;
 import static org.hamcrest.collection.IsIterableContainingInAnyOrder.containsInAnyOrder;
 import static org.junit.Assert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.io.IOException;
+import java.net.URL;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
@@ -58,6 +68,18 @@ class AdapterRegistryTest {
         assertThrows(IllegalArgumentException.class, () -> this.registry.getAdapterForName("FooBar"));
     }
 
+    @Test
+    void testGetAdapterFactoryForName() {
+        final AdapterFactory factory = new DummyAdapterFactory();
+        this.registry.registerAdapterFactory("ID", factory);
+        assertThat(this.registry.getAdapterFactoryForName("ID"), sameInstance(factory));
+    }
+
+    @Test
+    void testGetAdapterFactoryForNameThrowsExceptionIfNameIsUnknown() {
+        assertThrows(IllegalArgumentException.class, () -> this.registry.getAdapterFactoryForName("FooBar"));
+    }
+
     @Test
     void testDescribe() {
         this.registry.registerAdapterFactory("One", null);
@@ -70,4 +92,206 @@ class AdapterRegistryTest {
     void testDescribeWithNoFactories() {
         assertThat(this.registry.describe(), equalTo("No Virtual Schema Adapter factories are currently reqistered."));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testPerCallScopeCreatesNewAdapterForEachLease() {
+        this.registry.registerAdapterFactory("ID", new ScopedAdapterFactory(AdapterScope.PER_CALL, 1));
+        try (final AdapterLease first = this.registry.leaseAdapterForName("ID");
+                final AdapterLease second = this.registry.leaseAdapterForName("ID")) {
+            assertThat(second.getAdapter(), not(sameInstance(first.getAdapter())));
+        }
+    }
+
+    @Test
+    void testSingletonScopeSharesAdapter() {
+        final ScopedAdapterFactory factory = new ScopedAdapterFactory(AdapterScope.SINGLETON, 1);
+        this.registry.registerAdapterFactory("ID", factory);
+        try (final AdapterLease first = this.registry.leaseAdapterForName("ID");
+                final AdapterLease second = this.registry.leaseAdapterForName("ID")) {
+            assertAll(() -> assertThat(second.getAdapter(), sameInstance(first.getAdapter())),
+                    () -> assertThat(this.registry.getAdapterForName("ID"), sameInstance(first.getAdapter())),
+                    () -> assertThat(factory.created.size(), equalTo(1)));
+        }
+    }
+
+    @Test
+    void testPooledScopeReusesReleasedAdapter() {
+        this.registry.registerAdapterFactory("ID", new ScopedAdapterFactory(AdapterScope.POOLED, 1));
+        final VirtualSchemaAdapter adapter;
+        try (final AdapterLease lease = this.registry.leaseAdapterForName("ID")) {
+            adapter = lease.getAdapter();
+        }
+        try (final AdapterLease lease = this.registry.leaseAdapterForName("ID")) {
+            assertThat(lease.getAdapter(), sameInstance(adapter));
+        }
+    }
+
+    @Test
+    void testPooledScopeHandsOutDifferentAdaptersToConcurrentLeases() {
+        this.registry.registerAdapterFactory("ID", new ScopedAdapterFactory(AdapterScope.POOLED, 2));
+        try (final AdapterLease first = this.registry.leaseAdapterForName("ID");
+                final AdapterLease second = this.registry.leaseAdapterForName("ID")) {
+            assertThat(second.getAdapter(), not(sameInstance(first.getAdapter())));
+        }
+    }
+
+    @Test
+    void testPooledScopeClosesAdaptersBeyondPoolSize() {
+        final ScopedAdapterFactory factory = new ScopedAdapterFactory(AdapterScope.POOLED, 1);
+        this.registry.registerAdapterFactory("ID", factory);
+        final AdapterLease first = this.registry.leaseAdapterForName("ID");
+        final AdapterLease second = this.registry.leaseAdapterForName("ID");
+        first.close();
+        second.close();
+        assertAll(() -> assertThat(factory.created.get(0).closed, equalTo(false)),
+                () -> assertThat(factory.created.get(1).closed, equalTo(true)));
+    }
+
+    @Test
+    void testEvictAdaptersClosesReusedAdapters() {
+        final ScopedAdapterFactory factory = new ScopedAdapterFactory(AdapterScope.SINGLETON, 1);
+        this.registry.registerAdapterFactory("ID", factory);
+        final VirtualSchemaAdapter adapter = this.registry.getAdapterForName("ID");
+        this.registry.evictAdapters("ID");
+        assertAll(() -> assertThat(factory.created.get(0).closed, equalTo(true)),
+                () -> assertThat(this.registry.getAdapterForName("ID"), not(sameInstance(adapter))));
+    }
+
+    @Test
+    void testEvictAdaptersClosesLeasedPooledAdapterOnRelease() {
+        final ScopedAdapterFactory factory = new ScopedAdapterFactory(AdapterScope.POOLED, 1);
+        this.registry.registerAdapterFactory("ID", factory);
+        final AdapterLease lease = this.registry.leaseAdapterForName("ID");
+        this.registry.evictAllAdapters();
+        assertThat(factory.created.get(0).closed, equalTo(false));
+        lease.close();
+        assertThat(factory.created.get(0).closed, equalTo(true));
+    }
+
+    @Test
+    void testRegisteringFactoryAgainEvictsAdapters() {
+        final ScopedAdapterFactory factory = new ScopedAdapterFactory(AdapterScope.SINGLETON, 1);
+        this.registry.registerAdapterFactory("ID", factory);
+        this.registry.getAdapterForName("ID");
+        this.registry.registerAdapterFactory("ID", new ScopedAdapterFactory(AdapterScope.SINGLETON, 1));
+        assertThat(factory.created.get(0).closed, equalTo(true));
+    }
+
+    @Test
+    void testInvalidPoolSizeThrowsException() {
+        this.registry.registerAdapterFactory("ID", new ScopedAdapterFactory(AdapterScope.POOLED, 0));
+        assertThrows(IllegalArgumentException.class, () -> this.registry.leaseAdapterForName("ID"));
+    }
+
+    @Test
+    void testIndexedFactoryIsInstantiatedOnFirstRequest() {
+        final AdapterRegistry indexedRegistry = AdapterRegistry.load(getClass().getClassLoader());
+        final int instancesBefore = CountingAdapterFactory.INSTANCES.get();
+        assertAll(() -> assertThat(indexedRegistry.describe(), containsString("\"Counting\"")),
+                () -> assertThat(indexedRegistry.hasAdapterWithName("Counting"), equalTo(true)),
+                () -> assertThat(CountingAdapterFactory.INSTANCES.get(), equalTo(instancesBefore)),
+                () -> assertThat(indexedRegistry.getAdapterFactoryForName("Counting"),
+                        instanceOf(CountingAdapterFactory.class)),
+                () -> assertThat(CountingAdapterFactory.INSTANCES.get(), equalTo(instancesBefore + 1)));
+    }
+
+    @Test
+    void testIndexedFactoryIsSharedBetweenItsNames() {
+        final AdapterRegistry indexedRegistry = AdapterRegistry.load(getClass().getClassLoader());
+        assertThat(indexedRegistry.getAdapterFactoryForName("CountingAlias"),
+                sameInstance(indexedRegistry.getAdapterFactoryForName("Counting")));
+    }
+
+    @Test
+    void testRegisteredFactoryTakesPrecedenceOverIndex() {
+        final AdapterRegistry indexedRegistry = AdapterRegistry.load(getClass().getClassLoader());
+        final AdapterFactory factory = new DummyAdapterFactory();
+        indexedRegistry.registerAdapterFactory("Counting", factory);
+        assertThat(indexedRegistry.getAdapterFactoryForName("Counting"), sameInstance(factory));
+    }
+
+    @Test
+    void testGetRegisteredAdapterFactoriesIncludesIndexedFactories() {
+        final AdapterRegistry indexedRegistry = AdapterRegistry.load(getClass().getClassLoader());
+        assertThat(indexedRegistry.getRegisteredAdapterFactories(),
+                hasItem(instanceOf(CountingAdapterFactory.class)));
+    }
+
+    @Test
+    void testLoadFallsBackToServiceLoaderWithoutIndex() {
+        final AdapterRegistry serviceLoaderRegistry = AdapterRegistry
+                .load(new IndexHidingClassLoader(getClass().getClassLoader()));
+        assertAll(() -> assertThat(serviceLoaderRegistry.hasAdapterWithName("Counting"), equalTo(false)),
+                () -> assertThat(serviceLoaderRegistry.getAdapterFactoryForName("Dummy"),
+                        instanceOf(DummyAdapterFactory.class)));
+    }
+
+    @Test
+    void testClearForgetsIndexedAdapters() {
+        final AdapterRegistry indexedRegistry = AdapterRegistry.load(getClass().getClassLoader());
+        indexedRegistry.clear();
+        assertThat(indexedRegistry.hasAdapterWithName("Counting"), equalTo(false));
+    }
+
+    @IndexedAdapterFactory({ "Counting", "CountingAlias" })
+    public static class CountingAdapterFactory extends DummyAdapterFactory {
+        private static final AtomicInteger INSTANCES = new AtomicInteger();
+
+        public CountingAdapterFactory() {
+            INSTANCES.incrementAndGet();
+        }
+
+        @Override
+        public Set<String> getSupportedAdapterNames() {
+            return new HashSet<>(Arrays.asList("Counting", "CountingAlias"));
+        }
+    }
+
+    private static class IndexHidingClassLoader extends ClassLoader {
+        private IndexHidingClassLoader(final ClassLoader parent) {
+            super(parent);
+        }
+
+        @Override
+        public Enumeration<URL> getResources(final String name) throws IOException {
+            return AdapterIndex.RESOURCE.equals(name) ? Collections.emptyEnumeration() : super.getResources(name);
+        }
+    }
+
+    private static class CloseableAdapter extends DummyAdapter implements AutoCloseable {
+        private boolean closed = false;
+
+        @Override
+        public void close() {
+            this.closed = true;
+        }
+    }
+
+    private static class ScopedAdapterFactory extends DummyAdapterFactory {
+        private final AdapterScope scope;
+        private final int poolSize;
+        private final List<CloseableAdapter> created = new ArrayList<>();
+
+        private ScopedAdapterFactory(final AdapterScope scope, final int poolSize) {
+            this.scope = scope;
+            this.poolSize = poolSize;
+        }
+
+        @Override
+        public VirtualSchemaAdapter createAdapter() {
+            final CloseableAdapter adapter = new CloseableAdapter();
+            this.created.add(adapter);
+            return adapter;
+        }
+
+        @Override
+        public AdapterScope getAdapterScope() {
+            return this.scope;
+        }
+
+        @Override
+        public int getAdapterPoolSize() {
+            return this.poolSize;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.exasol.adapter;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.*;
+
+/**
+ * Benchmark for the time to the first adapter call response in a fresh JVM.
+ * <p>
+ * Each fork starts a new JVM and measures exactly one call, which includes loading the adapter factories, discovering
+ * the JSON provider, reading the version information and setting up logging. Pass an AppCDS archive with the JMH
+ * option <code>-jvmArgsAppend -XX:SharedArchiveFile=...</code> to compare against a run without it.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+public class ColdStartBenchmark {
+    @Benchmark
+    public String firstAdapterCall() throws AdapterException {
+        return ColdStartProbe.answerFirstCall();
+    }
+
+    public static void main(final String[] args) throws RunnerException, CommandLineOptionException {
+        new Runner(new OptionsBuilder().parent(new CommandLineOptions(args))
+                .include(ColdStartBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,37 @@
+package com.exasol.adapter;
+
+import com.exasol.logging.RemoteLogManager;
+
+/**
+ * Answers a single adapter call in a fresh JVM and reports how long it took.
+ * <p>
+ * This is the work a new UDF VM does before the database gets the first response. The build uses the probe to record
+ * the classes loaded on that path for an AppCDS archive (profile <code>appcds</code>), and
+ * {@link ColdStartBenchmark} uses the same call.
+ */
+public final class ColdStartProbe {
+    static final String REQUEST = "{ \"type\" : \"dropVirtualSchema\", \"schemaMetadataInfo\" : { \"name\" : \"S\", "
+            + "\"properties\" : { \"SQL_DIALECT\" : \"Dummy\", \"LOG_LEVEL\" : \"WARNING\" } } }";
+
+    private ColdStartProbe() {
+        // prevent instantiation
+    }
+
+    /**
+     * Answer one adapter call with the {@link DummyAdapter}
+     *
+     * @return response
+     * @throws AdapterException if the call fails
+     */
+    static String answerFirstCall() throws AdapterException {
+        return RequestDispatcher.adapterCall(null, REQUEST);
+    }
+
+    public static void main(final String[] args) throws AdapterException {
+        final long start = System.nanoTime();
+        final String response = answerFirstCall();
+        final long elapsedMicros = (System.nanoTime() - start) / 1000;
+        RemoteLogManager.getInstance().close();
+        System.out.println("First adapter call answered after " + elapsedMicros + " microseconds: " + response);
+    }
+}
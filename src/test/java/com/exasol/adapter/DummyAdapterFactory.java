@@ -3,6 +3,7 @@ package com.exasol.adapter;
 import java.util.HashSet;
 import java.util.Set;
 
+@IndexedAdapterFactory("Dummy")
 public class DummyAdapterFactory implements AdapterFactory {
     @Override
     public Set<String> getSupportedAdapterNames() {
@@ -1,14 +1,24 @@
 package com.exasol.adapter;
 
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.startsWith;
 import static org.junit.Assert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.*;
 
 import org.itsallcode.io.Capturable;
@@ -21,7 +31,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.exasol.ExaMetadata;
 import com.exasol.adapter.metadata.*;
+import com.exasol.adapter.metrics.RequestPhase;
 import com.exasol.adapter.request.*;
+import com.exasol.adapter.request.parser.RequestParser;
 import com.exasol.adapter.response.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -37,6 +49,37 @@ class RequestDispatcherTest {
             + "            \"SQL_DIALECT\" : \"MOCKADAPTER\"\n" //
             + "        }\n" //
             + "    }\n";
+    private static final String PUSHDOWN_REQUEST = "{\n" //
+            + "    \"type\" : \"pushdown\",\n" //
+            + "    " + DEFAULT_REQUEST_PARTS + ",\n" //
+            + "    \"pushdownRequest\" :\n" //
+            + "    {\n" //
+            + "        \"type\" : \"select\",\n" //
+            + "        \"from\" :\n" //
+            + "        {\n" //
+            + "             \"type\" : \"table\",\n" //
+            + "             \"name\" : \"FOO\"\n" //
+            + "        }\n" //
+            + "    },\n" //
+            + "    \"involvedTables\" :\n" //
+            + "    [\n" //
+            + "        {\n" //
+            + "            \"name\" : \"FOO\",\n" //
+            + "            \"columns\" :\n" //
+            + "            [\n" //
+            + "                {\n" //
+            + "                    \"name\" : \"BAR\"," //
+            + "                    \"dataType\" :\n" //
+            + "                    {\n" //
+            + "                        \"type\" : \"DECIMAL\",\n" //
+            + "                        \"precision\" : 18,\n" //
+            + "                        \"scale\" : 0\n" //
+            + "                    }\n" //
+            + "                }\n" //
+            + "            ]\n" //
+            + "        }\n" //
+            + "    ]\n" //
+            + "}";
     private final ExaMetadata metadata = null;
     @Mock
     private VirtualSchemaAdapter adapterMock;
@@ -51,6 +94,8 @@ class RequestDispatcherTest {
     @AfterEach
     void AfterEach() {
         AdapterRegistry.getInstance().clear();
+        RequestDispatcher.getInstance().getResponseCache().clear();
+        RequestDispatcher.getInstance().setMetricsRecorder(null);
     }
 
     @Test
@@ -109,39 +154,134 @@ class RequestDispatcherTest {
         verify(this.adapterMock).getCapabilities(any(), any(GetCapabilitiesRequest.class));
     }
 
+    @Test
+    void testDispatchReportsPhasesToMetricsRecorder() throws AdapterException {
+        final List<String> recordedPhases = new ArrayList<>();
+        RequestDispatcher.getInstance().setMetricsRecorder((phase, requestType, adapterName,
+                durationNanos) -> recordedPhases.add(adapterName + " " + requestType + " " + phase));
+        final String rawRequest = "{ \"type\" : \"setProperties\", " + DEFAULT_REQUEST_PARTS + "}";
+        when(this.adapterMock.setProperties(any(), any())).thenReturn(SetPropertiesResponse.builder().build());
+        RequestDispatcher.adapterCall(this.metadata, rawRequest);
+        assertThat(recordedPhases, contains("MOCKADAPTER SET_PROPERTIES PARSE",
+                "MOCKADAPTER SET_PROPERTIES LOGGING_SETUP", "MOCKADAPTER SET_PROPERTIES ADAPTER",
+                "MOCKADAPTER SET_PROPERTIES SERIALIZATION"));
+    }
+
+    @Test
+    void testDispatchCountsDeferredStatementParseAsParsePhase() throws AdapterException {
+        final Map<RequestPhase, Long> recordedNanos = new EnumMap<>(RequestPhase.class);
+        RequestDispatcher.getInstance().setMetricsRecorder(
+                (phase, requestType, adapterName, durationNanos) -> recordedNanos.put(phase, durationNanos));
+        final List<PushDownRequest> requests = new ArrayList<>();
+        when(this.adapterMock.pushdown(any(), any())).thenAnswer(invocation -> {
+            final PushDownRequest request = invocation.getArgument(1);
+            request.getSelect();
+            requests.add(request);
+            return PushDownResponse.builder().pushDownSql("SELECT * FROM FOOBAR").build();
+        });
+        RequestDispatcher.adapterCall(this.metadata, PUSHDOWN_REQUEST);
+        final long deferredParseNanos = RequestParser.getDeferredParseNanos(requests.get(0));
+        assertAll(() -> assertThat(deferredParseNanos, greaterThan(0L)),
+                () -> assertThat(recordedNanos.get(RequestPhase.PARSE), greaterThanOrEqualTo(deferredParseNanos)),
+                () -> assertThat(recordedNanos.keySet(), contains(RequestPhase.values())));
+    }
+
+    @Test
+    void testDispatchServesCachedResponseIfAdapterOptsIn() throws AdapterException {
+        AdapterRegistry.getInstance().registerAdapterFactory(MOCKADAPTER,
+                new MockInjectingAdapterFactory(this.adapterMock) {
+                    @Override
+                    public Duration getResponseCacheTimeToLive(final AdapterRequestType requestType) {
+                        return (requestType == AdapterRequestType.GET_CAPABILITIES) ? Duration.ofMinutes(1)
+                                : Duration.ZERO;
+                    }
+                });
+        final String rawRequest = "{ \"type\" : \"getCapabilities\", " + DEFAULT_REQUEST_PARTS + "}";
+        when(this.adapterMock.getCapabilities(any(), any())).thenReturn(GetCapabilitiesResponse.builder().build());
+        final String firstResponse = RequestDispatcher.adapterCall(this.metadata, rawRequest);
+        final String secondResponse = RequestDispatcher.adapterCall(this.metadata, rawRequest);
+        final ResponseCache cache = RequestDispatcher.getInstance().getResponseCache();
+        verify(this.adapterMock, times(1)).getCapabilities(any(), any());
+        assertAll(() -> assertThat(secondResponse, equalTo(firstResponse)),
+                () -> assertThat(cache.getHitCount(), equalTo(1L)),
+                () -> assertThat(cache.getMissCount(), equalTo(1L)));
+    }
+
+    @Test
+    void testDispatchServesCachedResponseForBytesAfterPreScan() throws AdapterException {
+        registerCachingMockAdapterFactory();
+        final byte[] rawRequest = ("{ \"type\" : \"getCapabilities\", " + DEFAULT_REQUEST_PARTS + "}")
+                .getBytes(StandardCharsets.UTF_8);
+        when(this.adapterMock.getCapabilities(any(), any())).thenReturn(GetCapabilitiesResponse.builder().build());
+        RequestDispatcher.adapterCall(this.metadata, rawRequest);
+        RequestDispatcher.adapterCall(this.metadata, ByteBuffer.wrap(rawRequest));
+        verify(this.adapterMock, times(1)).getCapabilities(any(), any());
+        assertThat(RequestDispatcher.getInstance().getResponseCache().getHitCount(), equalTo(1L));
+    }
+
+    @Test
+    void testDispatchSharesCachedResponseForReorderedRequest() throws AdapterException {
+        registerCachingMockAdapterFactory();
+        final String rawRequest = "{ \"type\" : \"getCapabilities\", " + DEFAULT_REQUEST_PARTS + "}";
+        final String otherRawRequest = "{ " + DEFAULT_REQUEST_PARTS + ",\n  \"type\" : \"getCapabilities\" }";
+        when(this.adapterMock.getCapabilities(any(), any())).thenReturn(GetCapabilitiesResponse.builder().build());
+        RequestDispatcher.adapterCall(this.metadata, rawRequest);
+        RequestDispatcher.adapterCall(this.metadata, otherRawRequest);
+        RequestDispatcher.adapterCall(this.metadata, otherRawRequest);
+        final ResponseCache cache = RequestDispatcher.getInstance().getResponseCache();
+        verify(this.adapterMock, times(1)).getCapabilities(any(), any());
+        assertAll(() -> assertThat(cache.getHitCount(), equalTo(2L)),
+                () -> assertThat(cache.getMissCount(), equalTo(1L)), () -> assertThat(cache.size(), equalTo(1)));
+    }
+
+    private void registerCachingMockAdapterFactory() {
+        AdapterRegistry.getInstance().registerAdapterFactory(MOCKADAPTER,
+                new MockInjectingAdapterFactory(this.adapterMock) {
+                    @Override
+                    public Duration getResponseCacheTimeToLive(final AdapterRequestType requestType) {
+                        return Duration.ofMinutes(1);
+                    }
+                });
+    }
+
+    @Test
+    void testDispatchDoesNotCacheWithoutOptIn() throws AdapterException {
+        final String rawRequest = "{ \"type\" : \"getCapabilities\", " + DEFAULT_REQUEST_PARTS + "}";
+        when(this.adapterMock.getCapabilities(any(), any())).thenReturn(GetCapabilitiesResponse.builder().build());
+        RequestDispatcher.adapterCall(this.metadata, rawRequest);
+        RequestDispatcher.adapterCall(this.metadata, rawRequest);
+        verify(this.adapterMock, times(2)).getCapabilities(any(), any());
+        assertThat(RequestDispatcher.getInstance().getResponseCache().size(), equalTo(0));
+    }
+
+    @Test
+    void testDispatchRequestFromBytes() throws AdapterException {
+        final byte[] rawRequest = ("{ \"type\" : \"dropVirtualSchema\", " + DEFAULT_REQUEST_PARTS + "}")
+                .getBytes(StandardCharsets.UTF_8);
+        RequestDispatcher.adapterCall(this.metadata, rawRequest);
+        verify(this.adapterMock).dropVirtualSchema(any(), any(DropVirtualSchemaRequest.class));
+    }
+
+    @Test
+    void testDispatchRequestFromByteBuffer() throws AdapterException {
+        final ByteBuffer rawRequest = ByteBuffer
+                .wrap(("{ \"type\" : \"dropVirtualSchema\", " + DEFAULT_REQUEST_PARTS + "}")
+                        .getBytes(StandardCharsets.UTF_8));
+        RequestDispatcher.adapterCall(this.metadata, rawRequest);
+        verify(this.adapterMock).dropVirtualSchema(any(), any(DropVirtualSchemaRequest.class));
+    }
+
+    @Test
+    void testDispatchRequestFromReader() throws AdapterException {
+        final Reader rawRequest = new StringReader(
+                "{ \"type\" : \"dropVirtualSchema\", " + DEFAULT_REQUEST_PARTS + "}");
+        RequestDispatcher.adapterCall(this.metadata, rawRequest);
+        verify(this.adapterMock).dropVirtualSchema(any(), any(DropVirtualSchemaRequest.class));
+    }
+
     @Test
     void testDispatchPushDownRequest() throws AdapterException {
-        final String rawRequest = "{\n" //
-                + "    \"type\" : \"pushdown\",\n" //
-                + "    " + DEFAULT_REQUEST_PARTS + ",\n" //
-                + "    \"pushdownRequest\" :\n" //
-                + "    {\n" //
-                + "        \"type\" : \"select\",\n" //
-                + "        \"from\" :\n" //
-                + "        {\n" //
-                + "             \"type\" : \"table\",\n" //
-                + "             \"name\" : \"FOO\"\n" //
-                + "        }\n" //
-                + "    },\n" //
-                + "    \"involvedTables\" :\n" //
-                + "    [\n" //
-                + "        {\n" //
-                + "            \"name\" : \"FOO\",\n" //
-                + "            \"columns\" :\n" //
-                + "            [\n" //
-                + "                {\n" //
-                + "                    \"name\" : \"BAR\"," //
-                + "                    \"dataType\" :\n" //
-                + "                    {\n" //
-                + "                        \"type\" : \"DECIMAL\",\n" //
-                + "                        \"precision\" : 18,\n" //
-                + "                        \"scale\" : 0\n" //
-                + "                    }\n" //
-                + "                }\n" //
-                + "            ]\n" //
-                + "        }\n" //
-                + "    ]\n" //
-                + "}";
+        final String rawRequest = PUSHDOWN_REQUEST;
         when(this.adapterMock.pushdown(any(), any()))
                 .thenReturn(PushDownResponse.builder().pushDownSql("SELECT * FROM FOOBAR").build());
         RequestDispatcher.adapterCall(this.metadata, rawRequest);
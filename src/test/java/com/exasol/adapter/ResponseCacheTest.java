@@ -0,0 +1,86 @@
+package com.exasol.adapter;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ResponseCacheTest {
+    private static final Duration TIME_TO_LIVE = Duration.ofSeconds(10);
+    private long now;
+    private ResponseCache cache;
+
+    @BeforeEach
+    void beforeEach() {
+        this.now = 0;
+        this.cache = new ResponseCache(2, () -> this.now);
+    }
+
+    @Test
+    void testGetCachedResponse() {
+        this.cache.put("A", "response A", TIME_TO_LIVE);
+        assertAll(() -> assertThat(this.cache.get("A"), equalTo("response A")),
+                () -> assertThat(this.cache.get("B"), nullValue()),
+                () -> assertThat(this.cache.getHitCount(), equalTo(1L)),
+                () -> assertThat(this.cache.getMissCount(), equalTo(1L)));
+    }
+
+    @Test
+    void testEntryExpiresAfterTimeToLive() {
+        this.cache.put("A", "response A", TIME_TO_LIVE);
+        this.now = TIME_TO_LIVE.toNanos() - 1;
+        final String beforeExpiry = this.cache.get("A");
+        this.now = TIME_TO_LIVE.toNanos();
+        final String afterExpiry = this.cache.get("A");
+        assertAll(() -> assertThat(beforeExpiry, equalTo("response A")),
+                () -> assertThat(afterExpiry, nullValue()),
+                () -> assertThat(this.cache.size(), equalTo(0)));
+    }
+
+    @Test
+    void testEvictsLeastRecentlyUsedEntry() {
+        this.cache.put("A", "response A", TIME_TO_LIVE);
+        this.cache.put("B", "response B", TIME_TO_LIVE);
+        this.cache.get("A");
+        this.cache.put("C", "response C", TIME_TO_LIVE);
+        assertAll(() -> assertThat(this.cache.size(), equalTo(2)),
+                () -> assertThat(this.cache.get("A"), equalTo("response A")),
+                () -> assertThat(this.cache.get("B"), nullValue()),
+                () -> assertThat(this.cache.get("C"), equalTo("response C")));
+    }
+
+    @Test
+    void testGetByRawKey() {
+        this.cache.put("A", "response A", TIME_TO_LIVE);
+        this.cache.putRawKey("raw A", "A");
+        assertAll(() -> assertThat(this.cache.getByRawKey("raw A"), equalTo("response A")),
+                () -> assertThat(this.cache.getByRawKey("raw B"), nullValue()),
+                () -> assertThat(this.cache.getHitCount(), equalTo(1L)),
+                () -> assertThat(this.cache.getMissCount(), equalTo(0L)));
+    }
+
+    @Test
+    void testGetByRawKeyIgnoresExpiredEntry() {
+        this.cache.put("A", "response A", TIME_TO_LIVE);
+        this.cache.putRawKey("raw A", "A");
+        this.now = TIME_TO_LIVE.toNanos();
+        assertAll(() -> assertThat(this.cache.getByRawKey("raw A"), nullValue()),
+                () -> assertThat(this.cache.getMissCount(), equalTo(0L)));
+    }
+
+    @Test
+    void testClearResetsEntriesAndCounters() {
+        this.cache.put("A", "response A", TIME_TO_LIVE);
+        this.cache.get("A");
+        this.cache.get("B");
+        this.cache.clear();
+        assertAll(() -> assertThat(this.cache.size(), equalTo(0)),
+                () -> assertThat(this.cache.getHitCount(), equalTo(0L)),
+                () -> assertThat(this.cache.getMissCount(), equalTo(0L)));
+    }
+}
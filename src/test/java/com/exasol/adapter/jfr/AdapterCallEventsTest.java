@@ -0,0 +1,83 @@
+package com.exasol.adapter.jfr;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.exasol.adapter.*;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+class AdapterCallEventsTest {
+    private static final String REQUEST = "{ \"type\" : \"dropVirtualSchema\", \"schemaMetadataInfo\" : "
+            + "{ \"name\" : \"S\", \"properties\" : { \"SQL_DIALECT\" : \"JFR\", \"LOG_LEVEL\" : \"WARNING\" } } }";
+    @TempDir
+    Path tempDirectory;
+    private String response;
+
+    @BeforeEach
+    void beforeEach() {
+        AdapterRegistry.getInstance().registerAdapterFactory("JFR", new DummyAdapterFactory());
+    }
+
+    @AfterEach
+    void afterEach() {
+        AdapterRegistry.getInstance().clear();
+    }
+
+    @Test
+    void testAdapterCallEmitsEvents() throws AdapterException, IOException {
+        final List<RecordedEvent> events = recordAdapterCall();
+        final RecordedEvent parsed = findEvent(events, RequestParsedEvent.NAME);
+        final RecordedEvent invoked = findEvent(events, AdapterInvokedEvent.NAME);
+        final RecordedEvent serialized = findEvent(events, ResponseSerializedEvent.NAME);
+        assertAll(() -> assertThat(parsed.getString("adapterName"), equalTo("JFR")),
+                () -> assertThat(parsed.getString("requestType"), equalTo("DROP_VIRTUAL_SCHEMA")),
+                () -> assertThat(parsed.getLong("requestSize"),
+                        equalTo((long) REQUEST.getBytes(StandardCharsets.UTF_8).length)),
+                () -> assertThat(parsed.getLong("nodeCount"), equalTo(7L)),
+                () -> assertThat(invoked.getString("adapterName"), equalTo("JFR")),
+                () -> assertThat(invoked.getString("requestType"), equalTo("DROP_VIRTUAL_SCHEMA")),
+                () -> assertThat(serialized.getString("adapterName"), equalTo("JFR")),
+                () -> assertThat(serialized.getLong("responseSize"),
+                        equalTo((long) this.response.getBytes(StandardCharsets.UTF_8).length)));
+    }
+
+    @Test
+    void testNoEventsWithoutRecording() throws AdapterException {
+        final RequestParsedEvent event = new RequestParsedEvent();
+        assertThat(event.isEnabled(), equalTo(false));
+    }
+
+    private List<RecordedEvent> recordAdapterCall() throws AdapterException, IOException {
+        final Path file = this.tempDirectory.resolve("adapter-call.jfr");
+        try (final Recording recording = new Recording()) {
+            recording.enable(RequestParsedEvent.NAME);
+            recording.enable(AdapterInvokedEvent.NAME);
+            recording.enable(ResponseSerializedEvent.NAME);
+            recording.start();
+            this.response = RequestDispatcher.adapterCall(null, REQUEST);
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file);
+    }
+
+    private static RecordedEvent findEvent(final List<RecordedEvent> events, final String name) {
+        final List<RecordedEvent> matches = events.stream()
+                .filter(event -> event.getEventType().getName().equals(name)).collect(Collectors.toList());
+        assertThat(name, matches, hasSize(1));
+        return matches.get(0);
+    }
+}
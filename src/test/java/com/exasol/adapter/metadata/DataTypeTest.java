@@ -1,7 +1,7 @@
 package com.exasol.adapter.metadata;
 
 import static org.hamcrest.MatcherAssert.assertThat;
-import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.*;
 import static org.junit.jupiter.api.Assertions.*;
 
 import org.junit.jupiter.api.Test;
@@ -123,4 +123,23 @@ class DataTypeTest {
     void testIsSupportedForUnsupporteTypeFalse() {
         assertThat(DataType.createUnsupported().isSupported(), equalTo(false));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testFactoriesReturnSharedInstances() {
+        assertAll(() -> assertThat(DataType.createDecimal(18, 0), sameInstance(DataType.createDecimal(18, 0))),
+                () -> assertThat(DataType.createMaximumSizeVarChar(DataType.ExaCharset.UTF8),
+                        sameInstance(DataType.createVarChar(DataType.MAX_EXASOL_VARCHAR_SIZE,
+                                DataType.ExaCharset.UTF8))),
+                () -> assertThat(DataType.createDouble(), sameInstance(DataType.createDouble())),
+                () -> assertThat(DataType.createIntervalDaySecond(2, 3),
+                        sameInstance(DataType.createIntervalDaySecond(2, 3))));
+    }
+
+    @Test
+    void testDifferentTypesAreNotShared() {
+        assertAll(() -> assertThat(DataType.createChar(10, DataType.ExaCharset.UTF8),
+                not(equalTo(DataType.createChar(10, DataType.ExaCharset.ASCII)))),
+                () -> assertThat(DataType.createIntervalDaySecond(2, 0),
+                        not(equalTo(DataType.createIntervalYearMonth(2)))));
+    }
+}
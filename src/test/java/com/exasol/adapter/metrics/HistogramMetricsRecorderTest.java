@@ -0,0 +1,110 @@
+package com.exasol.adapter.metrics;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.*;
+
+import org.junit.jupiter.api.Test;
+
+import com.exasol.adapter.request.AdapterRequestType;
+
+class HistogramMetricsRecorderTest {
+    @Test
+    void testRecordPhaseFeedsHistogram() {
+        final HistogramMetricsRecorder recorder = HistogramMetricsRecorder.builder().summaryInterval(Duration.ZERO)
+                .build();
+        recorder.recordPhase(RequestPhase.PARSE, AdapterRequestType.PUSHDOWN, "A", 1000);
+        recorder.recordPhase(RequestPhase.PARSE, AdapterRequestType.PUSHDOWN, "A", 3000);
+        recorder.recordPhase(RequestPhase.ADAPTER, AdapterRequestType.PUSHDOWN, "A", 5000);
+        final LatencyHistogram histogram = recorder.getHistogram("A", AdapterRequestType.PUSHDOWN,
+                RequestPhase.PARSE);
+        assertAll(() -> assertThat(histogram.getCount(), equalTo(2L)),
+                () -> assertThat(histogram.getMeanNanos(), equalTo(2000L)), () -> assertThat(
+                        recorder.getHistogram("B", AdapterRequestType.PUSHDOWN, RequestPhase.PARSE).getCount(),
+                        equalTo(0L)));
+    }
+
+    @Test
+    void testSummarize() {
+        final HistogramMetricsRecorder recorder = HistogramMetricsRecorder.builder().summaryInterval(Duration.ZERO)
+                .build();
+        recorder.recordPhase(RequestPhase.SERIALIZATION, AdapterRequestType.REFRESH, "B", 2_000_000);
+        recorder.recordPhase(RequestPhase.PARSE, AdapterRequestType.PUSHDOWN, "A", 1_000_000);
+        assertThat(recorder.summarize(), equalTo("Latency of Virtual Schema Adapter calls:\n"
+                + "  A PUSHDOWN PARSE: count 1, mean 1.000 ms, p50 1.000 ms, p90 1.000 ms, p99 1.000 ms, max 1.000 ms\n"
+                + "  B REFRESH SERIALIZATION: count 1, mean 2.000 ms, p50 2.000 ms, p90 2.000 ms, p99 2.000 ms, "
+                + "max 2.000 ms"));
+    }
+
+    @Test
+    void testLogsSummaryWhenIntervalElapsed() {
+        final Logger logger = Logger.getLogger(HistogramMetricsRecorder.class.getName());
+        final List<String> messages = new ArrayList<>();
+        final Handler handler = new Handler() {
+            @Override
+            public void publish(final LogRecord record) {
+                messages.add(record.getMessage());
+            }
+
+            @Override
+            public void flush() {
+                // nothing to flush
+            }
+
+            @Override
+            public void close() {
+                // nothing to close
+            }
+        };
+        final Level previousLevel = logger.getLevel();
+        logger.setLevel(Level.INFO);
+        logger.addHandler(handler);
+        try {
+            final HistogramMetricsRecorder recorder = HistogramMetricsRecorder.builder()
+                    .summaryInterval(Duration.ofNanos(1)).build();
+            recorder.recordPhase(RequestPhase.PARSE, AdapterRequestType.PUSHDOWN, "A", 1000);
+            assertThat(messages, hasItem(startsWith("Latency of Virtual Schema Adapter calls:\n  A PUSHDOWN PARSE")));
+        } finally {
+            logger.removeHandler(handler);
+            logger.setLevel(previousLevel);
+        }
+    }
+
+    @Test
+    void testNegativeSummaryIntervalThrowsException() {
+        final HistogramMetricsRecorder.Builder builder = HistogramMetricsRecorder.builder();
+        final Duration interval = Duration.ofSeconds(-1);
+        assertThrows(IllegalArgumentException.class, () -> builder.summaryInterval(interval));
+    }
+
+    @Test
+    void testDefaultConstructorReadsSummaryIntervalFromSystemProperty() {
+        System.setProperty(HistogramMetricsRecorder.SUMMARY_INTERVAL_PROPERTY, "PT30S");
+        try {
+            assertThat(new HistogramMetricsRecorder().getSummaryInterval(), equalTo(Duration.ofSeconds(30)));
+        } finally {
+            System.clearProperty(HistogramMetricsRecorder.SUMMARY_INTERVAL_PROPERTY);
+        }
+    }
+
+    @Test
+    void testDefaultConstructorIgnoresInvalidSummaryInterval() {
+        System.setProperty(HistogramMetricsRecorder.SUMMARY_INTERVAL_PROPERTY, "30 seconds");
+        try {
+            assertThat(new HistogramMetricsRecorder().getSummaryInterval(), equalTo(Duration.ofMinutes(1)));
+        } finally {
+            System.clearProperty(HistogramMetricsRecorder.SUMMARY_INTERVAL_PROPERTY);
+        }
+    }
+
+    @Test
+    void testDefaultConstructorUsesOneMinuteSummaryInterval() {
+        assertThat(new HistogramMetricsRecorder().getSummaryInterval(), equalTo(Duration.ofMinutes(1)));
+    }
+}
@@ -0,0 +1,80 @@
+package com.exasol.adapter.metrics;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class LatencyHistogramTest {
+    @Test
+    void testEmptyHistogram() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        assertAll(() -> assertThat(histogram.getCount(), equalTo(0L)),
+                () -> assertThat(histogram.getMaxNanos(), equalTo(0L)),
+                () -> assertThat(histogram.getMeanNanos(), equalTo(0L)),
+                () -> assertThat(histogram.getValueAtPercentile(99), equalTo(0L)));
+    }
+
+    @Test
+    void testSmallValuesAreExact() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 100; ++value) {
+            histogram.record(value);
+        }
+        assertAll(() -> assertThat(histogram.getCount(), equalTo(100L)),
+                () -> assertThat(histogram.getValueAtPercentile(0), equalTo(1L)),
+                () -> assertThat(histogram.getValueAtPercentile(50), equalTo(50L)),
+                () -> assertThat(histogram.getValueAtPercentile(100), equalTo(100L)),
+                () -> assertThat(histogram.getMeanNanos(), equalTo(50L)));
+    }
+
+    @Test
+    void testPercentilesOfLargeValues() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; ++i) {
+            histogram.record(i * 1_000_000L);
+        }
+        assertAll(() -> assertThat((double) histogram.getValueAtPercentile(50), closeTo(500_000_000, 16_000_000)),
+                () -> assertThat((double) histogram.getValueAtPercentile(99), closeTo(990_000_000, 32_000_000)),
+                () -> assertThat(histogram.getValueAtPercentile(100), equalTo(1_000_000_000L)),
+                () -> assertThat(histogram.getMaxNanos(), equalTo(1_000_000_000L)));
+    }
+
+    @Test
+    void testNegativeValuesCountAsZero() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        assertAll(() -> assertThat(histogram.getCount(), equalTo(1L)),
+                () -> assertThat(histogram.getValueAtPercentile(100), equalTo(0L)));
+    }
+
+    @Test
+    void testValuesBeyondRangeAreCountedInLastBucket() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(Long.MAX_VALUE);
+        assertAll(() -> assertThat(histogram.getCount(), equalTo(1L)),
+                () -> assertThat(histogram.getMaxNanos(), equalTo(Long.MAX_VALUE)),
+                () -> assertThat(histogram.getValueAtPercentile(50), greaterThan(1_000_000_000_000L)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = { 0, 63, 64, 65, 127, 128, 1000, 123_456_789, 999_999_999_999L })
+    void testBucketContainsValueWithinRelativeError(final long value) {
+        final int index = LatencyHistogram.bucketIndex(value);
+        final long highest = LatencyHistogram.highestValueInBucket(index);
+        assertAll(() -> assertThat(highest, greaterThanOrEqualTo(value)),
+                () -> assertThat((double) (highest - value), lessThanOrEqualTo(value / 32.0)),
+                () -> assertThat(LatencyHistogram.bucketIndex(highest), equalTo(index)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = { -1, 100.5, Double.NaN })
+    void testIllegalPercentileThrowsException(final double percentile) {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        assertThrows(IllegalArgumentException.class, () -> histogram.getValueAtPercentile(percentile));
+    }
+}
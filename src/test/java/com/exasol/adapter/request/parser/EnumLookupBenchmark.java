@@ -0,0 +1,67 @@
+package com.exasol.adapter.request.parser;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.exasol.adapter.sql.*;
+
+/**
+ * Benchmark comparing the precomputed {@link EnumLookup} tables with <code>Enum.valueOf(name.toUpperCase())</code>.
+ * <p>
+ * The names are spelled the way the database sends them: node types and join types in lower case, function names in
+ * upper case. Run with <code>-prof gc</code> to see the allocation difference.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EnumLookupBenchmark {
+    private static final String[] NODE_TYPE_NAMES = { "select", "table", "column", "predicate_and", "predicate_equal",
+            "literal_exactnumeric", "function_scalar", "function_aggregate" };
+    private static final String[] SCALAR_FUNCTION_NAMES = { "ADD", "UPPER", "SUBSTR", "TO_CHAR" };
+    private static final String[] AGGREGATE_FUNCTION_NAMES = { "COUNT", "SUM", "MAX", "GROUP_CONCAT" };
+    private static final String[] JOIN_TYPE_NAMES = { "inner", "left_outer" };
+
+    @Benchmark
+    public void valueOfUpperCase(final Blackhole blackhole) {
+        for (final String name : NODE_TYPE_NAMES) {
+            blackhole.consume(SqlNodeType.valueOf(name.toUpperCase()));
+        }
+        for (final String name : SCALAR_FUNCTION_NAMES) {
+            blackhole.consume(ScalarFunction.valueOf(name.toUpperCase()));
+        }
+        for (final String name : AGGREGATE_FUNCTION_NAMES) {
+            blackhole.consume(AggregateFunction.valueOf(name.toUpperCase()));
+        }
+        for (final String name : JOIN_TYPE_NAMES) {
+            blackhole.consume(JoinType.valueOf(name.toUpperCase()));
+        }
+    }
+
+    @Benchmark
+    public void lookupTable(final Blackhole blackhole) {
+        for (final String name : NODE_TYPE_NAMES) {
+            blackhole.consume(EnumLookup.SQL_NODE_TYPES.get(name));
+        }
+        for (final String name : SCALAR_FUNCTION_NAMES) {
+            blackhole.consume(EnumLookup.SCALAR_FUNCTIONS.get(name));
+        }
+        for (final String name : AGGREGATE_FUNCTION_NAMES) {
+            blackhole.consume(EnumLookup.AGGREGATE_FUNCTIONS.get(name));
+        }
+        for (final String name : JOIN_TYPE_NAMES) {
+            blackhole.consume(EnumLookup.JOIN_TYPES.get(name));
+        }
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(EnumLookupBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,65 @@
+package com.exasol.adapter.request.parser;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import com.exasol.adapter.metadata.DataType.ExaCharset;
+import com.exasol.adapter.metadata.DataType.IntervalType;
+import com.exasol.adapter.sql.*;
+
+class EnumLookupTest {
+    @ParameterizedTest
+    @EnumSource(SqlNodeType.class)
+    void testFindSqlNodeTypeByUpperAndLowerCaseName(final SqlNodeType type) {
+        assertAll(() -> assertThat(EnumLookup.SQL_NODE_TYPES.get(type.name()), sameInstance(type)),
+                () -> assertThat(EnumLookup.SQL_NODE_TYPES.get(type.name().toLowerCase()), sameInstance(type)));
+    }
+
+    @ParameterizedTest
+    @EnumSource(ScalarFunction.class)
+    void testFindScalarFunction(final ScalarFunction function) {
+        assertThat(EnumLookup.SCALAR_FUNCTIONS.get(function.name()), sameInstance(function));
+    }
+
+    @ParameterizedTest
+    @EnumSource(AggregateFunction.class)
+    void testFindAggregateFunction(final AggregateFunction function) {
+        assertThat(EnumLookup.AGGREGATE_FUNCTIONS.get(function.name()), sameInstance(function));
+    }
+
+    @Test
+    void testFindIgnoresCaseAsFallback() {
+        assertAll(() -> assertThat(EnumLookup.SQL_NODE_TYPES.find("Predicate_And"), equalTo(SqlNodeType.PREDICATE_AND)),
+                () -> assertThat(EnumLookup.JOIN_TYPES.find("Left_Outer"), equalTo(JoinType.LEFT_OUTER)),
+                () -> assertThat(EnumLookup.CHARSETS.find("Utf8"), equalTo(ExaCharset.UTF8)),
+                () -> assertThat(EnumLookup.INTERVAL_TYPES.find("day to seconds"),
+                        equalTo(IntervalType.DAY_TO_SECOND)));
+    }
+
+    @Test
+    void testFindIntervalTypeByRequestName() {
+        assertAll(
+                () -> assertThat(EnumLookup.INTERVAL_TYPES.find("DAY TO SECONDS"), equalTo(IntervalType.DAY_TO_SECOND)),
+                () -> assertThat(EnumLookup.INTERVAL_TYPES.find("YEAR TO MONTH"), equalTo(IntervalType.YEAR_TO_MONTH)),
+                () -> assertThat(EnumLookup.INTERVAL_TYPES.find("DAY_TO_SECOND"), nullValue()));
+    }
+
+    @Test
+    void testFindUnknownNameReturnsNull() {
+        assertAll(() -> assertThat(EnumLookup.SCALAR_FUNCTIONS.find("NO_SUCH_FUNCTION"), nullValue()),
+                () -> assertThat(EnumLookup.SCALAR_FUNCTIONS.find(null), nullValue()));
+    }
+
+    @Test
+    void testGetUnknownNameThrowsException() {
+        final IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> EnumLookup.JOIN_TYPES.get("cross"));
+        assertThat(exception.getMessage(), equalTo("Unknown name \"cross\" for enum type JoinType."));
+    }
+}
@@ -0,0 +1,77 @@
+package com.exasol.adapter.request.parser;
+
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.exasol.adapter.metadata.*;
+
+class InvolvedTablesIndexTest {
+    private TableMetadata first;
+    private TableMetadata second;
+    private TableMetadata duplicate;
+    private InvolvedTablesIndex index;
+
+    @BeforeEach
+    void beforeEach() {
+        this.first = createTable("T1", "A", "B", "C");
+        this.second = createTable("T2", "C", "D");
+        this.duplicate = createTable("T1", "X");
+        this.index = new InvolvedTablesIndex(Arrays.asList(this.first, this.second, this.duplicate));
+    }
+
+    private TableMetadata createTable(final String tableName, final String... columnNames) {
+        final List<ColumnMetadata> columns = new ArrayList<>();
+        for (final String columnName : columnNames) {
+            columns.add(ColumnMetadata.builder().name(columnName).type(DataType.createBool()).build());
+        }
+        return new TableMetadata(tableName, "", columns, "");
+    }
+
+    @Test
+    void testFindTableMetadataReturnsFirstMatch() {
+        assertAll(() -> assertThat(this.index.findTableMetadata("T1"), sameInstance(this.first)),
+                () -> assertThat(this.index.findTableMetadata("T2"), sameInstance(this.second)));
+    }
+
+    @Test
+    void testFindUnknownTableThrowsException() {
+        assertThrows(IllegalStateException.class, () -> this.index.findTableMetadata("UNKNOWN"));
+    }
+
+    @Test
+    void testFindColumnMetadataByName() {
+        assertAll(
+                () -> assertThat(this.index.findColumnMetadata("T1", "C"),
+                        sameInstance(this.first.getColumns().get(2))),
+                () -> assertThat(this.index.findColumnMetadata("T2", "C"),
+                        sameInstance(this.second.getColumns().get(0))));
+    }
+
+    @Test
+    void testFindColumnMetadataByPosition() {
+        assertThat(this.index.findColumnMetadata("T1", 1, "B"), sameInstance(this.first.getColumns().get(1)));
+    }
+
+    @Test
+    void testFindColumnMetadataFallsBackToNameIfPositionDoesNotMatch() {
+        assertAll(
+                () -> assertThat(this.index.findColumnMetadata("T1", 0, "C"),
+                        sameInstance(this.first.getColumns().get(2))),
+                () -> assertThat(this.index.findColumnMetadata("T1", 42, "B"),
+                        sameInstance(this.first.getColumns().get(1))));
+    }
+
+    @Test
+    void testFindUnknownColumnThrowsException() {
+        assertAll(() -> assertThrows(IllegalStateException.class, () -> this.index.findColumnMetadata("T1", "X")),
+                () -> assertThrows(IllegalStateException.class,
+                        () -> this.index.findColumnMetadata("UNKNOWN", 0, "A")));
+    }
+}
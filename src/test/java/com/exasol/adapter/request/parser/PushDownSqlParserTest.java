@@ -685,6 +685,33 @@ class PushDownSqlParserTest {
                 () -> assertThat(expression.getValue(), equalTo(2.0)));
     }
 
+    @Test
+    void testParsePredicateInConstlistIntoCompactForm() {
+        final JsonObject inList = Json.createReader(new StringReader("{ \"type\" : \"predicate_in_constlist\", " //
+                + "\"expression\" : { \"type\" : \"literal_string\", \"value\" : \"X\" }, " //
+                + "\"arguments\" : [ { \"type\" : \"literal_exactnumeric\", \"value\" : \"1\" }, " //
+                + "{ \"type\" : \"literal_exactnumeric\", \"value\" : \"2\" } ] }")).readObject();
+        final SqlPredicateInConstList recursivelyParsed = (SqlPredicateInConstList) this.pushdownSqlParser
+                .parseExpression(inList);
+        final SqlPredicateInConstList iterativelyParsed = (SqlPredicateInConstList) PushdownSqlParser
+                .createIterativeWithTablesMetadata(createJoinTables()).parseExpression(inList);
+        assertAll(() -> assertThat(recursivelyParsed.hasLongValues(), equalTo(true)),
+                () -> assertThat(iterativelyParsed.hasLongValues(), equalTo(true)),
+                () -> assertThat(iterativelyParsed.toSimpleSql(), equalTo("'X' IN (1, 2)")));
+    }
+
+    @Test
+    void testParsePredicateInConstlistWithNonLiteralArgument() {
+        final JsonObject inList = Json.createReader(new StringReader("{ \"type\" : \"predicate_in_constlist\", " //
+                + "\"expression\" : { \"type\" : \"literal_string\", \"value\" : \"X\" }, " //
+                + "\"arguments\" : [ { \"type\" : \"literal_string\", \"value\" : \"A\" }, " //
+                + "{ \"type\" : \"literal_null\" } ] }")).readObject();
+        final SqlPredicateInConstList iterativelyParsed = (SqlPredicateInConstList) PushdownSqlParser
+                .createIterativeWithTablesMetadata(createJoinTables()).parseExpression(inList);
+        assertAll(() -> assertThat(iterativelyParsed.hasStringValues(), equalTo(false)),
+                () -> assertThat(iterativelyParsed.toSimpleSql(), equalTo("'X' IN ('A', NULL)")));
+    }
+
     @Test
     void testParseFunctionScalarCase() {
         final String sqlAsJson = "{" //
@@ -855,10 +882,90 @@ class PushDownSqlParserTest {
                 () -> assertThat(SqlNodeType.TABLE, sameInstance(from.getRight().getType())));
     }
 
+    @Test
+    void testIterativeParserProducesSameTreeAsRecursiveParser() {
+        final String column = "{ \"type\" : \"column\", \"name\" : \"ID\", \"columnNr\" : 0, \"tableName\" : \"T1\" }";
+        final String number = "{ \"type\" : \"literal_exactnumeric\", \"value\" : \"1\" }";
+        final String string = "{ \"type\" : \"literal_string\", \"value\" : \"A%\" }";
+        final String sqlAsJson = "{ \"type\" : \"select\", " //
+                + "\"selectList\" : [ " + column + ", " //
+                + "  { \"type\" : \"function_scalar\", \"name\" : \"ADD\", \"numArgs\" : 2, \"infix\" : true, " //
+                + "    \"arguments\" : [ " + column + ", " + number + " ] }, " //
+                + "  { \"type\" : \"function_scalar_case\", \"basis\" : " + column + ", " //
+                + "    \"arguments\" : [ " + number + " ], \"results\" : [ " + string + ", " + string + " ] }, " //
+                + "  { \"type\" : \"function_aggregate_group_concat\", \"name\" : \"GROUP_CONCAT\", " //
+                + "    \"arguments\" : [ " + column + " ], " //
+                + "    \"orderBy\" : [ { \"expression\" : " + column + " } ] } ], " //
+                + "\"from\" : { \"type\" : \"join\", \"join_type\" : \"inner\", " //
+                + "  \"left\" : { \"type\" : \"table\", \"name\" : \"T1\" }, " //
+                + "  \"right\" : { \"type\" : \"table\", \"name\" : \"T2\" }, " //
+                + "  \"condition\" : { \"type\" : \"predicate_equal\", " //
+                + "    \"left\" : " + column + ", \"right\" : " + column + " } }, " //
+                + "\"filter\" : { \"type\" : \"predicate_and\", \"expressions\" : [ " //
+                + "  { \"type\" : \"predicate_or\", \"expressions\" : [ " //
+                + "    { \"type\" : \"predicate_not\", \"expression\" : { \"type\" : \"predicate_like\", " //
+                + "      \"expression\" : " + string + ", \"pattern\" : " + string + ", " //
+                + "      \"escapeChar\" : " + string + " } }, " //
+                + "    { \"type\" : \"predicate_between\", \"expression\" : " + column + ", " //
+                + "      \"left\" : " + number + ", \"right\" : " + number + " } ] }, " //
+                + "  { \"type\" : \"predicate_in_constlist\", \"expression\" : " + column + ", " //
+                + "    \"arguments\" : [ " + number + ", " + number + " ] }, " //
+                + "  { \"type\" : \"predicate_is_null\", \"expression\" : " + column + " } ] }, " //
+                + "\"groupBy\" : [ " + column + " ], " //
+                + "\"having\" : { \"type\" : \"predicate_less\", " //
+                + "  \"left\" : { \"type\" : \"function_aggregate\", \"name\" : \"COUNT\", " //
+                + "    \"arguments\" : [ " + column + " ] }, " //
+                + "  \"right\" : " + number + " }, " //
+                + "\"orderBy\" : [ { \"expression\" : " + column + ", \"isAscending\" : false } ], " //
+                + "\"limit\" : { \"numElements\" : 10 } " //
+                + "}";
+        final JsonObject statement = Json.createReader(new StringReader(sqlAsJson)).readObject();
+        final SqlNode recursivelyParsed = PushdownSqlParser.createWithTablesMetadata(createJoinTables())
+                .parseExpression(statement);
+        final SqlNode iterativelyParsed = PushdownSqlParser.createIterativeWithTablesMetadata(createJoinTables())
+                .parseExpression(statement);
+        assertAll(() -> assertThat(SqlNodeTraversal.getDepth(iterativelyParsed), equalTo(6)),
+                () -> assertThat(describeTree(iterativelyParsed), equalTo(describeTree(recursivelyParsed))));
+    }
+
+    private static String describeTree(final SqlNode root) {
+        return SqlNodeTraversal.reduce(root, (node, children) -> {
+            final String label = (node.getType() == COLUMN) ? ((SqlColumn) node).getTableName() : node.getType().name();
+            return label + children.toString();
+        });
+    }
+
+    @Test
+    void testIterativeParserParsesDeeplyNestedPredicate() {
+        final int depth = 100000;
+        JsonObject predicate = Json.createObjectBuilder().add("type", "literal_bool").add("value", true).build();
+        for (int i = 0; i < depth; ++i) {
+            if ((i % 2) == 0) {
+                predicate = Json.createObjectBuilder().add("type", "predicate_not").add("expression", predicate)
+                        .build();
+            } else {
+                predicate = Json.createObjectBuilder().add("type", "predicate_and")
+                        .add("expressions", Json.createArrayBuilder().add(predicate)).build();
+            }
+        }
+        final JsonObject statement = Json.createObjectBuilder().add("type", "select")
+                .add("from", Json.createObjectBuilder().add("type", "table").add("name", "T1"))
+                .add("filter", predicate).build();
+        final SqlStatementSelect select = (SqlStatementSelect) PushdownSqlParser
+                .createIterativeWithTablesMetadata(createJoinTables()).parseExpression(statement);
+        assertAll(() -> assertThat(select.getWhereClause().getType(), equalTo(PREDICATE_AND)),
+                () -> assertThat(SqlNodeTraversal.getDepth(select.getWhereClause()), equalTo(depth + 1)));
+    }
+
     private SqlStatementSelect parseSqlExpression(final String sqlAsJson) {
         final ByteArrayInputStream rawRequestStream = new ByteArrayInputStream(
                 sqlAsJson.getBytes(StandardCharsets.UTF_8));
         final JsonReader reader = Json.createReader(rawRequestStream);
+        final PushdownSqlParser parser = PushdownSqlParser.createWithTablesMetadata(createJoinTables());
+        return (SqlStatementSelect) parser.parseExpression(reader.readObject());
+    }
+
+    private static List<TableMetadata> createJoinTables() {
         final List<TableMetadata> tables = new ArrayList<>();
         final List<ColumnMetadata> table1Columns = new ArrayList<>();
         table1Columns.add(ColumnMetadata.builder().name("ID").adapterNotes("").type(DataType.createDecimal(18, 0))
@@ -868,7 +975,6 @@ class PushDownSqlParserTest {
         table2Columns.add(ColumnMetadata.builder().name("ID").adapterNotes("").type(DataType.createDecimal(18, 0))
                 .nullable(true).identity(true).defaultValue("0").comment("").build());
         tables.add(new TableMetadata("T2", "", table2Columns, ""));
-        final PushdownSqlParser parser = PushdownSqlParser.createWithTablesMetadata(tables);
-        return (SqlStatementSelect) parser.parseExpression(reader.readObject());
+        return tables;
     }
 }
\ No newline at end of file
@@ -0,0 +1,89 @@
+package com.exasol.adapter.request.parser;
+
+import java.io.StringReader;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import javax.json.*;
+import javax.json.stream.JsonParser;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.exasol.adapter.metadata.*;
+import com.exasol.adapter.sql.SqlNode;
+
+/**
+ * Benchmark for parsing push-down statements that reference many columns of wide tables.
+ * <p>
+ * The number of columns per table and the number of column references grow together. If table and column lookup take
+ * constant time, the parse time per column reference stays the same for all sizes, i.e. the total parse time grows
+ * linearly with the request size.
+ * <p>
+ * With <code>columnNumbers = MATCHING</code> every column is found at its position. With <code>MISMATCHING</code> the
+ * positions in the request are off by one, so every lookup falls back to the search by name.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PushdownSqlParserBenchmark {
+    private static final String TABLE_NAME = "WIDE_TABLE";
+    @Param({ "100", "500", "2000" })
+    private int columns;
+    @Param({ "MATCHING", "MISMATCHING" })
+    private String columnNumbers;
+    private List<TableMetadata> involvedTables;
+    private JsonObject statement;
+    private String rawStatement;
+
+    @Setup
+    public void setup() {
+        final List<ColumnMetadata> columnMetadata = new ArrayList<>(this.columns);
+        for (int i = 0; i < this.columns; ++i) {
+            columnMetadata.add(ColumnMetadata.builder().name("C" + i).type(DataType.createDecimal(18, 0)).build());
+        }
+        this.involvedTables = Arrays.asList(new TableMetadata("OTHER_TABLE", "", new ArrayList<>(), ""),
+                new TableMetadata(TABLE_NAME, "", columnMetadata, ""));
+        this.statement = createSelectReferencingAllColumns();
+        this.rawStatement = this.statement.toString();
+    }
+
+    private JsonObject createSelectReferencingAllColumns() {
+        final JsonArrayBuilder selectList = Json.createArrayBuilder();
+        final int columnNrOffset = "MISMATCHING".equals(this.columnNumbers) ? 1 : 0;
+        for (int i = this.columns - 1; i >= 0; --i) {
+            selectList.add(Json.createObjectBuilder() //
+                    .add("type", "column") //
+                    .add("name", "C" + i) //
+                    .add("columnNr", (i + columnNrOffset) % this.columns) //
+                    .add("tableName", TABLE_NAME));
+        }
+        return Json.createObjectBuilder() //
+                .add("type", "select") //
+                .add("from", Json.createObjectBuilder().add("type", "table").add("name", TABLE_NAME)) //
+                .add("selectList", selectList) //
+                .build();
+    }
+
+    @Benchmark
+    public SqlNode parseFromJsonObject() {
+        return PushdownSqlParser.createWithTablesMetadata(this.involvedTables).parseExpression(this.statement);
+    }
+
+    @Benchmark
+    public SqlNode parseFromJsonText() {
+        try (final JsonParser parser = Json.createParser(new StringReader(this.rawStatement))) {
+            parser.next();
+            return new StreamingPushdownSqlParser(parser, this.involvedTables).parseExpression();
+        }
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(PushdownSqlParserBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,79 @@
+package com.exasol.adapter.request.parser;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+import org.junit.jupiter.api.Test;
+
+import com.exasol.adapter.metadata.SchemaMetadataInfo;
+import com.exasol.adapter.request.PushDownRequest;
+
+class RequestFingerprintTest {
+    private static final String PUSHDOWN_STATEMENT = "\"pushdownRequest\" : { \"type\" : \"select\", "
+            + "\"from\" : { \"type\" : \"table\", \"name\" : \"T\" } }";
+    private static final String INVOLVED_TABLES = "\"involvedTables\" : [ { \"name\" : \"T\", \"columns\" : [] } ]";
+
+    private String fingerprint(final String rawRequest) {
+        return RequestFingerprint.of(RequestParser.create().parse(rawRequest));
+    }
+
+    private String createPushDownRequest(final String properties) {
+        return "{ \"type\" : \"pushdown\", " + PUSHDOWN_STATEMENT + ", " + INVOLVED_TABLES
+                + ", \"schemaMetadataInfo\" : { \"name\" : \"S\", \"properties\" : " + properties + " } }";
+    }
+
+    @Test
+    void testFingerprintIgnoresMemberOrder() {
+        final String reordered = "{ \"schemaMetadataInfo\" : { \"properties\" : { \"B\" : \"2\", \"A\" : \"1\" }, "
+                + "\"name\" : \"S\" }, " + INVOLVED_TABLES + ", \"pushdownRequest\" : { "
+                + "\"from\" : { \"name\" : \"T\", \"type\" : \"table\" }, \"type\" : \"select\" }, "
+                + "\"type\" : \"pushdown\" }";
+        assertThat(fingerprint(reordered),
+                equalTo(fingerprint(createPushDownRequest("{ \"A\" : \"1\", \"B\" : \"2\" }"))));
+    }
+
+    @Test
+    void testFingerprintDependsOnProperties() {
+        assertThat(fingerprint(createPushDownRequest("{ \"A\" : \"1\" }")),
+                not(equalTo(fingerprint(createPushDownRequest("{ \"A\" : \"2\" }")))));
+    }
+
+    @Test
+    void testFingerprintDependsOnRequestType() {
+        final String schemaMetadataInfo = "\"schemaMetadataInfo\" : { \"name\" : \"S\" }";
+        assertThat(fingerprint("{ \"type\" : \"getCapabilities\", " + schemaMetadataInfo + " }"),
+                not(equalTo(fingerprint("{ \"type\" : \"dropVirtualSchema\", " + schemaMetadataInfo + " }"))));
+    }
+
+    @Test
+    void testFingerprintIsSha256HexString() {
+        assertThat(fingerprint(createPushDownRequest("{}")), matchesPattern("[0-9a-f]{64}"));
+    }
+
+    @Test
+    void testEagerPushDownRequestHasNoFingerprint() {
+        final PushDownRequest request = new PushDownRequest("A", new SchemaMetadataInfo("S", "", new HashMap<>()),
+                null, Collections.emptyList());
+        assertThat(RequestFingerprint.of(request), nullValue());
+    }
+
+    @Test
+    void testRawFingerprintIsSameForTextAndBytes() {
+        final String rawRequest = createPushDownRequest("{ \"\u00c4\" : \"1\" }");
+        final ByteBuffer buffer = ByteBuffer.wrap(rawRequest.getBytes(StandardCharsets.UTF_8));
+        final String fingerprint = RequestFingerprint.ofRawRequest(buffer);
+        assertThat(fingerprint, allOf(equalTo(RequestFingerprint.ofRawRequest(rawRequest)),
+                matchesPattern("[0-9a-f]{64}")));
+        assertThat(buffer.position(), equalTo(0));
+    }
+
+    @Test
+    void testRawFingerprintDependsOnMemberOrder() {
+        assertThat(RequestFingerprint.ofRawRequest("{ \"A\" : 1, \"B\" : 2 }"),
+                not(equalTo(RequestFingerprint.ofRawRequest("{ \"B\" : 2, \"A\" : 1 }"))));
+    }
+}
@@ -6,6 +6,10 @@ import static org.junit.Assert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 
@@ -14,6 +18,8 @@ import org.junit.jupiter.api.Test;
 
 import com.exasol.adapter.metadata.TableMetadata;
 import com.exasol.adapter.request.*;
+import com.exasol.adapter.sql.SqlStatementSelect;
+import com.exasol.adapter.sql.SqlTable;
 
 class RequestParserTest {
     private static final String SCHEMA_METADATA_INFO = "\"schemaMetadataInfo\" : { \"name\" : \"foo\" }";
@@ -150,4 +156,67 @@ class RequestParserTest {
         final AdapterRequest request = this.parser.parse(rawRequest);
         assertThat(request.getAdapterName(), equalTo("UNKNOWN"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testParseFromCharSequence() {
+        final StringBuilder rawRequest = new StringBuilder("{ \"type\" : \"refresh\", ").append(SCHEMA_METADATA_INFO)
+                .append("}");
+        final AdapterRequest request = this.parser.parse(rawRequest);
+        assertAll(() -> assertThat(request.getType(), equalTo(AdapterRequestType.REFRESH)),
+                () -> assertThat(request.getSchemaMetadataInfo().getSchemaName(), equalTo("foo")));
+    }
+
+    @Test
+    void testParseFromReader() {
+        final Reader rawRequest = new StringReader("{ \"type\" : \"refresh\", " + SCHEMA_METADATA_INFO + "}");
+        final AdapterRequest request = this.parser.parse(rawRequest);
+        assertAll(() -> assertThat(request.getType(), equalTo(AdapterRequestType.REFRESH)),
+                () -> assertThat(request.getSchemaMetadataInfo().getSchemaName(), equalTo("foo")));
+    }
+
+    @Test
+    void testParseFromBytes() {
+        final byte[] rawRequest = ("{ \"type\" : \"refresh\", \"requestedTables\" : [\"T\u00c4\"], "
+                + SCHEMA_METADATA_INFO + "}").getBytes(StandardCharsets.UTF_8);
+        final RefreshRequest request = (RefreshRequest) this.parser.parse(rawRequest);
+        assertThat(request.getTables(), contains("T\u00c4"));
+    }
+
+    @Test
+    void testParseFromByteBufferLeavesPositionUntouched() {
+        final byte[] rawRequest = ("XX{ \"type\" : \"refresh\", \"requestedTables\" : [\"T\u00c4\"], "
+                + SCHEMA_METADATA_INFO + "}").getBytes(StandardCharsets.UTF_8);
+        final ByteBuffer buffer = ByteBuffer.wrap(rawRequest);
+        buffer.position(2);
+        final RefreshRequest request = (RefreshRequest) this.parser.parse(buffer);
+        assertAll(() -> assertThat(request.getTables(), contains("T\u00c4")),
+                () -> assertThat(buffer.position(), equalTo(2)));
+    }
+
+    @Test
+    void testParsePushDownRequestSharesTableMetadataWithStatement() {
+        final String rawRequest = "{ \"type\" : \"pushdown\", " //
+                + "\"pushdownRequest\" : { \"type\" : \"select\", " //
+                + "\"from\" : { \"type\" : \"table\", \"name\" : \"FOO\" } }, " //
+                + "\"involvedTables\" : [ { \"name\" : \"FOO\", \"columns\" : [] } ], " //
+                + SCHEMA_METADATA_INFO //
+                + "}";
+        final PushDownRequest request = (PushDownRequest) this.parser.parse(rawRequest);
+        final SqlTable table = (SqlTable) ((SqlStatementSelect) request.getSelect()).getFromClause();
+        assertAll(() -> assertThat(request.getSelect(), sameInstance(request.getSelect())),
+                () -> assertThat(table.getMetadata(), sameInstance(request.getInvolvedTablesMetadata().get(0))));
+    }
+
+    @Test
+    void testParsePushDownRequestDefersStatementParsing() {
+        final String rawRequest = "{ \"type\" : \"pushdown\", " //
+                + "\"pushdownRequest\" : { \"type\" : \"select\", " //
+                + "\"from\" : { \"type\" : \"table\", \"name\" : \"UNKNOWN\" } }, " //
+                + "\"involvedTables\" : [ { \"name\" : \"FOO\", \"columns\" : [] } ], " //
+                + SCHEMA_METADATA_INFO //
+                + "}";
+        final PushDownRequest request = (PushDownRequest) this.parser.parse(rawRequest);
+        assertAll(() -> assertThat(request.getInvolvedTablesMetadata(), iterableWithSize(1)),
+                () -> assertThrows(IllegalStateException.class, request::getSelect));
+    }
+}
@@ -0,0 +1,100 @@
+package com.exasol.adapter.request.parser;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import com.exasol.adapter.request.AdapterRequestType;
+
+class RequestPreScannerTest {
+    private static final String SCHEMA_METADATA_INFO = "\"schemaMetadataInfo\" : { \"adapterNotes\" : \"notes\", "
+            + "\"properties\" : { \"A\" : { \"nested\" : [1, 2] }, \"SQL_DIALECT\" : \"THE_DIALECT\" }, "
+            + "\"name\" : \"foo\" }";
+    private static final String PUSHDOWN_STATEMENT = "\"pushdownRequest\" : { \"type\" : \"select\", "
+            + "\"from\" : { \"type\" : \"table\", \"name\" : \"T\" } }";
+
+    @Test
+    void testScan() {
+        final RequestRoutingInfo info = RequestPreScanner
+                .scan("{ \"type\" : \"getCapabilities\", " + SCHEMA_METADATA_INFO + " }");
+        assertRoutingInfo(info, AdapterRequestType.GET_CAPABILITIES);
+    }
+
+    @Test
+    void testScanSkipsOtherMembersInAnyOrder() {
+        final RequestRoutingInfo info = RequestPreScanner.scan("{ " + PUSHDOWN_STATEMENT
+                + ", \"involvedTables\" : [ { \"name\" : \"T\", \"columns\" : [] } ], " + SCHEMA_METADATA_INFO
+                + ", \"type\" : \"pushdown\" }");
+        assertRoutingInfo(info, AdapterRequestType.PUSHDOWN);
+    }
+
+    @Test
+    void testScanStopsAfterRoutingInformation() {
+        final RequestRoutingInfo info = RequestPreScanner
+                .scan("{ \"type\" : \"dropVirtualSchema\", " + SCHEMA_METADATA_INFO + ", \"rest\" : [ this is ignored");
+        assertRoutingInfo(info, AdapterRequestType.DROP_VIRTUAL_SCHEMA);
+    }
+
+    @Test
+    void testScanWithoutSchemaMetadataInfo() {
+        final RequestRoutingInfo info = RequestPreScanner.scan("{ \"type\" : \"getCapabilities\" }");
+        assertAll(() -> assertThat(info.getType(), equalTo(AdapterRequestType.GET_CAPABILITIES)),
+                () -> assertThat(info.getSchemaName(), nullValue()),
+                () -> assertThat(info.getAdapterName(), equalTo("UNKNOWN")));
+    }
+
+    @Test
+    void testScanWithoutAdapterName() {
+        final RequestRoutingInfo info = RequestPreScanner
+                .scan("{ \"type\" : \"refresh\", \"schemaMetadataInfo\" : { \"name\" : \"foo\" } }");
+        assertAll(() -> assertThat(info.getSchemaName(), equalTo("foo")),
+                () -> assertThat(info.getAdapterName(), equalTo("UNKNOWN")));
+    }
+
+    @Test
+    void testScanThrowsExceptionIfRequestTypeUnknown() {
+        final RequestParserException exception = assertThrows(RequestParserException.class,
+                () -> RequestPreScanner.scan("{ \"type\" : \"UNKNOWN\", " + SCHEMA_METADATA_INFO + " }"));
+        assertThat(exception.getMessage(), containsString("unknown adapter request type identifier \"UNKNOWN\""));
+    }
+
+    @Test
+    void testScanThrowsExceptionIfRequestTypeMissing() {
+        assertThrows(RequestParserException.class, () -> RequestPreScanner.scan("{ " + SCHEMA_METADATA_INFO + " }"));
+    }
+
+    @Test
+    void testScanBytes() {
+        final byte[] rawRequest = ("{ \"type\" : \"setProperties\", " + SCHEMA_METADATA_INFO + " }")
+                .getBytes(StandardCharsets.UTF_8);
+        assertRoutingInfo(RequestPreScanner.scan(rawRequest), AdapterRequestType.SET_PROPERTIES);
+    }
+
+    @Test
+    void testScanByteBufferDoesNotChangePosition() {
+        final ByteBuffer rawRequest = ByteBuffer
+                .wrap(("{ \"type\" : \"createVirtualSchema\", " + SCHEMA_METADATA_INFO + " }")
+                        .getBytes(StandardCharsets.UTF_8));
+        assertRoutingInfo(RequestPreScanner.scan(rawRequest), AdapterRequestType.CREATE_VIRTUAL_SCHEMA);
+        assertThat(rawRequest.position(), equalTo(0));
+    }
+
+    @Test
+    void testScanCharSequence() {
+        final CharSequence rawRequest = new StringBuilder("{ \"type\" : \"refresh\", ").append(SCHEMA_METADATA_INFO)
+                .append(" }");
+        assertRoutingInfo(RequestPreScanner.scan(rawRequest), AdapterRequestType.REFRESH);
+    }
+
+    private void assertRoutingInfo(final RequestRoutingInfo info, final AdapterRequestType expectedType) {
+        assertAll(() -> assertThat(info.getType(), equalTo(expectedType)),
+                () -> assertThat(info.getSchemaName(), equalTo("foo")),
+                () -> assertThat(info.getAdapterName(), equalTo("THE_DIALECT")));
+    }
+}
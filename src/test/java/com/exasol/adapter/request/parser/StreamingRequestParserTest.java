@@ -0,0 +1,227 @@
+package com.exasol.adapter.request.parser;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.exasol.adapter.metadata.SchemaMetadataInfo;
+import com.exasol.adapter.request.*;
+import com.exasol.adapter.sql.*;
+
+class StreamingRequestParserTest {
+    private static final String SCHEMA_METADATA_INFO = "\"schemaMetadataInfo\" : { \"name\" : \"foo\", "
+            + "\"adapterNotes\" : { \"a\" : [1, 2.5, true, null, \"x\"] }, "
+            + "\"properties\" : { \"SQL_DIALECT\" : \"THE_DIALECT\", \"N\" : 42 } }";
+    private static final String INVOLVED_TABLES = "\"involvedTables\" : [ { \"name\" : \"T\", "
+            + "\"adapterNotes\" : { \"z\" : 1 }, \"columns\" : [ "
+            + "{ \"name\" : \"A\", \"dataType\" : { \"type\" : \"DECIMAL\", \"precision\" : 18, \"scale\" : 0 } }, "
+            + "{ \"name\" : \"B\", \"isNullable\" : false, \"default\" : \"x\", \"comment\" : \"c\", "
+            + "\"dataType\" : { \"type\" : \"VARCHAR\", \"size\" : 100, \"characterSet\" : \"ASCII\" } } ] } ]";
+    private static final String PUSHDOWN_STATEMENT = "\"pushdownRequest\" : { \"type\" : \"select\", "
+            + "\"from\" : { \"type\" : \"table\", \"name\" : \"T\" }, "
+            + "\"selectList\" : [ { \"type\" : \"column\", \"name\" : \"A\", \"columnNr\" : 0, "
+            + "\"tableName\" : \"T\" } ], "
+            + "\"filter\" : { \"type\" : \"predicate_in_constlist\", "
+            + "\"expression\" : { \"type\" : \"column\", \"name\" : \"B\", \"columnNr\" : 1, \"tableName\" : \"T\" }, "
+            + "\"arguments\" : [ { \"type\" : \"literal_string\", \"value\" : \"x\" }, "
+            + "{ \"type\" : \"literal_exactnumeric\", \"value\" : \"1.5\" } ] }, "
+            + "\"limit\" : { \"numElements\" : 10, \"offset\" : 2 } }";
+    private StreamingRequestParser parser;
+
+    @BeforeEach
+    void beforeEach() {
+        this.parser = StreamingRequestParser.create();
+    }
+
+    @Test
+    void testParseThrowsExceptionIfRequestTypeUnknown() {
+        final String rawRequest = "{ \"type\" : \"UNKNOWN\", \"schemaMetadataInfo\" : { \"name\" : \"foo\" } }";
+        assertThrows(RequestParserException.class, () -> this.parser.parse(rawRequest));
+    }
+
+    @Test
+    void testParseSetPropertiesRequest() {
+        final String rawRequest = "{ \"type\" : \"setProperties\", \"properties\" : { \"A\" : \"value A\", "
+                + "\"B\" : 42, \"PI\" : 3.14, \"YES\" : true, \"NO\" : false, \"NULL_value\" : null }, "
+                + SCHEMA_METADATA_INFO + "}";
+        assertSameRequest(rawRequest);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "createVirtualSchema", "dropVirtualSchema", "getCapabilities", "refresh" })
+    void testParseSimpleRequests(final String type) {
+        assertSameRequest("{ \"type\" : \"" + type + "\", " + SCHEMA_METADATA_INFO + "}");
+    }
+
+    @Test
+    void testParseRefreshRequestWithTables() {
+        final String rawRequest = "{ \"requestedTables\" : [\"T1\", \"T2\"], \"type\" : \"refresh\", "
+                + SCHEMA_METADATA_INFO + "}";
+        final RefreshRequest request = (RefreshRequest) assertSameRequest(rawRequest);
+        assertThat(request.getTables(), contains("T1", "T2"));
+    }
+
+    @Test
+    void testParseRequestWithoutSchemaMetadataInfo() {
+        final AdapterRequest request = this.parser.parse("{ \"type\" : \"getCapabilities\" }");
+        assertAll(() -> assertThat(request.getAdapterName(), equalTo("UNKNOWN")),
+                () -> assertThat(request.getSchemaMetadataInfo().getSchemaName(), equalTo("UNKNOWN")));
+    }
+
+    @Test
+    void testParsePushDownRequestWithTablesFirst() {
+        final String rawRequest = "{ \"type\" : \"pushdown\", " + INVOLVED_TABLES + ", " + PUSHDOWN_STATEMENT + ", "
+                + SCHEMA_METADATA_INFO + "}";
+        assertSameRequest(rawRequest);
+    }
+
+    @Test
+    void testParsePushDownRequestWithStatementFirst() {
+        final String rawRequest = "{ " + PUSHDOWN_STATEMENT + ", " + SCHEMA_METADATA_INFO + ", " + INVOLVED_TABLES
+                + ", \"type\" : \"pushdown\" }";
+        assertSameRequest(rawRequest);
+    }
+
+    @Test
+    void testParsePushDownRequestWithoutInvolvedTablesThrowsException() {
+        final String rawRequest = "{ \"type\" : \"pushdown\", " + PUSHDOWN_STATEMENT + " }";
+        assertThrows(RequestParserException.class, () -> this.parser.parse(rawRequest));
+    }
+
+    @Test
+    void testParsePushDownRequestFromFile() throws IOException {
+        assertSameRequest(readResource("pushdown_request.json"));
+    }
+
+    @Test
+    void testParsePushDownRequestWithAllDataTypesFromFile() throws IOException {
+        assertSameRequest(readResource("pushdown_request_alltypes.json"));
+    }
+
+    @Test
+    void testParsePushDownRequestWithCompactInList() {
+        final String rawRequest = "{ \"type\" : \"pushdown\", " + INVOLVED_TABLES + ", " + SCHEMA_METADATA_INFO
+                + ", \"pushdownRequest\" : { \"type\" : \"select\", "
+                + "\"from\" : { \"type\" : \"table\", \"name\" : \"T\" }, "
+                + "\"filter\" : { \"type\" : \"predicate_in_constlist\", "
+                + "\"expression\" : { \"type\" : \"column\", \"name\" : \"A\", \"columnNr\" : 0, "
+                + "\"tableName\" : \"T\" }, "
+                + "\"arguments\" : [ { \"type\" : \"literal_exactnumeric\", \"value\" : \"3\" }, "
+                + "{ \"value\" : \"-7\", \"type\" : \"literal_exactnumeric\" } ] } } }";
+        final PushDownRequest request = (PushDownRequest) assertSameRequest(rawRequest);
+        final SqlPredicateInConstList inList = (SqlPredicateInConstList) ((SqlStatementSelect) request.getSelect())
+                .getWhereClause();
+        assertAll(() -> assertThat(inList.hasLongValues(), equalTo(true)),
+                () -> assertThat(inList.getLongValue(1), equalTo(-7L)));
+    }
+
+    @Test
+    void testParseInListWithArgumentsBeforeType() {
+        final String rawRequest = "{ \"type\" : \"pushdown\", " + INVOLVED_TABLES + ", " + SCHEMA_METADATA_INFO
+                + ", \"pushdownRequest\" : { \"type\" : \"select\", "
+                + "\"from\" : { \"type\" : \"table\", \"name\" : \"T\" }, "
+                + "\"filter\" : { \"arguments\" : [ { \"type\" : \"literal_string\", \"value\" : \"x\" }, "
+                + "{ \"type\" : \"literal_string\", \"value\" : \"y\" } ], "
+                + "\"expression\" : { \"type\" : \"column\", \"name\" : \"B\", \"columnNr\" : 1, "
+                + "\"tableName\" : \"T\" }, \"type\" : \"predicate_in_constlist\" } } }";
+        final PushDownRequest request = (PushDownRequest) assertSameRequest(rawRequest);
+        final SqlPredicateInConstList inList = (SqlPredicateInConstList) ((SqlStatementSelect) request.getSelect())
+                .getWhereClause();
+        assertThat(inList.hasStringValues(), equalTo(true));
+    }
+
+    @Test
+    void testParseDeeplyNestedPushDownStatement() {
+        final int depth = 100000;
+        final StringBuilder rawRequest = new StringBuilder("{ \"type\" : \"pushdown\", ") //
+                .append(INVOLVED_TABLES) //
+                .append(", \"pushdownRequest\" : { \"type\" : \"select\", ") //
+                .append("\"from\" : { \"type\" : \"table\", \"name\" : \"T\" }, \"filter\" : ");
+        for (int i = 0; i < depth; ++i) {
+            rawRequest.append("{ \"type\" : \"predicate_not\", \"expression\" : ");
+        }
+        rawRequest.append("{ \"type\" : \"literal_bool\", \"value\" : true }");
+        for (int i = 0; i < depth; ++i) {
+            rawRequest.append(" }");
+        }
+        rawRequest.append(" }, ").append(SCHEMA_METADATA_INFO).append("}");
+        final PushDownRequest request = (PushDownRequest) this.parser.parse(rawRequest.toString());
+        final SqlNode filter = ((SqlStatementSelect) request.getSelect()).getWhereClause();
+        assertThat(SqlNodeTraversal.getDepth(filter), equalTo(depth + 1));
+    }
+
+    private String readResource(final String name) throws IOException {
+        return new String(Files.readAllBytes(Paths.get("src/test/resources", name)), StandardCharsets.UTF_8);
+    }
+
+    private AdapterRequest assertSameRequest(final String rawRequest) {
+        final AdapterRequest expected = RequestParser.create().parse(rawRequest);
+        final AdapterRequest actual = this.parser.parse(rawRequest);
+        assertSameStructure("request", expected, actual);
+        return actual;
+    }
+
+    // SQL nodes do not implement equals(), so the trees are compared field by field. The parent links are skipped
+    // since they point back up the tree.
+    private void assertSameStructure(final String path, final Object expected, final Object actual) {
+        if ((expected == null) || (actual == null)) {
+            assertThat(path, actual, equalTo(expected));
+        } else if (expected instanceof List) {
+            final List<?> expectedList = (List<?>) expected;
+            final List<?> actualList = (List<?>) actual;
+            assertThat(path + " size", actualList.size(), equalTo(expectedList.size()));
+            for (int i = 0; i < expectedList.size(); ++i) {
+                assertSameStructure(path + "[" + i + "]", expectedList.get(i), actualList.get(i));
+            }
+        } else if (expected instanceof PushDownRequest) {
+            final PushDownRequest expectedRequest = (PushDownRequest) expected;
+            final PushDownRequest actualRequest = (PushDownRequest) actual;
+            assertSameStructure(path + ".adapterName", expectedRequest.getAdapterName(),
+                    actualRequest.getAdapterName());
+            assertSameStructure(path + ".schemaMetadataInfo", expectedRequest.getSchemaMetadataInfo(),
+                    actualRequest.getSchemaMetadataInfo());
+            assertSameStructure(path + ".select", expectedRequest.getSelect(), actualRequest.getSelect());
+            assertSameStructure(path + ".involvedTablesMetadata", expectedRequest.getInvolvedTablesMetadata(),
+                    actualRequest.getInvolvedTablesMetadata());
+        } else if ((expected instanceof SqlNode) || (expected instanceof AdapterRequest)) {
+            assertThat(path + " class", actual.getClass(), equalTo(expected.getClass()));
+            assertSameFields(path, expected, actual);
+        } else if (expected instanceof SchemaMetadataInfo) {
+            assertSameFields(path, expected, actual);
+        } else {
+            assertThat(path, actual, equalTo(expected));
+        }
+    }
+
+    private void assertSameFields(final String path, final Object expected, final Object actual) {
+        Class<?> type = expected.getClass();
+        while (type != Object.class) {
+            for (final Field field : type.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers()) && !field.getName().equals("parent")
+                        && !field.getName().equals("fingerprint")) {
+                    field.setAccessible(true);
+                    try {
+                        assertSameStructure(path + "." + field.getName(), field.get(expected), field.get(actual));
+                    } catch (final IllegalAccessException exception) {
+                        throw new AssertionError(exception);
+                    }
+                }
+            }
+            type = type.getSuperclass();
+        }
+    }
+}
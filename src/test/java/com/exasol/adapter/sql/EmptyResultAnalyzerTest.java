@@ -0,0 +1,249 @@
+package com.exasol.adapter.sql;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+import org.junit.jupiter.api.Test;
+
+import com.exasol.adapter.metadata.*;
+import com.exasol.adapter.metadata.DataType.ExaCharset;
+import com.exasol.adapter.response.PushDownResponse;
+
+class EmptyResultAnalyzerTest {
+    private static final ColumnMetadata NULLABLE_NUMBER = ColumnMetadata.builder().name("N")
+            .type(DataType.createDecimal(18, 0)).nullable(true).build();
+    private static final ColumnMetadata MANDATORY_NUMBER = ColumnMetadata.builder().name("M")
+            .type(DataType.createDecimal(10, 2)).nullable(false).build();
+    private static final ColumnMetadata TEXT = ColumnMetadata.builder().name("S")
+            .type(DataType.createVarChar(100, ExaCharset.UTF8)).build();
+    private static final TableMetadata TABLE = new TableMetadata("T", "",
+            Arrays.asList(NULLABLE_NUMBER, MANDATORY_NUMBER, TEXT), "");
+
+    private static SqlNode n() {
+        return new SqlColumn(0, NULLABLE_NUMBER, "T");
+    }
+
+    private static SqlNode m() {
+        return new SqlColumn(1, MANDATORY_NUMBER, "T");
+    }
+
+    private static SqlNode s() {
+        return new SqlColumn(2, TEXT, "T");
+    }
+
+    private static SqlNode number(final long value) {
+        return new SqlLiteralExactnumeric(BigDecimal.valueOf(value));
+    }
+
+    private static SqlNode and(final SqlNode... operands) {
+        return new SqlPredicateAnd(Arrays.asList(operands));
+    }
+
+    private static SqlNode or(final SqlNode... operands) {
+        return new SqlPredicateOr(Arrays.asList(operands));
+    }
+
+    private static boolean unsatisfiable(final SqlNode predicate) {
+        return EmptyResultAnalyzer.isUnsatisfiable(predicate);
+    }
+
+    private static SqlStatementSelect.Builder select(final SqlSelectList selectList) {
+        return SqlStatementSelect.builder().selectList(selectList).fromClause(new SqlTable("T", TABLE));
+    }
+
+    @Test
+    void testContradictingEqualities() {
+        assertAll(
+                () -> assertThat(unsatisfiable(
+                        and(new SqlPredicateEqual(n(), number(1)), new SqlPredicateEqual(number(2), n()))),
+                        equalTo(true)),
+                () -> assertThat(unsatisfiable(and(new SqlPredicateEqual(n(), number(1)),
+                        new SqlPredicateEqual(n(), new SqlLiteralExactnumeric(new BigDecimal("1.00"))))),
+                        equalTo(false)));
+    }
+
+    @Test
+    void testEmptyRanges() {
+        assertAll(
+                () -> assertThat(unsatisfiable(new SqlPredicateBetween(n(), number(10), number(5))), equalTo(true)),
+                () -> assertThat(unsatisfiable(new SqlPredicateBetween(n(), number(5), number(5))), equalTo(false)),
+                () -> assertThat(unsatisfiable(
+                        and(new SqlPredicateLess(n(), number(5)), new SqlPredicateLessEqual(number(5), n()))),
+                        equalTo(true)),
+                () -> assertThat(unsatisfiable(
+                        and(new SqlPredicateLessEqual(n(), number(5)), new SqlPredicateLessEqual(number(5), n()))),
+                        equalTo(false)),
+                () -> assertThat(unsatisfiable(and(new SqlPredicateBetween(n(), number(1), number(3)),
+                        SqlPredicateInConstList.ofLongs(n(), 4, 7))), equalTo(true)));
+    }
+
+    @Test
+    void testExcludedValues() {
+        assertAll(
+                () -> assertThat(unsatisfiable(
+                        and(SqlPredicateInConstList.ofLongs(n(), 1, 2), new SqlPredicateNotEqual(n(), number(1)),
+                                new SqlPredicateNotEqual(number(2), n()))),
+                        equalTo(true)),
+                () -> assertThat(unsatisfiable(and(new SqlPredicateBetween(n(), number(1), number(1)),
+                        new SqlPredicateNotEqual(n(), number(1)))), equalTo(true)));
+    }
+
+    @Test
+    void testRangesOnTextColumnsAreNotAnalyzed() {
+        assertThat(unsatisfiable(new SqlPredicateBetween(s(), number(10), number(5))), equalTo(false));
+    }
+
+    @Test
+    void testIsNullOnMandatoryColumn() {
+        assertAll(() -> assertThat(unsatisfiable(new SqlPredicateIsNull(m())), equalTo(true)),
+                () -> assertThat(unsatisfiable(new SqlPredicateIsNull(n())), equalTo(false)));
+    }
+
+    @Test
+    void testIsNullContradictsComparison() {
+        assertAll(
+                () -> assertThat(unsatisfiable(and(new SqlPredicateIsNull(s()),
+                        new SqlPredicateLike(s(), new SqlLiteralString("a%")))), equalTo(true)),
+                () -> assertThat(unsatisfiable(and(new SqlPredicateIsNull(n()), new SqlPredicateIsNotNull(n()))),
+                        equalTo(true)));
+    }
+
+    @Test
+    void testConstantPredicates() {
+        assertAll(() -> assertThat(unsatisfiable(new SqlLiteralBool(false)), equalTo(true)),
+                () -> assertThat(unsatisfiable(new SqlLiteralNull()), equalTo(true)),
+                () -> assertThat(unsatisfiable(new SqlPredicateEqual(number(1), number(2))), equalTo(true)),
+                () -> assertThat(unsatisfiable(new SqlPredicateEqual(s(), new SqlLiteralNull())), equalTo(true)),
+                () -> assertThat(unsatisfiable(new SqlLiteralBool(true)), equalTo(false)));
+    }
+
+    @Test
+    void testDisjunctions() {
+        final SqlNode nIsOne = new SqlPredicateEqual(n(), number(1));
+        assertAll(
+                () -> assertThat(unsatisfiable(and(nIsOne,
+                        or(new SqlPredicateEqual(n(), number(2)), new SqlPredicateEqual(n(), number(3))))),
+                        equalTo(true)),
+                () -> assertThat(unsatisfiable(and(new SqlPredicateEqual(n(), number(1)),
+                        or(new SqlPredicateEqual(n(), number(2)),
+                                new SqlPredicateEqual(s(), new SqlLiteralString("x"))))),
+                        equalTo(false)));
+    }
+
+    private static SqlStatementSelect selectFromJoin(final JoinType joinType, final SqlNode whereClause) {
+        final TableMetadata tableA = new TableMetadata("A", "", Arrays.asList(MANDATORY_NUMBER), "");
+        final TableMetadata tableB = new TableMetadata("B", "", Arrays.asList(MANDATORY_NUMBER), "");
+        final SqlNode condition = new SqlPredicateEqual(new SqlColumn(0, MANDATORY_NUMBER, "A"),
+                new SqlColumn(0, MANDATORY_NUMBER, "B"));
+        final SqlJoin join = new SqlJoin(new SqlTable("A", tableA), new SqlTable("B", tableB), condition, joinType);
+        return SqlStatementSelect.builder().selectList(SqlSelectList.createSelectStarSelectList()).fromClause(join)
+                .whereClause(whereClause).build();
+    }
+
+    @Test
+    void testIsNullOnMandatoryColumnOfOuterJoinIsNotEmpty() {
+        final SqlStatementSelect select = selectFromJoin(JoinType.LEFT_OUTER,
+                new SqlPredicateIsNull(new SqlColumn(0, MANDATORY_NUMBER, "B")));
+        assertAll(() -> assertThat(EmptyResultAnalyzer.isProvablyEmpty(select), equalTo(false)),
+                () -> assertThat(EmptyResultAnalyzer.isUnsatisfiable(select.getWhereClause()), equalTo(false)),
+                () -> assertThat(EmptyResultAnalyzer.createEmptyResponse(select).isPresent(), equalTo(false)));
+    }
+
+    @Test
+    void testIsNullOnMandatoryColumnOfFullOuterJoinIsNotEmpty() {
+        final SqlStatementSelect select = selectFromJoin(JoinType.FULL_OUTER,
+                new SqlPredicateIsNull(new SqlColumn(0, MANDATORY_NUMBER, "A")));
+        assertThat(EmptyResultAnalyzer.isProvablyEmpty(select), equalTo(false));
+    }
+
+    @Test
+    void testIsNullOnMandatoryColumnOfPreservedSideIsEmpty() {
+        final SqlStatementSelect select = selectFromJoin(JoinType.LEFT_OUTER,
+                new SqlPredicateIsNull(new SqlColumn(0, MANDATORY_NUMBER, "A")));
+        assertThat(EmptyResultAnalyzer.isProvablyEmpty(select), equalTo(true));
+    }
+
+    @Test
+    void testIsNullOnMandatoryColumnOfInnerJoinIsEmpty() {
+        final SqlStatementSelect select = selectFromJoin(JoinType.INNER,
+                new SqlPredicateIsNull(new SqlColumn(0, MANDATORY_NUMBER, "B")));
+        assertThat(EmptyResultAnalyzer.isProvablyEmpty(select), equalTo(true));
+    }
+
+    @Test
+    void testLimitZeroIsEmpty() {
+        final SqlStatementSelect select = select(SqlSelectList.createSelectStarSelectList()).limit(new SqlLimit(0))
+                .build();
+        assertThat(EmptyResultAnalyzer.isProvablyEmpty(select), equalTo(true));
+    }
+
+    @Test
+    void testGlobalAggregationOverEmptyFilterIsNotEmpty() {
+        final SqlNode count = new SqlFunctionAggregate(AggregateFunction.COUNT, Collections.singletonList(n()), false);
+        final SqlStatementSelect select = select(SqlSelectList.createRegularSelectList(Arrays.asList(count)))
+                .whereClause(new SqlLiteralBool(false)).build();
+        assertThat(EmptyResultAnalyzer.isProvablyEmpty(select), equalTo(false));
+    }
+
+    @Test
+    void testGroupedAggregationOverEmptyFilterIsEmpty() {
+        final SqlNode count = new SqlFunctionAggregate(AggregateFunction.COUNT, Collections.singletonList(n()), false);
+        final SqlStatementSelect select = select(SqlSelectList.createRegularSelectList(Arrays.asList(s(), count)))
+                .whereClause(new SqlLiteralBool(false)).groupBy(new SqlGroupBy(Arrays.asList(s()))).build();
+        assertThat(EmptyResultAnalyzer.isProvablyEmpty(select), equalTo(true));
+    }
+
+    @Test
+    void testUnsatisfiableHavingIsEmpty() {
+        final SqlNode count = new SqlFunctionAggregate(AggregateFunction.COUNT, Collections.singletonList(n()), false);
+        final SqlStatementSelect select = select(SqlSelectList.createRegularSelectList(Arrays.asList(count)))
+                .having(new SqlLiteralBool(false)).build();
+        assertThat(EmptyResultAnalyzer.isProvablyEmpty(select), equalTo(true));
+    }
+
+    @Test
+    void testCreateEmptyResponseForSelectStar() {
+        final SqlStatementSelect select = select(SqlSelectList.createSelectStarSelectList())
+                .whereClause(new SqlPredicateIsNull(m())).build();
+        final Optional<PushDownResponse> response = EmptyResultAnalyzer.createEmptyResponse(select);
+        assertThat(response.map(PushDownResponse::getPushDownSql).orElse(null),
+                equalTo("SELECT CAST(NULL AS DECIMAL(18, 0)), CAST(NULL AS DECIMAL(10, 2)), "
+                        + "CAST(NULL AS VARCHAR(100) UTF8) FROM DUAL WHERE FALSE"));
+    }
+
+    @Test
+    void testCreateEmptyResponseForColumnsAndCasts() {
+        final SqlNode cast = new SqlFunctionScalarCast(DataType.createDouble(), Collections.singletonList(s()));
+        final SqlStatementSelect select = select(SqlSelectList.createRegularSelectList(Arrays.asList(s(), cast)))
+                .limit(new SqlLimit(0)).build();
+        assertThat(EmptyResultAnalyzer.createEmptyResponse(select).map(PushDownResponse::getPushDownSql).orElse(null),
+                equalTo("SELECT CAST(NULL AS VARCHAR(100) UTF8), CAST(NULL AS DOUBLE) FROM DUAL WHERE FALSE"));
+    }
+
+    @Test
+    void testCreateEmptyResponseForAnyColumn() {
+        final SqlStatementSelect select = select(SqlSelectList.createAnyValueSelectList()).limit(new SqlLimit(0))
+                .build();
+        assertThat(EmptyResultAnalyzer.createEmptyResponse(select).map(PushDownResponse::getPushDownSql).orElse(null),
+                equalTo("SELECT true FROM DUAL WHERE FALSE"));
+    }
+
+    @Test
+    void testNoEmptyResponseForUnknownTypes() {
+        final SqlNode plus = new SqlFunctionScalar(ScalarFunction.ADD, Arrays.asList(n(), number(1)), true, false);
+        final SqlStatementSelect select = select(SqlSelectList.createRegularSelectList(Arrays.asList(plus)))
+                .limit(new SqlLimit(0)).build();
+        assertThat(EmptyResultAnalyzer.createEmptyResponse(select).isPresent(), equalTo(false));
+    }
+
+    @Test
+    void testNoEmptyResponseForSatisfiableStatement() {
+        final SqlStatementSelect select = select(SqlSelectList.createSelectStarSelectList())
+                .whereClause(new SqlPredicateEqual(n(), number(1))).build();
+        assertThat(EmptyResultAnalyzer.createEmptyResponse(select).isPresent(), equalTo(false));
+    }
+}
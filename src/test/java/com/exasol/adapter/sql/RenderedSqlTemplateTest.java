@@ -0,0 +1,57 @@
+package com.exasol.adapter.sql;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+class RenderedSqlTemplateTest {
+    @Test
+    void testRender() {
+        final RenderedSqlTemplate template = RenderedSqlTemplate.builder().appendSql("SELECT * FROM T WHERE A = ")
+                .appendParameter(0).appendSql(" AND B = ").appendParameter(1).build();
+        assertThat(template.render(Arrays.asList("1", "'x'")), equalTo("SELECT * FROM T WHERE A = 1 AND B = 'x'"));
+    }
+
+    @Test
+    void testRenderRepeatedAndReorderedParameters() {
+        final RenderedSqlTemplate template = RenderedSqlTemplate.builder().appendParameter(1).appendSql(", ")
+                .appendParameter(0).appendSql(", ").appendParameter(1).build();
+        assertThat(template.render(Arrays.asList("a", "b")), equalTo("b, a, b"));
+    }
+
+    @Test
+    void testRenderWithoutParameters() {
+        final RenderedSqlTemplate template = RenderedSqlTemplate.builder().appendSql("SELECT ").appendSql("1").build();
+        assertThat(template.render(Collections.emptyList()), equalTo("SELECT 1"));
+    }
+
+    @Test
+    void testRenderWithWrongNumberOfParametersThrowsException() {
+        final RenderedSqlTemplate template = RenderedSqlTemplate.builder().appendParameter(0).build();
+        assertThrows(IllegalArgumentException.class, () -> template.render(Arrays.asList("a", "b")));
+    }
+
+    @Test
+    void testUnusedParametersCount() {
+        final RenderedSqlTemplate template = RenderedSqlTemplate.builder().appendParameter(0).parameterCount(2)
+                .build();
+        assertThat(template.render(Arrays.asList("a", "b")), equalTo("a"));
+    }
+
+    @Test
+    void testNegativeParameterIndexThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> RenderedSqlTemplate.builder().appendParameter(-1));
+    }
+
+    @Test
+    void testToString() {
+        final RenderedSqlTemplate template = RenderedSqlTemplate.builder().appendSql("A = ").appendParameter(0)
+                .build();
+        assertThat(template.toString(), equalTo("A = {0}"));
+    }
+}
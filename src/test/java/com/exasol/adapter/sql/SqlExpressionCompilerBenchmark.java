@@ -0,0 +1,66 @@
+package com.exasol.adapter.sql;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.exasol.adapter.metadata.ColumnMetadata;
+import com.exasol.adapter.metadata.DataType;
+
+/**
+ * Benchmark for filtering rows with a {@link CompiledExpression}.
+ * <p>
+ * The filter combines a range check, a <code>LIKE</code> pattern and an <code>IN</code> list, the kind of predicate a
+ * file based adapter has to evaluate itself. The score is the time to filter all rows.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SqlExpressionCompilerBenchmark {
+    private static final int ROWS = 1_000_000;
+    private final Object[][] rows = new Object[ROWS][];
+    private CompiledExpression filter;
+
+    @Setup
+    public void setup() {
+        for (int i = 0; i < ROWS; ++i) {
+            this.rows[i] = new Object[] { (long) (i % 1000), "name " + (i % 97), (long) (i % 50) };
+        }
+        final SqlNode predicate = new SqlPredicateAnd(Arrays.asList(
+                new SqlPredicateBetween(column(0), number(100), number(900)),
+                new SqlPredicateLike(column(1), new SqlLiteralString("name 1%")),
+                SqlPredicateInConstList.ofLongs(column(2), 1, 3, 5, 7, 11, 13, 17, 19, 23, 29)));
+        this.filter = SqlExpressionCompiler.create().compile(predicate);
+    }
+
+    private static SqlNode column(final int id) {
+        return new SqlColumn(id, ColumnMetadata.builder().name("C" + id).type(DataType.createDecimal(18, 0)).build());
+    }
+
+    private static SqlNode number(final long value) {
+        return new SqlLiteralExactnumeric(BigDecimal.valueOf(value));
+    }
+
+    @Benchmark
+    public int filterRows() {
+        int matches = 0;
+        for (final Object[] row : this.rows) {
+            if (this.filter.isTrue(index -> row[index])) {
+                ++matches;
+            }
+        }
+        return matches;
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(SqlExpressionCompilerBenchmark.class.getSimpleName()).build()).run();
+    }
+}
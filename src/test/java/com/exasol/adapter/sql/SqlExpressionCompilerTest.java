@@ -0,0 +1,367 @@
+package com.exasol.adapter.sql;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+import org.junit.jupiter.api.Test;
+
+import com.exasol.adapter.metadata.ColumnMetadata;
+import com.exasol.adapter.metadata.DataType;
+
+class SqlExpressionCompilerTest {
+    private static final SqlExpressionCompiler COMPILER = SqlExpressionCompiler.create();
+    private static final SqlNode NULL = new SqlLiteralNull();
+
+    private static SqlNode column(final int id) {
+        return new SqlColumn(id, ColumnMetadata.builder().name("C" + id).type(DataType.createDecimal(18, 0)).build());
+    }
+
+    private static SqlNode number(final long value) {
+        return new SqlLiteralExactnumeric(BigDecimal.valueOf(value));
+    }
+
+    private static SqlNode string(final String value) {
+        return new SqlLiteralString(value);
+    }
+
+    private static SqlNode bool(final boolean value) {
+        return new SqlLiteralBool(value);
+    }
+
+    private static SqlNode function(final ScalarFunction function, final SqlNode... arguments) {
+        return new SqlFunctionScalar(function, Arrays.asList(arguments), false, false);
+    }
+
+    private static SqlNode and(final SqlNode... operands) {
+        return new SqlPredicateAnd(Arrays.asList(operands));
+    }
+
+    private static SqlNode or(final SqlNode... operands) {
+        return new SqlPredicateOr(Arrays.asList(operands));
+    }
+
+    private static RowValues row(final Object... values) {
+        return index -> values[index];
+    }
+
+    private static Object evaluate(final SqlNode expression, final Object... values) {
+        return COMPILER.compile(expression).evaluate(row(values));
+    }
+
+    @Test
+    void testLiterals() {
+        assertAll(() -> assertThat(evaluate(number(42)), equalTo(42L)),
+                () -> assertThat(evaluate(new SqlLiteralExactnumeric(new BigDecimal("1.50"))),
+                        equalTo(new BigDecimal("1.50"))),
+                () -> assertThat(evaluate(new SqlLiteralDouble(0.5)), equalTo(0.5)),
+                () -> assertThat(evaluate(string("abc")), equalTo("abc")),
+                () -> assertThat(evaluate(string("")), nullValue()),
+                () -> assertThat(evaluate(bool(true)), equalTo(true)),
+                () -> assertThat(evaluate(NULL), nullValue()),
+                () -> assertThat(evaluate(new SqlLiteralDate("2020-02-29")), equalTo(LocalDate.of(2020, 2, 29))),
+                () -> assertThat(evaluate(new SqlLiteralTimestamp("2020-02-29 12:30:00.250")),
+                        equalTo(LocalDateTime.of(2020, 2, 29, 12, 30, 0, 250_000_000))));
+    }
+
+    @Test
+    void testColumnValuesAreNormalized() {
+        assertAll(() -> assertThat(evaluate(column(0), 7), equalTo(7L)),
+                () -> assertThat(evaluate(column(0), new BigDecimal("7.00")), equalTo(7L)),
+                () -> assertThat(evaluate(column(1), "x", ""), nullValue()));
+    }
+
+    @Test
+    void testColumnIndexResolver() {
+        final SqlExpressionCompiler compiler = SqlExpressionCompiler.builder()
+                .columnIndexResolver(column -> column.getId() - 1).build();
+        assertThat(compiler.compile(column(1)).evaluate(row("first")), equalTo("first"));
+    }
+
+    @Test
+    void testComparisons() {
+        assertAll(() -> assertThat(evaluate(new SqlPredicateEqual(column(0), number(3)), 3L), equalTo(true)),
+                () -> assertThat(evaluate(new SqlPredicateNotEqual(column(0), number(3)), 3L), equalTo(false)),
+                () -> assertThat(evaluate(new SqlPredicateLess(column(0), number(3)), 2.5), equalTo(true)),
+                () -> assertThat(evaluate(new SqlPredicateLessEqual(number(3), column(0)), new BigDecimal("3.0")),
+                        equalTo(true)),
+                () -> assertThat(evaluate(new SqlPredicateLess(column(0), column(1)), "abc", "abd"), equalTo(true)),
+                () -> assertThat(evaluate(new SqlPredicateEqual(column(0), number(3)), (Object) null), nullValue()),
+                () -> assertThat(evaluate(new SqlPredicateEqual(column(0), NULL), 3L), nullValue()));
+    }
+
+    @Test
+    void testThreeValuedLogic() {
+        final SqlNode isOne = new SqlPredicateEqual(column(0), number(1));
+        final SqlNode isTwo = new SqlPredicateEqual(column(1), number(2));
+        assertAll(() -> assertThat(evaluate(and(isOne, isTwo), 1L, null), nullValue()),
+                () -> assertThat(evaluate(and(isOne, isTwo), 0L, null), equalTo(false)),
+                () -> assertThat(evaluate(or(isOne, isTwo), 1L, null), equalTo(true)),
+                () -> assertThat(evaluate(or(isOne, isTwo), 0L, null), nullValue()),
+                () -> assertThat(evaluate(new SqlPredicateNot(isTwo), 0L, null), nullValue()),
+                () -> assertThat(evaluate(new SqlPredicateNot(isOne), 0L, null), equalTo(true)));
+    }
+
+    @Test
+    void testIsTrueRejectsNull() {
+        final CompiledExpression predicate = COMPILER.compile(new SqlPredicateEqual(column(0), number(1)));
+        assertAll(() -> assertTrue(predicate.isTrue(row(1L))), //
+                () -> assertFalse(predicate.isTrue(row(2L))), //
+                () -> assertFalse(predicate.isTrue(row((Object) null))));
+    }
+
+    @Test
+    void testAndShortCircuits() {
+        final SqlNode predicate = and(new SqlPredicateEqual(column(0), number(1)),
+                new SqlPredicateEqual(function(ScalarFunction.FLOAT_DIV, number(1), column(1)), number(1)));
+        assertThat(evaluate(predicate, 0L, 0L), equalTo(false));
+    }
+
+    @Test
+    void testConstantFolding() {
+        final CompiledExpression expression = COMPILER
+                .compile(and(new SqlPredicateEqual(function(ScalarFunction.ADD, number(1), number(2)), number(3)),
+                        new SqlPredicateEqual(column(0), number(1)), or(bool(false), bool(true))));
+        assertAll(() -> assertThat(expression.evaluate(row(1L)), equalTo(true)),
+                () -> assertThat(expression.evaluate(row(2L)), equalTo(false)));
+    }
+
+    @Test
+    void testConstantFalseNeverReadsColumns() {
+        final CompiledExpression expression = COMPILER
+                .compile(and(new SqlPredicateEqual(column(0), number(1)), bool(false)));
+        assertThat(expression.evaluate(index -> {
+            throw new AssertionError("must not read column " + index);
+        }), equalTo(false));
+    }
+
+    @Test
+    void testConstantErrorIsDeferredToEvaluation() {
+        final CompiledExpression expression = COMPILER
+                .compile(function(ScalarFunction.FLOAT_DIV, number(1), number(0)));
+        assertThrows(ArithmeticException.class, () -> expression.evaluate(row()));
+    }
+
+    @Test
+    void testBetween() {
+        final SqlNode between = new SqlPredicateBetween(column(0), number(10), number(20));
+        assertAll(() -> assertThat(evaluate(between, 10L), equalTo(true)),
+                () -> assertThat(evaluate(between, 20.5), equalTo(false)),
+                () -> assertThat(evaluate(between, (Object) null), nullValue()),
+                () -> assertThat(evaluate(new SqlPredicateBetween(column(0), column(1), number(20)), 25L, null),
+                        equalTo(false)),
+                () -> assertThat(evaluate(new SqlPredicateBetween(column(0), column(1), number(20)), 15L, null),
+                        nullValue()));
+    }
+
+    @Test
+    void testIsNull() {
+        assertAll(() -> assertThat(evaluate(new SqlPredicateIsNull(column(0)), ""), equalTo(true)),
+                () -> assertThat(evaluate(new SqlPredicateIsNotNull(column(0)), "a"), equalTo(true)));
+    }
+
+    @Test
+    void testInListOfLongs() {
+        final SqlNode in = SqlPredicateInConstList.ofLongs(column(0), 5, 1, 3);
+        assertAll(() -> assertThat(evaluate(in, 3L), equalTo(true)),
+                () -> assertThat(evaluate(in, 4L), equalTo(false)),
+                () -> assertThat(evaluate(in, new BigDecimal("5.0")), equalTo(true)),
+                () -> assertThat(evaluate(in, 1.5), equalTo(false)),
+                () -> assertThat(evaluate(in, (Object) null), nullValue()));
+    }
+
+    @Test
+    void testInListOfStrings() {
+        final SqlNode in = SqlPredicateInConstList.ofStrings(column(0), "a", "b");
+        assertAll(() -> assertThat(evaluate(in, "b"), equalTo(true)),
+                () -> assertThat(evaluate(in, "c"), equalTo(false)));
+    }
+
+    @Test
+    void testInListWithNull() {
+        final SqlNode in = new SqlPredicateInConstList(column(0), Arrays.asList(number(1), NULL));
+        assertAll(() -> assertThat(evaluate(in, 1L), equalTo(true)),
+                () -> assertThat(evaluate(in, 2L), nullValue()));
+    }
+
+    @Test
+    void testLike() {
+        final SqlNode like = new SqlPredicateLike(column(0), string("a_c%"));
+        assertAll(() -> assertThat(evaluate(like, "abcdef"), equalTo(true)),
+                () -> assertThat(evaluate(like, "ac"), equalTo(false)),
+                () -> assertThat(evaluate(like, "a.c"), equalTo(true)),
+                () -> assertThat(evaluate(like, (Object) null), nullValue()));
+    }
+
+    @Test
+    void testLikeQuotesRegularExpressionCharacters() {
+        assertThat(evaluate(new SqlPredicateLike(column(0), string("(a+)%")), "aa"), equalTo(false));
+    }
+
+    @Test
+    void testLikeWithEscape() {
+        final SqlNode like = new SqlPredicateLike(column(0), string("100!%"), string("!"));
+        assertAll(() -> assertThat(evaluate(like, "100%"), equalTo(true)),
+                () -> assertThat(evaluate(like, "1000"), equalTo(false)));
+    }
+
+    @Test
+    void testLikeWithPatternFromColumn() {
+        final CompiledExpression like = COMPILER.compile(new SqlPredicateLike(column(0), column(1)));
+        assertAll(() -> assertThat(like.evaluate(row("abc", "a%")), equalTo(true)),
+                () -> assertThat(like.evaluate(row("abc", "b%")), equalTo(false)),
+                () -> assertThat(like.evaluate(row("abc", "%c")), equalTo(true)));
+    }
+
+    @Test
+    void testRegexpLike() {
+        final SqlNode like = new SqlPredicateLikeRegexp(column(0), string("[0-9]+"));
+        assertAll(() -> assertThat(evaluate(like, "123"), equalTo(true)),
+                () -> assertThat(evaluate(like, "12a"), equalTo(false)));
+    }
+
+    @Test
+    void testArithmetic() {
+        assertAll(() -> assertThat(evaluate(function(ScalarFunction.ADD, column(0), number(1)), 41), equalTo(42L)),
+                () -> assertThat(evaluate(function(ScalarFunction.SUB, column(0), number(1)), 0.5), equalTo(-0.5)),
+                () -> assertThat(evaluate(function(ScalarFunction.MULT, column(0), number(3)), Long.MAX_VALUE),
+                        equalTo(BigDecimal.valueOf(Long.MAX_VALUE).multiply(BigDecimal.valueOf(3)))),
+                () -> assertThat(evaluate(function(ScalarFunction.FLOAT_DIV, column(0), number(4)), 1L),
+                        equalTo(new BigDecimal("0.25"))),
+                () -> assertThat(evaluate(function(ScalarFunction.MOD, column(0), number(4)), 7L), equalTo(3L)),
+                () -> assertThat(evaluate(function(ScalarFunction.NEG, column(0)), 7L), equalTo(-7L)),
+                () -> assertThat(evaluate(function(ScalarFunction.ABS, column(0)), -7L), equalTo(7L)),
+                () -> assertThat(evaluate(function(ScalarFunction.ADD, column(0), number(1)), (Object) null),
+                        nullValue()));
+    }
+
+    @Test
+    void testNullFunctions() {
+        assertAll(() -> assertThat(evaluate(function(ScalarFunction.ZEROIFNULL, column(0)), (Object) null),
+                equalTo(0L)),
+                () -> assertThat(evaluate(function(ScalarFunction.NULLIFZERO, column(0)), 0L), nullValue()),
+                () -> assertThat(evaluate(function(ScalarFunction.NULLIFZERO, column(0)), 2L), equalTo(2L)));
+    }
+
+    @Test
+    void testGreatestAndLeast() {
+        assertAll(() -> assertThat(evaluate(function(ScalarFunction.GREATEST, column(0), number(3), number(2)), 1L),
+                equalTo(3L)),
+                () -> assertThat(evaluate(function(ScalarFunction.LEAST, column(0), number(3)), 1L), equalTo(1L)),
+                () -> assertThat(evaluate(function(ScalarFunction.LEAST, column(0), number(3)), (Object) null),
+                        nullValue()));
+    }
+
+    @Test
+    void testStringFunctions() {
+        assertAll(
+                () -> assertThat(evaluate(function(ScalarFunction.CONCAT, column(0), string("b"), NULL), "a"),
+                        equalTo("ab")),
+                () -> assertThat(evaluate(function(ScalarFunction.LENGTH, column(0)), "😀x"), equalTo(2L)),
+                () -> assertThat(evaluate(function(ScalarFunction.UPPER, column(0)), "abc"), equalTo("ABC")),
+                () -> assertThat(evaluate(function(ScalarFunction.LOWER, column(0)), "ABC"), equalTo("abc")),
+                () -> assertThat(evaluate(function(ScalarFunction.TRIM, column(0)), "  a  "), equalTo("a")),
+                () -> assertThat(evaluate(function(ScalarFunction.LTRIM, column(0), string("x")), "xxaxx"),
+                        equalTo("axx")),
+                () -> assertThat(evaluate(function(ScalarFunction.RTRIM, column(0)), "   "), nullValue()),
+                () -> assertThat(evaluate(function(ScalarFunction.SUBSTR, column(0), number(2), number(3)), "abcdef"),
+                        equalTo("bcd")),
+                () -> assertThat(evaluate(function(ScalarFunction.SUBSTR, column(0), number(-2)), "abcdef"),
+                        equalTo("ef")));
+    }
+
+    @Test
+    void testDateFunctions() {
+        final LocalDateTime timestamp = LocalDateTime.of(2021, 3, 4, 5, 6, 7, 500_000_000);
+        assertAll(() -> assertThat(evaluate(function(ScalarFunction.YEAR, column(0)), timestamp), equalTo(2021L)),
+                () -> assertThat(evaluate(function(ScalarFunction.MONTH, column(0)), timestamp), equalTo(3L)),
+                () -> assertThat(evaluate(function(ScalarFunction.DAY, column(0)), LocalDate.of(2021, 3, 4)),
+                        equalTo(4L)),
+                () -> assertThat(
+                        evaluate(new SqlFunctionScalarExtract("HOUR", Collections.singletonList(column(0))), timestamp),
+                        equalTo(5L)),
+                () -> assertThat(evaluate(new SqlFunctionScalarExtract("SECOND", Collections.singletonList(column(0))),
+                        timestamp), equalTo(new BigDecimal("7.500000000"))));
+    }
+
+    @Test
+    void testCast() {
+        assertAll(
+                () -> assertThat(evaluate(new SqlFunctionScalarCast(DataType.createDecimal(10, 2),
+                        Collections.singletonList(column(0))), "1.005"), equalTo(new BigDecimal("1.01"))),
+                () -> assertThat(evaluate(
+                        new SqlFunctionScalarCast(DataType.createVarChar(10, DataType.ExaCharset.UTF8),
+                                Collections.singletonList(column(0))),
+                        42L), equalTo("42")),
+                () -> assertThat(evaluate(
+                        new SqlFunctionScalarCast(DataType.createDate(), Collections.singletonList(column(0))),
+                        "2020-01-02"), equalTo(LocalDate.of(2020, 1, 2))));
+    }
+
+    @Test
+    void testSearchedCase() {
+        final SqlNode caseNode = new SqlFunctionScalarCase(
+                Arrays.asList(new SqlPredicateLess(column(0), number(0)), new SqlPredicateEqual(column(0), number(0))),
+                Arrays.asList(string("negative"), string("zero"), string("positive")), null);
+        assertAll(() -> assertThat(evaluate(caseNode, -1L), equalTo("negative")),
+                () -> assertThat(evaluate(caseNode, 0L), equalTo("zero")),
+                () -> assertThat(evaluate(caseNode, 1L), equalTo("positive")),
+                () -> assertThat(evaluate(caseNode, (Object) null), equalTo("positive")));
+    }
+
+    @Test
+    void testSimpleCaseWithoutElse() {
+        final SqlNode caseNode = new SqlFunctionScalarCase(Arrays.asList(number(1), number(2)),
+                Arrays.asList(string("one"), string("two")), column(0));
+        assertAll(() -> assertThat(evaluate(caseNode, 2L), equalTo("two")),
+                () -> assertThat(evaluate(caseNode, 3L), nullValue()),
+                () -> assertThat(evaluate(caseNode, (Object) null), nullValue()));
+    }
+
+    @Test
+    void testUnsupportedFunctionFailsAtCompileTime() {
+        final SqlNode expression = new SqlPredicateEqual(function(ScalarFunction.SOUNDEX, column(0)), string("A"));
+        final IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> COMPILER.compile(expression));
+        assertThat(exception.getMessage(), containsString("SOUNDEX"));
+    }
+
+    @Test
+    void testUnsupportedNodeFailsAtCompileTime() {
+        final SqlNode expression = new SqlFunctionAggregate(AggregateFunction.COUNT,
+                Collections.singletonList(column(0)), false);
+        assertThrows(IllegalArgumentException.class, () -> COMPILER.compile(expression));
+    }
+
+    @Test
+    void testCompileDeeplyNestedJunctions() {
+        SqlNode predicate = new SqlPredicateEqual(column(0), number(0));
+        for (int i = 1; i < 100000; ++i) {
+            predicate = or(predicate, new SqlPredicateEqual(column(0), number(i)));
+        }
+        final CompiledExpression expression = COMPILER.compile(predicate);
+        assertAll(() -> assertThat(expression.evaluate(row(99999L)), equalTo(true)),
+                () -> assertThat(expression.evaluate(row(-1L)), equalTo(false)));
+    }
+
+    @Test
+    void testRejectDeeplyNestedExpressions() {
+        SqlNode expression = column(0);
+        for (int i = 0; i <= SqlExpressionCompiler.MAX_DEPTH; ++i) {
+            expression = function(ScalarFunction.NEG, expression);
+        }
+        final SqlNode nested = expression;
+        assertThrows(IllegalArgumentException.class, () -> COMPILER.compile(nested));
+    }
+
+    @Test
+    void testIsSupported() {
+        assertAll(() -> assertTrue(SqlExpressionCompiler.isSupported(ScalarFunction.ADD)),
+                () -> assertFalse(SqlExpressionCompiler.isSupported(ScalarFunction.SOUNDEX)));
+    }
+}
@@ -0,0 +1,178 @@
+package com.exasol.adapter.sql;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+import org.junit.jupiter.api.Test;
+
+import com.exasol.adapter.metadata.ColumnMetadata;
+import com.exasol.adapter.metadata.DataType;
+import com.exasol.adapter.metadata.TableMetadata;
+
+class SqlNodeStructureTest {
+    private static final int DEEP_NESTING = 100000;
+
+    private static SqlStatementSelect createSelect(final long limit, final SqlNode... inArguments) {
+        final ColumnMetadata columnMetadata = ColumnMetadata.builder().name("C1").type(DataType.createDecimal(18, 0))
+                .build();
+        final TableMetadata tableMetadata = new TableMetadata("T", "", Collections.singletonList(columnMetadata), "");
+        return SqlStatementSelect.builder() //
+                .selectList(SqlSelectList.createRegularSelectList(
+                        Collections.singletonList(new SqlColumn(0, columnMetadata, "T")))) //
+                .fromClause(new SqlTable("T", tableMetadata)) //
+                .whereClause(new SqlPredicateInConstList(new SqlColumn(0, columnMetadata, "T"),
+                        Arrays.asList(inArguments))) //
+                .limit(new SqlLimit((int) limit)) //
+                .build();
+    }
+
+    private static SqlStatementSelect createSelect(final long limit) {
+        return createSelect(limit, new SqlLiteralExactnumeric(BigDecimal.ONE), new SqlLiteralString("a"));
+    }
+
+    private static SqlNode createDeeplyNestedPredicate(final int depth, final boolean leaf) {
+        SqlNode node = new SqlLiteralBool(leaf);
+        for (int i = 0; i < depth; ++i) {
+            node = new SqlPredicateNot(node);
+        }
+        return node;
+    }
+
+    @Test
+    void testSeparatelyBuiltTreesAreEqual() {
+        final SqlNode first = createSelect(10);
+        final SqlNode second = createSelect(10);
+        assertAll(() -> assertThat(first, equalTo(second)), //
+                () -> assertThat(first.hashCode(), equalTo(second.hashCode())),
+                () -> assertThat(first.getFingerprint(), equalTo(second.getFingerprint())));
+    }
+
+    @Test
+    void testDifferentAttributeMakesTreesDifferent() {
+        final SqlNode first = createSelect(10);
+        final SqlNode second = createSelect(11);
+        assertAll(() -> assertThat(first, not(equalTo(second))),
+                () -> assertThat(first.getFingerprint(), not(equalTo(second.getFingerprint()))));
+    }
+
+    @Test
+    void testColumnsWithDifferentDataTypesHaveDifferentFingerprints() {
+        final SqlNode first = new SqlColumn(0,
+                ColumnMetadata.builder().name("C1").type(DataType.createDecimal(18, 0)).build(), "T");
+        final SqlNode second = new SqlColumn(0,
+                ColumnMetadata.builder().name("C1").type(DataType.createDecimal(18, 2)).build(), "T");
+        assertAll(() -> assertThat(first, not(equalTo(second))),
+                () -> assertThat(first.getFingerprint(), not(equalTo(second.getFingerprint()))));
+    }
+
+    @Test
+    void testColumnsDifferingOnlyInNonIdentifyingMetadataAreNotEqual() {
+        final SqlNode first = new SqlColumn(0, ColumnMetadata.builder().name("C1").type(DataType.createDecimal(18, 0))
+                .originalTypeName("NUMBER").build(), "T");
+        final SqlNode second = new SqlColumn(0, ColumnMetadata.builder().name("C1")
+                .type(DataType.createDecimal(18, 0)).originalTypeName("INTEGER").build(), "T");
+        assertAll(() -> assertThat(first, not(equalTo(second))),
+                () -> assertThat(first.getFingerprint(), equalTo(second.getFingerprint())));
+    }
+
+    @Test
+    void testParentIsNotPartOfStructure() {
+        final SqlStatementSelect select = createSelect(10);
+        assertThat(select.getLimit(), equalTo(new SqlLimit(10)));
+    }
+
+    @Test
+    void testLiteralsOfDifferentTypeAreDifferent() {
+        assertAll(() -> assertThat(new SqlLiteralString("1"), not(equalTo(new SqlLiteralDate("1")))),
+                () -> assertThat(new SqlLiteralString("1").getFingerprint(),
+                        not(equalTo(new SqlLiteralDate("1").getFingerprint()))),
+                () -> assertThat(new SqlLiteralString("1").getFingerprint(),
+                        not(equalTo(new SqlLiteralExactnumeric(BigDecimal.ONE).getFingerprint()))));
+    }
+
+    @Test
+    void testChildInDifferentSlotMakesTreesDifferent() {
+        final SqlNode predicate = new SqlPredicateEqual(new SqlLiteralBool(true), new SqlLiteralBool(true));
+        final SqlNode withWhere = SqlStatementSelect.builder().selectList(SqlSelectList.createSelectStarSelectList())
+                .fromClause(new SqlTable("T", null)).whereClause(predicate).build();
+        final SqlNode withHaving = SqlStatementSelect.builder().selectList(SqlSelectList.createSelectStarSelectList())
+                .fromClause(new SqlTable("T", null)).having(predicate).build();
+        assertAll(() -> assertThat(withWhere, not(equalTo(withHaving))),
+                () -> assertThat(withWhere.getFingerprint(), not(equalTo(withHaving.getFingerprint()))));
+    }
+
+    @Test
+    void testFingerprintIsCachedForSubTrees() {
+        final SqlStatementSelect select = createSelect(10);
+        select.getFingerprint();
+        assertAll(() -> assertThat(select.getCachedFingerprint(), notNullValue()),
+                () -> assertThat(select.getWhereClause().getCachedFingerprint(), notNullValue()),
+                () -> assertThat(select.getLimit().getCachedFingerprint(), notNullValue()));
+    }
+
+    @Test
+    void testChangingLimitInvalidatesFingerprintOfAncestors() {
+        final SqlStatementSelect select = createSelect(10);
+        final SqlNodeFingerprint before = select.getFingerprint();
+        select.getLimit().setLimit(11);
+        assertAll(() -> assertThat(select.getFingerprint(), not(equalTo(before))),
+                () -> assertThat(select.getFingerprint(), equalTo(createSelect(11).getFingerprint())),
+                () -> assertThat(select, equalTo(createSelect(11))));
+    }
+
+    @Test
+    void testCompactAndNodeInListsAreEqual() {
+        final SqlNode column = new SqlLiteralNull();
+        final SqlPredicateInConstList nodes = new SqlPredicateInConstList(column,
+                Arrays.asList(new SqlLiteralExactnumeric(BigDecimal.valueOf(3)),
+                        new SqlLiteralExactnumeric(BigDecimal.valueOf(5))));
+        final SqlPredicateInConstList compact = SqlPredicateInConstList.ofLongs(new SqlLiteralNull(), 3, 5);
+        assertAll(() -> assertThat(nodes, equalTo(compact)),
+                () -> assertThat(nodes.getFingerprint(), equalTo(compact.getFingerprint())),
+                () -> assertThat(compact.getFingerprint(),
+                        not(equalTo(SqlPredicateInConstList.ofLongs(new SqlLiteralNull(), 5, 3).getFingerprint()))));
+    }
+
+    @Test
+    void testFingerprintDoesNotMaterializeCompactInList() {
+        final SqlPredicateInConstList compact = SqlPredicateInConstList.ofStrings(new SqlLiteralNull(), "a", "bc");
+        compact.getFingerprint();
+        assertThat(compact.getInArgumentCount(), equalTo(2));
+        assertThat(compact.hasStringValues(), equalTo(true));
+    }
+
+    @Test
+    void testStringsWithSameConcatenationAreDifferent() {
+        assertThat(SqlPredicateInConstList.ofStrings(new SqlLiteralNull(), "ab", "c").getFingerprint(),
+                not(equalTo(SqlPredicateInConstList.ofStrings(new SqlLiteralNull(), "a", "bc").getFingerprint())));
+    }
+
+    @Test
+    void testNodesCanBeUsedAsHashKeys() {
+        final Set<SqlNode> nodes = new HashSet<>(Arrays.asList(createSelect(10), createSelect(10), createSelect(20)));
+        assertThat(nodes, hasSize(2));
+    }
+
+    @Test
+    void testDeeplyNestedTrees() {
+        final SqlNode first = createDeeplyNestedPredicate(DEEP_NESTING, true);
+        final SqlNode second = createDeeplyNestedPredicate(DEEP_NESTING, true);
+        final SqlNode third = createDeeplyNestedPredicate(DEEP_NESTING, false);
+        assertAll(() -> assertThat(first, equalTo(second)), //
+                () -> assertThat(first, not(equalTo(third))));
+    }
+
+    @Test
+    void testFingerprintToString() {
+        assertThat(new SqlLiteralString("a").getFingerprint().toString(), matchesPattern("[0-9a-f]{32}"));
+    }
+
+    @Test
+    void testFingerprintToStringPadsLeadingZeros() {
+        assertThat(new SqlNodeFingerprint(1, 0xabL).toString(), equalTo("000000000000000100000000000000ab"));
+    }
+}
@@ -0,0 +1,118 @@
+package com.exasol.adapter.sql;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+import org.junit.jupiter.api.Test;
+
+import com.exasol.adapter.metadata.ColumnMetadata;
+import com.exasol.adapter.metadata.DataType;
+import com.exasol.adapter.metadata.TableMetadata;
+
+class SqlNodeTraversalTest {
+    private static final int DEEP_NESTING = 100000;
+
+    private static SqlNode createDeeplyNestedPredicate(final int depth) {
+        SqlNode node = new SqlLiteralBool(true);
+        for (int i = 0; i < depth; ++i) {
+            node = ((i % 2) == 0) ? new SqlPredicateNot(node)
+                    : new SqlPredicateAnd(Arrays.asList(node, new SqlLiteralBool(false)));
+        }
+        return node;
+    }
+
+    private static SqlStatementSelect createSelect() {
+        final ColumnMetadata columnMetadata = ColumnMetadata.builder().name("C1").type(DataType.createBool()).build();
+        final TableMetadata tableMetadata = new TableMetadata("T", "", Collections.singletonList(columnMetadata), "");
+        final SqlColumn column = new SqlColumn(0, columnMetadata, "T");
+        return SqlStatementSelect.builder() //
+                .selectList(SqlSelectList.createRegularSelectList(Collections.singletonList(column))) //
+                .fromClause(new SqlTable("T", tableMetadata)) //
+                .whereClause(new SqlPredicateEqual(new SqlLiteralExactnumeric(BigDecimal.ONE),
+                        new SqlLiteralExactnumeric(BigDecimal.TEN))) //
+                .limit(new SqlLimit(10)) //
+                .build();
+    }
+
+    @Test
+    void testGetChildrenOfLeafIsEmpty() {
+        assertThat(SqlNodeTraversal.getChildren(new SqlLiteralNull()), empty());
+    }
+
+    @Test
+    void testGetChildrenInStatementOrder() {
+        final SqlStatementSelect select = createSelect();
+        assertThat(SqlNodeTraversal.getChildren(select), contains(select.getSelectList(), select.getFromClause(),
+                select.getWhereClause(), select.getLimit()));
+    }
+
+    @Test
+    void testGetChildrenSkipsMissingOptionalChildren() {
+        final SqlNode pattern = new SqlLiteralString("A%");
+        final SqlNode left = new SqlLiteralString("ABC");
+        assertThat(SqlNodeTraversal.getChildren(new SqlPredicateLike(left, pattern)), contains(left, pattern));
+    }
+
+    @Test
+    void testGetChildrenOfCompactInListSkipsConstants() {
+        final SqlNode expression = new SqlLiteralString("X");
+        final SqlPredicateInConstList inList = SqlPredicateInConstList.ofLongs(expression, 1, 2, 3);
+        assertThat(SqlNodeTraversal.getChildren(inList), contains(expression));
+    }
+
+    @Test
+    void testGetChildrenOfInListWithNodes() {
+        final SqlNode expression = new SqlLiteralString("X");
+        final SqlNode argument = new SqlLiteralNull();
+        final SqlPredicateInConstList inList = new SqlPredicateInConstList(expression,
+                Collections.singletonList(argument));
+        assertThat(SqlNodeTraversal.getChildren(inList), contains(expression, argument));
+    }
+
+    @Test
+    void testForEachPreOrder() {
+        final List<SqlNodeType> types = new ArrayList<>();
+        SqlNodeTraversal.forEachPreOrder(createSelect(), node -> types.add(node.getType()));
+        assertThat(types,
+                contains(SqlNodeType.SELECT, SqlNodeType.SELECT_LIST, SqlNodeType.COLUMN, SqlNodeType.TABLE,
+                        SqlNodeType.PREDICATE_EQUAL, SqlNodeType.LITERAL_EXACTNUMERIC,
+                        SqlNodeType.LITERAL_EXACTNUMERIC, SqlNodeType.LIMIT));
+    }
+
+    @Test
+    void testForEachPostOrder() {
+        final List<SqlNodeType> types = new ArrayList<>();
+        SqlNodeTraversal.forEachPostOrder(createSelect(), node -> types.add(node.getType()));
+        assertThat(types,
+                contains(SqlNodeType.COLUMN, SqlNodeType.SELECT_LIST, SqlNodeType.TABLE,
+                        SqlNodeType.LITERAL_EXACTNUMERIC, SqlNodeType.LITERAL_EXACTNUMERIC,
+                        SqlNodeType.PREDICATE_EQUAL, SqlNodeType.LIMIT, SqlNodeType.SELECT));
+    }
+
+    @Test
+    void testReduceCountsNodes() {
+        final int count = SqlNodeTraversal.reduce(createSelect(),
+                (node, childCounts) -> 1 + childCounts.stream().mapToInt(Integer::intValue).sum());
+        assertThat(count, equalTo(8));
+    }
+
+    @Test
+    void testGetDepthOfDeeplyNestedTree() {
+        assertThat(SqlNodeTraversal.getDepth(createDeeplyNestedPredicate(DEEP_NESTING)), equalTo(DEEP_NESTING + 1));
+    }
+
+    @Test
+    void testForEachOnDeeplyNestedTree() {
+        final SqlNode root = createDeeplyNestedPredicate(DEEP_NESTING);
+        final int[] preOrderCount = { 0 };
+        final int[] postOrderCount = { 0 };
+        SqlNodeTraversal.forEachPreOrder(root, node -> ++preOrderCount[0]);
+        SqlNodeTraversal.forEachPostOrder(root, node -> ++postOrderCount[0]);
+        final int expectedCount = DEEP_NESTING + 1 + (DEEP_NESTING / 2);
+        assertThat(preOrderCount[0], equalTo(expectedCount));
+        assertThat(postOrderCount[0], equalTo(expectedCount));
+    }
+}
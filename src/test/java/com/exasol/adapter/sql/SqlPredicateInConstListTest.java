@@ -0,0 +1,179 @@
+package com.exasol.adapter.sql;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class SqlPredicateInConstListTest {
+    @Test
+    void testToSimpleSql() {
+        final SqlPredicateInConstList predicate = new SqlPredicateInConstList(new SqlLiteralString("X"),
+                Arrays.asList(new SqlLiteralString("A"), new SqlLiteralExactnumeric(BigDecimal.ONE)));
+        assertThat(predicate.toSimpleSql(), equalTo("'X' IN ('A', 1)"));
+    }
+
+    @Test
+    void testGetType() {
+        assertThat(SqlPredicateInConstList.ofLongs(new SqlLiteralString("X"), 1).getType(),
+                equalTo(SqlNodeType.PREDICATE_IN_CONSTLIST));
+    }
+
+    @Test
+    void testCreateCompactFromLongLiterals() {
+        final List<SqlNode> arguments = Arrays.asList(new SqlLiteralExactnumeric(new BigDecimal("3")),
+                new SqlLiteralExactnumeric(new BigDecimal("-7")));
+        final SqlPredicateInConstList predicate = SqlPredicateInConstList
+                .createCompactIfPossible(new SqlLiteralString("X"), arguments);
+        assertAll(() -> assertThat(predicate.hasLongValues(), equalTo(true)),
+                () -> assertThat(predicate.getInArgumentCount(), equalTo(2)),
+                () -> assertThat(predicate.getLongValue(1), equalTo(-7L)),
+                () -> assertThat(predicate.toSimpleSql(), equalTo("'X' IN (3, -7)")));
+    }
+
+    @Test
+    void testCreateCompactKeepsNodesForExactNumericsWithFraction() {
+        final List<SqlNode> arguments = Arrays.asList(new SqlLiteralExactnumeric(new BigDecimal("3")),
+                new SqlLiteralExactnumeric(new BigDecimal("1.5")));
+        final SqlPredicateInConstList predicate = SqlPredicateInConstList
+                .createCompactIfPossible(new SqlLiteralString("X"), arguments);
+        assertAll(() -> assertThat(predicate.hasLongValues(), equalTo(false)),
+                () -> assertThat(predicate.getInArguments(), contains(arguments.toArray())),
+                () -> assertThrows(IllegalStateException.class, () -> predicate.getLongValue(0)));
+    }
+
+    @Test
+    void testCreateCompactKeepsNodesForMixedTypes() {
+        final List<SqlNode> arguments = Arrays.asList(new SqlLiteralString("A"), new SqlLiteralDouble(1.0));
+        final SqlPredicateInConstList predicate = SqlPredicateInConstList
+                .createCompactIfPossible(new SqlLiteralString("X"), arguments);
+        assertAll(() -> assertThat(predicate.hasStringValues(), equalTo(false)),
+                () -> assertThat(predicate.getInArguments().get(0).getParent(), sameInstance(predicate)));
+    }
+
+    @Test
+    void testBuilderStoresLiteralsCompactly() {
+        final SqlPredicateInConstList predicate = SqlPredicateInConstList.builder()
+                .expression(new SqlLiteralString("X")).addExactNumeric(new BigDecimal("3"))
+                .addArgument(new SqlLiteralExactnumeric(new BigDecimal("-7"))).build();
+        assertAll(() -> assertThat(predicate.hasLongValues(), equalTo(true)),
+                () -> assertThat(predicate.getInArgumentCount(), equalTo(2)),
+                () -> assertThat(predicate.toSimpleSql(), equalTo("'X' IN (3, -7)")));
+    }
+
+    @Test
+    void testBuilderSwitchesToNodesForMixedTypes() {
+        final SqlNode nullLiteral = new SqlLiteralNull();
+        final SqlPredicateInConstList predicate = SqlPredicateInConstList.builder()
+                .expression(new SqlLiteralString("X")).addString("A").addString("B").addArgument(nullLiteral)
+                .addDouble(1.5).build();
+        assertAll(() -> assertThat(predicate.hasStringValues(), equalTo(false)),
+                () -> assertThat(predicate.getInArguments().get(2), sameInstance(nullLiteral)),
+                () -> assertThat(predicate.getInArguments().get(0).getParent(), sameInstance(predicate)),
+                () -> assertThat(predicate.toSimpleSql(), equalTo("'X' IN ('A', 'B', NULL, 1.5)")));
+    }
+
+    @Test
+    void testBuilderKeepsNodesForExactNumericsWithFraction() {
+        final SqlPredicateInConstList predicate = SqlPredicateInConstList.builder()
+                .expression(new SqlLiteralString("X")).addExactNumeric(BigDecimal.ONE)
+                .addExactNumeric(new BigDecimal("1.5")).build();
+        assertAll(() -> assertThat(predicate.hasLongValues(), equalTo(false)),
+                () -> assertThat(predicate.toSimpleSql(), equalTo("'X' IN (1, 1.5)")));
+    }
+
+    @Test
+    void testBuilderGrowsBeyondInitialCapacity() {
+        final SqlPredicateInConstList.Builder builder = SqlPredicateInConstList.builder()
+                .expression(new SqlLiteralString("X"));
+        for (int i = 0; i < 100; ++i) {
+            builder.addDouble(i);
+        }
+        final SqlPredicateInConstList predicate = builder.build();
+        assertAll(() -> assertThat(predicate.getInArgumentCount(), equalTo(100)),
+                () -> assertThat(predicate.getDoubleValue(99), equalTo(99.0)));
+    }
+
+    @Test
+    void testBuilderWithoutArguments() {
+        final SqlPredicateInConstList predicate = SqlPredicateInConstList.builder()
+                .expression(new SqlLiteralString("X")).build();
+        assertThat(predicate.getInArguments(), empty());
+    }
+
+    @Test
+    void testCreateCompactFromDoubleLiterals() {
+        final SqlPredicateInConstList predicate = SqlPredicateInConstList.createCompactIfPossible(
+                new SqlLiteralString("X"), Arrays.asList(new SqlLiteralDouble(2.5), new SqlLiteralDouble(-1.0)));
+        assertAll(() -> assertThat(predicate.hasDoubleValues(), equalTo(true)),
+                () -> assertThat(predicate.getDoubleValue(0), equalTo(2.5)));
+    }
+
+    @Test
+    void testCreateCompactFromStringLiterals() {
+        final SqlPredicateInConstList predicate = SqlPredicateInConstList.createCompactIfPossible(
+                new SqlLiteralString("X"),
+                Arrays.asList(new SqlLiteralString("ab"), new SqlLiteralString(""), new SqlLiteralString("it's")));
+        assertAll(() -> assertThat(predicate.hasStringValues(), equalTo(true)),
+                () -> assertThat(predicate.getStringValue(0), equalTo("ab")),
+                () -> assertThat(predicate.getStringValue(1), equalTo("")),
+                () -> assertThat(predicate.getStringValue(2), equalTo("it's")),
+                () -> assertThat(predicate.toSimpleSql(), equalTo("'X' IN ('ab', '', 'it''s')")));
+    }
+
+    @Test
+    void testGetInArgumentsCreatesNodesOnce() {
+        final SqlPredicateInConstList predicate = SqlPredicateInConstList.ofLongs(new SqlLiteralString("X"), 4, 2);
+        final List<SqlNode> arguments = predicate.getInArguments();
+        assertAll(() -> assertThat(arguments, hasSize(2)),
+                () -> assertThat(arguments.get(0), instanceOf(SqlLiteralExactnumeric.class)),
+                () -> assertThat(((SqlLiteralExactnumeric) arguments.get(1)).getValue(),
+                        equalTo(BigDecimal.valueOf(2))),
+                () -> assertThat(arguments.get(0).getParent(), sameInstance(predicate)),
+                () -> assertThat(predicate.getInArguments().get(0), sameInstance(arguments.get(0))));
+    }
+
+    @Test
+    void testOfDistinctSortedLongs() {
+        final SqlPredicateInConstList predicate = SqlPredicateInConstList
+                .ofDistinctSortedLongs(new SqlLiteralString("X"), 5, 1, 3, 1, 5, 2);
+        assertAll(() -> assertThat(predicate.isSortedDistinct(), equalTo(true)),
+                () -> assertThat(predicate.toSimpleSql(), equalTo("'X' IN (1, 2, 3, 5)")));
+    }
+
+    @Test
+    void testOfDistinctSortedDoubles() {
+        final SqlPredicateInConstList predicate = SqlPredicateInConstList
+                .ofDistinctSortedDoubles(new SqlLiteralString("X"), 2.0, -1.5, 2.0);
+        assertAll(() -> assertThat(predicate.getInArgumentCount(), equalTo(2)),
+                () -> assertThat(predicate.getDoubleValue(0), equalTo(-1.5)),
+                () -> assertThat(predicate.getDoubleValue(1), equalTo(2.0)));
+    }
+
+    @Test
+    void testOfDistinctSortedStrings() {
+        final SqlPredicateInConstList predicate = SqlPredicateInConstList
+                .ofDistinctSortedStrings(new SqlLiteralString("X"), "b", "a", "b", "c");
+        assertThat(predicate.toSimpleSql(), equalTo("'X' IN ('a', 'b', 'c')"));
+    }
+
+    @Test
+    void testOfLongsKeepsOrderAndDuplicates() {
+        final SqlPredicateInConstList predicate = SqlPredicateInConstList.ofLongs(new SqlLiteralString("X"), 3, 1,
+                3);
+        assertAll(() -> assertThat(predicate.isSortedDistinct(), equalTo(false)),
+                () -> assertThat(predicate.toSimpleSql(), equalTo("'X' IN (3, 1, 3)")));
+    }
+
+    @Test
+    void testGetStringValueOutOfBoundsThrowsException() {
+        final SqlPredicateInConstList predicate = SqlPredicateInConstList.ofStrings(new SqlLiteralString("X"), "a");
+        assertThrows(IndexOutOfBoundsException.class, () -> predicate.getStringValue(1));
+    }
+}
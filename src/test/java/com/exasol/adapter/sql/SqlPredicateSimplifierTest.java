@@ -0,0 +1,222 @@
+package com.exasol.adapter.sql;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import com.exasol.adapter.metadata.ColumnMetadata;
+import com.exasol.adapter.metadata.DataType;
+import com.exasol.adapter.metadata.TableMetadata;
+
+class SqlPredicateSimplifierTest {
+    private static final int DEEP_NESTING = 100000;
+
+    private static SqlNode column(final String name) {
+        return new SqlColumn(0, ColumnMetadata.builder().name(name).type(DataType.createDecimal(18, 0)).build());
+    }
+
+    private static SqlNode number(final long value) {
+        return new SqlLiteralExactnumeric(BigDecimal.valueOf(value));
+    }
+
+    private static SqlNode equal(final String columnName, final long value) {
+        return new SqlPredicateEqual(column(columnName), number(value));
+    }
+
+    private static SqlNode and(final SqlNode... operands) {
+        return new SqlPredicateAnd(Arrays.asList(operands));
+    }
+
+    private static SqlNode or(final SqlNode... operands) {
+        return new SqlPredicateOr(Arrays.asList(operands));
+    }
+
+    private static String simplify(final SqlNode predicate) {
+        return SqlPredicateSimplifier.simplify(predicate).toSimpleSql();
+    }
+
+    @Test
+    void testFlattenNestedAnd() {
+        assertThat(simplify(and(equal("A", 1), and(equal("B", 2), and(equal("C", 3))))),
+                equalTo("(\"A\" = 1 AND \"B\" = 2 AND \"C\" = 3)"));
+    }
+
+    @Test
+    void testFlattenNestedOr() {
+        assertThat(simplify(or(equal("A", 1), or(equal("B", 2), equal("C", 3)))),
+                equalTo("(\"A\" = 1 OR \"B\" = 2 OR \"C\" = 3)"));
+    }
+
+    @Test
+    void testRemoveDuplicateConjuncts() {
+        assertThat(simplify(and(equal("A", 1), equal("B", 2), and(equal("A", 1)))),
+                equalTo("(\"A\" = 1 AND \"B\" = 2)"));
+    }
+
+    @Test
+    void testSingleRemainingOperandReplacesJunction() {
+        assertThat(simplify(and(equal("A", 1), equal("A", 1))), equalTo("\"A\" = 1"));
+    }
+
+    @Test
+    void testMergeEqualityChainIntoInList() {
+        final SqlNode simplified = SqlPredicateSimplifier
+                .simplify(or(equal("A", 1), new SqlPredicateEqual(number(2), column("A")), equal("A", 3)));
+        assertAll(() -> assertThat(simplified.toSimpleSql(), equalTo("\"A\" IN (1, 2, 3)")),
+                () -> assertThat(((SqlPredicateInConstList) simplified).hasLongValues(), equalTo(true)));
+    }
+
+    @Test
+    void testMergeEqualitiesAndInListsPerColumn() {
+        assertThat(
+                simplify(or(equal("A", 1), equal("B", 1), SqlPredicateInConstList.ofLongs(column("A"), 2, 1),
+                        equal("C", 1), equal("B", 2))),
+                equalTo("(\"A\" IN (1, 2) OR \"B\" IN (1, 2) OR \"C\" = 1)"));
+    }
+
+    @Test
+    void testEqualityChainOnExpressionIsNotMerged() {
+        final SqlNode plus = new SqlFunctionScalar(ScalarFunction.ADD, Arrays.asList(column("A"), number(1)), true,
+                false);
+        final SqlNode plusAgain = new SqlFunctionScalar(ScalarFunction.ADD, Arrays.asList(column("A"), number(1)),
+                true, false);
+        final SqlNode predicate = or(new SqlPredicateEqual(plus, number(1)),
+                new SqlPredicateEqual(plusAgain, number(2)));
+        assertThat(SqlPredicateSimplifier.simplify(predicate), sameInstance(predicate));
+    }
+
+    @Test
+    void testPushNotIntoComparisons() {
+        assertAll(
+                () -> assertThat(simplify(new SqlPredicateNot(new SqlPredicateLess(column("A"), number(1)))),
+                        equalTo("1 <= \"A\"")),
+                () -> assertThat(simplify(new SqlPredicateNot(new SqlPredicateLessEqual(column("A"), number(1)))),
+                        equalTo("1 < \"A\"")),
+                () -> assertThat(simplify(new SqlPredicateNot(equal("A", 1))), equalTo("\"A\" != 1")),
+                () -> assertThat(simplify(new SqlPredicateNot(new SqlPredicateNotEqual(column("A"), number(1)))),
+                        equalTo("\"A\" = 1")),
+                () -> assertThat(simplify(new SqlPredicateNot(new SqlPredicateIsNull(column("A")))),
+                        equalTo("\"A\" IS NOT NULL")),
+                () -> assertThat(simplify(new SqlPredicateNot(new SqlPredicateIsNotNull(column("A")))),
+                        equalTo("\"A\" IS NULL")));
+    }
+
+    @Test
+    void testPushNotThroughJunctions() {
+        assertThat(simplify(new SqlPredicateNot(and(equal("A", 1), or(equal("B", 2), equal("C", 3))))),
+                equalTo("(\"A\" != 1 OR (\"B\" != 2 AND \"C\" != 3))"));
+    }
+
+    @Test
+    void testDoubleNegationCancels() {
+        assertThat(simplify(new SqlPredicateNot(new SqlPredicateNot(equal("A", 1)))), equalTo("\"A\" = 1"));
+    }
+
+    @Test
+    void testNotThatCannotBePushedIsKept() {
+        final SqlNode predicate = new SqlPredicateNot(new SqlPredicateLike(column("A"), new SqlLiteralString("x%")));
+        final SqlNode simplified = SqlPredicateSimplifier.simplify(predicate);
+        assertAll(() -> assertThat(simplified, sameInstance(predicate)),
+                () -> assertThat(((SqlPredicateNot) simplified).getExpression().getParent(), sameInstance(predicate)));
+    }
+
+    @Test
+    void testFoldBooleanConstants() {
+        assertAll(
+                () -> assertThat(simplify(and(equal("A", 1), new SqlLiteralBool(true))), equalTo("\"A\" = 1")),
+                () -> assertThat(simplify(and(equal("A", 1), new SqlLiteralBool(false))), equalTo("false")),
+                () -> assertThat(simplify(or(equal("A", 1), new SqlLiteralBool(true))), equalTo("true")),
+                () -> assertThat(simplify(or(equal("A", 1), new SqlLiteralBool(false))), equalTo("\"A\" = 1")),
+                () -> assertThat(simplify(new SqlPredicateNot(new SqlLiteralBool(true))), equalTo("false")));
+    }
+
+    @Test
+    void testFoldLiteralComparisons() {
+        assertAll(
+                () -> assertThat(simplify(and(new SqlPredicateEqual(number(1), number(1)), equal("A", 1))),
+                        equalTo("\"A\" = 1")),
+                () -> assertThat(simplify(new SqlPredicateLess(number(2), number(1))), equalTo("false")),
+                () -> assertThat(simplify(new SqlPredicateNot(new SqlPredicateLessEqual(number(1), number(2)))),
+                        equalTo("false")),
+                () -> assertThat(simplify(
+                        new SqlPredicateNotEqual(new SqlLiteralBool(true), new SqlLiteralBool(false))),
+                        equalTo("true")));
+    }
+
+    @Test
+    void testComparisonsWithNullAreNotFolded() {
+        final SqlNode predicate = new SqlPredicateEqual(new SqlLiteralNull(), number(1));
+        assertThat(SqlPredicateSimplifier.simplify(predicate), sameInstance(predicate));
+    }
+
+    @Test
+    void testUnchangedPredicateIsReturned() {
+        final SqlNode predicate = and(equal("A", 1), or(equal("B", 1), equal("C", 1)));
+        assertThat(SqlPredicateSimplifier.simplify(predicate), sameInstance(predicate));
+    }
+
+    @Test
+    void testSimplifyDeeplyNestedPredicate() {
+        SqlNode predicate = equal("A", 1);
+        for (int i = 0; i < DEEP_NESTING; ++i) {
+            predicate = ((i % 2) == 0) ? new SqlPredicateNot(predicate) : and(predicate, new SqlLiteralBool(true));
+        }
+        assertThat(simplify(predicate), equalTo("\"A\" = 1"));
+    }
+
+    @Test
+    void testSimplifyStatement() {
+        final ColumnMetadata columnMetadata = ColumnMetadata.builder().name("A").type(DataType.createDecimal(18, 0))
+                .build();
+        final SqlStatementSelect select = SqlStatementSelect.builder() //
+                .selectList(SqlSelectList.createSelectStarSelectList()) //
+                .fromClause(new SqlTable("T", new TableMetadata("T", "", Arrays.asList(columnMetadata), ""))) //
+                .whereClause(and(new SqlPredicateEqual(number(1), number(1)), new SqlLiteralBool(true))) //
+                .having(new SqlPredicateNot(equal("A", 1))) //
+                .build();
+        final SqlStatementSelect simplified = SqlPredicateSimplifier.simplifyStatement(select);
+        assertAll(() -> assertThat(simplified.hasFilter(), equalTo(false)),
+                () -> assertThat(simplified.getHaving().toSimpleSql(), equalTo("\"A\" != 1")),
+                () -> assertThat(simplified.getHaving().getParent(), sameInstance(simplified)));
+    }
+
+    @Test
+    void testSimplifyStatementKeepsTrueHavingWithoutGroupBy() {
+        final SqlStatementSelect select = SqlStatementSelect.builder() //
+                .selectList(SqlSelectList.createSelectStarSelectList()) //
+                .fromClause(new SqlTable("T", null)) //
+                .having(and(new SqlPredicateEqual(number(1), number(1)), new SqlLiteralBool(true))) //
+                .build();
+        final SqlStatementSelect simplified = SqlPredicateSimplifier.simplifyStatement(select);
+        assertAll(() -> assertThat(simplified.getHaving().toSimpleSql(), equalTo("true")),
+                () -> assertThat(simplified.getHaving().getParent(), sameInstance(simplified)));
+    }
+
+    @Test
+    void testSimplifyStatementRemovesTrueHavingWithGroupBy() {
+        final SqlStatementSelect select = SqlStatementSelect.builder() //
+                .selectList(SqlSelectList.createSelectStarSelectList()) //
+                .fromClause(new SqlTable("T", null)) //
+                .groupBy(new SqlGroupBy(Arrays.asList(column("A")))) //
+                .having(new SqlPredicateEqual(number(1), number(1))) //
+                .build();
+        final SqlStatementSelect simplified = SqlPredicateSimplifier.simplifyStatement(select);
+        assertAll(() -> assertThat(simplified.getHaving(), nullValue()),
+                () -> assertThat(simplified.hasGroupBy(), equalTo(true)));
+    }
+
+    @Test
+    void testSimplifyStatementWithoutChangesReturnsStatement() {
+        final SqlStatementSelect select = SqlStatementSelect.builder() //
+                .selectList(SqlSelectList.createSelectStarSelectList()) //
+                .fromClause(new SqlTable("T", null)) //
+                .whereClause(equal("A", 1)) //
+                .build();
+        assertThat(SqlPredicateSimplifier.simplifyStatement(select), sameInstance(select));
+    }
+}
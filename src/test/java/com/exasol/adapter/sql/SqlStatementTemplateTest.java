@@ -0,0 +1,118 @@
+package com.exasol.adapter.sql;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+import org.junit.jupiter.api.Test;
+
+import com.exasol.adapter.metadata.ColumnMetadata;
+import com.exasol.adapter.metadata.DataType;
+import com.exasol.adapter.metadata.TableMetadata;
+
+class SqlStatementTemplateTest {
+    private static final ColumnMetadata COLUMN_METADATA = ColumnMetadata.builder().name("C1")
+            .type(DataType.createDecimal(18, 0)).build();
+
+    static SqlStatementSelect createSelect(final SqlNode... literals) {
+        final List<SqlNode> predicates = new ArrayList<>();
+        for (final SqlNode literal : literals) {
+            predicates.add(new SqlPredicateEqual(new SqlColumn(0, COLUMN_METADATA, "T"), literal));
+        }
+        final TableMetadata tableMetadata = new TableMetadata("T", "", Collections.singletonList(COLUMN_METADATA),
+                "");
+        return SqlStatementSelect.builder() //
+                .selectList(SqlSelectList.createSelectStarSelectList()) //
+                .fromClause(new SqlTable("T", tableMetadata)) //
+                .whereClause(new SqlPredicateAnd(predicates)) //
+                .build();
+    }
+
+    @Test
+    void testStatementsWithDifferentLiteralsHaveSameTemplate() {
+        final SqlStatementTemplate first = SqlStatementTemplate
+                .of(createSelect(new SqlLiteralDate("2020-01-01"), new SqlLiteralExactnumeric(BigDecimal.ONE)));
+        final SqlStatementTemplate second = SqlStatementTemplate
+                .of(createSelect(new SqlLiteralDate("2021-12-31"), new SqlLiteralExactnumeric(BigDecimal.TEN)));
+        assertThat(first.getKey(), equalTo(second.getKey()));
+    }
+
+    @Test
+    void testLiteralTypeIsPartOfTemplate() {
+        final SqlStatementTemplate date = SqlStatementTemplate.of(createSelect(new SqlLiteralDate("2020-01-01")));
+        final SqlStatementTemplate string = SqlStatementTemplate.of(createSelect(new SqlLiteralString("2020-01-01")));
+        assertThat(date.getKey(), not(equalTo(string.getKey())));
+    }
+
+    @Test
+    void testShapeIsPartOfTemplate() {
+        final SqlStatementTemplate one = SqlStatementTemplate.of(createSelect(new SqlLiteralBool(true)));
+        final SqlStatementTemplate two = SqlStatementTemplate
+                .of(createSelect(new SqlLiteralBool(true), new SqlLiteralBool(true)));
+        assertThat(one.getKey(), not(equalTo(two.getKey())));
+    }
+
+    @Test
+    void testTemplateIsComputedOncePerStatement() {
+        final SqlStatementSelect select = createSelect(new SqlLiteralBool(true));
+        assertThat(SqlStatementTemplate.of(select), sameInstance(SqlStatementTemplate.of(select)));
+    }
+
+    @Test
+    void testChangingStatementInvalidatesTemplate() {
+        final SqlStatementSelect select = SqlStatementSelect.builder() //
+                .selectList(SqlSelectList.createSelectStarSelectList()) //
+                .fromClause(new SqlTable("T", new TableMetadata("T", "", Collections.emptyList(), ""))) //
+                .limit(new SqlLimit(10)) //
+                .build();
+        final SqlStatementTemplate before = SqlStatementTemplate.of(select);
+        select.getLimit().setLimit(20);
+        assertThat(SqlStatementTemplate.of(select), not(sameInstance(before)));
+    }
+
+    @Test
+    void testHasSameShape() {
+        final SqlStatementTemplate first = SqlStatementTemplate.of(createSelect(new SqlLiteralString("a")));
+        final SqlStatementTemplate second = SqlStatementTemplate.of(createSelect(new SqlLiteralString("b")));
+        final SqlStatementTemplate other = SqlStatementTemplate.of(createSelect(new SqlLiteralDate("2020-01-01")));
+        assertAll(() -> assertThat(first.hasSameShape(second), equalTo(true)),
+                () -> assertThat(first.hasSameShape(other), equalTo(false)));
+    }
+
+    @Test
+    void testTemplateKeyDiffersFromFingerprint() {
+        final SqlStatementSelect select = createSelect(new SqlLiteralBool(true));
+        assertThat(SqlStatementTemplate.of(select).getKey(), not(equalTo(select.getFingerprint())));
+    }
+
+    @Test
+    void testParametersInStatementOrder() {
+        final SqlNode first = new SqlLiteralString("a");
+        final SqlNode second = new SqlLiteralNull();
+        final SqlNode third = new SqlLiteralDouble(1.5);
+        final SqlStatementTemplate template = SqlStatementTemplate.of(createSelect(first, second, third));
+        assertThat(template.getParameters(), contains(sameInstance(first), sameInstance(second), sameInstance(third)));
+    }
+
+    @Test
+    void testGetParameterIndex() {
+        final SqlNode first = new SqlLiteralString("a");
+        final SqlNode second = new SqlLiteralString("a");
+        final SqlStatementTemplate template = SqlStatementTemplate.of(createSelect(first, second));
+        assertThat(Arrays.asList(template.getParameterIndex(first), template.getParameterIndex(second),
+                template.getParameterIndex(new SqlLiteralString("a"))), contains(0, 1, -1));
+    }
+
+    @Test
+    void testInListConstantsArePartOfTemplate() {
+        final SqlStatementTemplate first = SqlStatementTemplate
+                .of(SqlPredicateInConstList.ofLongs(new SqlLiteralBool(true), 1, 2));
+        final SqlStatementTemplate second = SqlStatementTemplate
+                .of(SqlPredicateInConstList.ofLongs(new SqlLiteralBool(false), 1, 3));
+        assertThat(first.getKey(), not(equalTo(second.getKey())));
+        assertThat(first.getParameterCount(), equalTo(1));
+    }
+}
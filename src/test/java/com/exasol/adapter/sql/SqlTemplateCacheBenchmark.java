@@ -0,0 +1,68 @@
+package com.exasol.adapter.sql;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.exasol.adapter.AdapterException;
+
+/**
+ * Benchmark comparing rendering a complete statement with rendering it from a cached {@link RenderedSqlTemplate}.
+ * <p>
+ * The statement resembles a dashboard filter: a conjunction of comparisons with literals that change on every call.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SqlTemplateCacheBenchmark {
+    private static final int PREDICATES = 50;
+    private final SqlTemplateCache cache = new SqlTemplateCache();
+    private final SqlTemplateCache.Renderer renderer = new SqlTemplateCache.Renderer() {
+        @Override
+        public RenderedSqlTemplate renderTemplate(final SqlStatementTemplate template) {
+            final RenderedSqlTemplate.Builder builder = RenderedSqlTemplate.builder().appendSql("SELECT * FROM T");
+            for (int i = 0; i < template.getParameterCount(); ++i) {
+                builder.appendSql((i == 0) ? " WHERE (\"C1\" = " : " AND \"C1\" = ").appendParameter(i);
+            }
+            return builder.appendSql(")").build();
+        }
+
+        @Override
+        public String renderLiteral(final SqlNode literal) {
+            return literal.toSimpleSql();
+        }
+    };
+    private SqlStatementSelect statement;
+
+    @Setup
+    public void setup() throws AdapterException {
+        final SqlNode[] literals = new SqlNode[PREDICATES];
+        for (int i = 0; i < PREDICATES; ++i) {
+            literals[i] = ((i % 2) == 0) ? new SqlLiteralExactnumeric(BigDecimal.valueOf(i))
+                    : new SqlLiteralString("value " + i);
+        }
+        this.statement = SqlStatementTemplateTest.createSelect(literals);
+        this.cache.render(this.statement, this.renderer);
+    }
+
+    @Benchmark
+    public String renderStatement() {
+        return this.statement.toSimpleSql();
+    }
+
+    @Benchmark
+    public String renderFromCachedTemplate() throws AdapterException {
+        return this.cache.render(this.statement, this.renderer);
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(SqlTemplateCacheBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,81 @@
+package com.exasol.adapter.sql;
+
+import static com.exasol.adapter.sql.SqlStatementTemplateTest.createSelect;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import com.exasol.adapter.AdapterException;
+
+class SqlTemplateCacheTest {
+    private static final class CountingRenderer implements SqlTemplateCache.Renderer {
+        private int templateCount = 0;
+
+        @Override
+        public RenderedSqlTemplate renderTemplate(final SqlStatementTemplate template) {
+            ++this.templateCount;
+            final RenderedSqlTemplate.Builder builder = RenderedSqlTemplate.builder().appendSql("SELECT * FROM T");
+            for (int i = 0; i < template.getParameterCount(); ++i) {
+                builder.appendSql((i == 0) ? " WHERE C1 = " : " AND C1 = ").appendParameter(i);
+            }
+            return builder.build();
+        }
+
+        @Override
+        public String renderLiteral(final SqlNode literal) {
+            return literal.toSimpleSql();
+        }
+    }
+
+    @Test
+    void testRenderSplicesLiteralsIntoCachedTemplate() throws AdapterException {
+        final SqlTemplateCache cache = new SqlTemplateCache();
+        final CountingRenderer renderer = new CountingRenderer();
+        final String first = cache.render(createSelect(new SqlLiteralString("a"), new SqlLiteralBool(true)), renderer);
+        final String second = cache.render(createSelect(new SqlLiteralString("b'c"), new SqlLiteralBool(false)),
+                renderer);
+        assertAll(() -> assertThat(first, equalTo("SELECT * FROM T WHERE C1 = 'a' AND C1 = true")),
+                () -> assertThat(second, equalTo("SELECT * FROM T WHERE C1 = 'b''c' AND C1 = false")),
+                () -> assertThat(renderer.templateCount, equalTo(1)), //
+                () -> assertThat(cache.getHitCount(), equalTo(1L)), //
+                () -> assertThat(cache.getMissCount(), equalTo(1L)));
+    }
+
+    @Test
+    void testDifferentShapesAreCachedSeparately() throws AdapterException {
+        final SqlTemplateCache cache = new SqlTemplateCache();
+        final CountingRenderer renderer = new CountingRenderer();
+        cache.render(createSelect(new SqlLiteralString("a")), renderer);
+        cache.render(createSelect(new SqlLiteralDate("2020-01-01")), renderer);
+        assertAll(() -> assertThat(renderer.templateCount, equalTo(2)), //
+                () -> assertThat(cache.size(), equalTo(2)));
+    }
+
+    @Test
+    void testLeastRecentlyUsedTemplateIsEvicted() throws AdapterException {
+        final SqlTemplateCache cache = new SqlTemplateCache(1);
+        final CountingRenderer renderer = new CountingRenderer();
+        cache.render(createSelect(new SqlLiteralString("a")), renderer);
+        cache.render(createSelect(new SqlLiteralDate("2020-01-01")), renderer);
+        cache.render(createSelect(new SqlLiteralString("b")), renderer);
+        assertAll(() -> assertThat(renderer.templateCount, equalTo(3)), //
+                () -> assertThat(cache.size(), equalTo(1)));
+    }
+
+    @Test
+    void testClear() throws AdapterException {
+        final SqlTemplateCache cache = new SqlTemplateCache();
+        cache.render(createSelect(new SqlLiteralString("a")), new CountingRenderer());
+        cache.clear();
+        assertAll(() -> assertThat(cache.size(), equalTo(0)), //
+                () -> assertThat(cache.getMissCount(), equalTo(0L)));
+    }
+
+    @Test
+    void testInvalidCapacityThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> new SqlTemplateCache(0));
+    }
+}
@@ -0,0 +1,99 @@
+package com.exasol.adapter.sql;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import com.exasol.adapter.metadata.DataType;
+
+class SqlValuesTest {
+    @Test
+    void testNormalize() {
+        assertAll(() -> assertThat(SqlValues.normalize(3), equalTo(3L)),
+                () -> assertThat(SqlValues.normalize(new BigDecimal("4.000")), equalTo(4L)),
+                () -> assertThat(SqlValues.normalize(new BigDecimal("4.5")), equalTo(new BigDecimal("4.5"))),
+                () -> assertThat(SqlValues.normalize(BigInteger.TEN.pow(30)),
+                        equalTo(new BigDecimal(BigInteger.TEN.pow(30)))),
+                () -> assertThat(SqlValues.normalize(1.5f), equalTo(1.5)),
+                () -> assertThat(SqlValues.normalize(""), nullValue()),
+                () -> assertThat(SqlValues.normalize(new StringBuilder("a")), equalTo("a")),
+                () -> assertThat(SqlValues.normalize(java.sql.Date.valueOf("2020-01-02")),
+                        equalTo(LocalDate.of(2020, 1, 2))));
+    }
+
+    @Test
+    void testNormalizeUnsupportedType() {
+        final Object value = new Object();
+        assertThrows(IllegalArgumentException.class, () -> SqlValues.normalize(value));
+    }
+
+    @Test
+    void testParseTimestamp() {
+        assertAll(() -> assertThat(SqlValues.parseTimestamp("2020-01-02 03:04:05"),
+                equalTo(LocalDateTime.of(2020, 1, 2, 3, 4, 5))),
+                () -> assertThat(SqlValues.parseTimestamp("2020-01-02 03:04:05.123456"),
+                        equalTo(LocalDateTime.of(2020, 1, 2, 3, 4, 5, 123_456_000))));
+    }
+
+    @Test
+    void testCompare() {
+        assertAll(() -> assertThat(SqlValues.compare(1L, new BigDecimal("1.0")), equalTo(0)),
+                () -> assertThat(SqlValues.compare(1L, 1.5), lessThan(0)),
+                () -> assertThat(SqlValues.compare("10", 9L), greaterThan(0)),
+                () -> assertThat(SqlValues.compare("B", "a"), lessThan(0)),
+                () -> assertThat(SqlValues.compare(LocalDate.of(2020, 1, 2), LocalDateTime.of(2020, 1, 2, 0, 0)),
+                        equalTo(0)));
+    }
+
+    @Test
+    void testCompareIncompatibleTypes() {
+        assertThrows(IllegalArgumentException.class, () -> SqlValues.compare(true, 1L));
+    }
+
+    @Test
+    void testArithmeticOverflowSwitchesToDecimal() {
+        assertAll(() -> assertThat(SqlValues.add(Long.MAX_VALUE, 1L),
+                equalTo(BigDecimal.valueOf(Long.MAX_VALUE).add(BigDecimal.ONE))),
+                () -> assertThat(SqlValues.subtract(new BigDecimal("2.5"), 1L), equalTo(new BigDecimal("1.5"))),
+                () -> assertThat(SqlValues.multiply(2L, 0.5), equalTo(1.0)));
+    }
+
+    @Test
+    void testDivideByZero() {
+        assertThrows(ArithmeticException.class, () -> SqlValues.divide(1L, 0L));
+    }
+
+    @Test
+    void testCastToDecimalChecksPrecision() {
+        final DataType type = DataType.createDecimal(3, 1);
+        assertAll(() -> assertThat(SqlValues.cast("12.34", type), equalTo(new BigDecimal("12.3"))),
+                () -> assertThrows(ArithmeticException.class, () -> SqlValues.cast(1234L, type)));
+    }
+
+    @Test
+    void testCastToString() {
+        final DataType type = DataType.createVarChar(30, DataType.ExaCharset.UTF8);
+        assertAll(() -> assertThat(SqlValues.cast(true, type), equalTo("TRUE")),
+                () -> assertThat(SqlValues.cast(new BigDecimal("1E+3"), type), equalTo("1000")),
+                () -> assertThat(SqlValues.cast(LocalDateTime.of(2020, 1, 2, 3, 4, 5), type),
+                        equalTo("2020-01-02 03:04:05.000")),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> SqlValues.cast("too long", DataType.createVarChar(3, DataType.ExaCharset.UTF8))));
+    }
+
+    @Test
+    void testLikeToRegex() {
+        assertAll(() -> assertThat(SqlValues.likeToRegex("a%b_", null).matcher("axxbc").matches(), equalTo(true)),
+                () -> assertThat(SqlValues.likeToRegex("a\\%", null).matcher("a%").matches(), equalTo(true)),
+                () -> assertThat(SqlValues.likeToRegex("a\\%", null).matcher("ab").matches(), equalTo(false)),
+                () -> assertThat(SqlValues.likeToRegex("[a]", null).matcher("a").matches(), equalTo(false)));
+    }
+}
@@ -0,0 +1,186 @@
+package com.exasol.logging;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class AsyncLogHandlerTest {
+    private final GatedHandler delegate = new GatedHandler();
+    private AsyncLogHandler handler;
+
+    @AfterEach
+    void afterEach() {
+        this.delegate.open();
+        if (this.handler != null) {
+            this.handler.close();
+        }
+    }
+
+    @Test
+    void testPublishWritesRecordsToDelegate() {
+        this.delegate.open();
+        this.handler = AsyncLogHandler.builder(this.delegate).batchSize(2).build();
+        publish(Level.INFO, "a", "b", "c");
+        this.handler.flush();
+        assertAll(() -> assertThat(this.delegate.getMessages(), contains("a", "b", "c")),
+                () -> assertThat(this.handler.getWrittenRecordCount(), equalTo(3L)),
+                () -> assertThat(this.delegate.flushCount, greaterThanOrEqualTo(2)));
+    }
+
+    @Test
+    void testDropOldest() throws InterruptedException {
+        this.handler = createHandlerWithBlockedWriter(LogDropPolicy.DROP_OLDEST);
+        publish(Level.INFO, "b", "c", "d");
+        this.delegate.open();
+        this.handler.flush();
+        assertAll(() -> assertThat(this.delegate.getMessages(), contains("in flight", "c", "d")),
+                () -> assertThat(this.handler.getDroppedRecordCount(), equalTo(1L)));
+    }
+
+    @Test
+    void testDropBelowLevel() throws InterruptedException {
+        this.handler = createHandlerWithBlockedWriter(LogDropPolicy.DROP_BELOW_LEVEL);
+        publish(Level.FINE, "fine 1");
+        publish(Level.WARNING, "warning");
+        publish(Level.FINE, "fine 2");
+        publish(Level.SEVERE, "severe");
+        this.delegate.open();
+        this.handler.flush();
+        assertAll(() -> assertThat(this.delegate.getMessages(), contains("in flight", "warning", "severe")),
+                () -> assertThat(this.handler.getDroppedRecordCount(), equalTo(2L)));
+    }
+
+    @Test
+    void testBlockWaitsForFreeSpace() throws InterruptedException {
+        this.handler = createHandlerWithBlockedWriter(LogDropPolicy.BLOCK);
+        final Thread loggingThread = new Thread(() -> publish(Level.INFO, "b", "c", "d"));
+        loggingThread.start();
+        waitUntilWaiting(loggingThread);
+        assertThat(loggingThread.getState(), not(equalTo(Thread.State.TERMINATED)));
+        this.delegate.open();
+        loggingThread.join(2000);
+        this.handler.flush();
+        assertAll(() -> assertThat(this.delegate.getMessages(), contains("in flight", "b", "c", "d")),
+                () -> assertThat(this.handler.getDroppedRecordCount(), equalTo(0L)));
+    }
+
+    @Test
+    void testCloseWritesRemainingRecordsAndClosesDelegate() throws InterruptedException {
+        this.handler = createHandlerWithBlockedWriter(LogDropPolicy.BLOCK);
+        publish(Level.INFO, "b");
+        this.delegate.open();
+        this.handler.close();
+        publish(Level.INFO, "after close");
+        assertAll(() -> assertThat(this.delegate.getMessages(), contains("in flight", "b")),
+                () -> assertThat(this.delegate.closed, equalTo(true)),
+                () -> assertThat(this.handler.getDroppedRecordCount(), equalTo(1L)));
+    }
+
+    @Test
+    void testPublishIgnoresRecordsBelowHandlerLevel() {
+        this.delegate.open();
+        this.handler = AsyncLogHandler.builder(this.delegate).build();
+        this.handler.setLevel(Level.INFO);
+        publish(Level.FINE, "fine");
+        publish(Level.INFO, "info");
+        this.handler.flush();
+        assertThat(this.delegate.getMessages(), contains("info"));
+    }
+
+    @Test
+    void testSetFormatterSetsDelegateFormatter() {
+        this.handler = AsyncLogHandler.builder(this.delegate).build();
+        final Formatter formatter = new CompactFormatter();
+        this.handler.setFormatter(formatter);
+        assertThat(this.delegate.getFormatter(), sameInstance(formatter));
+    }
+
+    @Test
+    void testDefaultDropPolicyDropsInsteadOfBlocking() throws InterruptedException {
+        this.handler = AsyncLogHandler.builder(this.delegate).capacity(2).batchSize(1).build();
+        this.handler.publish(new LogRecord(Level.INFO, "in flight"));
+        assertThat(this.delegate.entered.await(2, TimeUnit.SECONDS), equalTo(true));
+        publish(Level.INFO, "b", "c", "d");
+        assertAll(() -> assertThat(this.handler.getDropPolicy(), equalTo(LogDropPolicy.DROP_BELOW_LEVEL)),
+                () -> assertThat(this.handler.getDroppedRecordCount(), equalTo(1L)));
+    }
+
+    @Test
+    void testBuilderRejectsInvalidCapacity() {
+        final AsyncLogHandler.Builder builder = AsyncLogHandler.builder(this.delegate).capacity(0);
+        assertThrows(IllegalArgumentException.class, builder::build);
+    }
+
+    // The writer takes the first record and waits in the delegate, so the following records stay in the buffer.
+    private AsyncLogHandler createHandlerWithBlockedWriter(final LogDropPolicy dropPolicy)
+            throws InterruptedException {
+        final AsyncLogHandler blockedHandler = AsyncLogHandler.builder(this.delegate).capacity(2).batchSize(1)
+                .dropPolicy(dropPolicy).build();
+        blockedHandler.publish(new LogRecord(Level.INFO, "in flight"));
+        assertThat(this.delegate.entered.await(2, TimeUnit.SECONDS), equalTo(true));
+        return blockedHandler;
+    }
+
+    private void publish(final Level level, final String... messages) {
+        for (final String message : messages) {
+            this.handler.publish(new LogRecord(level, message));
+        }
+    }
+
+    private void waitUntilWaiting(final Thread thread) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + 2000;
+        while ((thread.getState() != Thread.State.WAITING) && (System.currentTimeMillis() < deadline)) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static class GatedHandler extends Handler {
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch gate = new CountDownLatch(1);
+        private final List<String> messages = Collections.synchronizedList(new ArrayList<>());
+        private volatile int flushCount = 0;
+        private volatile boolean closed = false;
+
+        @Override
+        public void publish(final LogRecord record) {
+            this.entered.countDown();
+            try {
+                this.gate.await();
+            } catch (final InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+            this.messages.add(record.getMessage());
+        }
+
+        private void open() {
+            this.gate.countDown();
+        }
+
+        private List<String> getMessages() {
+            synchronized (this.messages) {
+                return new ArrayList<>(this.messages);
+            }
+        }
+
+        @Override
+        public void flush() {
+            ++this.flushCount;
+        }
+
+        @Override
+        public void close() {
+            this.closed = true;
+        }
+    }
+}
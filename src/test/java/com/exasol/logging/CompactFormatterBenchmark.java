@@ -0,0 +1,62 @@
+package com.exasol.logging;
+
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark comparing the {@link CompactFormatter} with its original implementation.
+ * <p>
+ * The records are typical FINE level messages from a few classes, most of them in the same millisecond. Run with
+ * <code>-prof gc</code> to see the allocation difference.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompactFormatterBenchmark {
+    private static final String[] CLASS_NAMES = { "com.exasol.adapter.RequestDispatcher",
+            "com.exasol.adapter.request.parser.RequestParser", "com.exasol.adapter.jdbc.JdbcAdapter",
+            "com.exasol.adapter.dialects.SqlGenerationVisitor" };
+    private final CompactFormatter formatter = new CompactFormatter();
+    private final LegacyCompactFormatter legacyFormatter = new LegacyCompactFormatter();
+    private final LogRecord[] records = new LogRecord[CLASS_NAMES.length * 4];
+
+    @Setup
+    public void setup() {
+        final long now = System.currentTimeMillis();
+        for (int i = 0; i < this.records.length; ++i) {
+            final LogRecord record = new LogRecord((i % 2 == 0) ? Level.FINE : Level.FINER,
+                    "Processing push-down request for table T" + i + ".");
+            record.setSourceClassName(CLASS_NAMES[i % CLASS_NAMES.length]);
+            record.setMillis(now + (i / 8));
+            this.records[i] = record;
+        }
+    }
+
+    @Benchmark
+    public void legacyFormatter(final Blackhole blackhole) {
+        for (final LogRecord record : this.records) {
+            blackhole.consume(this.legacyFormatter.format(record));
+        }
+    }
+
+    @Benchmark
+    public void compactFormatter(final Blackhole blackhole) {
+        for (final LogRecord record : this.records) {
+            blackhole.consume(this.formatter.format(record));
+        }
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(CompactFormatterBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -1,10 +1,12 @@
 package com.exasol.logging;
 
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.text.MatchesPattern.matchesPattern;
 import static org.junit.Assert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
+import java.util.*;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
 
@@ -92,4 +94,92 @@ class CompactFormatterTest {
                 () -> assertThat(formattedRecord, containsString("the exception")),
                 () -> assertThat(formattedRecord, containsString("the cause")));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testOutputIsIdenticalToLegacyFormatter() {
+        final LegacyCompactFormatter legacyFormatter = new LegacyCompactFormatter();
+        for (final LogRecord record : createVariedRecords()) {
+            assertThat(this.formatter.format(record), equalTo(legacyFormatter.format(record)));
+        }
+    }
+
+    @Test
+    void testLevelsWithSameValueKeepTheirNames() {
+        final LegacyCompactFormatter legacyFormatter = new LegacyCompactFormatter();
+        final Level audit = new Level("AUDIT", Level.INFO.intValue()) {
+            private static final long serialVersionUID = 1L;
+        };
+        final LogRecord infoRecord = new LogRecord(Level.INFO, "info");
+        final LogRecord auditRecord = new LogRecord(audit, "audit");
+        final String formattedInfo = this.formatter.format(infoRecord);
+        final String formattedAudit = this.formatter.format(auditRecord);
+        assertAll(() -> assertThat(formattedInfo, equalTo(legacyFormatter.format(infoRecord))),
+                () -> assertThat(formattedAudit, equalTo(legacyFormatter.format(auditRecord))),
+                () -> assertThat(formattedAudit, containsString(" AUDIT   audit")));
+    }
+
+    @Test
+    void testOutputIsIdenticalToLegacyFormatterWhenFormattedTwice() {
+        final LegacyCompactFormatter legacyFormatter = new LegacyCompactFormatter();
+        final List<LogRecord> records = createVariedRecords();
+        records.forEach(this.formatter::format);
+        for (final LogRecord record : records) {
+            assertThat(this.formatter.format(record), equalTo(legacyFormatter.format(record)));
+        }
+    }
+
+    @Test
+    void testOutputIsIdenticalToLegacyFormatterAcrossThreads() throws InterruptedException {
+        final LegacyCompactFormatter legacyFormatter = new LegacyCompactFormatter();
+        final List<LogRecord> records = createVariedRecords();
+        final Map<LogRecord, String> formatted = Collections.synchronizedMap(new IdentityHashMap<>());
+        final List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 4; ++i) {
+            final Thread thread = new Thread(() -> records.forEach(record -> {
+                final String output = this.formatter.format(record);
+                final String previous = formatted.putIfAbsent(record, output);
+                if ((previous != null) && !previous.equals(output)) {
+                    formatted.put(record, "inconsistent");
+                }
+            }));
+            threads.add(thread);
+            thread.start();
+        }
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+        for (final LogRecord record : records) {
+            assertThat(formatted.get(record), equalTo(legacyFormatter.format(record)));
+        }
+    }
+
+    private List<LogRecord> createVariedRecords() {
+        final List<LogRecord> records = new ArrayList<>();
+        final String[] classNames = { null, "", "example", "com.exasol.example", "com.exasol..example", "com.exasol.",
+                ".", ".leading", "a.b.c.D$Inner" };
+        final Level[] levels = { Level.SEVERE, Level.WARNING, Level.INFO, Level.CONFIG, Level.FINE, Level.FINER,
+                Level.FINEST, Level.ALL, Level.OFF, new Level("VERY_LONG_CUSTOM_LEVEL", 850) { } };
+        final long[] timestamps = { 0L, 1L, 1_000L, 1_554_000_000_123L, 1_554_000_000_123L, 1_554_000_000_124L };
+        int i = 0;
+        for (final String className : classNames) {
+            for (final Level level : levels) {
+                final LogRecord record = new LogRecord(level, "message " + i);
+                record.setSourceClassName(className);
+                record.setMillis(timestamps[i % timestamps.length]);
+                records.add(record);
+                ++i;
+            }
+        }
+        final LogRecord withParameters = new LogRecord(Level.INFO, "message {0} : {1}");
+        withParameters.setParameters(new Object[] { "foo", 42 });
+        records.add(withParameters);
+        final LogRecord withEmptyParameters = new LogRecord(Level.INFO, "message {0}");
+        withEmptyParameters.setParameters(new Object[0]);
+        records.add(withEmptyParameters);
+        records.add(new LogRecord(Level.INFO, null));
+        final LogRecord withException = new LogRecord(Level.WARNING, "failure");
+        withException.setThrown(new IllegalStateException("the exception"));
+        records.add(withException);
+        return records;
+    }
+}
@@ -1,7 +1,8 @@
 package com.exasol.logging;
 
-import static org.hamcrest.Matchers.matchesPattern;
+import static org.hamcrest.Matchers.*;
 import static org.junit.Assert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.io.*;
 import java.net.*;
@@ -105,4 +106,48 @@ class RemoteLogManagerTest {
         this.logManager.setupRemoteLogger("this.hostname.should.not.exist.exasol.com", 3000, Level.ALL);
         assertThat(stream.getCapturedData(), matchesPattern(".*Falling back to console log.\n"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testGetInstanceReturnsSharedManager() {
+        assertThat(RemoteLogManager.getInstance(), sameInstance(RemoteLogManager.getInstance()));
+    }
+
+    @Test
+    void testSetupConsoleLoggingTwiceWithSameLevelDoesNotReconfigure(final Capturable stream) {
+        stream.capture();
+        this.logManager.setupConsoleLogger(Level.INFO);
+        this.logManager.setupConsoleLogger(Level.INFO);
+        assertThat(stream.getCapturedData(),
+                matchesPattern(TIMESTAMP_PATTERN + " INFO +\\[.*?\\] Set up local logging with log level INFO.\\n"));
+    }
+
+    @Test
+    void testSetupConsoleLoggingReconfiguresOnLevelChange(final Capturable stream) {
+        this.logManager.setupConsoleLogger(Level.INFO);
+        stream.capture();
+        this.logManager.setupConsoleLogger(Level.FINE);
+        assertThat(stream.getCapturedData(), containsString("Set up local logging with log level FINE."));
+    }
+
+    @Test
+    void testRemoteSocketLoggingReusesConnection() throws IOException {
+        final InetAddress loop = InetAddress.getLoopbackAddress();
+        try (final ServerSocket server = new ServerSocket(0, 2, loop)) {
+            server.setSoTimeout(2000);
+            final String host = loop.getHostName();
+            final int port = server.getLocalPort();
+            this.logManager.setupRemoteLogger(host, port, Level.ALL);
+            this.logManager.setupRemoteLogger(host, port, Level.ALL);
+            this.logManager.setupRemoteLogger(host, port, Level.FINE);
+            try (final Socket client = server.accept();
+                    final BufferedReader reader = new BufferedReader(
+                            new InputStreamReader(client.getInputStream()))) {
+                client.setSoTimeout(2000);
+                assertThat(reader.readLine(), endsWith("Attached to output service with log level ALL."));
+                assertThat(reader.readLine(), endsWith("Attached to output service with log level FINE."));
+            }
+            server.setSoTimeout(200);
+            assertThrows(SocketTimeoutException.class, server::accept);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.exasol.utils;
+
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+import javax.json.*;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark comparing the static convenience methods of {@link Json} with the shared {@link JsonFactories}.
+ * <p>
+ * The steady-state benchmarks read a small request and build a small response, as the dispatcher does on each call.
+ * The cold-start benchmarks measure the same work as the very first action of a fresh JVM, which is what an adapter
+ * call in a new UDF VM pays.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonFactoriesBenchmark {
+    private static final String REQUEST = "{ \"type\" : \"getCapabilities\", \"schemaMetadataInfo\" : "
+            + "{ \"name\" : \"S\", \"properties\" : { \"SQL_DIALECT\" : \"EXASOL\", \"CONNECTION_NAME\" : \"C\" } } }";
+
+    @Benchmark
+    public JsonObject staticJsonMethods() {
+        return roundTripWithStaticMethods();
+    }
+
+    @Benchmark
+    public JsonObject sharedFactories() {
+        return roundTripWithSharedFactories();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    @Fork(10)
+    public JsonObject coldStartStaticJsonMethods() {
+        return roundTripWithStaticMethods();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    @Fork(10)
+    public JsonObject coldStartSharedFactories() {
+        return roundTripWithSharedFactories();
+    }
+
+    private static JsonObject roundTripWithStaticMethods() {
+        try (final JsonReader reader = Json.createReader(new StringReader(REQUEST))) {
+            final JsonObject request = reader.readObject();
+            final JsonArrayBuilder capabilities = Json.createArrayBuilder();
+            for (int i = 0; i < 10; ++i) {
+                capabilities.add("CAPABILITY_" + i);
+            }
+            return Json.createObjectBuilder().add("type", request.getString("type"))
+                    .add("capabilities", capabilities).build();
+        }
+    }
+
+    private static JsonObject roundTripWithSharedFactories() {
+        try (final JsonReader reader = JsonFactories.getReaderFactory().createReader(new StringReader(REQUEST))) {
+            final JsonObject request = reader.readObject();
+            final JsonBuilderFactory builderFactory = JsonFactories.getBuilderFactory();
+            final JsonArrayBuilder capabilities = builderFactory.createArrayBuilder();
+            for (int i = 0; i < 10; ++i) {
+                capabilities.add("CAPABILITY_" + i);
+            }
+            return builderFactory.createObjectBuilder().add("type", request.getString("type"))
+                    .add("capabilities", capabilities).build();
+        }
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(JsonFactoriesBenchmark.class.getSimpleName()).build()).run();
+    }
+}
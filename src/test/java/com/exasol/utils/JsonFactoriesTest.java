@@ -0,0 +1,48 @@
+package com.exasol.utils;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+
+import javax.json.JsonObject;
+import javax.json.JsonReader;
+import javax.json.stream.JsonGenerator;
+
+import org.junit.jupiter.api.Test;
+
+class JsonFactoriesTest {
+    @Test
+    void testFactoriesAreShared() {
+        assertAll(() -> assertThat(JsonFactories.getReaderFactory(), sameInstance(JsonFactories.getReaderFactory())),
+                () -> assertThat(JsonFactories.getParserFactory(), sameInstance(JsonFactories.getParserFactory())),
+                () -> assertThat(JsonFactories.getBuilderFactory(), sameInstance(JsonFactories.getBuilderFactory())),
+                () -> assertThat(JsonFactories.getGeneratorFactory(),
+                        sameInstance(JsonFactories.getGeneratorFactory())));
+    }
+
+    @Test
+    void testReaderFactoryDetectsUtf8() {
+        final byte[] json = "{\"name\":\"Ä\"}".getBytes(StandardCharsets.UTF_8);
+        try (final JsonReader reader = JsonFactories.getReaderFactory()
+                .createReader(new ByteArrayInputStream(json))) {
+            assertThat(reader.readObject().getString("name"), equalTo("Ä"));
+        }
+    }
+
+    @Test
+    void testBuilderAndGeneratorFactoriesProduceCompactJson() {
+        final JsonObject object = JsonFactories.getBuilderFactory().createObjectBuilder().add("a", 1)
+                .add("b", JsonFactories.getBuilderFactory().createArrayBuilder().add(true)).build();
+        final StringWriter writer = new StringWriter();
+        try (final JsonGenerator generator = JsonFactories.getGeneratorFactory().createGenerator(writer)) {
+            generator.writeStartObject().write("a", object.getInt("a")).write("b", object.getJsonArray("b"))
+                    .writeEnd();
+        }
+        assertThat(writer.toString(), equalTo("{\"a\":1,\"b\":[true]}"));
+    }
+}
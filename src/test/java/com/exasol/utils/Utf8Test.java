@@ -0,0 +1,17 @@
+package com.exasol.utils;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class Utf8Test {
+    @ParameterizedTest
+    @ValueSource(strings = { "", "ascii", "Grüße", "€ 100", "😀 smile", "unpaired \uD800 x", "end \uDC00" })
+    void testEncodedLengthMatchesEncoder(final String text) {
+        assertThat(Utf8.encodedLength(text), equalTo((long) text.getBytes(StandardCharsets.UTF_8).length));
+    }
+}